@@ -201,6 +201,11 @@ public interface ArcConfig {
      */
     ArcTestConfig test();
 
+    /**
+     * Startup profiling configuration.
+     */
+    ArcStartupProfilingConfig startupProfiling();
+
     /**
      * The list of packages that will not be checked for split package issues.
      * <p>
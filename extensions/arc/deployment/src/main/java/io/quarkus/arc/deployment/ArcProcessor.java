@@ -337,6 +337,7 @@ public boolean test(BeanInfo bean) {
         builder.setGenerateSources(BootstrapDebug.debugSourcesDir() != null);
         builder.setAllowMocking(launchModeBuildItem.getLaunchMode() == LaunchMode.TEST);
         builder.setStrictCompatibility(arcConfig.strictCompatibility());
+        builder.setStartupProfiling(arcConfig.startupProfiling().enabled());
 
         if (arcConfig.selectedAlternatives().isPresent()) {
             final List<Predicate<ClassInfo>> selectedAlternatives = initClassPredicates(
@@ -625,7 +626,7 @@ public ArcContainerBuildItem initializeContainer(ArcConfig config, ArcRecorder r
             throws Exception {
         ArcContainer container = recorder.initContainer(shutdown,
                 currentContextFactory.isPresent() ? currentContextFactory.get().getFactory() : null,
-                config.strictCompatibility());
+                config.strictCompatibility(), config.startupProfiling().enabled());
         return new ArcContainerBuildItem(container);
     }
 
@@ -0,0 +1,35 @@
+package io.quarkus.arc.deployment;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface ArcStartupProfilingConfig {
+
+    /**
+     * If set to {@code true} then the container records the wall time and the allocated memory of bean instantiation,
+     * {@code @PostConstruct} callbacks and observer notifications, including the {@code StartupEvent} observers and
+     * {@code @Startup} beans, until the application is started.
+     * <p>
+     * The most expensive operations are logged when the application starts. The full report is available in the Dev UI,
+     * as JFR events and optionally as a JSON file.
+     * <p>
+     * NOTE: This config property should not be enabled in production as it adds some overhead to every bean instantiation
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The file the JSON report is written to. If not set then no file is written.
+     */
+    Optional<String> reportFile();
+
+    /**
+     * The number of the most expensive operations that are logged when the application starts.
+     */
+    @WithDefault("10")
+    int logLimit();
+
+}
@@ -24,8 +24,10 @@ ApplicationStartBuildItem startupEvent(ArcRecorder recorder,
             BeanContainerBuildItem beanContainer,
             ShutdownContextBuildItem shutdown,
             LaunchModeBuildItem launchMode, ArcConfig config) {
+        ArcStartupProfilingConfig startupProfiling = config.startupProfiling();
         recorder.handleLifecycleEvents(shutdown, launchMode.getLaunchMode(),
-                config.test().disableApplicationLifecycleObservers());
+                config.test().disableApplicationLifecycleObservers(), startupProfiling.enabled(),
+                startupProfiling.reportFile().orElse(null), startupProfiling.logLimit());
         return new ApplicationStartBuildItem();
     }
 
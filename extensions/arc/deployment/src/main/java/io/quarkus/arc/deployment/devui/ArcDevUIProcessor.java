@@ -90,6 +90,12 @@ public CardPageBuildItem pages(ArcBeanInfoBuildItem arcBeanInfoBuildItem, ArcCon
                     .componentLink("qwc-arc-invocation-trees.js"));
         }
 
+        if (config.startupProfiling().enabled()) {
+            pageBuildItem.addPage(Page.webComponentPageBuilder()
+                    .icon("font-awesome-solid:stopwatch")
+                    .componentLink("qwc-arc-startup-profile.js"));
+        }
+
         int removedComponents = beanInfos.getRemovedComponents();
         if (removedComponents > 0) {
             pageBuildItem.addPage(Page.webComponentPageBuilder()
@@ -0,0 +1,125 @@
+import { LitElement, html, css} from 'lit';
+import { JsonRpc } from 'jsonrpc';
+import { columnBodyRenderer } from '@vaadin/grid/lit.js';
+import '@vaadin/grid';
+import '@vaadin/grid/vaadin-grid-sort-column.js';
+import '@vaadin/button';
+import 'qui-badge';
+
+/**
+ * This component shows the ArC startup profile
+ */
+export class QwcArcStartupProfile extends LitElement {
+  jsonRpc = new JsonRpc(this);
+
+  static styles = css`
+        .menubar {
+            display: flex;
+            justify-content: flex-start;
+            align-items: center;
+            padding-left: 5px;
+        }
+        .button {
+            background-color: transparent;
+            cursor: pointer;
+        }
+        .arctable {
+            height: 100%;
+            padding-bottom: 10px;
+        }
+        code {
+          font-size: 90%;
+        }
+        `;
+
+    static properties = {
+        _profile: {state: true}
+    };
+
+    connectedCallback() {
+        super.connectedCallback();
+        this._refresh();
+    }
+
+    render() {
+        if(this._profile){
+            return this._renderProfile();
+        } else {
+            return html`<span>Loading ArC startup profile...</span>`;
+        }
+    }
+
+    _renderProfile(){
+        return html`<div class="menubar">
+                    <vaadin-button theme="small" @click=${() => this._refresh()} class="button">
+                        <vaadin-icon icon="font-awesome-solid:rotate"></vaadin-icon> Refresh
+                    </vaadin-button>
+                </div>
+                <vaadin-grid .items="${this._profile}" class="arctable" theme="no-border">
+                    <vaadin-grid-sort-column auto-width
+                        header="Kind"
+                        path="kind"
+                        ${columnBodyRenderer(this._kindRenderer, [])}
+                        resizable>
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column width="50%"
+                        header="Description"
+                        path="description"
+                        ${columnBodyRenderer(this._descriptionRenderer, [])}
+                        resizable>
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column auto-width header="Count" path="count" resizable></vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column auto-width
+                        header="Self time"
+                        path="selfWallTime"
+                        direction="desc"
+                        ${columnBodyRenderer((entry) => this._timeRenderer(entry.selfWallTime), [])}
+                        resizable>
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column auto-width
+                        header="Total time"
+                        path="wallTime"
+                        ${columnBodyRenderer((entry) => this._timeRenderer(entry.wallTime), [])}
+                        resizable>
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column auto-width
+                        header="Self allocated"
+                        path="selfAllocated"
+                        ${columnBodyRenderer((entry) => this._bytesRenderer(entry.selfAllocated), [])}
+                        resizable>
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column auto-width
+                        header="Total allocated"
+                        path="allocated"
+                        ${columnBodyRenderer((entry) => this._bytesRenderer(entry.allocated), [])}
+                        resizable>
+                    </vaadin-grid-sort-column>
+                </vaadin-grid>`;
+    }
+
+    _kindRenderer(entry) {
+        return html`<qui-badge small><span>${entry.kind}</span></qui-badge>`;
+    }
+
+    _descriptionRenderer(entry) {
+        return html`<code>${entry.description}</code>`;
+    }
+
+    _timeRenderer(millis) {
+        return html`${millis < 1 ? '< 1' : millis.toFixed(1)} ms`;
+    }
+
+    _bytesRenderer(bytes) {
+        if (bytes < 0) {
+            return html`n/a`;
+        }
+        return html`${(bytes / 1024).toFixed(1)} KiB`;
+    }
+
+    _refresh(){
+        this.jsonRpc.getStartupProfile().then(profile => {
+            this._profile = profile.result;
+        });
+    }
+}
+customElements.define('qwc-arc-startup-profile', QwcArcStartupProfile);
@@ -0,0 +1,73 @@
+package io.quarkus.arc.test.startup;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.impl.StartupProfiler;
+import io.quarkus.runtime.Startup;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StartupProfilingTest {
+
+    static final Path REPORT = Path.of("target", "arc-startup-profile.json");
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(StartMe.class, StartupObserver.class))
+            .overrideConfigKey("quarkus.arc.startup-profiling.enabled", "true")
+            .overrideConfigKey("quarkus.arc.startup-profiling.report-file", REPORT.toString());
+
+    @Test
+    public void testProfile() throws IOException {
+        List<StartupProfiler.Entry> profile = StartupProfiler.getProfile();
+        assertTrue(contains(profile, StartupProfiler.CREATE, StartMe.class.getName()), profile.toString());
+        assertTrue(contains(profile, StartupProfiler.POST_CONSTRUCT, StartMe.class.getName()), profile.toString());
+        assertTrue(contains(profile, StartupProfiler.OBSERVER,
+                StartupObserver.class.getName() + "#onStart(" + StartupEvent.class.getName() + ")"), profile.toString());
+
+        assertTrue(Files.exists(REPORT));
+        String json = Files.readString(REPORT);
+        assertTrue(json.contains("\"description\": \"" + StartMe.class.getName() + "\""), json);
+    }
+
+    private static boolean contains(List<StartupProfiler.Entry> profile, String kind, String description) {
+        for (StartupProfiler.Entry entry : profile) {
+            if (entry.getKind().equals(kind) && entry.getDescription().equals(description)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Startup
+    @ApplicationScoped
+    static class StartMe {
+
+        @PostConstruct
+        void init() {
+        }
+
+    }
+
+    @ApplicationScoped
+    static class StartupObserver {
+
+        void onStart(@Observes StartupEvent event) {
+        }
+
+    }
+
+}
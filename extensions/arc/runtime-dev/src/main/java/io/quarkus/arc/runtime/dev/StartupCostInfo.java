@@ -0,0 +1,81 @@
+package io.quarkus.arc.runtime.dev;
+
+public class StartupCostInfo {
+    private String kind;
+    private String description;
+    private int count;
+    private double wallTime;
+    private double selfWallTime;
+    private long allocated;
+    private long selfAllocated;
+
+    public StartupCostInfo() {
+    }
+
+    public StartupCostInfo(String kind, String description, int count, double wallTime, double selfWallTime,
+            long allocated, long selfAllocated) {
+        this.kind = kind;
+        this.description = description;
+        this.count = count;
+        this.wallTime = wallTime;
+        this.selfWallTime = selfWallTime;
+        this.allocated = allocated;
+        this.selfAllocated = selfAllocated;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public double getWallTime() {
+        return wallTime;
+    }
+
+    public void setWallTime(double wallTime) {
+        this.wallTime = wallTime;
+    }
+
+    public double getSelfWallTime() {
+        return selfWallTime;
+    }
+
+    public void setSelfWallTime(double selfWallTime) {
+        this.selfWallTime = selfWallTime;
+    }
+
+    public long getAllocated() {
+        return allocated;
+    }
+
+    public void setAllocated(long allocated) {
+        this.allocated = allocated;
+    }
+
+    public long getSelfAllocated() {
+        return selfAllocated;
+    }
+
+    public void setSelfAllocated(long selfAllocated) {
+        this.selfAllocated = selfAllocated;
+    }
+}
@@ -14,9 +14,11 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.impl.StartupProfiler;
 import io.quarkus.arc.runtime.dev.EventInfo;
 import io.quarkus.arc.runtime.dev.EventsMonitor;
 import io.quarkus.arc.runtime.dev.InvocationInfo;
+import io.quarkus.arc.runtime.dev.StartupCostInfo;
 import io.quarkus.arc.runtime.dev.console.Invocation;
 import io.quarkus.arc.runtime.dev.console.InvocationsMonitor;
 import io.smallrye.common.annotation.NonBlocking;
@@ -82,6 +84,17 @@ public List<InvocationInfo> clearLastInvocations() {
         return List.of();
     }
 
+    @NonBlocking
+    public List<StartupCostInfo> getStartupProfile() {
+        List<StartupCostInfo> result = new ArrayList<>();
+        for (StartupProfiler.Entry entry : StartupProfiler.getProfile()) {
+            result.add(new StartupCostInfo(entry.getKind(), entry.getDescription(), entry.getCount(),
+                    entry.getWallTime() / 1_000_000.0, entry.getSelfWallTime() / 1_000_000.0, entry.getAllocatedBytes(),
+                    entry.getSelfAllocatedBytes()));
+        }
+        return result;
+    }
+
     private List<InvocationInfo> toInvocationInfos(List<Invocation> invocations) {
         List<InvocationInfo> infos = new ArrayList<>();
         for (Invocation invocation : invocations) {
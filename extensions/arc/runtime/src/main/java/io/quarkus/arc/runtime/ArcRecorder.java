@@ -22,8 +22,11 @@
 import io.quarkus.arc.InjectableBean.Kind;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.StartupProfiler;
+import io.quarkus.arc.runtime.profiling.StartupProfileReporter;
 import io.quarkus.arc.runtime.test.PreloadedTestApplicationClassPredicate;
 import io.quarkus.runtime.ApplicationLifecycleManager;
+import io.quarkus.runtime.ImageMode;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
@@ -45,7 +48,10 @@ public class ArcRecorder {
     public static volatile Map<String, Supplier<ActiveResult>> syntheticBeanCheckActive;
 
     public ArcContainer initContainer(ShutdownContext shutdown, RuntimeValue<CurrentContextFactory> currentContextFactory,
-            boolean strictCompatibility) throws Exception {
+            boolean strictCompatibility, boolean startupProfiling) throws Exception {
+        if (startupProfiling) {
+            StartupProfiler.start();
+        }
         ArcInitConfig.Builder builder = ArcInitConfig.builder();
         builder.setCurrentContextFactory(currentContextFactory != null ? currentContextFactory.getValue() : null);
         builder.setStrictCompatibility(strictCompatibility);
@@ -92,7 +98,8 @@ public BeanContainer initBeanContainer(ArcContainer container, List<BeanContaine
     }
 
     public void handleLifecycleEvents(ShutdownContext context, LaunchMode launchMode,
-            boolean disableApplicationLifecycleObservers) {
+            boolean disableApplicationLifecycleObservers, boolean startupProfiling, String startupProfileFile,
+            int startupProfileLogLimit) {
         ArcContainerImpl container = ArcContainerImpl.instance();
         List<Class<?>> mockBeanClasses;
 
@@ -111,7 +118,15 @@ public void handleLifecycleEvents(ShutdownContext context, LaunchMode launchMode
             mockBeanClasses = Collections.emptyList();
         }
 
+        if (startupProfiling && ImageMode.current() == ImageMode.NATIVE_RUN) {
+            // The static init was performed during the native image build; the entries recorded there are part of
+            // the image heap and must not be reported as if they were measured in this process
+            StartupProfiler.start();
+        }
         fireLifecycleEvent(container, new StartupEvent(), mockBeanClasses);
+        if (startupProfiling) {
+            StartupProfileReporter.report(StartupProfiler.stop(), startupProfileFile, startupProfileLogLimit);
+        }
 
         context.addShutdownTask(new Runnable() {
             @Override
@@ -108,7 +108,7 @@ public ThreadContextController begin() {
                 return new ThreadContextController() {
                     @Override
                     public void endContext() throws IllegalStateException {
-                        requestContext.activate(toRestore.isValid() ? toRestore : null);
+                        requestContext.restore(toRestore);
                     }
                 };
             } else {
@@ -136,18 +136,15 @@ public ThreadContextController begin() {
                 return NOOP_CONTROLLER;
             }
             ManagedContext requestContext = container.requestContext();
-            InjectableContext.ContextState toRestore = requestContext.getStateIfActive();
             // this is executed on another thread, context can but doesn't need to be active here
+            // if the context state is invalid (i.e. the context was destroyed by Arc), we instead create new state
+            // restoring the state that is already current, e.g. when the action runs on the same thread, is a noop
+            InjectableContext.ContextState toRestore = requestContext.restore(state);
             if (toRestore != null) {
-                // context active, store current state, feed it new one and restore state afterwards
-                // it is not necessary to deactivate the context first - just overwrite the previous state
-                // if the context state is invalid (i.e. the context was destroyed by Arc), we instead create new state
-                requestContext.activate(state.isValid() ? state : null);
+                // context was active, restore the previous state afterwards
                 return new RestoreContextController(requestContext, toRestore);
             } else {
-                // context not active, activate and pass it new instance, deactivate afterwards
-                // if the context state is invalid (i.e. the context was destroyed by Arc), we instead create new state
-                requestContext.activate(state.isValid() ? state : null);
+                // context was not active, deactivate afterwards
                 return requestContext::deactivate;
             }
         }
@@ -177,7 +174,7 @@ public void endContext() throws IllegalStateException {
                 requestContext.destroy();
             }
             // it is not necessary to deactivate the context first - just overwrite the previous state
-            requestContext.activate(stateToRestore.isValid() ? stateToRestore : null);
+            requestContext.restore(stateToRestore);
         }
 
     }
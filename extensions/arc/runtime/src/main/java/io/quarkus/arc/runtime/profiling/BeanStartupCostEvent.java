@@ -0,0 +1,106 @@
+package io.quarkus.arc.runtime.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Label("Bean Startup Cost")
+@Category({ "Quarkus", "ArC" })
+@Name("quarkus.arc.BeanStartupCost")
+@Description("The aggregated cost of a bean instantiation, @PostConstruct callback or observer notification during startup")
+@StackTrace(false)
+public class BeanStartupCostEvent extends Event {
+
+    @Label("Kind")
+    @Description("The kind of the operation: create, post-construct or observer")
+    private String kind;
+
+    @Label("Description")
+    @Description("The bean class, producer or observer method")
+    private String description;
+
+    @Label("Count")
+    @Description("The number of times the operation was performed")
+    private int count;
+
+    @Label("Wall Time")
+    @Description("The wall time including the nested operations")
+    @Timespan(Timespan.NANOSECONDS)
+    private long wallTime;
+
+    @Label("Self Wall Time")
+    @Description("The wall time excluding the nested operations")
+    @Timespan(Timespan.NANOSECONDS)
+    private long selfWallTime;
+
+    @Label("Allocated")
+    @Description("The memory allocated including the nested operations, -1 if not supported")
+    @DataAmount
+    private long allocated;
+
+    @Label("Self Allocated")
+    @Description("The memory allocated excluding the nested operations, -1 if not supported")
+    @DataAmount
+    private long selfAllocated;
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public long getWallTime() {
+        return wallTime;
+    }
+
+    public void setWallTime(long wallTime) {
+        this.wallTime = wallTime;
+    }
+
+    public long getSelfWallTime() {
+        return selfWallTime;
+    }
+
+    public void setSelfWallTime(long selfWallTime) {
+        this.selfWallTime = selfWallTime;
+    }
+
+    public long getAllocated() {
+        return allocated;
+    }
+
+    public void setAllocated(long allocated) {
+        this.allocated = allocated;
+    }
+
+    public long getSelfAllocated() {
+        return selfAllocated;
+    }
+
+    public void setSelfAllocated(long selfAllocated) {
+        this.selfAllocated = selfAllocated;
+    }
+}
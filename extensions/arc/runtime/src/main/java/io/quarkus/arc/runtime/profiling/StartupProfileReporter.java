@@ -0,0 +1,122 @@
+package io.quarkus.arc.runtime.profiling;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.impl.StartupProfiler.Entry;
+
+/**
+ * Reports the result of the startup profiling, see {@link io.quarkus.arc.impl.StartupProfiler}.
+ */
+public final class StartupProfileReporter {
+
+    private static final Logger LOG = Logger.getLogger(StartupProfileReporter.class);
+
+    private StartupProfileReporter() {
+    }
+
+    public static void report(List<Entry> profile, String reportFile, int logLimit) {
+        log(profile, logLimit);
+        if (reportFile != null) {
+            Path path = Path.of(reportFile);
+            try {
+                Files.writeString(path, toJson(profile), StandardCharsets.UTF_8);
+                LOG.infof("ArC startup profile written to %s", path.toAbsolutePath());
+            } catch (IOException e) {
+                LOG.warnf(e, "Unable to write the ArC startup profile to %s", path);
+            }
+        }
+        commitEvents(profile);
+    }
+
+    static void log(List<Entry> profile, int logLimit) {
+        if (profile.isEmpty() || logLimit <= 0) {
+            return;
+        }
+        StringBuilder message = new StringBuilder("ArC startup profile - the most expensive operations by self time:");
+        for (int i = 0; i < profile.size() && i < logLimit; i++) {
+            Entry entry = profile.get(i);
+            message.append("\n\t- ").append(entry.getKind()).append(' ').append(entry.getDescription())
+                    .append(": ").append(TimeUnit.NANOSECONDS.toMillis(entry.getSelfWallTime())).append(" ms self, ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(entry.getWallTime())).append(" ms total");
+            if (entry.getSelfAllocatedBytes() >= 0) {
+                message.append(", ").append(entry.getSelfAllocatedBytes() / 1024).append(" KiB allocated");
+            }
+            if (entry.getCount() > 1) {
+                message.append(" [").append(entry.getCount()).append("x]");
+            }
+        }
+        LOG.info(message);
+    }
+
+    static String toJson(List<Entry> profile) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < profile.size(); i++) {
+            Entry entry = profile.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\n  {\"kind\": ");
+            appendString(json, entry.getKind());
+            json.append(", \"description\": ");
+            appendString(json, entry.getDescription());
+            json.append(", \"count\": ").append(entry.getCount())
+                    .append(", \"wallTimeNanos\": ").append(entry.getWallTime())
+                    .append(", \"selfWallTimeNanos\": ").append(entry.getSelfWallTime())
+                    .append(", \"allocatedBytes\": ").append(entry.getAllocatedBytes())
+                    .append(", \"selfAllocatedBytes\": ").append(entry.getSelfAllocatedBytes())
+                    .append('}');
+        }
+        return json.append("\n]\n").toString();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    private static void commitEvents(List<Entry> profile) {
+        try {
+            for (Entry entry : profile) {
+                BeanStartupCostEvent event = new BeanStartupCostEvent();
+                if (!event.isEnabled()) {
+                    return;
+                }
+                event.setKind(entry.getKind());
+                event.setDescription(entry.getDescription());
+                event.setCount(entry.getCount());
+                event.setWallTime(entry.getWallTime());
+                event.setSelfWallTime(entry.getSelfWallTime());
+                event.setAllocated(entry.getAllocatedBytes());
+                event.setSelfAllocated(entry.getSelfAllocatedBytes());
+                event.commit();
+            }
+        } catch (NoClassDefFoundError e) {
+            // JFR is not available in this runtime
+            LOG.debug("Unable to commit the ArC startup profile JFR events", e);
+        }
+    }
+}
@@ -5,6 +5,7 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY_PARAMETER_POSITIONS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_BULK;
 import static org.jboss.jandex.AnnotationInstance.create;
 import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
 import static org.jboss.jandex.AnnotationValue.createArrayValue;
@@ -46,7 +47,8 @@ public void transform(TransformationContext context) {
 
     private boolean requiresCacheKeyParameterPositionsInterceptorBinding(MethodInfo method) {
         return method.hasAnnotation(CACHE_KEY) && (method.hasAnnotation(CACHE_INVALIDATE)
-                || method.hasAnnotation(CACHE_INVALIDATE_LIST) || method.hasAnnotation(CACHE_RESULT));
+                || method.hasAnnotation(CACHE_INVALIDATE_LIST) || method.hasAnnotation(CACHE_RESULT)
+                || method.hasAnnotation(CACHE_RESULT_BULK));
     }
 
     private AnnotationValue[] toArray(List<AnnotationValue> parameters) {
@@ -1,7 +1,10 @@
 package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jboss.jandex.DotName;
 
@@ -10,9 +13,11 @@
 import io.quarkus.cache.CacheKey;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheResultBulk;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheKeyParameterPositions;
+import io.quarkus.cache.runtime.CacheResultBulkInterceptor;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.smallrye.mutiny.Multi;
 
@@ -25,19 +30,27 @@ public class CacheDeploymentConstants {
     public static final DotName CACHE_INVALIDATE = dotName(CacheInvalidate.class);
     public static final DotName CACHE_INVALIDATE_LIST = dotName(CacheInvalidate.List.class);
     public static final DotName CACHE_RESULT = dotName(CacheResult.class);
+    public static final DotName CACHE_RESULT_BULK = dotName(CacheResultBulk.class);
     public static final DotName CACHE_KEY = dotName(CacheKey.class);
-    public static final List<DotName> INTERCEPTOR_BINDINGS = Arrays.asList(CACHE_RESULT, CACHE_INVALIDATE,
-            CACHE_INVALIDATE_ALL);
+    public static final List<DotName> INTERCEPTOR_BINDINGS = Arrays.asList(CACHE_RESULT, CACHE_RESULT_BULK,
+            CACHE_INVALIDATE, CACHE_INVALIDATE_ALL);
     public static final List<DotName> INTERCEPTOR_BINDING_CONTAINERS = Arrays.asList(CACHE_INVALIDATE_LIST,
             CACHE_INVALIDATE_ALL_LIST);
     public static final List<DotName> INTERCEPTORS = Arrays.asList(dotName(CacheInvalidateAllInterceptor.class),
-            dotName(CacheInvalidateInterceptor.class), dotName(CacheResultInterceptor.class));
+            dotName(CacheInvalidateInterceptor.class), dotName(CacheResultInterceptor.class),
+            dotName(CacheResultBulkInterceptor.class));
     public static final DotName CACHE_KEY_PARAMETER_POSITIONS = dotName(CacheKeyParameterPositions.class);
 
     // MicroProfile REST Client.
     public static final DotName REGISTER_REST_CLIENT = DotName
             .createSimple("org.eclipse.microprofile.rest.client.inject.RegisterRestClient");
 
+    // Collections.
+    public static final DotName COLLECTION = dotName(Collection.class);
+    public static final DotName LIST = dotName(List.class);
+    public static final DotName SET = dotName(Set.class);
+    public static final DotName MAP = dotName(Map.class);
+
     // Mutiny.
     public static final DotName MULTI = dotName(Multi.class);
 
@@ -8,11 +8,16 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_BULK;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COLLECTION;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.LIST;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.SET;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
@@ -48,6 +53,8 @@
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.deployment.exception.BulkMethodTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -85,6 +92,12 @@ AutoInjectAnnotationBuildItem autoInjectCacheName() {
         return new AutoInjectAnnotationBuildItem(CACHE_NAME);
     }
 
+    @BuildStep
+    UnremovableBeanBuildItem unremovableCacheWeighers() {
+        // The weighers are looked up programmatically when the caches are built
+        return UnremovableBeanBuildItem.beanTypes(CacheWeigher.class);
+    }
+
     @BuildStep
     AnnotationsTransformerBuildItem annotationsTransformer() {
         return new AnnotationsTransformerBuildItem(new CacheAnnotationsTransformer());
@@ -208,6 +221,9 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
                 }
+                if (CACHE_RESULT_BULK.equals(binding.name())) {
+                    throwables.addAll(validateBulkMethod(methodInfo));
+                }
                 break;
             default:
                 // This should never be thrown.
@@ -216,6 +232,46 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private List<Throwable> validateBulkMethod(MethodInfo methodInfo) {
+        List<Throwable> throwables = new ArrayList<>();
+        DotName returnType = methodInfo.returnType().name();
+        if (!MAP.equals(returnType) && !LIST.equals(returnType) && !COLLECTION.equals(returnType)) {
+            throwables.add(new BulkMethodTargetException(methodInfo, "the return type must be Map, List or Collection"));
+        }
+        List<AnnotationInstance> cacheKeys = new ArrayList<>();
+        for (AnnotationInstance cacheKey : methodInfo.annotations(CACHE_KEY)) {
+            if (cacheKey.target().kind() == Kind.METHOD_PARAMETER) {
+                cacheKeys.add(cacheKey);
+            }
+        }
+        if (cacheKeys.size() > 1) {
+            throwables.add(new BulkMethodTargetException(methodInfo, "only one parameter can be annotated with @CacheKey"));
+        } else if (cacheKeys.size() == 1) {
+            Type keysType = methodInfo.parameterType(cacheKeys.get(0).target().asMethodParameter().position());
+            if (!isKeysType(keysType)) {
+                throwables.add(new BulkMethodTargetException(methodInfo,
+                        "the parameter annotated with @CacheKey must be a Collection, List or Set"));
+            }
+        } else {
+            boolean found = false;
+            for (Type parameterType : methodInfo.parameterTypes()) {
+                if (isKeysType(parameterType)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                throwables.add(new BulkMethodTargetException(methodInfo,
+                        "a parameter of type Collection, List or Set is required"));
+            }
+        }
+        return throwables;
+    }
+
+    private static boolean isKeysType(Type type) {
+        return COLLECTION.equals(type.name()) || LIST.equals(type.name()) || SET.equals(type.name());
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
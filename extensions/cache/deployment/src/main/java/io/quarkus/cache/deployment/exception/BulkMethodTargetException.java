@@ -0,0 +1,24 @@
+package io.quarkus.cache.deployment.exception;
+
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * This exception is thrown at build time during the validation phase if a method annotated with
+ * {@link io.quarkus.cache.CacheResultBulk @CacheResultBulk} does not return a {@code Map}, a {@code List} or a
+ * {@code Collection}, or if its collection of keys cannot be identified.
+ */
+@SuppressWarnings("serial")
+public class BulkMethodTargetException extends RuntimeException {
+
+    private final MethodInfo methodInfo;
+
+    public BulkMethodTargetException(MethodInfo methodInfo, String reason) {
+        super("@CacheResultBulk is not allowed on this method: " + reason + " [class=" + methodInfo.declaringClass().name()
+                + ", method=" + methodInfo.name() + "]");
+        this.methodInfo = methodInfo;
+    }
+
+    public MethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+}
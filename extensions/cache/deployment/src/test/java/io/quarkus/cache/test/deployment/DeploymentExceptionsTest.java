@@ -5,6 +5,8 @@
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -22,6 +24,8 @@
 import io.quarkus.cache.CacheKeyGenerator;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheResultBulk;
+import io.quarkus.cache.deployment.exception.BulkMethodTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
@@ -43,8 +47,10 @@ public class DeploymentExceptionsTest {
             .withApplicationRoot((jar) -> jar.addClasses(TestResource.class, TestBean.class))
             .assertException(t -> {
                 assertEquals(DeploymentException.class, t.getClass());
-                assertEquals(8, t.getSuppressed().length);
+                assertEquals(10, t.getSuppressed().length);
                 assertVoidReturnTypeTargetException(t, "showThrowVoidReturnTypeTargetException");
+                assertBulkMethodTargetException(t, "shouldThrowBulkMethodTargetException");
+                assertBulkMethodTargetException(t, "shouldAlsoThrowBulkMethodTargetException");
                 assertClassTargetException(t, TestResource.class, 1);
                 assertClassTargetException(t, TestBean.class, 2);
                 assertKeyGeneratorConstructorException(t, KeyGen1.class);
@@ -58,6 +64,11 @@ private static void assertVoidReturnTypeTargetException(Throwable t, String expe
                 .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
     }
 
+    private static void assertBulkMethodTargetException(Throwable t, String expectedMethodName) {
+        assertEquals(1, filterSuppressed(t, BulkMethodTargetException.class)
+                .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
+    }
+
     private static void assertClassTargetException(Throwable t, Class<?> expectedClassName, long expectedCount) {
         assertEquals(expectedCount, filterSuppressed(t, ClassTargetException.class)
                 .filter(s -> expectedClassName.getName().equals(s.getClassName().toString())).count());
@@ -112,6 +123,16 @@ public String shouldThrowKeyGeneratorConstructorException() {
         public void shouldAlsoThrowKeyGeneratorConstructorException() {
         }
 
+        @CacheResultBulk(cacheName = "should-throw-bulk-method-target-exception")
+        public String shouldThrowBulkMethodTargetException(List<Long> keys) {
+            return new String();
+        }
+
+        @CacheResultBulk(cacheName = "should-throw-bulk-method-target-exception")
+        public Map<Long, String> shouldAlsoThrowBulkMethodTargetException(Long key) {
+            return Map.of();
+        }
+
         @CacheInvalidate(cacheName = "should-throw-key-generator-constructor-exception", keyGenerator = KeyGen3.class)
         @CacheInvalidate(cacheName = "should-throw-key-generator-constructor-exception", keyGenerator = KeyGen4.class)
         public void shouldThrowKeyGeneratorConstructorExceptionAsWell() {
@@ -0,0 +1,153 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResultBulk;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the {@link CacheResultBulk @CacheResultBulk} annotation and {@link Cache#getAll}.
+ */
+public class CacheResultBulkTest {
+
+    private static final String MAP_CACHE = "bulk-map-cache";
+    private static final String LIST_CACHE = "bulk-list-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(MAP_CACHE)
+    Cache mapCache;
+
+    @Test
+    public void testMapReturnType() {
+        // STEP 1
+        // Action: @CacheResultBulk-annotated method call.
+        // Expected effect: method invoked with all the keys and the values cached one by one.
+        Map<Long, String> values1 = cachedService.mapMethod(List.of(1L, 2L));
+        assertEquals(Map.of(1L, "map-1", 2L, "map-2"), values1);
+        assertEquals(List.of(List.of(1L, 2L)), cachedService.mapInvocations);
+
+        // STEP 2
+        // Action: call with a cached key and new keys, one of them without value.
+        // Expected effect: method only invoked with the new keys and the values returned in the order of the keys.
+        Map<Long, String> values2 = cachedService.mapMethod(List.of(3L, 2L, 13L));
+        assertEquals(List.of(3L, 2L), new ArrayList<>(values2.keySet()));
+        assertEquals(values1.get(2L), values2.get(2L));
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 13L)), cachedService.mapInvocations);
+
+        // STEP 3
+        // Action: same call as STEP 2.
+        // Expected effect: the key without value was not cached and the method is only invoked with that key.
+        cachedService.mapMethod(List.of(3L, 2L, 13L));
+        assertEquals(List.of(13L), cachedService.mapInvocations.get(2));
+
+        // STEP 4
+        // Action: the values are retrieved with the programmatic API.
+        // Expected effect: the values cached by the annotated method are returned and the loader is not invoked.
+        Map<Long, String> values4 = mapCache.<Long, String> getAll(List.of(1L, 3L), (Set<Long> keys) -> {
+            throw new IllegalStateException("Not expected to be invoked");
+        }).await().indefinitely();
+        assertEquals(Map.of(1L, "map-1", 3L, "map-3"), values4);
+    }
+
+    @Test
+    public void testListReturnType() {
+        // STEP 1
+        // Action: @CacheResultBulk-annotated method call with an explicit collection of keys.
+        // Expected effect: method invoked and the values associated with the keys by their position.
+        List<String> values1 = cachedService.listMethod(Arrays.asList(4L, 5L), "a");
+        assertEquals(List.of("list-4-a", "list-5-a"), values1);
+
+        // STEP 2
+        // Action: call with a cached key, a new key and a key returning null.
+        // Expected effect: method only invoked with the missing keys, other arguments unchanged.
+        List<String> values2 = cachedService.listMethod(Arrays.asList(6L, 5L, 13L), "a");
+        assertEquals("list-6-a", values2.get(0));
+        assertEquals("list-5-a", values2.get(1));
+        assertNull(values2.get(2));
+        assertEquals(List.of(List.of(4L, 5L), List.of(6L, 13L)), cachedService.listInvocations);
+
+        // STEP 3
+        // Action: call with a cached key and another value of the other argument.
+        // Expected effect: the other arguments are part of the cache keys, so the method is invoked.
+        assertEquals(List.of("list-5-b"), cachedService.listMethod(Arrays.asList(5L), "b"));
+        assertEquals(List.of(5L), cachedService.listInvocations.get(2));
+
+        // STEP 4
+        // Action: cache entry invalidation, then same call as STEP 2.
+        // Expected effect: method only invoked with the invalidated key and the key without value.
+        cachedService.invalidate(5L, "a");
+        cachedService.listMethod(Arrays.asList(6L, 5L, 13L), "a");
+        assertEquals(List.of(5L, 13L), cachedService.listInvocations.get(3));
+    }
+
+    @Test
+    public void testInvalidListSize() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> cachedService.invalidListMethod(List.of(7L, 8L)));
+        assertTrue(e.getMessage().contains("returned 1 elements for 2 keys"));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final List<List<Long>> mapInvocations = new ArrayList<>();
+        final List<List<Long>> listInvocations = new ArrayList<>();
+
+        @CacheResultBulk(cacheName = MAP_CACHE)
+        public Map<Long, String> mapMethod(List<Long> keys) {
+            mapInvocations.add(keys);
+            Map<Long, String> values = new LinkedHashMap<>();
+            for (Long key : keys) {
+                // No value for the unlucky keys
+                if (key != 13L) {
+                    values.put(key, "map-" + key);
+                }
+            }
+            return values;
+        }
+
+        @CacheResultBulk(cacheName = LIST_CACHE)
+        public List<String> listMethod(@CacheKey List<Long> keys, String suffix) {
+            listInvocations.add(keys);
+            List<String> values = new ArrayList<>();
+            for (Long key : keys) {
+                values.add(key != 13L ? "list-" + key + "-" + suffix : null);
+            }
+            return values;
+        }
+
+        @CacheResultBulk(cacheName = "bulk-invalid-cache")
+        public List<String> invalidListMethod(List<Long> keys) {
+            return List.of("invalid");
+        }
+
+        @CacheInvalidate(cacheName = LIST_CACHE)
+        public void invalidate(Long key, String suffix) {
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.annotation.Identifier;
+
+public class MaximumWeightTest {
+
+    private static final String ESTIMATED_CACHE = "estimated-weight-cache";
+    private static final String WEIGHER_CACHE = "weigher-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(LengthWeigher.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + ESTIMATED_CACHE + "\".maximum-weight", "10K")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + WEIGHER_CACHE + "\".maximum-weight", "10")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + WEIGHER_CACHE + "\".maximum-size", "100");
+
+    @CacheName(ESTIMATED_CACHE)
+    Cache estimatedCache;
+
+    @CacheName(WEIGHER_CACHE)
+    Cache weigherCache;
+
+    @Test
+    public void testEstimatedWeight() throws InterruptedException {
+        CaffeineCacheImpl cache = estimatedCache.as(CaffeineCacheImpl.class);
+
+        cache.get("small", k -> "value").await().indefinitely();
+        long smallWeight = awaitWeightedSize(cache::getWeightedSize, w -> w > 0);
+        assertTrue(smallWeight < 200, "Unexpected weight " + smallWeight);
+
+        // Each value retains about 1KB
+        for (int i = 0; i < 30; i++) {
+            cache.get(i, k -> "x".repeat(1000)).await().indefinitely();
+        }
+        long weight = awaitWeightedSize(cache::getWeightedSize, w -> w <= 10 * 1024);
+        assertTrue(weight <= 10 * 1024, "Unexpected weight " + weight);
+        assertTrue(cache.getSize() < 30);
+    }
+
+    @Test
+    public void testCustomWeigher() throws InterruptedException {
+        CaffeineCacheImpl cache = weigherCache.as(CaffeineCacheImpl.class);
+        assertEquals(100, cache.getCacheInfo().maximumSize);
+
+        cache.get("a", k -> "aaaa").await().indefinitely();
+        cache.get("b", k -> "bbbbbb").await().indefinitely();
+        assertEquals(10, awaitWeightedSize(cache::getWeightedSize, w -> w == 10));
+
+        // The total weight exceeds the maximum weight
+        cache.get("c", k -> "cc").await().indefinitely();
+        long weight = awaitWeightedSize(cache::getWeightedSize, w -> w <= 10);
+        assertTrue(weight <= 10, "Unexpected weight " + weight);
+
+        // The maximum size is ignored when a maximum weight is configured
+        assertThrows(IllegalStateException.class, () -> weigherCache.as(CaffeineCache.class).setMaximumSize(10));
+    }
+
+    private static long awaitWeightedSize(LongSupplier weightedSize, LongPredicate condition)
+            throws InterruptedException {
+        // The eviction is performed asynchronously
+        long deadline = System.currentTimeMillis() + 5_000;
+        long current = weightedSize.getAsLong();
+        while (!condition.test(current) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            current = weightedSize.getAsLong();
+        }
+        return current;
+    }
+
+    @ApplicationScoped
+    @Identifier(WEIGHER_CACHE)
+    static class LengthWeigher implements CacheWeigher {
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return value instanceof String ? ((String) value).length() : 1;
+        }
+    }
+}
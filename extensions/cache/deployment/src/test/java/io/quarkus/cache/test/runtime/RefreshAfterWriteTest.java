@@ -0,0 +1,139 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "refresh-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedService.class, RequestHolder.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write", "PT0.5S");
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    RequestHolder requestHolder;
+
+    @Test
+    public void testRefresh() throws InterruptedException {
+        String value1 = cachedService.cachedMethod("foo");
+        assertEquals("foo1", value1);
+        assertEquals(value1, cachedService.cachedMethod("foo"));
+
+        Thread.sleep(600);
+        // The stale value is returned while the entry is reloaded in the background
+        assertEquals(value1, cachedService.cachedMethod("foo"));
+        String value2 = awaitChange("foo", value1);
+        assertEquals("foo2", value2);
+        assertEquals(2, cachedService.invocations.get());
+    }
+
+    @Test
+    public void testFailedRefresh() throws InterruptedException {
+        String value = cachedService.failingMethod("bar");
+
+        Thread.sleep(600);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (cachedService.failingInvocations.get() < 2 && System.currentTimeMillis() < deadline) {
+            // The current value is kept when the reload fails
+            assertEquals(value, cachedService.failingMethod("bar"));
+            Thread.sleep(20);
+        }
+        assertTrue(cachedService.failingInvocations.get() >= 2);
+        assertEquals(value, cachedService.failingMethod("bar"));
+    }
+
+    @Test
+    public void testRefreshInNewRequestContext() throws InterruptedException {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            requestHolder.setValue("caller");
+            assertEquals("caller", cachedService.requestScopedMethod("baz"));
+
+            Thread.sleep(600);
+            assertEquals("caller", cachedService.requestScopedMethod("baz"));
+            long deadline = System.currentTimeMillis() + 5_000;
+            String current = cachedService.requestScopedMethod("baz");
+            while (current.equals("caller") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+                current = cachedService.requestScopedMethod("baz");
+            }
+            // The reload does not see the request context of the caller
+            assertEquals("none", current);
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    private String awaitChange(String key, String value) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String current = cachedService.cachedMethod(key);
+        while (current.equals(value) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            current = cachedService.cachedMethod(key);
+        }
+        return current;
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicInteger invocations = new AtomicInteger();
+        final AtomicInteger failingInvocations = new AtomicInteger();
+
+        @Inject
+        RequestHolder requestHolder;
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            return key + invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String requestScopedMethod(String key) {
+            String value = requestHolder.getValue();
+            return value != null ? value : "none";
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String failingMethod(String key) {
+            if (failingInvocations.incrementAndGet() > 1) {
+                throw new IllegalStateException("Reload failed");
+            }
+            return key;
+        }
+    }
+
+    @RequestScoped
+    static class RequestHolder {
+
+        private String value;
+
+        String getValue() {
+            return value;
+        }
+
+        void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package io.quarkus.cache;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -55,6 +62,52 @@ public interface Cache {
      */
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the values
+     * of the keys that are not already associated with a value from {@code valuesLoader}. The loader is invoked at most
+     * once with all the missing keys and may return a map that does not contain some of them. A key for which the loader
+     * did not return a value, or returned a {@code null} value, is not cached and is not part of the emitted map.
+     * <p>
+     * The default implementation loads the missing values one key at a time. The cache implementations provided by Quarkus
+     * override it with an implementation loading all the missing values at once.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the cache values of the keys that are not already associated with a
+     *        value
+     * @return a lazy asynchronous action that will emit the cache values in the iteration order of {@code keys}
+     * @throws NullPointerException if one of the keys is {@code null}
+     * @throws CacheException if an exception is thrown during the cache values computation
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        List<K> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        if (distinctKeys.isEmpty()) {
+            return Uni.createFrom().item(new LinkedHashMap<>());
+        }
+        List<Uni<V>> values = new ArrayList<>(distinctKeys.size());
+        for (K key : distinctKeys) {
+            values.add(get(key, new Function<K, V>() {
+                @Override
+                public V apply(K k) {
+                    return valuesLoader.apply(Set.of(k)).get(k);
+                }
+            }));
+        }
+        return Uni.join().all(values).andFailFast().map(new Function<List<V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(List<V> list) {
+                Map<K, V> result = new LinkedHashMap<>();
+                for (int i = 0; i < list.size(); i++) {
+                    if (list.get(i) != null) {
+                        result.put(distinctKeys.get(i), list.get(i));
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
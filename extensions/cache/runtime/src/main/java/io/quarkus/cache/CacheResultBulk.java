@@ -0,0 +1,49 @@
+package io.quarkus.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * When a method annotated with {@link CacheResultBulk} is invoked, Quarkus will use each element of the collection of keys
+ * passed to the method as a distinct cache key and look up all these keys in the cache. The annotated method is then only
+ * invoked with the keys that are not already associated with a value, and the cached and computed values are merged into
+ * the result.
+ * <p>
+ * The collection of keys is the method argument annotated with {@link CacheKey @CacheKey}, or the first method argument of
+ * type {@link java.util.Collection Collection}, {@link java.util.List List} or {@link java.util.Set Set} if there is no such
+ * annotation. The values of the other arguments are passed unchanged to the method. If there are other arguments, each
+ * cache key is a {@link CompositeCacheKey} made of an element of the collection followed by the other arguments.
+ * <p>
+ * The annotated method must return one of the following types:
+ * <ul>
+ * <li>{@link java.util.Map Map}: the values are associated with their key by the returned map. A key that is not part of
+ * the returned map is not cached and is not part of the result.</li>
+ * <li>{@link java.util.List List} or {@link java.util.Collection Collection}: the returned collection must contain exactly
+ * one element per key, in the iteration order of the keys passed to the method. A {@code null} element means that there is
+ * no value for the key at the same position. It is not cached and {@code null} is returned at that position.</li>
+ * </ul>
+ * <p>
+ * Unlike {@link CacheResult}, the asynchronous return types and the {@link CacheKeyGenerator} are not supported. The
+ * annotated method is protected by a lock on cache miss mechanism for the Caffeine caches: the keys being computed by a
+ * concurrent invocation are not computed again and the invocation waits for their values.
+ * <p>
+ * The underlying caching provider can be chosen and configured in the Quarkus {@link application.properties} file.
+ *
+ * @see Cache#getAll(java.util.Collection, java.util.function.Function)
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheResultBulk {
+
+    /**
+     * The name of the cache.
+     */
+    @Nonbinding
+    String cacheName();
+}
@@ -0,0 +1,24 @@
+package io.quarkus.cache;
+
+/**
+ * Implement this interface to compute the weight of the entries of a Caffeine cache configured with a
+ * {@code maximum-weight} value. The total weight of the entries of such a cache is bounded by that value.
+ * <p>
+ * The implementation must be a CDI bean qualified with {@link io.smallrye.common.annotation.Identifier @Identifier} whose
+ * value is the name of the cache, e.g. {@code @Identifier("my-cache")}. If there is no such bean, the weight of an entry is
+ * the estimated number of bytes retained by its key and value.
+ * <p>
+ * The weight of an entry is computed when the entry is stored and is not updated afterwards. The weigher is invoked
+ * while the entry is being stored and must therefore be fast and must not access the cache.
+ */
+public interface CacheWeigher {
+
+    /**
+     * Returns the weight of a cache entry.
+     *
+     * @param key the cache key
+     * @param value the cached value, possibly {@code null}
+     * @return the weight of the entry, must be positive or zero
+     */
+    int weigh(Object key, Object value);
+}
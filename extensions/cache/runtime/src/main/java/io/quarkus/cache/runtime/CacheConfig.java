@@ -11,6 +11,7 @@
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
@@ -63,6 +64,15 @@ interface CaffeineCacheConfig {
              */
             OptionalLong maximumSize();
 
+            /**
+             * Maximum total weight of the entries the cache may contain. The weight of an entry is computed by the
+             * {@link io.quarkus.cache.CacheWeigher} bean identified by the cache name or, if there is no such bean, is the
+             * estimated number of bytes retained by the key and the value of the entry. This allows bounding the heap
+             * usage of a cache whose values have very different sizes. If both {@code maximum-size} and
+             * {@code maximum-weight} are set for the same cache, {@code maximum-weight} is used.
+             */
+            Optional<MemorySize> maximumWeight();
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -75,6 +85,15 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that an entry should be reloaded in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The reload is triggered by the first read of
+             * the entry after that duration and the callers keep getting the current value until the reload completes. If
+             * the reload fails, the current value is kept. The maximum staleness of an entry can be bounded with
+             * {@code expire-after-write}.
+             */
+            Optional<Duration> refreshAfterWrite();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -11,8 +11,8 @@
 /**
  * This interceptor binding is added at build time on a method if:
  * <ul>
- * <li>it is annotated with {@link io.quarkus.cache.CacheResult CacheResult} or {@link io.quarkus.cache.CacheInvalidate
- * CacheInvalidate}</li>
+ * <li>it is annotated with {@link io.quarkus.cache.CacheResult CacheResult}, {@link io.quarkus.cache.CacheResultBulk
+ * CacheResultBulk} or {@link io.quarkus.cache.CacheInvalidate CacheInvalidate}</li>
  * <li>at least one of its arguments is annotated with {@link io.quarkus.cache.CacheKey CacheKey}</li>
  * </ul>
  * It helps improving performances by storing at build time the positions of {@link io.quarkus.cache.CacheKey
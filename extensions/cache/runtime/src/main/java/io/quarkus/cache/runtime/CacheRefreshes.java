@@ -0,0 +1,78 @@
+package io.quarkus.cache.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Runs the reloads of the cache entries triggered by the {@code refresh-after-write} configuration.
+ * <p>
+ * A reload happens in the background and may complete after the end of the request which triggered it, so it never uses
+ * the request context of that request. Each reload is started on a worker thread in a new request context, which is
+ * destroyed when the reload completes.
+ */
+public final class CacheRefreshes {
+
+    private CacheRefreshes() {
+    }
+
+    /**
+     * @param reloader supplies the reloaded value
+     * @return the reloaded value
+     */
+    public static <T> CompletableFuture<T> reload(Supplier<? extends CompletionStage<T>> reloader) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Infrastructure.getDefaultWorkerPool().execute(new Runnable() {
+            @Override
+            public void run() {
+                reloadInNewRequestContext(reloader, result);
+            }
+        });
+        return result;
+    }
+
+    private static <T> void reloadInNewRequestContext(Supplier<? extends CompletionStage<T>> reloader,
+            CompletableFuture<T> result) {
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container != null ? container.requestContext() : null;
+        ContextState previous = null;
+        ContextState reloadState = null;
+        if (requestContext != null) {
+            // The context of the caller may have been propagated to the worker thread
+            previous = requestContext.restore(null);
+            reloadState = requestContext.activate(null);
+        }
+        CompletionStage<T> reloaded;
+        try {
+            reloaded = reloader.get();
+        } catch (Throwable t) {
+            reloaded = CompletableFuture.failedFuture(t);
+        } finally {
+            if (requestContext != null) {
+                // The new context is only destroyed when the reload completes
+                requestContext.restore(previous);
+            }
+        }
+        ContextState state = reloadState;
+        reloaded.whenComplete(new BiConsumer<T, Throwable>() {
+            @Override
+            public void accept(T value, Throwable failure) {
+                if (state != null) {
+                    requestContext.destroy(state);
+                }
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(value);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,185 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheResultBulk;
+import io.quarkus.cache.CompositeCacheKey;
+
+@CacheResultBulk(cacheName = "") // The `cacheName` attribute is @Nonbinding.
+@Interceptor
+@Priority(CacheInterceptor.BASE_PRIORITY + 2)
+public class CacheResultBulkInterceptor extends CacheInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheResultBulkInterceptor.class);
+    private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheResultBulk interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
+
+    @AroundInvoke
+    public Object intercept(InvocationContext invocationContext) throws Throwable {
+        CacheInterceptionContext<CacheResultBulk> interceptionContext = getInterceptionContext(invocationContext,
+                CacheResultBulk.class, true);
+
+        if (interceptionContext.getInterceptorBindings().isEmpty()) {
+            // This should never happen.
+            LOGGER.warn(INTERCEPTOR_BINDING_ERROR_MSG);
+            return invocationContext.proceed();
+        }
+
+        CacheResultBulk binding = interceptionContext.getInterceptorBindings().get(0);
+        Method method = invocationContext.getMethod();
+        Object[] parameters = invocationContext.getParameters();
+        int keysPosition = getKeysParameterPosition(method, interceptionContext.getCacheKeyParameterPositions());
+        @SuppressWarnings("unchecked")
+        Collection<Object> keys = (Collection<Object>) parameters[keysPosition];
+        if (keys == null) {
+            return invocationContext.proceed();
+        }
+        // The values returned as a collection are associated with the keys by their position
+        boolean positional = !Map.class.isAssignableFrom(method.getReturnType());
+        // The other arguments are part of each cache key, as the method may return different values for them
+        Map<Object, Object> cacheKeys = new LinkedHashMap<>();
+        for (Object key : keys) {
+            cacheKeys.put(toCacheKey(key, parameters, keysPosition), key);
+        }
+        Cache cache = cacheManager.getCache(binding.cacheName()).get();
+        LOGGER.debugf("Loading entries with %d keys from cache [%s]", cacheKeys.size(), binding.cacheName());
+
+        try {
+            Map<Object, Object> values = cache.getAll(cacheKeys.keySet(),
+                    new Function<Set<Object>, Map<Object, Object>>() {
+                        @Override
+                        public Map<Object, Object> apply(Set<Object> missingCacheKeys) {
+                            try {
+                                LOGGER.debugf("Adding entries with keys %s into cache [%s]", missingCacheKeys,
+                                        binding.cacheName());
+                                Set<Object> missingKeys = new LinkedHashSet<>();
+                                for (Object missingCacheKey : missingCacheKeys) {
+                                    missingKeys.add(cacheKeys.get(missingCacheKey));
+                                }
+                                Object[] missingKeysParameters = parameters.clone();
+                                missingKeysParameters[keysPosition] = toKeysParameter(missingKeys,
+                                        method.getParameterTypes()[keysPosition]);
+                                invocationContext.setParameters(missingKeysParameters);
+                                Map<Object, Object> computed = toValues(missingKeys, invocationContext.proceed(),
+                                        positional, method);
+                                Map<Object, Object> computedByCacheKey = new LinkedHashMap<>();
+                                for (Map.Entry<Object, Object> entry : computed.entrySet()) {
+                                    computedByCacheKey.put(toCacheKey(entry.getKey(), parameters, keysPosition),
+                                            entry.getValue());
+                                }
+                                return computedByCacheKey;
+                            } catch (CacheException e) {
+                                throw e;
+                            } catch (Throwable e) {
+                                throw new CacheException(e);
+                            }
+                        }
+                    }).await().indefinitely();
+
+            if (positional) {
+                List<Object> result = new ArrayList<>(keys.size());
+                for (Object key : keys) {
+                    result.add(values.get(toCacheKey(key, parameters, keysPosition)));
+                }
+                return result;
+            }
+            Map<Object, Object> result = new LinkedHashMap<>();
+            for (Map.Entry<Object, Object> entry : cacheKeys.entrySet()) {
+                Object value = values.get(entry.getKey());
+                if (value != null) {
+                    result.put(entry.getValue(), value);
+                }
+            }
+            return result;
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * @return the key itself if the method has no other parameter, or a {@link CompositeCacheKey} made of the key and the
+     *         other arguments otherwise
+     */
+    private static Object toCacheKey(Object key, Object[] parameters, int keysPosition) {
+        if (parameters.length == 1) {
+            return key;
+        }
+        Object[] keyElements = new Object[parameters.length];
+        keyElements[0] = key;
+        int index = 1;
+        for (int i = 0; i < parameters.length; i++) {
+            if (i != keysPosition) {
+                keyElements[index++] = parameters[i];
+            }
+        }
+        return new CompositeCacheKey(keyElements);
+    }
+
+    private static int getKeysParameterPosition(Method method, List<Short> cacheKeyParameterPositions) {
+        if (cacheKeyParameterPositions.size() == 1) {
+            return cacheKeyParameterPositions.get(0);
+        }
+        // The presence of a collection parameter is validated at build time
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i] == Collection.class || parameterTypes[i] == List.class
+                    || parameterTypes[i] == Set.class) {
+                return i;
+            }
+        }
+        throw new CacheException(new IllegalStateException(
+                "No collection of keys found in the parameters of a method annotated with @CacheResultBulk [class="
+                        + method.getDeclaringClass().getName() + ", method=" + method.getName() + "]"));
+    }
+
+    private static Collection<Object> toKeysParameter(Set<Object> keys, Class<?> parameterType) {
+        if (Set.class.isAssignableFrom(parameterType)) {
+            return new LinkedHashSet<>(keys);
+        }
+        return new ArrayList<>(keys);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> toValues(Set<Object> keys, Object invocationResult, boolean positional,
+            Method method) {
+        if (invocationResult == null) {
+            return Map.of();
+        }
+        if (!positional) {
+            return (Map<Object, Object>) invocationResult;
+        }
+        Collection<Object> elements = (Collection<Object>) invocationResult;
+        if (elements.size() != keys.size()) {
+            throw new CacheException(new IllegalStateException("A method annotated with @CacheResultBulk returned "
+                    + elements.size() + " elements for " + keys.size() + " keys [class="
+                    + method.getDeclaringClass().getName() + ", method=" + method.getName() + "]"));
+        }
+        Map<Object, Object> values = new LinkedHashMap<>();
+        Iterator<Object> element = elements.iterator();
+        for (Object key : keys) {
+            values.put(key, element.next());
+        }
+        return values;
+    }
+}
@@ -1,12 +1,20 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -17,12 +25,15 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.Weigher;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
 import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheWeigher;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheRefreshes;
 import io.quarkus.cache.runtime.NullValueConverter;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Context;
@@ -45,17 +56,37 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final StatsCounter statsCounter;
     private final boolean recordStats;
 
+    // The keys of the entries being refreshed, only used if refresh-after-write is configured
+    private final Set<Object> refreshing;
+    private final long refreshAfterWriteNanos;
+
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (cacheInfo.initialCapacity != null) {
             builder.initialCapacity(cacheInfo.initialCapacity);
         }
-        if (cacheInfo.maximumSize != null) {
+        if (cacheInfo.maximumWeight != null) {
+            if (cacheInfo.maximumSize != null) {
+                LOGGER.warnf("The maximum-size configuration of cache [%s] is ignored because maximum-weight is configured",
+                        cacheInfo.name);
+            }
+            builder.maximumWeight(cacheInfo.maximumWeight).weigher(new EntryWeigher(cacheInfo.weigher));
+        } else if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
         if (cacheInfo.expireAfterWrite != null) {
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+        } else if (cacheInfo.refreshAfterWrite != null) {
+            // The write-based expiration policy is needed to obtain the age of the entries
+            builder.expireAfterWrite(Duration.ofNanos(Long.MAX_VALUE));
+        }
+        if (cacheInfo.refreshAfterWrite != null) {
+            refreshing = ConcurrentHashMap.newKeySet();
+            refreshAfterWriteNanos = cacheInfo.refreshAfterWrite.toNanos();
+        } else {
+            refreshing = null;
+            refreshAfterWriteNanos = -1;
         }
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
@@ -109,9 +140,9 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
                     public CompletionStage<V> get() {
                         // When stats are enabled we need to call statsCounter.recordHits(1)/statsCounter.recordMisses(1) accordingly
                         StatsRecorder recorder = recordStats ? new OperationalStatsRecorder() : NoopStatsRecorder.INSTANCE;
-                        @SuppressWarnings("unchecked")
-                        CompletionStage<V> result = (CompletionStage<V>) cache.asMap().computeIfAbsent(key,
+                        CompletableFuture<Object> cacheValue = cache.asMap().computeIfAbsent(key,
                                 new Function<Object, CompletableFuture<Object>>() {
+                                    @SuppressWarnings("unchecked")
                                     @Override
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
@@ -121,6 +152,18 @@ public CompletableFuture<Object> apply(Object key) {
                                     }
                                 });
                         recorder.doRecord(key);
+                        if (refreshing != null) {
+                            refreshIfNeeded(key, cacheValue, new Supplier<CompletableFuture<Object>>() {
+                                @Override
+                                public CompletableFuture<Object> get() {
+                                    return valueLoader.apply(key)
+                                            .map(TO_CACHE_VALUE)
+                                            .subscribeAsCompletionStage();
+                                }
+                            });
+                        }
+                        @SuppressWarnings("unchecked")
+                        CompletionStage<V> result = (CompletionStage<V>) cacheValue;
                         return result;
                     }
                 })
@@ -170,6 +213,57 @@ public void handle(Void ignored) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                /*
+                 * Caffeine records the hits and misses and only invokes the mapping function with the missing keys. The
+                 * values are loaded synchronously on the calling thread, like in get(K, Function).
+                 */
+                return cache.getAll(keys, new BiFunction<Set<?>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public CompletableFuture<Map<Object, Object>> apply(Set<?> missingKeys, Executor executor) {
+                        LOGGER.tracef("Loading %d missing keys into cache [%s]", missingKeys.size(), cacheInfo.name);
+                        Map<K, V> values;
+                        try {
+                            values = valuesLoader.apply((Set<K>) missingKeys);
+                        } catch (Throwable t) {
+                            return CompletableFuture.failedFuture(t);
+                        }
+                        // The keys without a value are not cached
+                        Map<Object, Object> cacheValues = new LinkedHashMap<>();
+                        for (Object key : missingKeys) {
+                            V value = values.get(key);
+                            if (value != null) {
+                                cacheValues.put(key, value);
+                            }
+                        }
+                        return CompletableFuture.completedFuture(cacheValues);
+                    }
+                }).thenApply(new Function<Map<Object, Object>, Map<K, V>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Map<K, V> apply(Map<Object, Object> cacheValues) {
+                        Map<K, V> result = new LinkedHashMap<>();
+                        for (Map.Entry<Object, Object> entry : cacheValues.entrySet()) {
+                            Object value = fromCacheValueOrThrowable(entry.getValue());
+                            if (value != null) {
+                                result.put((K) entry.getKey(), (V) value);
+                            }
+                        }
+                        return result;
+                    }
+                });
+            }
+        });
+    }
+
     @Override
     public <V> CompletableFuture<V> getIfPresent(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -223,29 +317,83 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (refreshing != null) {
+                refreshIfNeeded(key, existingCacheValue, new Supplier<CompletableFuture<Object>>() {
+                    @Override
+                    public CompletableFuture<Object> get() {
+                        return CompletableFuture.completedFuture(NullValueConverter.toCacheValue(valueLoader.apply(key)));
+                    }
+                });
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Reloads the entry identified by {@code key} in the background if it is older than the refresh-after-write duration
+     * and no other reload of that entry is in progress. The current value remains in the cache until the reload
+     * completes. The reloaded value is only stored if the entry was not invalidated or replaced in the meantime. The
+     * reloads are recorded as loads in the cache stats.
+     * <p>
+     * The reload runs on a worker thread, without the request context of the caller.
+     *
+     * @param key cache key
+     * @param cacheValue the current cache value
+     * @param reloader supplies the reloaded cache value, invoked on a worker thread
+     */
+    private void refreshIfNeeded(Object key, CompletableFuture<Object> cacheValue,
+            Supplier<CompletableFuture<Object>> reloader) {
+        if (!cacheValue.isDone() || cacheValue.isCompletedExceptionally()
+                || cacheValue.getNow(null) instanceof CaffeineComputationThrowable) {
+            // The value is still being computed or the computation failed
+            return;
+        }
+        OptionalLong age = cache.synchronous().policy().expireAfterWrite().get().ageOf(key, TimeUnit.NANOSECONDS);
+        if (age.isEmpty() || age.getAsLong() < refreshAfterWriteNanos || !refreshing.add(key)) {
+            return;
+        }
+        LOGGER.tracef("Refreshing key [%s] in cache [%s]", key, cacheInfo.name);
+        long start = System.nanoTime();
+        CompletableFuture<Object> reloaded = CacheRefreshes.reload(reloader);
+        reloaded.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object value, Throwable failure) {
+                refreshing.remove(key);
+                if (failure == null) {
+                    statsCounter.recordLoadSuccess(System.nanoTime() - start);
+                    cache.asMap().replace(key, cacheValue, CompletableFuture.completedFuture(value));
+                } else {
+                    statsCounter.recordLoadFailure(System.nanoTime() - start);
+                    LOGGER.warnf(failure, "Unable to refresh key [%s] in cache [%s], the current value is kept", key,
+                            cacheInfo.name);
+                }
+            }
+        });
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
             public Object apply(Object value) {
-                // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
-                if (value instanceof CaffeineComputationThrowable) {
-                    Throwable cause = ((CaffeineComputationThrowable) value).getCause();
-                    if (cause instanceof RuntimeException) {
-                        throw (RuntimeException) cause;
-                    } else {
-                        throw new CacheException(cause);
-                    }
-                } else {
-                    return NullValueConverter.fromCacheValue(value);
-                }
+                return fromCacheValueOrThrowable(value);
             }
         });
     }
 
+    private static Object fromCacheValueOrThrowable(Object value) {
+        // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
+        if (value instanceof CaffeineComputationThrowable) {
+            Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new CacheException(cause);
+            }
+        } else {
+            return NullValueConverter.fromCacheValue(value);
+        }
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -318,7 +466,7 @@ public void setExpireAfterAccess(Duration duration) {
     @Override
     public void setMaximumSize(long maximumSize) {
         Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
-        if (eviction.isPresent()) {
+        if (eviction.isPresent() && !eviction.get().isWeighted()) {
             eviction.get().setMaximum(maximumSize);
             cacheInfo.maximumSize = maximumSize;
         } else {
@@ -336,6 +484,18 @@ public long getSize() {
         return cache.synchronous().estimatedSize();
     }
 
+    /**
+     * @return the total weight of the entries, i.e. their estimated size in bytes unless a {@link CacheWeigher} is used, or
+     *         {@code 0} if the cache was not constructed with a {@code maximum-weight} configuration value
+     */
+    public long getWeightedSize() {
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
+        if (eviction.isPresent()) {
+            return eviction.get().weightedSize().orElse(0L);
+        }
+        return 0L;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T cast(Object value) {
         try {
@@ -412,4 +572,26 @@ public Object apply(Object value) {
         }
     };
 
+    private static class EntryWeigher implements Weigher<Object, Object> {
+
+        private final CacheWeigher weigher;
+
+        EntryWeigher(CacheWeigher weigher) {
+            this.weigher = weigher;
+        }
+
+        @Override
+        public int weigh(Object key, Object value) {
+            if (value instanceof CaffeineComputationThrowable) {
+                // The entry is removed right after the failed computation
+                return 0;
+            }
+            Object actualValue = NullValueConverter.fromCacheValue(value);
+            if (weigher != null) {
+                return weigher.weigh(key, actualValue);
+            }
+            long size = CaffeineCacheSizeEstimator.estimate(key) + CaffeineCacheSizeEstimator.estimate(actualValue);
+            return (int) Math.min(size, Integer.MAX_VALUE);
+        }
+    }
 }
@@ -3,6 +3,8 @@
 import java.time.Duration;
 import java.util.Objects;
 
+import io.quarkus.cache.CacheWeigher;
+
 public class CaffeineCacheInfo {
 
     public String name;
@@ -11,10 +13,16 @@ public class CaffeineCacheInfo {
 
     public Long maximumSize;
 
+    public Long maximumWeight;
+
+    public CacheWeigher weigher;
+
     public Duration expireAfterWrite;
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
     public boolean metricsEnabled;
 
     @Override
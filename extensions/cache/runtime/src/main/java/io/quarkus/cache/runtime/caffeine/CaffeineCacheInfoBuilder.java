@@ -36,6 +36,14 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.maximumSize = defaultConfig.maximumSize().getAsLong();
                 }
 
+                // A maximum size configured for the cache takes precedence over the default maximum weight
+                if (namedCacheConfig != null && namedCacheConfig.maximumWeight().isPresent()) {
+                    cacheInfo.maximumWeight = namedCacheConfig.maximumWeight().get().asLongValue();
+                } else if (defaultConfig.maximumWeight().isPresent()
+                        && (namedCacheConfig == null || namedCacheConfig.maximumSize().isEmpty())) {
+                    cacheInfo.maximumWeight = defaultConfig.maximumWeight().get().asLongValue();
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.expireAfterWrite().isPresent()) {
                     cacheInfo.expireAfterWrite = namedCacheConfig.expireAfterWrite().get();
                 } else if (defaultConfig.expireAfterWrite().isPresent()) {
@@ -48,6 +56,12 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.expireAfterAccess = defaultConfig.expireAfterAccess().get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedCacheConfig.refreshAfterWrite().get();
+                } else if (defaultConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultConfig.refreshAfterWrite().get();
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.metricsEnabled().isPresent()) {
                     cacheInfo.metricsEnabled = namedCacheConfig.metricsEnabled().get();
                 } else if (defaultConfig.metricsEnabled().isPresent()) {
@@ -8,13 +8,17 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheWeigher;
 import io.quarkus.cache.runtime.CacheConfig;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
 import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
 import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
+import io.smallrye.common.annotation.Identifier;
 
 public class CaffeineCacheManagerBuilder {
 
@@ -42,11 +46,14 @@ public CacheManager get() {
                     for (CaffeineCacheInfo cacheInfo : cacheInfos) {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugf(
-                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], "
-                                            + "[expireAfterAccess=%s] and [metricsEnabled=%s]",
-                                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
+                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [maximumWeight=%s], "
+                                            + "[expireAfterWrite=%s], [expireAfterAccess=%s] and [metricsEnabled=%s]",
+                                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.maximumWeight,
                                     cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.metricsEnabled);
                         }
+                        if (cacheInfo.maximumWeight != null) {
+                            cacheInfo.weigher = findWeigher(cacheInfo.name);
+                        }
                         /*
                          * Metrics will be recorded for the current cache if:
                          * - the application depends on a quarkus-micrometer-registry-* extension
@@ -56,6 +63,10 @@ public CacheManager get() {
                         CaffeineCacheImpl cache = new CaffeineCacheImpl(cacheInfo, recordMetrics);
                         if (recordMetrics) {
                             metricsInitializer.recordMetrics(cache.cache, cacheInfo.name);
+                            if (cacheInfo.maximumWeight != null) {
+                                metricsInitializer.recordWeightMetrics(cache, cacheInfo.name,
+                                        CaffeineCacheImpl::getWeightedSize);
+                            }
                         } else if (cacheInfo.metricsEnabled) {
                             LOGGER.warnf(
                                     "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
@@ -70,4 +81,15 @@ public CacheManager get() {
             }
         };
     }
+
+    private static CacheWeigher findWeigher(String cacheName) {
+        InstanceHandle<CacheWeigher> weigher = Arc.container().instance(CacheWeigher.class,
+                Identifier.Literal.of(cacheName));
+        if (weigher.isAvailable()) {
+            LOGGER.debugf("Using the CacheWeigher bean [%s] for cache [%s]", weigher.getBean().getBeanClass().getName(),
+                    cacheName);
+            return weigher.get();
+        }
+        return null;
+    }
 }
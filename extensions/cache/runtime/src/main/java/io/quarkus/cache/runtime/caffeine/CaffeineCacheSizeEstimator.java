@@ -0,0 +1,203 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.cache.CompositeCacheKey;
+
+/**
+ * Estimates the number of bytes retained by the keys and values of the Caffeine caches configured with a
+ * {@code maximum-weight} value and no {@link io.quarkus.cache.CacheWeigher CacheWeigher}.
+ * <p>
+ * The estimates assume a 64-bit JVM with compressed object pointers. Strings, arrays, boxed primitives, collections, maps,
+ * optionals and records are traversed, the other objects are assumed to retain {@link #DEFAULT_SIZE} bytes. The objects
+ * shared between several entries are counted once per entry.
+ */
+final class CaffeineCacheSizeEstimator {
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    // The estimated overhead of an element of a collection or of an entry of a map, e.g. a hash table node
+    private static final int ELEMENT_OVERHEAD = 24;
+    // The size assumed for the objects which are not traversed
+    static final long DEFAULT_SIZE = 64;
+    private static final int MAX_DEPTH = 16;
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Optional<RecordEstimator>> RECORD_ESTIMATORS = new ClassValue<>() {
+        @Override
+        protected Optional<RecordEstimator> computeValue(Class<?> type) {
+            return Optional.ofNullable(RecordEstimator.of(type));
+        }
+    };
+
+    private CaffeineCacheSizeEstimator() {
+    }
+
+    static long estimate(Object object) {
+        return estimate(object, 0);
+    }
+
+    private static long estimate(Object object, int depth) {
+        if (object == null) {
+            return 0;
+        }
+        if (depth > MAX_DEPTH) {
+            return DEFAULT_SIZE;
+        }
+        if (object instanceof String) {
+            String string = (String) object;
+            return align(OBJECT_HEADER + 12) + align(ARRAY_HEADER + (long) string.length() * charSize(string));
+        }
+        if (object instanceof Long || object instanceof Double) {
+            return 24;
+        }
+        if (object instanceof Number || object instanceof Boolean || object instanceof Character) {
+            return 16;
+        }
+        if (object instanceof Enum) {
+            // The constants are shared
+            return 0;
+        }
+        if (object instanceof byte[]) {
+            return align(ARRAY_HEADER + ((byte[]) object).length);
+        }
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(object);
+            Class<?> componentType = type.getComponentType();
+            if (componentType.isPrimitive()) {
+                return align(ARRAY_HEADER + (long) length * primitiveSize(componentType));
+            }
+            long size = align(ARRAY_HEADER + (long) length * REFERENCE);
+            for (Object element : (Object[]) object) {
+                size += estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            long size = align(OBJECT_HEADER + 28) + (long) collection.size() * ELEMENT_OVERHEAD;
+            for (Object element : collection) {
+                size += estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            long size = align(OBJECT_HEADER + 36) + (long) map.size() * (ELEMENT_OVERHEAD + 8);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        if (object instanceof Optional) {
+            return 16 + estimate(((Optional<?>) object).orElse(null), depth + 1);
+        }
+        if (object instanceof CompositeCacheKey) {
+            return 16 + estimate(((CompositeCacheKey) object).getKeyElements(), depth + 1);
+        }
+        if (type.isRecord()) {
+            Optional<RecordEstimator> recordEstimator = RECORD_ESTIMATORS.get(type);
+            if (recordEstimator.isPresent()) {
+                return recordEstimator.get().estimate(object, depth);
+            }
+        }
+        return DEFAULT_SIZE;
+    }
+
+    private static int charSize(String string) {
+        // Strings made of Latin-1 characters only are stored with one byte per character
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 0xFF) {
+                return 2;
+            }
+        }
+        return 1;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else {
+            return 1;
+        }
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * Estimates the size of the instances of a record from its components.
+     */
+    private static final class RecordEstimator {
+
+        private final long shallowSize;
+        // The accessors of the components which are not primitives
+        private final MethodHandle[] accessors;
+
+        private RecordEstimator(long shallowSize, MethodHandle[] accessors) {
+            this.shallowSize = shallowSize;
+            this.accessors = accessors;
+        }
+
+        /**
+         * @return the estimator, or {@code null} if the record components are not accessible, e.g. in native mode if the
+         *         record is not registered for reflection
+         */
+        static RecordEstimator of(Class<?> type) {
+            try {
+                RecordComponent[] components = type.getRecordComponents();
+                long shallowSize = OBJECT_HEADER;
+                int references = 0;
+                for (RecordComponent component : components) {
+                    if (component.getType().isPrimitive()) {
+                        shallowSize += primitiveSize(component.getType());
+                    } else {
+                        shallowSize += REFERENCE;
+                        references++;
+                    }
+                }
+                MethodHandle[] accessors = new MethodHandle[references];
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                int i = 0;
+                for (RecordComponent component : components) {
+                    if (!component.getType().isPrimitive()) {
+                        Method accessor = component.getAccessor();
+                        accessor.setAccessible(true);
+                        accessors[i++] = lookup.unreflect(accessor).asType(ACCESSOR_TYPE);
+                    }
+                }
+                return new RecordEstimator(align(shallowSize), accessors);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        long estimate(Object record, int depth) {
+            long size = shallowSize;
+            for (MethodHandle accessor : accessors) {
+                try {
+                    size += CaffeineCacheSizeEstimator.estimate(accessor.invokeExact(record), depth + 1);
+                } catch (Throwable t) {
+                    size += DEFAULT_SIZE;
+                }
+            }
+            return size;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
 public interface MetricsInitializer {
@@ -7,4 +10,44 @@ public interface MetricsInitializer {
     boolean metricsEnabled();
 
     void recordMetrics(AsyncCache<Object, Object> cache, String cacheName);
+
+    /**
+     * Records the successful and failed loads of a cache which is not backed by Caffeine, using the same meters as the
+     * Caffeine caches.
+     *
+     * @param obj the object the counts are obtained from
+     * @param cacheName the name of the cache
+     * @param successes the function returning the number of successful loads
+     * @param failures the function returning the number of failed loads
+     */
+    <T> void recordLoadMetrics(T obj, String cacheName, ToDoubleFunction<T> successes, ToDoubleFunction<T> failures);
+
+    /**
+     * Records the hits and misses of a single tier of a cache composed of several tiers, e.g. a local cache kept in front
+     * of a remote cache.
+     *
+     * @param obj the object the counts are obtained from
+     * @param cacheName the name of the cache
+     * @param tier the name of the tier
+     * @param hits the function returning the number of hits
+     * @param misses the function returning the number of misses
+     */
+    <T> void recordTierMetrics(T obj, String cacheName, String tier, ToDoubleFunction<T> hits, ToDoubleFunction<T> misses);
+
+    /**
+     * Records the distribution of the size of the values written to a cache which stores serialized values.
+     *
+     * @param cacheName the name of the cache
+     * @return the consumer to call with the size in bytes of each written value
+     */
+    LongConsumer recordSizeMetrics(String cacheName);
+
+    /**
+     * Records the total weight of the entries of a cache bounded by a maximum weight.
+     *
+     * @param obj the object the weight is obtained from
+     * @param cacheName the name of the cache
+     * @param weightedSize the function returning the total weight of the entries, in bytes unless a custom weigher is used
+     */
+    <T> void recordWeightMetrics(T obj, String cacheName, ToDoubleFunction<T> weightedSize);
 }
@@ -1,9 +1,15 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
@@ -26,4 +32,60 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public <T> void recordLoadMetrics(T obj, String cacheName, ToDoubleFunction<T> successes,
+            ToDoubleFunction<T> failures) {
+        LOGGER.tracef("Initializing Micrometer load metrics for cache [%s]", cacheName);
+        // Same meters as the ones registered by CaffeineCacheMetrics
+        FunctionCounter.builder("cache.load", obj, successes)
+                .tags("cache", cacheName, "result", "success")
+                .description("The number of times cache lookup methods have successfully loaded a new value")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.load", obj, failures)
+                .tags("cache", cacheName, "result", "failure")
+                .description("The number of times cache lookup methods failed to load a new value")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public <T> void recordTierMetrics(T obj, String cacheName, String tier, ToDoubleFunction<T> hits,
+            ToDoubleFunction<T> misses) {
+        LOGGER.tracef("Initializing Micrometer metrics for tier [%s] of cache [%s]", tier, cacheName);
+        FunctionCounter.builder("cache.tier.gets", obj, hits)
+                .tags("cache", cacheName, "tier", tier, "result", "hit")
+                .description("The number of times the cache tier returned a cached value")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.tier.gets", obj, misses)
+                .tags("cache", cacheName, "tier", tier, "result", "miss")
+                .description("The number of times the cache tier did not contain the requested value")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public LongConsumer recordSizeMetrics(String cacheName) {
+        LOGGER.tracef("Initializing Micrometer size metrics for cache [%s]", cacheName);
+        DistributionSummary summary = DistributionSummary.builder("cache.value.size")
+                .tags("cache", cacheName)
+                .baseUnit("bytes")
+                .description("The size of the serialized values written to the cache")
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+        return new LongConsumer() {
+            @Override
+            public void accept(long size) {
+                summary.record(size);
+            }
+        };
+    }
+
+    @Override
+    public <T> void recordWeightMetrics(T obj, String cacheName, ToDoubleFunction<T> weightedSize) {
+        LOGGER.tracef("Initializing Micrometer weight metrics for cache [%s]", cacheName);
+        Gauge.builder("cache.weighted.size", obj, weightedSize)
+                .tags("cache", cacheName)
+                .baseUnit("bytes")
+                .description("The total weight of the cache entries, their estimated size unless a custom weigher is used")
+                .register(Metrics.globalRegistry);
+    }
 }
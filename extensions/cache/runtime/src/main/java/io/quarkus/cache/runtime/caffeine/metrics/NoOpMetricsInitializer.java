@@ -1,5 +1,8 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
@@ -22,4 +25,35 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         LOGGER.tracef("Initializing no-op metrics for cache [%s]", cacheName);
         // Do nothing more.
     }
+
+    @Override
+    public <T> void recordLoadMetrics(T obj, String cacheName, ToDoubleFunction<T> successes,
+            ToDoubleFunction<T> failures) {
+        LOGGER.tracef("Initializing no-op load metrics for cache [%s]", cacheName);
+        // Do nothing more.
+    }
+
+    @Override
+    public <T> void recordTierMetrics(T obj, String cacheName, String tier, ToDoubleFunction<T> hits,
+            ToDoubleFunction<T> misses) {
+        LOGGER.tracef("Initializing no-op metrics for tier [%s] of cache [%s]", tier, cacheName);
+        // Do nothing more.
+    }
+
+    @Override
+    public LongConsumer recordSizeMetrics(String cacheName) {
+        LOGGER.tracef("Initializing no-op size metrics for cache [%s]", cacheName);
+        return new LongConsumer() {
+            @Override
+            public void accept(long size) {
+                // Do nothing.
+            }
+        };
+    }
+
+    @Override
+    public <T> void recordWeightMetrics(T obj, String cacheName, ToDoubleFunction<T> weightedSize) {
+        LOGGER.tracef("Initializing no-op weight metrics for cache [%s]", cacheName);
+        // Do nothing more.
+    }
 }
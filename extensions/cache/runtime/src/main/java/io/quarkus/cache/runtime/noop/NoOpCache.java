@@ -1,5 +1,10 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -35,6 +40,28 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
         return valueLoader.apply(key);
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                Set<K> distinctKeys = new LinkedHashSet<>(keys);
+                Map<K, V> result = new LinkedHashMap<>();
+                if (distinctKeys.isEmpty()) {
+                    return result;
+                }
+                Map<K, V> values = valuesLoader.apply(distinctKeys);
+                for (K key : distinctKeys) {
+                    V value = values.get(key);
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         return Uni.createFrom().voidItem();
@@ -0,0 +1,94 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class GroupLoadSheddingTest {
+    private static final int NUM_THREADS = 10;
+    private static final int NUM_REQUESTS = 5;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "fixed")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "200")
+            .overrideConfigKey("quarkus.load-shedding.groups.slow.path-prefixes", "/slow")
+            .overrideConfigKey("quarkus.load-shedding.groups.slow.max-limit", "2")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void test() throws InterruptedException {
+        assertThat(detector.limiter("/slow/1").group()).isEqualTo("slow");
+        assertThat(detector.limiter("/slow").group()).isEqualTo("slow");
+        // prefixes match whole path segments
+        assertThat(detector.limiter("/slowest").group()).isEqualTo("<default>");
+        assertThat(detector.limiter("/slow/1").currentLimit()).isEqualTo(2);
+        // the fixed limit is the maximum limit, not the initial limit
+        assertThat(detector.limiter("/fast").currentLimit()).isEqualTo(200);
+
+        AtomicInteger slowErrors = new AtomicInteger();
+        AtomicInteger fastErrors = new AtomicInteger();
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(2 * NUM_THREADS);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            startThread(begin, end, "/slow", slowErrors);
+            startThread(begin, end, "/fast", fastErrors);
+        }
+
+        begin.countDown();
+        end.await();
+
+        // the slow requests are limited to 2 concurrent requests, the fast requests are not affected
+        assertThat(slowErrors).hasValueGreaterThanOrEqualTo(NUM_THREADS * NUM_REQUESTS / 2);
+        assertThat(fastErrors).hasValue(0);
+    }
+
+    private static void startThread(CountDownLatch begin, CountDownLatch end, String path, AtomicInteger numErrors) {
+        new Thread(() -> {
+            try {
+                begin.await();
+                for (int j = 0; j < NUM_REQUESTS; j++) {
+                    int statusCode = when().get(path).then().extract().statusCode();
+                    if (statusCode == 503) {
+                        numErrors.incrementAndGet();
+                    }
+                }
+                end.countDown();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }).start();
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        @Path("/slow")
+        public String slow() throws InterruptedException {
+            Thread.sleep(100);
+            return "Hello, world!";
+        }
+
+        @GET
+        @Path("/fast")
+        public String fast() {
+            return "Hello, world!";
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.AdmissionQueue;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class QueueClosedConnectionLoadSheddingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "fixed")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.queue.enabled", "true")
+            .overrideConfigKey("quarkus.load-shedding.queue.max-wait", "1m")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void testClosedConnectionLeavesTheQueue() throws Exception {
+        CompletableFuture<Integer> blocking = CompletableFuture.supplyAsync(
+                () -> when().get("/").then().extract().statusCode());
+        try {
+            assertThat(MyResource.STARTED.await(10, TimeUnit.SECONDS)).isTrue();
+            AdmissionQueue queue = detector.limiters().get(0).queue();
+
+            try (Socket socket = new Socket("localhost", RestAssured.port)) {
+                OutputStream out = socket.getOutputStream();
+                out.write("GET / HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                awaitUntil(() -> queue.size() == 1);
+            }
+            awaitUntil(() -> queue.size() == 0);
+            assertThat(queue.rejectedCount()).isEqualTo(0);
+        } finally {
+            MyResource.RELEASE.countDown();
+        }
+        assertThat(blocking.get(10, TimeUnit.SECONDS)).isEqualTo(200);
+        // No place of the limiter is kept by the request that left the queue
+        awaitUntil(() -> detector.limiters().get(0).currentRequests() == 0);
+        when().get("/").then().statusCode(200);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @Path("/")
+    public static class MyResource {
+
+        static final CountDownLatch STARTED = new CountDownLatch(1);
+        static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+        @GET
+        public String hello() throws InterruptedException {
+            STARTED.countDown();
+            RELEASE.await(30, TimeUnit.SECONDS);
+            return "Hello, world!";
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.AdmissionQueue;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class QueueLoadSheddingTest {
+    private static final int NUM_THREADS = 6;
+    private static final int NUM_REQUESTS = 5;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "fixed")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "2")
+            .overrideConfigKey("quarkus.load-shedding.queue.enabled", "true")
+            .overrideConfigKey("quarkus.load-shedding.queue.max-wait", "5s")
+            .overrideConfigKey("quarkus.load-shedding.queue.interval", "1m")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void test() throws InterruptedException {
+        AtomicInteger numErrors = new AtomicInteger();
+        AtomicInteger numSuccesses = new AtomicInteger();
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(NUM_THREADS);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < NUM_REQUESTS; j++) {
+                        int statusCode = when().get("/").then().extract().statusCode();
+                        if (statusCode == 503) {
+                            numErrors.incrementAndGet();
+                        } else if (statusCode == 200) {
+                            numSuccesses.incrementAndGet();
+                        }
+                    }
+                    end.countDown();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+        }
+
+        begin.countDown();
+        end.await();
+
+        // the requests over the limit waited instead of being rejected
+        assertThat(numErrors).hasValue(0);
+        assertThat(numSuccesses).hasValue(NUM_THREADS * NUM_REQUESTS);
+
+        AdmissionQueue queue = detector.limiters().get(0).queue();
+        assertThat(queue).isNotNull();
+        assertThat(queue.size()).isEqualTo(0);
+        assertThat(queue.rejectedCount()).isEqualTo(0);
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        public String hello() throws InterruptedException {
+            Thread.sleep(50);
+            return "Hello, world!";
+        }
+    }
+}
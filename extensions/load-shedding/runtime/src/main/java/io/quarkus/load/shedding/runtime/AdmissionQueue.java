@@ -0,0 +1,253 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.load.shedding.RequestPriority;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * A bounded queue of the requests waiting for a {@link ConcurrencyLimiter} to accept more requests. The requests are
+ * admitted in priority order when other requests finish, and rejected when they have waited too long.
+ * <p>
+ * The queue follows the CoDel approach: as long as the queue is regularly empty, it absorbs bursts and the requests
+ * are admitted in arrival order. When the queue has not been empty for the configured interval, it is a standing queue
+ * which only adds latency, so the requests wait at most the configured target and the most recent requests are
+ * admitted first.
+ */
+public final class AdmissionQueue {
+
+    private static final RequestPriority[] PRIORITIES = RequestPriority.values();
+
+    private final ConcurrencyLimiter limiter;
+    private final int maxSize;
+    // Indexed by priority ordinal
+    private final long[] maxWaits;
+    private final long target;
+    private final long interval;
+
+    // Indexed by priority ordinal, guarded by this
+    private final ArrayDeque<Waiter>[] waiters;
+    private long lastEmptyTime;
+    private volatile int size;
+
+    private final LongAdder rejected = new LongAdder();
+    private volatile MetricsFactory.TimeRecorder sojournTimeRecorder;
+
+    @SuppressWarnings("unchecked")
+    AdmissionQueue(ConcurrencyLimiter limiter, LoadSheddingRuntimeConfig.Queue config) {
+        if (config.maxSize() < 1) {
+            throw new IllegalArgumentException("quarkus.load-shedding.queue.max-size must be positive");
+        }
+        this.limiter = limiter;
+        this.maxSize = config.maxSize();
+        this.maxWaits = new long[PRIORITIES.length];
+        for (RequestPriority priority : PRIORITIES) {
+            maxWaits[priority.ordinal()] = config.maxWait().toNanos();
+        }
+        for (Map.Entry<String, Duration> entry : config.priorityMaxWait().entrySet()) {
+            RequestPriority priority;
+            try {
+                priority = RequestPriority.valueOf(entry.getKey().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown request priority '" + entry.getKey()
+                        + "' in quarkus.load-shedding.queue.priority-max-wait");
+            }
+            maxWaits[priority.ordinal()] = entry.getValue().toNanos();
+        }
+        this.target = config.target().toNanos();
+        this.interval = config.interval().toNanos();
+        this.waiters = new ArrayDeque[PRIORITIES.length];
+        for (int i = 0; i < waiters.length; i++) {
+            waiters[i] = new ArrayDeque<>();
+        }
+        this.lastEmptyTime = System.nanoTime();
+    }
+
+    /**
+     * @return the number of waiting requests
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of requests rejected after having waited or because the queue was full
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    void setSojournTimeRecorder(MetricsFactory.TimeRecorder sojournTimeRecorder) {
+        this.sojournTimeRecorder = sojournTimeRecorder;
+    }
+
+    /**
+     * Adds a request to the queue.
+     *
+     * @param priority the request priority
+     * @param admit invoked when the request is admitted, after {@link ConcurrencyLimiter#requestBegin()} was called
+     * @param reject invoked when the request is rejected after having waited
+     * @return the waiter, or {@code null} if the request should be rejected immediately
+     */
+    Waiter offer(RequestPriority priority, Runnable admit, Runnable reject) {
+        long now = System.nanoTime();
+        Waiter evicted = null;
+        Waiter waiter;
+        synchronized (this) {
+            if (size == 0) {
+                lastEmptyTime = now;
+            }
+            long maxWait = maxWaits[priority.ordinal()];
+            if (now - lastEmptyTime > interval) {
+                maxWait = Math.min(maxWait, target);
+            }
+            if (maxWait <= 0) {
+                rejected.increment();
+                return null;
+            }
+            if (size >= maxSize) {
+                evicted = evict(priority);
+                if (evicted == null) {
+                    rejected.increment();
+                    return null;
+                }
+            }
+            waiter = new Waiter(admit, reject, now, maxWait);
+            waiters[priority.ordinal()].addLast(waiter);
+            size++;
+        }
+        if (evicted != null) {
+            rejected.increment();
+            evicted.reject.run();
+        }
+        // A request may have finished since the caller found the limiter overloaded,
+        // in which case nothing else would admit this waiter
+        if (!limiter.isOverloaded()) {
+            release();
+        }
+        return waiter;
+    }
+
+    /**
+     * Removes a request which has waited for too long.
+     *
+     * @return {@code true} if the request was still waiting and must be rejected by the caller, {@code false} if it was
+     *         already admitted or rejected
+     */
+    boolean remove(Waiter waiter) {
+        if (cancel(waiter)) {
+            rejected.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes a request whose connection was closed while it was waiting.
+     *
+     * @return {@code true} if the request was still waiting, {@code false} if it was already admitted or rejected
+     */
+    boolean cancel(Waiter waiter) {
+        synchronized (this) {
+            for (ArrayDeque<Waiter> deque : waiters) {
+                if (deque.remove(waiter)) {
+                    removed(System.nanoTime());
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Admits the waiting requests as long as the limiter is not overloaded. Must be invoked when a request finishes.
+     */
+    void release() {
+        while (size > 0) {
+            Waiter waiter;
+            boolean admit;
+            long now = System.nanoTime();
+            synchronized (this) {
+                if (size == 0 || limiter.isOverloaded()) {
+                    return;
+                }
+                waiter = poll(now);
+                admit = now - waiter.enqueueTime < waiter.maxWait;
+                if (admit) {
+                    limiter.requestBegin();
+                }
+            }
+            if (admit) {
+                MetricsFactory.TimeRecorder sojournTimeRecorder = this.sojournTimeRecorder;
+                if (sojournTimeRecorder != null) {
+                    sojournTimeRecorder.update(now - waiter.enqueueTime, TimeUnit.NANOSECONDS);
+                }
+                waiter.admit.run();
+            } else {
+                // The timer did not fire yet
+                rejected.increment();
+                waiter.reject.run();
+            }
+        }
+    }
+
+    // guarded by this
+    private Waiter poll(long now) {
+        // A standing queue is served in LIFO order
+        boolean standing = now - lastEmptyTime > interval;
+        for (ArrayDeque<Waiter> deque : waiters) {
+            if (!deque.isEmpty()) {
+                Waiter waiter = standing ? deque.pollLast() : deque.pollFirst();
+                removed(now);
+                return waiter;
+            }
+        }
+        throw new IllegalStateException("The queue is empty");
+    }
+
+    // guarded by this
+    private Waiter evict(RequestPriority priority) {
+        for (int i = waiters.length - 1; i > priority.ordinal(); i--) {
+            if (!waiters[i].isEmpty()) {
+                Waiter waiter = waiters[i].pollFirst();
+                removed(System.nanoTime());
+                return waiter;
+            }
+        }
+        return null;
+    }
+
+    // guarded by this
+    private void removed(long now) {
+        size--;
+        if (size == 0) {
+            lastEmptyTime = now;
+        }
+    }
+
+    static final class Waiter {
+        final Runnable admit;
+        final Runnable reject;
+        final long enqueueTime;
+        final long maxWait;
+
+        Waiter(Runnable admit, Runnable reject, long enqueueTime, long maxWait) {
+            this.admit = admit;
+            this.reject = reject;
+            this.enqueueTime = enqueueTime;
+            this.maxWait = maxWait;
+        }
+
+        /**
+         * @return the longest time the request may wait, in milliseconds
+         */
+        long maxWaitMillis() {
+            return Math.max(1, TimeUnit.NANOSECONDS.toMillis(maxWait + 999_999));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * An additive increase/multiplicative decrease limit: the limit is increased by 1 while the requests finish within
+ * a timeout, and is multiplied by a backoff ratio when they do not.
+ */
+final class AimdLimitAlgorithm extends LimitAlgorithm {
+
+    private final double backoffRatio;
+    private final long timeout;
+
+    AimdLimitAlgorithm(LoadSheddingRuntimeConfig.Aimd config, int maxLimit) {
+        super(maxLimit);
+        if (config.backoffRatio() < 0.5 || config.backoffRatio() >= 1.0) {
+            throw new IllegalArgumentException("quarkus.load-shedding.aimd.backoff-ratio must be in the [0.5, 1) range");
+        }
+        this.backoffRatio = config.backoffRatio();
+        this.timeout = config.timeout().toNanos() / 1_000;
+    }
+
+    @Override
+    int update(int currentLimit, long requestTime, long minRequestTime, int currentRequests, long samples) {
+        if (requestTime > timeout) {
+            return clamp(Math.floor(currentLimit * backoffRatio));
+        }
+        if (2L * currentRequests >= currentLimit) {
+            // Only increase the limit when it is actually used
+            return clamp(currentLimit + 1);
+        }
+        return currentLimit;
+    }
+}
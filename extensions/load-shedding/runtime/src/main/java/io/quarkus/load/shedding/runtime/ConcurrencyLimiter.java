@@ -0,0 +1,141 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of concurrent requests of a group of requests. The limit is adjusted by a {@link LimitAlgorithm}.
+ * <p>
+ * Finishing a request never blocks: the request duration is recorded into striped accumulators, and the thread which
+ * manages to acquire the update flag computes the new limit from all the requests finished since the previous update.
+ * The other threads return immediately, their requests are accounted for by the next update.
+ */
+public final class ConcurrencyLimiter {
+
+    private final String group;
+    private final LimitAlgorithm algorithm;
+    private final AdmissionQueue queue;
+
+    private final AtomicInteger currentRequests = new AtomicInteger();
+    private volatile int currentLimit;
+
+    // The requests finished since the last update of the limit
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder totalRequestTime = new LongAdder();
+    private final LongAccumulator minRequestTime = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maxCurrentRequests = new LongAccumulator(Math::max, 0);
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    private volatile long lastRequestTime;
+
+    ConcurrencyLimiter(String group, LimitAlgorithm algorithm, int initialLimit, LoadSheddingRuntimeConfig.Queue queue) {
+        this.group = group;
+        this.algorithm = algorithm;
+        this.currentLimit = algorithm.initialLimit(initialLimit);
+        this.queue = queue.enabled() ? new AdmissionQueue(this, queue) : null;
+    }
+
+    /**
+     * @return the name of the group of requests, {@code <default>} for the requests which belong to no group
+     */
+    public String group() {
+        return group;
+    }
+
+    /**
+     * @return the queue of the requests waiting for this limiter to accept more requests, or {@code null} if the
+     *         requests are rejected immediately
+     */
+    public AdmissionQueue queue() {
+        return queue;
+    }
+
+    public boolean isOverloaded() {
+        return currentRequests.get() >= currentLimit;
+    }
+
+    public void requestBegin() {
+        currentRequests.incrementAndGet();
+    }
+
+    public void requestEnd(long timeInMicros) {
+        int current = currentRequests.getAndDecrement();
+
+        samples.increment();
+        totalRequestTime.add(timeInMicros);
+        minRequestTime.accumulate(timeInMicros);
+        maxCurrentRequests.accumulate(current);
+
+        if (!updating.get() && updating.compareAndSet(false, true)) {
+            try {
+                update();
+            } finally {
+                updating.set(false);
+            }
+        }
+
+        if (queue != null) {
+            queue.release();
+        }
+    }
+
+    /**
+     * Gives back the place of a request which was admitted but never processed, e.g. because its client went away
+     * while the request was queued. Unlike {@link #requestEnd(long)}, no request duration is recorded.
+     */
+    void requestCancelled() {
+        currentRequests.decrementAndGet();
+        if (queue != null) {
+            queue.release();
+        }
+    }
+
+    private void update() {
+        long count = samples.sumThenReset();
+        if (count == 0) {
+            return;
+        }
+        // A request finishing concurrently may be counted in this sample and its duration in the next one, which
+        // only skews the average slightly
+        long requestTime = Math.max(0, totalRequestTime.sumThenReset()) / count;
+        long minTime = minRequestTime.getThenReset();
+        if (minTime > requestTime) {
+            // the shortest duration belongs to a request counted in the next sample
+            minTime = requestTime;
+        }
+        int current = (int) maxCurrentRequests.getThenReset();
+        lastRequestTime = requestTime;
+        currentLimit = algorithm.update(currentLimit, requestTime, minTime, current, count);
+    }
+
+    /**
+     * @return the current limit of concurrent requests
+     */
+    public int currentLimit() {
+        return currentLimit;
+    }
+
+    /**
+     * @return the current number of concurrent requests
+     */
+    public int currentRequests() {
+        return currentRequests.get();
+    }
+
+    /**
+     * @return the average duration of the requests which finished before the last update of the limit, in microseconds
+     */
+    public long lastRequestTime() {
+        return lastRequestTime;
+    }
+
+    /**
+     * @return the request duration the limit algorithm compares the recent request durations to, in microseconds,
+     *         or 0 if the algorithm uses no such duration
+     */
+    public long baselineRequestTime() {
+        return algorithm.baselineRequestTime();
+    }
+}
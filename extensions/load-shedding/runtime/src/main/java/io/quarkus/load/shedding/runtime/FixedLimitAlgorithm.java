@@ -0,0 +1,22 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A limit which never changes.
+ */
+final class FixedLimitAlgorithm extends LimitAlgorithm {
+
+    FixedLimitAlgorithm(int maxLimit) {
+        super(maxLimit);
+    }
+
+    @Override
+    int initialLimit(int initialLimit) {
+        // The configured initial limit would otherwise stay the limit forever
+        return maxLimit;
+    }
+
+    @Override
+    int update(int currentLimit, long requestTime, long minRequestTime, int currentRequests, long samples) {
+        return maxLimit;
+    }
+}
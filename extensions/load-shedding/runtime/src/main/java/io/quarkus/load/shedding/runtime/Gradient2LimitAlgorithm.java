@@ -0,0 +1,77 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A limit based on the gradient between the long-term and the current request durations, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The long-term request duration is an exponential moving average, so that the algorithm keeps working when the
+ * duration of the requests changes permanently, which makes it more suitable than Vegas for services whose request
+ * durations vary a lot.
+ */
+final class Gradient2LimitAlgorithm extends LimitAlgorithm {
+
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int longWindow;
+
+    private double longRequestTime;
+    private long warmupSamples;
+    // The limit is kept as a double so that small increments are not lost
+    private double estimatedLimit = -1;
+
+    Gradient2LimitAlgorithm(LoadSheddingRuntimeConfig.Gradient2 config, int maxLimit) {
+        super(maxLimit);
+        if (config.smoothing() <= 0.0 || config.smoothing() > 1.0) {
+            throw new IllegalArgumentException("quarkus.load-shedding.gradient2.smoothing must be in the (0, 1] range");
+        }
+        if (config.rttTolerance() < 1.0) {
+            throw new IllegalArgumentException("quarkus.load-shedding.gradient2.rtt-tolerance must be at least 1.0");
+        }
+        if (config.longWindow() < 1) {
+            throw new IllegalArgumentException("quarkus.load-shedding.gradient2.long-window must be positive");
+        }
+        this.smoothing = config.smoothing();
+        this.rttTolerance = config.rttTolerance();
+        this.longWindow = config.longWindow();
+    }
+
+    @Override
+    int update(int currentLimit, long requestTime, long minRequestTime, int currentRequests, long samples) {
+        if (estimatedLimit < 0) {
+            estimatedLimit = currentLimit;
+        }
+        double shortRequestTime = Math.max(1, requestTime);
+
+        if (warmupSamples < longWindow) {
+            // Plain average until the window is filled
+            long total = warmupSamples + samples;
+            longRequestTime = (longRequestTime * warmupSamples + shortRequestTime * samples) / total;
+            warmupSamples = total;
+        } else {
+            double factor = Math.min(1.0, (double) samples / longWindow);
+            longRequestTime = longRequestTime * (1.0 - factor) + shortRequestTime * factor;
+        }
+
+        // Speed up the recovery when the requests became much faster, e.g. after a burst
+        if (longRequestTime / shortRequestTime > 2.0) {
+            longRequestTime *= 0.95;
+        }
+
+        if (2L * currentRequests < estimatedLimit) {
+            // The limit is not used, there is no information to adjust it
+            return currentLimit;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRequestTime / shortRequestTime));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1.0 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        return clamp(estimatedLimit);
+    }
+
+    @Override
+    long baselineRequestTime() {
+        return (long) longRequestTime;
+    }
+}
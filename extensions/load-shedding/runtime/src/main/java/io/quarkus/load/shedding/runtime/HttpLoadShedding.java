@@ -6,10 +6,13 @@
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.load.shedding.RequestPriority;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 
 @Singleton
 public class HttpLoadShedding {
@@ -21,29 +24,124 @@ public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDete
         }
 
         router.route().order(-1_000_000_000).handler(ctx -> {
-            if (detector.isOverloaded() && priority.shedLoad(ctx.request())) {
-                HttpServerResponse response = ctx.response();
-                response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
-                response.headers().add(HttpHeaderNames.CONNECTION, "close");
-                response.endHandler(new Handler<Void>() {
+            ConcurrencyLimiter limiter = detector.limiter(ctx.normalizedPath());
+            if (limiter.isOverloaded()) {
+                RequestPriority requestPriority = priority.priority(ctx.request());
+                if (priority.shedLoad(ctx.request(), requestPriority)) {
+                    AdmissionQueue queue = limiter.queue();
+                    if (queue != null) {
+                        enqueue(ctx, limiter, queue, requestPriority);
+                    } else {
+                        reject(ctx);
+                    }
+                    return;
+                }
+            }
+            limiter.requestBegin();
+            proceed(ctx, limiter);
+        });
+    }
+
+    private static void enqueue(RoutingContext ctx, ConcurrencyLimiter limiter, AdmissionQueue queue,
+            RequestPriority requestPriority) {
+        Context context = ctx.vertx().getOrCreateContext();
+        // The request body must not be consumed until the request is admitted
+        ctx.request().pause();
+        QueuedRequest queued = new QueuedRequest();
+        AdmissionQueue.Waiter waiter = queue.offer(requestPriority, new Runnable() {
+            @Override
+            public void run() {
+                context.runOnContext(new Handler<Void>() {
                     @Override
                     public void handle(Void ignored) {
-                        ctx.request().connection().close();
+                        queued.dequeued(ctx);
+                        if (ctx.response().closed()) {
+                            // The client went away after the request was admitted, no end handler would ever fire
+                            limiter.requestCancelled();
+                            return;
+                        }
+                        ctx.request().resume();
+                        proceed(ctx, limiter);
                     }
                 });
-                response.end();
-            } else {
-                detector.requestBegin();
-                long start = System.nanoTime();
-                ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                context.runOnContext(new Handler<Void>() {
                     @Override
-                    public void handle(AsyncResult<Void> ignored) {
-                        long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
+                    public void handle(Void ignored) {
+                        queued.dequeued(ctx);
+                        reject(ctx);
                     }
                 });
-                ctx.next();
             }
         });
+        if (waiter == null) {
+            reject(ctx);
+            return;
+        }
+        queued.timerId = ctx.vertx().setTimer(waiter.maxWaitMillis(), new Handler<Long>() {
+            @Override
+            public void handle(Long ignored) {
+                if (queue.remove(waiter)) {
+                    reject(ctx);
+                }
+            }
+        });
+        // A client that gives up must not keep a place in the queue; the end handlers of the routing context are
+        // also notified when the connection is closed, and unlike the close handler of the response, they do not
+        // replace the handlers registered by other routes
+        queued.endHandlerId = ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> ignored) {
+                if (queue.cancel(waiter)) {
+                    ctx.vertx().cancelTimer(queued.timerId);
+                }
+            }
+        });
+    }
+
+    // the caller must have called `limiter.requestBegin()`
+    private static void proceed(RoutingContext ctx, ConcurrencyLimiter limiter) {
+        long start = System.nanoTime();
+        ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> ignored) {
+                long end = System.nanoTime();
+                limiter.requestEnd((end - start) / 1_000);
+            }
+        });
+        ctx.next();
+    }
+
+    private static void reject(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+        response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+        response.headers().add(HttpHeaderNames.CONNECTION, "close");
+        response.endHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                ctx.request().connection().close();
+            }
+        });
+        response.end();
+    }
+
+    // Only accessed on the event loop of the request
+    private static final class QueuedRequest {
+
+        long timerId = -1;
+        int endHandlerId = -1;
+
+        // Invoked once the request has left the queue, either admitted or rejected
+        void dequeued(RoutingContext ctx) {
+            if (timerId != -1) {
+                ctx.vertx().cancelTimer(timerId);
+            }
+            if (endHandlerId != -1) {
+                ctx.removeEndHandler(endHandlerId);
+            }
+        }
     }
 }
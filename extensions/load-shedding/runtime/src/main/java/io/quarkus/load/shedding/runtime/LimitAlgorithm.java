@@ -0,0 +1,61 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * Computes the limit of concurrent requests of a {@link ConcurrencyLimiter} from the durations of the finished requests.
+ * <p>
+ * The limiter aggregates the requests finished since the last update into a single sample, so the implementations are
+ * only invoked by one thread at a time and need not be thread-safe.
+ */
+abstract class LimitAlgorithm {
+
+    final int maxLimit;
+
+    LimitAlgorithm(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    static LimitAlgorithm create(LoadSheddingRuntimeConfig config, int maxLimit) {
+        switch (config.algorithm()) {
+            case GRADIENT2:
+                return new Gradient2LimitAlgorithm(config.gradient2(), maxLimit);
+            case AIMD:
+                return new AimdLimitAlgorithm(config.aimd(), maxLimit);
+            case FIXED:
+                return new FixedLimitAlgorithm(maxLimit);
+            default:
+                return new VegasLimitAlgorithm(config, maxLimit);
+        }
+    }
+
+    /**
+     * @param initialLimit the configured initial limit
+     * @return the limit the limiter starts with
+     */
+    int initialLimit(int initialLimit) {
+        return clamp(initialLimit);
+    }
+
+    /**
+     * Computes the new limit.
+     *
+     * @param currentLimit the current limit
+     * @param requestTime the average duration of the finished requests, in microseconds
+     * @param minRequestTime the shortest duration of the finished requests, in microseconds
+     * @param currentRequests the highest number of concurrent requests when the requests finished
+     * @param samples the number of finished requests
+     * @return the new limit
+     */
+    abstract int update(int currentLimit, long requestTime, long minRequestTime, int currentRequests, long samples);
+
+    /**
+     * @return the request duration the algorithm compares the recent request durations to, in microseconds, or 0 if
+     *         there is no such duration
+     */
+    long baselineRequestTime() {
+        return 0;
+    }
+
+    final int clamp(double limit) {
+        return (int) Math.max(1, Math.min(maxLimit, limit));
+    }
+}
@@ -0,0 +1,78 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class LoadSheddingMetricsRecorder {
+    private final RuntimeValue<LoadSheddingRuntimeConfig> config;
+
+    public LoadSheddingMetricsRecorder(RuntimeValue<LoadSheddingRuntimeConfig> config) {
+        this.config = config;
+    }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (!config.getValue().enabled()) {
+                    return;
+                }
+
+                OverloadDetector detector = Arc.container().instance(OverloadDetector.class).get();
+                for (ConcurrencyLimiter limiter : detector.limiters()) {
+                    metricsFactory.builder("load.shedding.limit")
+                            .description("Current limit of concurrent requests.")
+                            .tag("group", limiter.group())
+                            .buildGauge(limiter::currentLimit);
+                    metricsFactory.builder("load.shedding.requests")
+                            .description("Current number of concurrent requests.")
+                            .tag("group", limiter.group())
+                            .buildGauge(limiter::currentRequests);
+                    metricsFactory.builder("load.shedding.request.time")
+                            .description("Average duration of the recently finished requests.")
+                            .tag("group", limiter.group())
+                            .unit("milliseconds")
+                            .buildGauge(new Supplier<Number>() {
+                                @Override
+                                public Number get() {
+                                    return limiter.lastRequestTime() / 1_000.0;
+                                }
+                            });
+                    metricsFactory.builder("load.shedding.request.time.baseline")
+                            .description("Request duration the limit algorithm compares the recent durations to.")
+                            .tag("group", limiter.group())
+                            .unit("milliseconds")
+                            .buildGauge(new Supplier<Number>() {
+                                @Override
+                                public Number get() {
+                                    return limiter.baselineRequestTime() / 1_000.0;
+                                }
+                            });
+
+                    AdmissionQueue queue = limiter.queue();
+                    if (queue != null) {
+                        metricsFactory.builder("load.shedding.queue.size")
+                                .description("Current number of requests waiting to be admitted.")
+                                .tag("group", limiter.group())
+                                .buildGauge(queue::size);
+                        metricsFactory.builder("load.shedding.queue.rejected")
+                                .description("Number of requests rejected after having waited or because the queue was full.")
+                                .tag("group", limiter.group())
+                                .buildCounter(queue::rejectedCount);
+                        queue.setSojournTimeRecorder(metricsFactory.builder("load.shedding.queue.sojourn.time")
+                                .description("Time the admitted requests waited in the queue.")
+                                .tag("group", limiter.group())
+                                .buildTimer());
+                    }
+                }
+            }
+        };
+    }
+}
@@ -1,5 +1,11 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,8 +22,15 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * The algorithm used to adjust the limit of concurrent requests allowed.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The maximum number of concurrent requests allowed.
+     * With the {@code fixed} algorithm, this is the limit of concurrent requests allowed.
      */
     @WithDefault("1000")
     int maxLimit();
@@ -46,6 +59,29 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD overload detection algorithm.
+     */
+    Aimd aimd();
+
+    /**
+     * Groups of requests whose concurrency is limited separately from the other requests.
+     * A request belongs to the group with the longest path prefix matching the request path.
+     * The requests which belong to no group share the limit configured above.
+     */
+    @ConfigDocMapKey("group-name")
+    Map<String, LimitGroup> groups();
+
+    /**
+     * Configuration of the queue of requests waiting for the load to decrease.
+     */
+    Queue queue();
+
     /**
      * Configuration of priority load shedding.
      */
@@ -59,4 +95,130 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    enum Algorithm {
+        /**
+         * An adaptation of TCP Vegas, which compares the request durations with the lowest duration seen recently.
+         */
+        VEGAS,
+        /**
+         * Compares the request durations with their long-term average.
+         */
+        GRADIENT2,
+        /**
+         * Increases the limit by 1 while the requests are faster than a timeout, and decreases it by a ratio otherwise.
+         */
+        AIMD,
+        /**
+         * Never adjusts the limit, which is the configured maximum limit. The initial limit is ignored.
+         */
+        FIXED,
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * The smoothing factor applied when the limit is updated, between 0 and 1.
+         * Lower values make the limit change more slowly.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * The ratio between the current and the long-term request durations which is tolerated before the limit is
+         * decreased.
+         */
+        @WithDefault("1.5")
+        double rttTolerance();
+
+        /**
+         * The number of samples over which the long-term request duration is averaged.
+         */
+        @WithDefault("600")
+        int longWindow();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The ratio by which the limit is multiplied when a request takes longer than the timeout, between 0.5 and 1.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The request duration above which the limit is decreased.
+         */
+        @WithDefault("5s")
+        Duration timeout();
+    }
+
+    @ConfigGroup
+    interface Queue {
+        /**
+         * Whether the requests which would be rejected should wait for the load to decrease first.
+         * Each group of requests has its own queue, which is ordered by request priority.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of waiting requests of each group of requests.
+         * When the queue is full, the oldest request with the lowest priority is rejected, unless the new request
+         * has the same or a lower priority, in which case the new request is rejected.
+         */
+        @WithDefault("100")
+        int maxSize();
+
+        /**
+         * The longest time a request waits before it is rejected.
+         */
+        @WithDefault("10ms")
+        Duration maxWait();
+
+        /**
+         * The longest time a request of given priority waits before it is rejected, overriding
+         * {@code quarkus.load-shedding.queue.max-wait}.
+         * The keys are the {@link io.quarkus.load.shedding.RequestPriority} names in lower case, for example
+         * {@code background}. A zero duration means that the requests of that priority are rejected immediately.
+         */
+        @ConfigDocMapKey("priority")
+        Map<String, Duration> priorityMaxWait();
+
+        /**
+         * The longest time a request waits when the queue has not been empty for the last
+         * {@code quarkus.load-shedding.queue.interval}.
+         * In that case, the most recent requests are also served first, as the oldest ones are likely to time out anyway.
+         */
+        @WithDefault("5ms")
+        Duration target();
+
+        /**
+         * The time after which a queue which has not been empty is considered to be a standing queue.
+         */
+        @WithDefault("100ms")
+        Duration interval();
+    }
+
+    @ConfigGroup
+    interface LimitGroup {
+        /**
+         * The path prefixes of the requests which belong to this group, for example {@code /api/reports}.
+         * A prefix matches whole path segments: {@code /api/reports} matches {@code /api/reports/1} but not
+         * {@code /api/reportsarchive}.
+         */
+        List<String> pathPrefixes();
+
+        /**
+         * The maximum number of concurrent requests of this group allowed.
+         * Defaults to {@code quarkus.load-shedding.max-limit}.
+         */
+        OptionalInt maxLimit();
+
+        /**
+         * The initial limit of concurrent requests of this group allowed.
+         * Defaults to {@code quarkus.load-shedding.initial-limit}.
+         */
+        OptionalInt initialLimit();
+    }
 }
@@ -1,109 +1,108 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 /**
- * An overload detector based on TCP Vegas, as implemented by
+ * An overload detector which limits the number of concurrent requests. The limit is adjusted by the configured
+ * {@linkplain LoadSheddingRuntimeConfig#algorithm() algorithm}, by default an adaptation of TCP Vegas, as implemented by
  * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The requests which belong to a {@linkplain LoadSheddingRuntimeConfig#groups() group} have their own limit, the other
+ * requests share the default limit.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+    static final String DEFAULT_GROUP = "<default>";
 
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
-
-    private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
-
-    private final AtomicInteger currentRequests = new AtomicInteger();
-    private volatile long currentLimit;
-
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    private final ConcurrencyLimiter defaultLimiter;
+    // Sorted by decreasing length, so that the longest matching prefix is found first
+    private final String[] pathPrefixes;
+    private final ConcurrencyLimiter[] groupLimiters;
+    private final List<ConcurrencyLimiter> limiters;
 
     @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
-        currentLimit = config.initialLimit();
-        resetProbeJitter();
+        defaultLimiter = new ConcurrencyLimiter(DEFAULT_GROUP, LimitAlgorithm.create(config, config.maxLimit()),
+                config.initialLimit(), config.queue());
+
+        List<ConcurrencyLimiter> limiters = new ArrayList<>();
+        limiters.add(defaultLimiter);
+        List<Map.Entry<String, ConcurrencyLimiter>> prefixes = new ArrayList<>();
+        for (Map.Entry<String, LoadSheddingRuntimeConfig.LimitGroup> entry : config.groups().entrySet()) {
+            LoadSheddingRuntimeConfig.LimitGroup group = entry.getValue();
+            int maxLimit = group.maxLimit().orElse(config.maxLimit());
+            ConcurrencyLimiter limiter = new ConcurrencyLimiter(entry.getKey(), LimitAlgorithm.create(config, maxLimit),
+                    group.initialLimit().orElse(config.initialLimit()), config.queue());
+            limiters.add(limiter);
+            for (String pathPrefix : group.pathPrefixes()) {
+                prefixes.add(Map.entry(pathPrefix, limiter));
+            }
+        }
+        prefixes.sort(Comparator.comparingInt(new ToIntFunction<Map.Entry<String, ConcurrencyLimiter>>() {
+            @Override
+            public int applyAsInt(Map.Entry<String, ConcurrencyLimiter> entry) {
+                return -entry.getKey().length();
+            }
+        }));
+        pathPrefixes = new String[prefixes.size()];
+        groupLimiters = new ConcurrencyLimiter[prefixes.size()];
+        for (int i = 0; i < prefixes.size(); i++) {
+            pathPrefixes[i] = prefixes.get(i).getKey();
+            groupLimiters[i] = prefixes.get(i).getValue();
+        }
+        this.limiters = Collections.unmodifiableList(limiters);
     }
 
     public boolean isOverloaded() {
-        return currentRequests.get() >= currentLimit;
+        return defaultLimiter.isOverloaded();
     }
 
     public void requestBegin() {
-        currentRequests.incrementAndGet();
+        defaultLimiter.requestBegin();
     }
 
     public void requestEnd(long timeInMicros) {
-        int current = currentRequests.getAndDecrement();
-
-        update(timeInMicros, current);
+        defaultLimiter.requestEnd(timeInMicros);
     }
 
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
+    /**
+     * @param path the request path
+     * @return the limiter of the group the request belongs to, or the default limiter
+     */
+    public ConcurrencyLimiter limiter(String path) {
+        if (path != null) {
+            for (int i = 0; i < pathPrefixes.length; i++) {
+                if (matches(path, pathPrefixes[i])) {
+                    return groupLimiters[i];
+                }
+            }
         }
+        return defaultLimiter;
+    }
 
-        long currentLimit = this.currentLimit;
-
-        if (2L * currentRequests < currentLimit) {
-            return;
-        }
-
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
-
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
-        } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
-        }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
-
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
-            return;
+    /**
+     * A prefix only matches whole path segments, so that {@code /api} matches {@code /api/items} but not
+     * {@code /apiary}.
+     */
+    static boolean matches(String path, String pathPrefix) {
+        if (!path.startsWith(pathPrefix)) {
+            return false;
         }
-
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
+        return path.length() == pathPrefix.length() || pathPrefix.endsWith("/") || path.charAt(pathPrefix.length()) == '/';
     }
 
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    /**
+     * @return all the limiters, the default limiter first
+     */
+    public List<ConcurrencyLimiter> limiters() {
+        return limiters;
     }
 }
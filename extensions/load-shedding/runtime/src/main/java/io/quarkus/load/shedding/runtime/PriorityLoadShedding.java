@@ -42,6 +42,23 @@ public class PriorityLoadShedding {
 
     // when this is called, we know we're overloaded
     public boolean shedLoad(Object request) {
+        return shedLoad(request, priority(request));
+    }
+
+    /**
+     * @return the priority of the request, {@link RequestPriority#NORMAL} if no request prioritizer applies
+     */
+    public RequestPriority priority(Object request) {
+        for (RequestPrioritizer requestPrioritizer : requestPrioritizers) {
+            if (requestPrioritizer.appliesTo(request)) {
+                return requestPrioritizer.priority(request);
+            }
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    // when this is called, we know we're overloaded
+    public boolean shedLoad(Object request, RequestPriority priority) {
         if (!enabled) {
             return true;
         }
@@ -63,14 +80,6 @@ public boolean shedLoad(Object request) {
             return true;
         }
 
-        RequestPriority priority = RequestPriority.NORMAL;
-        for (RequestPrioritizer requestPrioritizer : requestPrioritizers) {
-            if (requestPrioritizer.appliesTo(request)) {
-                priority = requestPrioritizer.priority(request);
-                break;
-            }
-        }
-
         int cohort = 64; // in the middle of the [1,128] interval
         for (RequestClassifier requestClassifier : requestClassifiers) {
             if (requestClassifier.appliesTo(request)) {
@@ -0,0 +1,91 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A limit based on TCP Vegas, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The queue size is estimated from the average duration of the finished requests, while the lowest duration is tracked
+ * from the duration of each request rather than from the averages, which would overestimate it.
+ */
+final class VegasLimitAlgorithm extends LimitAlgorithm {
+    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+
+    static {
+        LOG10_PLUS_1_TABLE[0] = 1;
+        for (int i = 1; i < 1_000; i++) {
+            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
+        }
+    }
+
+    private final int alphaFactor;
+    private final int betaFactor;
+    private final double probeFactor;
+
+    private long lowestRequestTime = Long.MAX_VALUE;
+    private double probeCount = 0.0;
+    private double probeJitter;
+
+    VegasLimitAlgorithm(LoadSheddingRuntimeConfig config, int maxLimit) {
+        super(maxLimit);
+        alphaFactor = config.alphaFactor();
+        betaFactor = config.betaFactor();
+        probeFactor = config.probeFactor();
+        resetProbeJitter();
+    }
+
+    @Override
+    int update(int currentLimit, long requestTime, long minRequestTime, int currentRequests, long samples) {
+        probeCount += samples;
+        if (probeFactor * probeJitter * currentLimit <= probeCount) {
+            resetProbeJitter();
+            probeCount = 0.0;
+            lowestRequestTime = minRequestTime;
+            return currentLimit;
+        }
+
+        if (minRequestTime < lowestRequestTime) {
+            lowestRequestTime = minRequestTime;
+            return currentLimit;
+        }
+
+        if (2L * currentRequests < currentLimit) {
+            return currentLimit;
+        }
+
+        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+
+        int currentLimitLog10Plus1;
+        if (currentLimit >= 0 && currentLimit < 1_000) {
+            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[currentLimit];
+        } else {
+            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
+        }
+        int alpha = alphaFactor * currentLimitLog10Plus1;
+        int beta = betaFactor * currentLimitLog10Plus1;
+
+        long newLimit;
+        if (queueSize <= currentLimitLog10Plus1) {
+            newLimit = currentLimit + beta;
+        } else if (queueSize < alpha) {
+            newLimit = currentLimit + currentLimitLog10Plus1;
+        } else if (queueSize > beta) {
+            newLimit = currentLimit - currentLimitLog10Plus1;
+        } else {
+            return currentLimit;
+        }
+
+        return clamp(newLimit);
+    }
+
+    @Override
+    long baselineRequestTime() {
+        long lowest = lowestRequestTime;
+        return lowest == Long.MAX_VALUE ? 0 : lowest;
+    }
+
+    private void resetProbeJitter() {
+        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    }
+}
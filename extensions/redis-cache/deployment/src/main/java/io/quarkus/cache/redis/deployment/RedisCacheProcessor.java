@@ -16,9 +16,12 @@
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.ClassType;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.RecordComponentInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
@@ -72,7 +75,8 @@ void nativeImage(BuildProducer<ReflectiveClassBuildItem> producer) {
     @BuildStep
     @Record(STATIC_INIT)
     void determineKeyValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuildItem combinedIndex,
-            CacheNamesBuildItem cacheNamesBuildItem, RedisCachesBuildTimeConfig buildConfig) {
+            CacheNamesBuildItem cacheNamesBuildItem, RedisCachesBuildTimeConfig buildConfig,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
 
         Map<String, java.lang.reflect.Type> keyTypes = new HashMap<>();
         RedisCacheBuildTimeConfig defaultBuildTimeConfig = buildConfig.defaultConfig();
@@ -112,6 +116,9 @@ void determineKeyValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuild
 
             if (valueType != null) {
                 valueTypes.put(cacheName, TypeParser.parse(valueType));
+                // The binary value codec accesses the record components reflectively
+                registerRecordComponents(combinedIndex.getIndex(), DotName.createSimple(rawTypeName(valueType)),
+                        new HashSet<>(), reflectiveClasses);
             } else {
                 throw new DeploymentException("Unable to determine the value type for '" + cacheName
                         + "' Redis cache. An appropriate configuration value for 'quarkus.cache.redis." + cacheName
@@ -121,6 +128,31 @@ void determineKeyValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuild
         recorder.setCacheValueTypes(valueTypes);
     }
 
+    private static void registerRecordComponents(IndexView index, DotName name, Set<DotName> registered,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        ClassInfo classInfo = index.getClassByName(name);
+        if (classInfo == null || !registered.add(name)) {
+            return;
+        }
+        if (classInfo.isEnum()) {
+            reflectiveClasses.produce(ReflectiveClassBuildItem.builder(name.toString())
+                    .reason(RedisCacheProcessor.class.getName())
+                    .methods().build());
+        } else if (classInfo.isRecord()) {
+            reflectiveClasses.produce(ReflectiveClassBuildItem.builder(name.toString())
+                    .reason(RedisCacheProcessor.class.getName())
+                    .constructors().methods().build());
+            for (RecordComponentInfo component : classInfo.recordComponents()) {
+                registerRecordComponents(index, component.type().name(), registered, reflectiveClasses);
+            }
+        }
+    }
+
+    private static String rawTypeName(String type) {
+        int genericsStart = type.indexOf('<');
+        return (genericsStart < 0 ? type : type.substring(0, genericsStart)).trim();
+    }
+
     private static Map<String, Type> valueTypesFromCacheResultAnnotation(CombinedIndexBuildItem combinedIndex) {
         Map<String, Set<Type>> valueTypesFromAnnotations = new HashMap<>();
 
@@ -146,6 +178,25 @@ private static Map<String, Type> valueTypesFromCacheResultAnnotation(CombinedInd
             types.add(methodReturnType);
         }
 
+        // @CacheResultBulk methods cache the elements of the returned collection or the values of the returned map
+        for (AnnotationInstance instance : combinedIndex.getIndex()
+                .getAnnotations(CacheDeploymentConstants.CACHE_RESULT_BULK)) {
+            if (instance.target().kind() != METHOD) {
+                continue;
+            }
+            Type methodReturnType = instance.target().asMethod().returnType();
+            if (methodReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                continue;
+            }
+            AnnotationValue cacheNameValue = instance.value("cacheName");
+            if (cacheNameValue == null) {
+                continue;
+            }
+            List<Type> arguments = methodReturnType.asParameterizedType().arguments();
+            valueTypesFromAnnotations.computeIfAbsent(cacheNameValue.asString(), k -> new HashSet<>(1))
+                    .add(arguments.get(arguments.size() - 1));
+        }
+
         if (valueTypesFromAnnotations.isEmpty()) {
             return Collections.emptyMap();
         }
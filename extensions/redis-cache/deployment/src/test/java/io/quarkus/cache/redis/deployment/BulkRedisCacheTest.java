@@ -0,0 +1,79 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResultBulk;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BulkRedisCacheTest {
+
+    private static final String CACHE_NAME = "bulk-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(BulkCachedService.class, TestUtil.class));
+
+    @Inject
+    BulkCachedService bulkCachedService;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @Test
+    public void testBulkLookup() {
+        // STEP 1
+        // Action: @CacheResultBulk-annotated method call.
+        // Expected effect: method invoked and one Redis entry stored per key.
+        List<String> values1 = bulkCachedService.cachedMethod(List.of("1", "2"));
+        assertEquals(List.of("value-1", "value-2"), values1);
+        List<String> keys = TestUtil.allRedisKeys(redisDataSource);
+        assertTrue(keys.contains(expectedCacheKey("1")));
+        assertTrue(keys.contains(expectedCacheKey("2")));
+
+        // STEP 2
+        // Action: one Redis entry is removed directly, then call with the cached keys, a new key and a key without value.
+        // Expected effect: method only invoked with the missing keys and the key without value not stored.
+        redisDataSource.key().del(expectedCacheKey("1"));
+        List<String> values2 = bulkCachedService.cachedMethod(List.of("1", "2", "3", "none"));
+        assertEquals("value-1", values2.get(0));
+        assertEquals("value-2", values2.get(1));
+        assertEquals("value-3", values2.get(2));
+        assertNull(values2.get(3));
+        assertEquals(List.of(Set.of("1", "2"), Set.of("1", "3", "none")), bulkCachedService.invocations);
+        assertFalse(TestUtil.allRedisKeys(redisDataSource).contains(expectedCacheKey("none")));
+    }
+
+    private static String expectedCacheKey(String key) {
+        return "cache:" + CACHE_NAME + ":" + key;
+    }
+
+    @ApplicationScoped
+    static class BulkCachedService {
+
+        final List<Set<String>> invocations = new ArrayList<>();
+
+        @CacheResultBulk(cacheName = CACHE_NAME)
+        public List<String> cachedMethod(List<String> keys) {
+            invocations.add(Set.copyOf(keys));
+            List<String> values = new ArrayList<>();
+            for (String key : keys) {
+                values.add("none".equals(key) ? null : "value-" + key);
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.redis.runtime.RedisCache;
+import io.quarkus.cache.redis.runtime.RedisNearCacheImpl;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class NearCacheRedisCacheTest {
+
+    private static final String KEY_1 = "1";
+    private static final String KEY_2 = "2";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(SimpleCachedService.class, TestUtil.class))
+            .overrideConfigKey("quarkus.cache.redis.near-cache.enabled", "true")
+            .overrideConfigKey("quarkus.cache.redis.expire-after-write", "1m");
+
+    @Inject
+    SimpleCachedService simpleCachedService;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @Test
+    public void testTypes() {
+        Cache cache = Arc.container().select(CacheManager.class).get().getCache(SimpleCachedService.CACHE_NAME).get();
+        assertTrue(cache instanceof RedisNearCacheImpl);
+        assertTrue(cache instanceof RedisCache);
+    }
+
+    @Test
+    public void testLocalEntries() throws InterruptedException {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached both locally and in Redis.
+        String value1 = simpleCachedService.cachedMethod(KEY_1);
+        assertTrue(TestUtil.allRedisKeys(redisDataSource).contains(expectedCacheKey(KEY_1)));
+
+        // STEP 2
+        // Action: the Redis key is removed directly, then same call as STEP 1.
+        // Expected effect: method not invoked and result coming from the local cache.
+        redisDataSource.key().del(expectedCacheKey(KEY_1));
+        assertEquals(value1, simpleCachedService.cachedMethod(KEY_1));
+
+        // STEP 3
+        // Action: another node publishes an invalidation of the key.
+        // Expected effect: the local entry is removed and the method is invoked again.
+        String value2 = value1;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (value1.equals(value2) && System.currentTimeMillis() < deadline) {
+            redisDataSource.pubsub(String.class).publish("cache:invalidations",
+                    "another-node\n" + SimpleCachedService.CACHE_NAME + "\n" + expectedCacheKey(KEY_1));
+            Thread.sleep(50);
+            value2 = simpleCachedService.cachedMethod(KEY_1);
+        }
+        assertNotEquals(value1, value2);
+
+        // STEP 4
+        // Action: @CacheInvalidateAll-annotated method call.
+        // Expected effect: both the local and the Redis entries are removed.
+        String value3 = simpleCachedService.cachedMethod(KEY_2);
+        simpleCachedService.invalidateAll();
+        assertNotEquals(value2, simpleCachedService.cachedMethod(KEY_1));
+        assertNotEquals(value3, simpleCachedService.cachedMethod(KEY_2));
+    }
+
+    private static String expectedCacheKey(String key) {
+        return "cache:" + SimpleCachedService.CACHE_NAME + ":" + key;
+    }
+
+}
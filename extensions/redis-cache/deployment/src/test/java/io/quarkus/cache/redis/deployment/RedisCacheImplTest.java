@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -23,8 +24,10 @@
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.testcontainers.containers.GenericContainer;
 
+import io.quarkus.cache.CacheException;
 import io.quarkus.cache.redis.runtime.RedisCacheImpl;
 import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.cache.redis.runtime.RedisCacheRuntimeConfig;
 import io.quarkus.test.QuarkusUnitTest;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -621,6 +624,62 @@ void testInvalidation() {
         assertThat(getAllKeys()).hasSize(1);
     }
 
+    @Test
+    void testBinaryValueCodec() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "binary";
+        info.valueType = Person.class;
+        info.valueCodec = RedisCacheRuntimeConfig.ValueCodec.BINARY;
+        info.compressionThreshold = OptionalLong.of(64);
+
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        Person small = new Person("alice", 42, Status.ACTIVE, new Address("Paris", null));
+        Person large = new Person("bob".repeat(100), 24, null, null);
+        assertThat(cache.get("small", k -> small).await().indefinitely()).isEqualTo(small);
+        assertThat(cache.get("large", k -> large).await().indefinitely()).isEqualTo(large);
+
+        // The values are read back from Redis
+        Person other = new Person("other", 1, Status.INACTIVE, null);
+        assertThat(cache.get("small", k -> other).await().indefinitely()).isEqualTo(small);
+        assertThat(cache.get("large", k -> other).await().indefinitely()).isEqualTo(large);
+
+        // Binary record header, compressed above the threshold
+        assertThat(getRawValue("cache:binary:small")[0]).isEqualTo((byte) 0x02);
+        assertThat(getRawValue("cache:binary:large")[0]).isEqualTo((byte) 0x12);
+        assertThat(getRawValue("cache:binary:large").length).isLessThan(300);
+
+        // A JSON value written before the codec was changed can still be read
+        redis.send(Request.cmd(Command.SET).arg("cache:binary:json").arg(Json.encode(small))).await().indefinitely();
+        assertThat(cache.get("json", k -> other).await().indefinitely()).isEqualTo(small);
+
+        // A corrupted length of a compressed value is rejected before allocating
+        redis.send(Request.cmd(Command.SET).arg("cache:binary:corrupted")
+                .arg(new byte[] { 0x12, 0x7F, 0x7F, 0x7F, 0x7F, 0x01, 0x02 })).await().indefinitely();
+        assertThatThrownBy(() -> cache.get("corrupted", k -> other).await().indefinitely())
+                .isInstanceOf(CacheException.class);
+
+        // A value written with another schema of the record is computed again
+        redis.send(Request.cmd(Command.SET).arg("cache:binary:stale").arg(new byte[] { 0x02, 0, 0, 0, 0 }))
+                .await().indefinitely();
+        assertThat(cache.get("stale", k -> other).await().indefinitely()).isEqualTo(other);
+    }
+
+    private byte[] getRawValue(String key) {
+        return redis.send(Request.cmd(Command.GET).arg(key)).await().indefinitely().toBytes();
+    }
+
+    enum Status {
+        ACTIVE,
+        INACTIVE
+    }
+
+    record Address(String city, Integer zipCode) {
+    }
+
+    record Person(String name, int age, Status status, Address address) {
+    }
+
     private Set<String> getAllKeys() {
         return redis.send(Request.cmd(Command.KEYS).arg("*"))
                 .map(r -> {
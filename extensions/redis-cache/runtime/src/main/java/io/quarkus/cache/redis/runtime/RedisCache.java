@@ -1,5 +1,8 @@
 package io.quarkus.cache.redis.runtime;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -76,6 +79,20 @@ public interface RedisCache extends Cache {
      */
     <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Allows retrieving several values from the Redis cache with a single {@code MGET} command. The values of the missing
+     * keys are obtained with a single {@code valuesLoader} invocation and stored with pipelined {@code SET} commands.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param valuesLoader the values loader called with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values, a key without value is not part of the map
+     * @see Cache#getAll(Collection, Function)
+     */
+    <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> valuesLoader);
+
     /**
      * Put a value in the cache.
      *
@@ -98,6 +115,16 @@ public interface RedisCache extends Cache {
      */
     <K, V> Uni<Void> put(K key, Supplier<V> supplier);
 
+    /**
+     * Put several values in the cache using pipelined {@code SET} commands.
+     *
+     * @param entries the keys and values
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return a Uni emitting {@code null} when the operation completes
+     */
+    <K, V> Uni<Void> putAll(Map<K, V> entries);
+
     /**
      * Returns {@link Uni} that completes with a value present in the cache under the given {@code key}.
      * If there is no value in the cache under the key, the {@code Uni} completes with the given {@code defaultValue}.
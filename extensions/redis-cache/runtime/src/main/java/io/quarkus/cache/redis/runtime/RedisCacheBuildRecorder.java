@@ -6,12 +6,17 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.mutiny.core.Vertx;
 
 @Recorder
 public class RedisCacheBuildRecorder {
@@ -49,6 +54,7 @@ public CacheManager get() {
                         } else {
                             // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
                             Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                            RedisNearCacheInvalidations invalidations = null;
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
@@ -58,7 +64,33 @@ public CacheManager get() {
                                 }
 
                                 RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
-                                caches.put(cacheInfo.name, cache);
+                                if (cacheInfo.refreshAfterWrite.isPresent()
+                                        && context.metrics() == Context.Metrics.MICROMETER) {
+                                    // The refreshes are recorded as loads, like with Caffeine
+                                    new MicrometerMetricsInitializer().recordLoadMetrics(cache, cacheInfo.name,
+                                            RedisCacheImpl::getRefreshes, RedisCacheImpl::getRefreshFailures);
+                                }
+                                if (cacheInfo.valueSizeMetricsEnabled) {
+                                    recordSizeMetrics(context, cache);
+                                }
+                                if (cacheInfo.nearCacheEnabled) {
+                                    if (invalidations == null) {
+                                        invalidations = new RedisNearCacheInvalidations(
+                                                Arc.container().select(Vertx.class).get(),
+                                                RedisCacheImpl.determineRedisClient(buildConfig.clientName()));
+                                    }
+                                    RedisNearCacheImpl nearCache = new RedisNearCacheImpl(cache, cacheInfo, invalidations);
+                                    invalidations.register(nearCache);
+                                    if (cacheInfo.nearCacheMetricsEnabled) {
+                                        recordTierMetrics(context, nearCache);
+                                    }
+                                    caches.put(cacheInfo.name, nearCache);
+                                } else {
+                                    caches.put(cacheInfo.name, cache);
+                                }
+                            }
+                            if (invalidations != null) {
+                                invalidations.subscribe();
                             }
                             return new CacheManagerImpl(caches);
                         }
@@ -68,6 +100,44 @@ public CacheManager get() {
         };
     }
 
+    private static void recordTierMetrics(CacheManagerInfo.Context context, RedisNearCacheImpl cache) {
+        /*
+         * Metrics will be recorded for the current cache if:
+         * - the application depends on a quarkus-micrometer-registry-* extension
+         * - the near cache metrics are enabled for this cache from the Quarkus configuration
+         */
+        MetricsInitializer metricsInitializer = context.metrics() == CacheManagerInfo.Context.Metrics.MICROMETER
+                ? new MicrometerMetricsInitializer()
+                : new NoOpMetricsInitializer();
+        if (metricsInitializer.metricsEnabled()) {
+            metricsInitializer.recordTierMetrics(cache, cache.getName(), "local", RedisNearCacheImpl::getLocalHits,
+                    RedisNearCacheImpl::getLocalMisses);
+            metricsInitializer.recordTierMetrics(cache, cache.getName(), "remote", RedisNearCacheImpl::getRemoteHits,
+                    RedisNearCacheImpl::getRemoteMisses);
+        } else {
+            LOGGER.warnf(
+                    "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
+                            + "This warning can be fixed by disabling the near cache metrics in the configuration or by adding a Micrometer "
+                            + "extension to the pom.xml file.",
+                    cache.getName());
+        }
+    }
+
+    private static void recordSizeMetrics(CacheManagerInfo.Context context, RedisCacheImpl cache) {
+        MetricsInitializer metricsInitializer = context.metrics() == CacheManagerInfo.Context.Metrics.MICROMETER
+                ? new MicrometerMetricsInitializer()
+                : new NoOpMetricsInitializer();
+        if (metricsInitializer.metricsEnabled()) {
+            cache.recordValueSizes(metricsInitializer.recordSizeMetrics(cache.getName()));
+        } else {
+            LOGGER.warnf(
+                    "Value size metrics won't be recorded for cache '%s' because the application does not depend on a "
+                            + "Micrometer extension. This warning can be fixed by disabling the value size metrics in the "
+                            + "configuration or by adding a Micrometer extension to the pom.xml file.",
+                    cache.getName());
+        }
+    }
+
     public void setCacheKeyTypes(Map<String, Type> keyTypes) {
         RedisCacheBuildRecorder.keyTypes = keyTypes;
     }
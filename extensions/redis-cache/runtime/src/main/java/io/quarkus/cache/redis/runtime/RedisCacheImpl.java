@@ -4,12 +4,22 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -22,6 +32,7 @@
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheRefreshes;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.runtime.datasource.Marshaller;
 import io.quarkus.runtime.BlockingOperationControl;
@@ -54,16 +65,22 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
     private final Type classOfKey;
 
     private final Marshaller marshaller;
+    private final RedisCacheValueCodec valueCodec;
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    // The keys of the entries being refreshed, only used if refresh-after-write is configured
+    private final Set<String> refreshing;
+    private final LongAdder refreshes;
+    private final LongAdder refreshFailures;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
                 BlockingOperationControl::isBlockingAllowed);
     }
 
-    private static Redis determineRedisClient(Optional<String> redisClientName) {
+    static Redis determineRedisClient(Optional<String> redisClientName) {
         ArcContainer container = Arc.container();
         if (redisClientName.isPresent()) {
             return container.select(Redis.class, RedisClientName.Literal.of(redisClientName.get())).get();
@@ -87,7 +104,19 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
             this.marshaller = new Marshaller(this.classOfKey);
         }
         this.marshaller.add(CompositeCacheKey.class);
+        this.valueCodec = new RedisCacheValueCodec(cacheInfo, marshaller);
         this.redis = redis;
+
+        if (cacheInfo.refreshAfterWrite.isPresent()
+                && (cacheInfo.expireAfterWrite.isEmpty() || cacheInfo.expireAfterAccess.isPresent())) {
+            log.warnf("The refresh-after-write configuration of cache [%s] is ignored: it requires expire-after-write "
+                    + "and is not supported together with expire-after-access", getName());
+            this.refreshing = null;
+        } else {
+            this.refreshing = cacheInfo.refreshAfterWrite.isPresent() ? ConcurrentHashMap.newKeySet() : null;
+        }
+        this.refreshes = new LongAdder();
+        this.refreshFailures = new LongAdder();
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -158,17 +187,31 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
+        Runnable refresh = refreshing == null ? null : new Runnable() {
+            @Override
+            public void run() {
+                // The reload is always executed on a worker thread
+                refresh(actualKey, encodedKey, Uni.createFrom().item(new Supplier<V>() {
+                    @Override
+                    public V get() {
+                        return valueLoader.apply(key);
+                    }
+                }));
+            }
+        };
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, valueCodec, refresh));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, valueCodec, refresh)
+                            .get();
                 }
 
                 return startingPoint
@@ -191,7 +234,7 @@ public Uni<?> apply(V value) {
                                             if (value == null) {
                                                 throw new IllegalArgumentException("Cannot cache `null` value");
                                             }
-                                            byte[] encodedValue = marshaller.encode(value);
+                                            byte[] encodedValue = valueCodec.encode(value);
                                             Uni<V> result;
                                             if (cacheInfo.useOptimisticLocking) {
                                                 result = multi(connection, set(connection, encodedKey, encodedValue))
@@ -238,16 +281,29 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Runnable refresh = refreshing == null ? null : new Runnable() {
+            @Override
+            public void run() {
+                refresh(actualKey, encodedKey, Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> get() {
+                        return valueLoader.apply(key);
+                    }
+                }));
+            }
+        };
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, valueCodec, refresh));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, valueCodec, refresh)
+                            .get();
                 }
 
                 return startingPoint
@@ -263,7 +319,7 @@ public Uni<V> apply(RedisConnection connection) {
                                 Uni<V> getter = valueLoader.apply(key);
                                 return getter
                                         .chain(value -> {
-                                            byte[] encodedValue = marshaller.encode(value);
+                                            byte[] encodedValue = valueCodec.encode(value);
                                             if (cacheInfo.useOptimisticLocking) {
                                                 return multi(connection, set(connection, encodedKey, encodedValue))
                                                         .replaceWith(value);
@@ -282,6 +338,171 @@ public Uni<V> apply(RedisConnection connection) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        enforceDefaultType("getAll");
+        return getAll(keys, classOfValue, valuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAll(keys, (Type) clazz, valuesLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Type type, Function<Set<K>, Map<K, V>> valuesLoader) {
+        // With optimistic locking:
+        // WATCH K1 ... Kn
+        // vals = deserialize(MGET K1 ... Kn)
+        // if some vals are null
+        //   MULTI
+        //      SET Ki computation.apply(missing Ks)[Ki] (pipelined)
+        //   EXEC
+        // else
+        //   UNWATCH
+        // Without:
+        // vals = deserialize(MGET K1 ... Kn)
+        // if some vals are null => SET Ki computation.apply(missing Ks)[Ki] (pipelined)
+        Map<K, byte[]> encodedKeys = new LinkedHashMap<>();
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            encodedKeys.put(key, marshaller.encode(computeActualKey(encodeKey(key))));
+        }
+        if (encodedKeys.isEmpty()) {
+            return Uni.createFrom().item(new LinkedHashMap<>());
+        }
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        return withConnection(new Function<RedisConnection, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(RedisConnection connection) {
+                Uni<List<Response>> startingPoint;
+                if (cacheInfo.useOptimisticLocking) {
+                    startingPoint = watchAll(connection, encodedKeys.values())
+                            .chain(new Supplier<Uni<? extends List<Response>>>() {
+                                @Override
+                                public Uni<? extends List<Response>> get() {
+                                    return doGetAll(connection, encodedKeys.values());
+                                }
+                            });
+                } else {
+                    startingPoint = doGetAll(connection, encodedKeys.values());
+                }
+
+                return startingPoint.chain(new Function<List<Response>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(List<Response> responses) {
+                        Map<K, V> cached = new LinkedHashMap<>();
+                        Set<K> missingKeys = new LinkedHashSet<>();
+                        int i = 0;
+                        for (K key : encodedKeys.keySet()) {
+                            V value = valueCodec.decode(type, responses.get(i++));
+                            if (value != null) {
+                                cached.put(key, value);
+                            } else {
+                                missingKeys.add(key);
+                            }
+                        }
+                        if (missingKeys.isEmpty()) {
+                            if (cacheInfo.useOptimisticLocking) {
+                                return connection.send(Request.cmd(Command.UNWATCH)).replaceWith(cached);
+                            }
+                            return Uni.createFrom().item(cached);
+                        }
+                        return computeValues(missingKeys, valuesLoader, isWorkerThread)
+                                .call(new Function<Map<K, V>, Uni<?>>() {
+                                    @Override
+                                    public Uni<?> apply(Map<K, V> values) {
+                                        // The keys without a value are not cached
+                                        List<Request> requests = new ArrayList<>(missingKeys.size());
+                                        for (K key : missingKeys) {
+                                            V value = values.get(key);
+                                            if (value != null) {
+                                                requests.add(setRequest(encodedKeys.get(key), valueCodec.encode(value)));
+                                            }
+                                        }
+                                        Uni<Void> result;
+                                        if (cacheInfo.useOptimisticLocking) {
+                                            result = multi(connection, setAll(connection, requests));
+                                        } else {
+                                            result = setAll(connection, requests);
+                                        }
+                                        if (isWorkerThread) {
+                                            return result.runSubscriptionOn(
+                                                    MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+                                        }
+                                        return result;
+                                    }
+                                })
+                                .map(new Function<Map<K, V>, Map<K, V>>() {
+                                    @Override
+                                    public Map<K, V> apply(Map<K, V> values) {
+                                        return merge(encodedKeys.keySet(), cached, values);
+                                    }
+                                });
+                    }
+                });
+            }
+        })
+
+                .onFailure(RedisCacheImpl::isRecomputableError)
+                .recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached values", e);
+                        Set<K> allKeys = encodedKeys.keySet();
+                        return computeValues(allKeys, valuesLoader, isWorkerThread)
+                                .map(new Function<Map<K, V>, Map<K, V>>() {
+                                    @Override
+                                    public Map<K, V> apply(Map<K, V> values) {
+                                        return merge(allKeys, Map.of(), values);
+                                    }
+                                });
+                    }
+                });
+    }
+
+    private <K, V> Uni<Map<K, V>> computeValues(Set<K> keys, Function<Set<K>, Map<K, V>> valuesLoader,
+            boolean isWorkerThread) {
+        if (isWorkerThread) {
+            return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                @Override
+                public Map<K, V> get() {
+                    return valuesLoader.apply(keys);
+                }
+            }).runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+        } else {
+            return Uni.createFrom().item(valuesLoader.apply(keys));
+        }
+    }
+
+    private static <K, V> Map<K, V> merge(Set<K> keys, Map<K, V> cached, Map<K, V> loaded) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = cached.get(key);
+            if (value == null) {
+                value = loaded.get(key);
+            }
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        List<Request> requests = new ArrayList<>(entries.size());
+        for (Map.Entry<K, V> entry : entries.entrySet()) {
+            requests.add(setRequest(marshaller.encode(computeActualKey(encodeKey(entry.getKey()))),
+                    valueCodec.encode(entry.getValue())));
+        }
+        return withConnection(new Function<RedisConnection, Uni<Void>>() {
+            @Override
+            public Uni<Void> apply(RedisConnection connection) {
+                return setAll(connection, requests);
+            }
+        });
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -290,7 +511,7 @@ public <K, V> Uni<Void> put(K key, V value) {
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        byte[] encodedValue = marshaller.encode(supplier.get());
+        byte[] encodedValue = valueCodec.encode(supplier.get());
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
@@ -329,7 +550,7 @@ private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
+                return doGet(redisConnection, encodedKey, type, valueCodec, null);
             }
         }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
@@ -355,7 +576,7 @@ private <K, V> Uni<V> getOrNull(K key, Type type) {
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
+                return doGet(redisConnection, encodedKey, type, valueCodec, null);
             }
         });
     }
@@ -431,11 +652,84 @@ public void accept(Throwable throwable) {
                 });
     }
 
+    /**
+     * Reloads an entry in the background unless a reload of the same entry is already in progress on this node. The
+     * reloaded value is only stored if the entry still exists, i.e. it was not invalidated in the meantime. The reload
+     * runs on a worker thread, without the request context of the caller.
+     */
+    private <V> void refresh(String actualKey, byte[] encodedKey, Uni<V> reload) {
+        if (!refreshing.add(actualKey)) {
+            return;
+        }
+        log.tracef("Refreshing key [%s] in cache [%s]", actualKey, getName());
+        Uni.createFrom().completionStage(new Supplier<CompletionStage<V>>() {
+            @Override
+            public CompletionStage<V> get() {
+                return CacheRefreshes.reload(new Supplier<CompletionStage<V>>() {
+                    @Override
+                    public CompletionStage<V> get() {
+                        return reload.subscribeAsCompletionStage();
+                    }
+                });
+            }
+        }).chain(new Function<V, Uni<?>>() {
+            @Override
+            public Uni<?> apply(V value) {
+                if (value == null) {
+                    throw new IllegalArgumentException("Cannot cache `null` value");
+                }
+                return redis.send(setRequest(encodedKey, valueCodec.encode(value)).arg("XX"));
+            }
+        }).subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object ignored) {
+                refreshing.remove(actualKey);
+                refreshes.increment();
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                refreshing.remove(actualKey);
+                refreshFailures.increment();
+                log.warnf(failure, "Unable to refresh key [%s] in cache [%s], the current value is kept", actualKey,
+                        getName());
+            }
+        });
+    }
+
+    private boolean isStale(Response ttl) {
+        // A negative value means that the key does not exist or has no associated expire
+        if (ttl == null || ttl.toLong() < 0) {
+            return false;
+        }
+        long age = cacheInfo.expireAfterWrite.get().toMillis() - ttl.toLong();
+        return age >= cacheInfo.refreshAfterWrite.get().toMillis();
+    }
+
+    long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    long getRefreshFailures() {
+        return refreshFailures.sum();
+    }
+
+    /**
+     * @param sizeRecorder called with the size in bytes of each value written to Redis
+     */
+    void recordValueSizes(LongConsumer sizeRecorder) {
+        valueCodec.setSizeRecorder(sizeRecorder);
+    }
+
     // visible only for tests
     public String computeActualKey(String key) {
         return getKeyPrefix() + ":" + key;
     }
 
+    String encodeActualKey(Object key) {
+        return computeActualKey(encodeKey(key));
+    }
+
     Object computeUserKey(String key) {
         String prefix = getKeyPrefix();
         if (!key.startsWith(prefix + ":")) {
@@ -479,15 +773,32 @@ private Uni<Void> watch(RedisConnection connection, byte[] keyToWatch) {
                 .replaceWithVoid();
     }
 
+    /**
+     * @param refresh the action triggered if the entry is stale, or {@code null}
+     */
     private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
-            Marshaller marshaller) {
+            RedisCacheValueCodec valueCodec, Runnable refresh) {
+        if (refresh != null) {
+            // The age of the entry is derived from its remaining time to live
+            return connection.batch(List.of(Request.cmd(Command.GET).arg(encoded), Request.cmd(Command.PTTL).arg(encoded)))
+                    .map(new Function<List<Response>, X>() {
+                        @Override
+                        public X apply(List<Response> responses) {
+                            X value = valueCodec.decode(clazz, responses.get(0));
+                            if (value != null && isStale(responses.get(1))) {
+                                refresh.run();
+                            }
+                            return value;
+                        }
+                    });
+        }
         if (cacheInfo.expireAfterAccess.isPresent()) {
             Duration duration = cacheInfo.expireAfterAccess.get();
             return connection.send(Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds()))
                     .map(new Function<Response, X>() {
                         @Override
                         public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
+                            return valueCodec.decode(clazz, r);
                         }
                     });
         } else {
@@ -495,18 +806,63 @@ public X apply(Response r) {
                     .map(new Function<Response, X>() {
                         @Override
                         public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
+                            return valueCodec.decode(clazz, r);
                         }
                     });
         }
     }
 
+    private Uni<List<Response>> doGetAll(RedisConnection connection, Collection<byte[]> encodedKeys) {
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            // There is no multi-key variant of GETEX, the commands are pipelined instead
+            Duration duration = cacheInfo.expireAfterAccess.get();
+            List<Request> requests = new ArrayList<>(encodedKeys.size());
+            for (byte[] encodedKey : encodedKeys) {
+                requests.add(Request.cmd(Command.GETEX).arg(encodedKey).arg("EX").arg(duration.toSeconds()));
+            }
+            return connection.batch(requests);
+        }
+        Request request = Request.cmd(Command.MGET);
+        for (byte[] encodedKey : encodedKeys) {
+            request.arg(encodedKey);
+        }
+        return connection.send(request).map(new Function<Response, List<Response>>() {
+            @Override
+            public List<Response> apply(Response response) {
+                List<Response> responses = new ArrayList<>(response.size());
+                for (int i = 0; i < response.size(); i++) {
+                    responses.add(response.get(i));
+                }
+                return responses;
+            }
+        });
+    }
+
+    private Uni<Void> watchAll(RedisConnection connection, Collection<byte[]> keysToWatch) {
+        Request request = Request.cmd(Command.WATCH);
+        for (byte[] keyToWatch : keysToWatch) {
+            request.arg(keyToWatch);
+        }
+        return connection.send(request).replaceWithVoid();
+    }
+
+    private Uni<Void> setAll(RedisConnection connection, List<Request> requests) {
+        if (requests.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return connection.batch(requests).replaceWithVoid();
+    }
+
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+        return connection.send(setRequest(key, value)).replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
             request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -543,18 +899,21 @@ public V get() {
         private final RedisConnection connection;
         private final Type clazz;
         private final byte[] encodedKey;
-        private final Marshaller marshaller;
+        private final RedisCacheValueCodec valueCodec;
+        private final Runnable refresh;
 
-        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey, Marshaller marshaller) {
+        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey,
+                RedisCacheValueCodec valueCodec, Runnable refresh) {
             this.connection = connection;
             this.clazz = clazz;
             this.encodedKey = encodedKey;
-            this.marshaller = marshaller;
+            this.valueCodec = valueCodec;
+            this.refresh = refresh;
         }
 
         @Override
         public Uni<V> get() {
-            return doGet(connection, encodedKey, clazz, marshaller);
+            return doGet(connection, encodedKey, clazz, valueCodec, refresh);
         }
     }
 
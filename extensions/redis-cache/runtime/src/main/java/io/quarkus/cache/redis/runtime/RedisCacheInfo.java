@@ -4,6 +4,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 public class RedisCacheInfo {
 
@@ -22,6 +23,11 @@ public class RedisCacheInfo {
      */
     public Optional<Duration> expireAfterWrite = Optional.empty();
 
+    /**
+     * The duration after which an entry is reloaded in the background once read
+     */
+    public Optional<Duration> refreshAfterWrite = Optional.empty();
+
     /**
      * the key prefix allowing to identify the keys belonging to the cache.
      * If not set, use "cache:$cache-name"
@@ -51,4 +57,44 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * The format of the values stored in Redis
+     */
+    public RedisCacheRuntimeConfig.ValueCodec valueCodec = RedisCacheRuntimeConfig.ValueCodec.JSON;
+
+    /**
+     * The size in bytes above which the values are compressed, if set
+     */
+    public OptionalLong compressionThreshold = OptionalLong.empty();
+
+    /**
+     * Whether the size of the values written to Redis is recorded
+     */
+    public boolean valueSizeMetricsEnabled = false;
+
+    /**
+     * Whether a local cache is kept in front of Redis
+     */
+    public boolean nearCacheEnabled = false;
+
+    /**
+     * The maximum number of entries of the local cache
+     */
+    public OptionalLong nearCacheMaximumSize = OptionalLong.empty();
+
+    /**
+     * The time to live of the entries of the local cache
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
+
+    /**
+     * The Redis pub/sub channel used to broadcast the invalidations of the local cache
+     */
+    public String nearCacheInvalidationChannel = "cache:invalidations";
+
+    /**
+     * Whether the hits and misses of both tiers are recorded
+     */
+    public boolean nearCacheMetricsEnabled = false;
 }
@@ -3,6 +3,7 @@
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Set;
 
 import io.quarkus.runtime.configuration.HashSetFactory;
@@ -43,6 +44,12 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.expireAfterWrite = defaultRuntimeConfig.ttl();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedRuntimeConfig.refreshAfterWrite();
+                } else if (defaultRuntimeConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultRuntimeConfig.refreshAfterWrite();
+                }
+
                 if (namedRuntimeConfig != null && namedRuntimeConfig.prefix().isPresent()) {
                     cacheInfo.prefix = namedRuntimeConfig.prefix().get();
                 } else if (defaultRuntimeConfig.prefix().isPresent()) {
@@ -67,6 +74,70 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.valueCodec().isPresent()) {
+                    cacheInfo.valueCodec = namedRuntimeConfig.valueCodec().get();
+                } else if (defaultRuntimeConfig.valueCodec().isPresent()) {
+                    cacheInfo.valueCodec = defaultRuntimeConfig.valueCodec().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.compressionThreshold().isPresent()) {
+                    cacheInfo.compressionThreshold = OptionalLong
+                            .of(namedRuntimeConfig.compressionThreshold().get().asLongValue());
+                } else if (defaultRuntimeConfig.compressionThreshold().isPresent()) {
+                    cacheInfo.compressionThreshold = OptionalLong
+                            .of(defaultRuntimeConfig.compressionThreshold().get().asLongValue());
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.valueSizeMetricsEnabled().isPresent()) {
+                    cacheInfo.valueSizeMetricsEnabled = namedRuntimeConfig.valueSizeMetricsEnabled().get();
+                } else if (defaultRuntimeConfig.valueSizeMetricsEnabled().isPresent()) {
+                    cacheInfo.valueSizeMetricsEnabled = defaultRuntimeConfig.valueSizeMetricsEnabled().get();
+                }
+
+                RedisNearCacheRuntimeConfig defaultNearCacheConfig = defaultRuntimeConfig.nearCache();
+                RedisNearCacheRuntimeConfig namedNearCacheConfig = namedRuntimeConfig != null
+                        ? namedRuntimeConfig.nearCache()
+                        : null;
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = namedNearCacheConfig.enabled().get();
+                } else if (defaultNearCacheConfig.enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = defaultNearCacheConfig.enabled().get();
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedNearCacheConfig.maximumSize();
+                } else if (defaultNearCacheConfig.maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultNearCacheConfig.maximumSize();
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedNearCacheConfig.expireAfterWrite();
+                } else if (defaultNearCacheConfig.expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultNearCacheConfig.expireAfterWrite();
+                } else {
+                    // A local entry must not outlive the Redis entry, even if an invalidation message is lost
+                    cacheInfo.nearCacheExpireAfterWrite = cacheInfo.expireAfterWrite;
+                }
+                if (cacheInfo.nearCacheEnabled && cacheInfo.nearCacheExpireAfterWrite.isEmpty()) {
+                    throw new IllegalStateException("The near cache of Redis cache [" + cacheName
+                            + "] requires an expiration: configure either quarkus.cache.redis.\"" + cacheName
+                            + "\".near-cache.expire-after-write or quarkus.cache.redis.\"" + cacheName
+                            + "\".expire-after-write");
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.invalidationChannel().isPresent()) {
+                    cacheInfo.nearCacheInvalidationChannel = namedNearCacheConfig.invalidationChannel().get();
+                } else if (defaultNearCacheConfig.invalidationChannel().isPresent()) {
+                    cacheInfo.nearCacheInvalidationChannel = defaultNearCacheConfig.invalidationChannel().get();
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.metricsEnabled().isPresent()) {
+                    cacheInfo.nearCacheMetricsEnabled = namedNearCacheConfig.metricsEnabled().get();
+                } else if (defaultNearCacheConfig.metricsEnabled().isPresent()) {
+                    cacheInfo.nearCacheMetricsEnabled = defaultNearCacheConfig.metricsEnabled().get();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
@@ -0,0 +1,415 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import io.quarkus.cache.CacheException;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A compact binary codec for a Java record, derived from the record components. The components are written in their
+ * declaration order without any names or delimiters. The supported component types are the primitive types and their
+ * wrappers, {@code String}, {@code byte[]}, enums and records whose components are supported.
+ * <p>
+ * The {@link #fingerprint} identifies the schema of the record: it changes when a component is added, removed, renamed or
+ * retyped, so that a value written with a previous version of the record is never decoded with the current one.
+ */
+final class RedisCacheRecordCodec {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    final int fingerprint;
+
+    private final MethodHandle[] accessors;
+    private final ComponentCodec[] components;
+    private final MethodHandle constructor;
+
+    private RedisCacheRecordCodec(String schema, MethodHandle[] accessors, ComponentCodec[] components,
+            MethodHandle constructor) {
+        this.fingerprint = schema.hashCode();
+        this.accessors = accessors;
+        this.components = components;
+        this.constructor = constructor;
+    }
+
+    /**
+     * @return the codec, or {@code null} if the type is not a record or has a component which is not supported
+     */
+    static RedisCacheRecordCodec of(Class<?> type) {
+        return of(type, new HashSet<>());
+    }
+
+    private static RedisCacheRecordCodec of(Class<?> type, Set<Class<?>> visiting) {
+        if (!type.isRecord() || !visiting.add(type)) {
+            // Not a record or a recursive record
+            return null;
+        }
+        RecordComponent[] recordComponents = type.getRecordComponents();
+        MethodHandle[] accessors = new MethodHandle[recordComponents.length];
+        ComponentCodec[] components = new ComponentCodec[recordComponents.length];
+        Class<?>[] componentTypes = new Class<?>[recordComponents.length];
+        StringBuilder schema = new StringBuilder(type.getName()).append('(');
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            for (int i = 0; i < recordComponents.length; i++) {
+                RecordComponent recordComponent = recordComponents[i];
+                componentTypes[i] = recordComponent.getType();
+                components[i] = componentCodec(componentTypes[i], visiting);
+                if (components[i] == null) {
+                    return null;
+                }
+                Method accessor = recordComponent.getAccessor();
+                accessor.setAccessible(true);
+                accessors[i] = lookup.unreflect(accessor).asType(ACCESSOR_TYPE);
+                schema.append(recordComponent.getName()).append(':').append(components[i].schema()).append(';');
+            }
+            Constructor<?> canonical = type.getDeclaredConstructor(componentTypes);
+            canonical.setAccessible(true);
+            MethodHandle constructor = lookup.unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, recordComponents.length)
+                    .asType(CONSTRUCTOR_TYPE);
+            return new RedisCacheRecordCodec(schema.append(')').toString(), accessors, components, constructor);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        } finally {
+            visiting.remove(type);
+        }
+    }
+
+    void encode(Object value, Buffer buffer) {
+        try {
+            for (int i = 0; i < components.length; i++) {
+                components[i].write(accessors[i].invokeExact(value), buffer);
+            }
+        } catch (Throwable t) {
+            throw new CacheException("Unable to encode a value of type " + value.getClass().getName(), t);
+        }
+    }
+
+    Object decode(Buffer buffer, Cursor cursor) {
+        Object[] values = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            values[i] = components[i].read(buffer, cursor);
+        }
+        try {
+            return constructor.invokeExact(values);
+        } catch (Throwable t) {
+            throw new CacheException("Unable to decode a cached value", t);
+        }
+    }
+
+    private static ComponentCodec componentCodec(Class<?> type, Set<Class<?>> visiting) {
+        if (type.isPrimitive()) {
+            return primitiveCodec(type);
+        } else if (type == Boolean.class || type == Byte.class || type == Short.class || type == Character.class
+                || type == Integer.class || type == Long.class || type == Float.class || type == Double.class) {
+            return new NullableCodec(primitiveCodec(MethodType.methodType(type).unwrap().returnType()));
+        } else if (type == String.class) {
+            return new StringCodec();
+        } else if (type == byte[].class) {
+            return new BytesCodec();
+        } else if (type.isEnum()) {
+            return new EnumCodec(type);
+        } else if (type.isRecord()) {
+            RedisCacheRecordCodec codec = of(type, visiting);
+            return codec != null ? new NullableCodec(new RecordCodec(type, codec)) : null;
+        }
+        return null;
+    }
+
+    private static ComponentCodec primitiveCodec(Class<?> type) {
+        if (type == boolean.class) {
+            return new PrimitiveCodec("Z") {
+                @Override
+                public void write(Object value, Buffer buffer) {
+                    buffer.appendByte((Boolean) value ? (byte) 1 : (byte) 0);
+                }
+
+                @Override
+                public Object read(Buffer buffer, Cursor cursor) {
+                    return buffer.getByte(cursor.advance(1)) != 0;
+                }
+            };
+        } else if (type == byte.class) {
+            return new PrimitiveCodec("B") {
+                @Override
+                public void write(Object value, Buffer buffer) {
+                    buffer.appendByte((Byte) value);
+                }
+
+                @Override
+                public Object read(Buffer buffer, Cursor cursor) {
+                    return buffer.getByte(cursor.advance(1));
+                }
+            };
+        } else if (type == short.class) {
+            return new PrimitiveCodec("S") {
+                @Override
+                public void write(Object value, Buffer buffer) {
+                    buffer.appendShort((Short) value);
+                }
+
+                @Override
+                public Object read(Buffer buffer, Cursor cursor) {
+                    return buffer.getShort(cursor.advance(2));
+                }
+            };
+        } else if (type == char.class) {
+            return new PrimitiveCodec("C") {
+                @Override
+                public void write(Object value, Buffer buffer) {
+                    buffer.appendShort((short) ((Character) value).charValue());
+                }
+
+                @Override
+                public Object read(Buffer buffer, Cursor cursor) {
+                    return (char) buffer.getShort(cursor.advance(2));
+                }
+            };
+        } else if (type == int.class) {
+            return new PrimitiveCodec("I") {
+                @Override
+                public void write(Object value, Buffer buffer) {
+                    buffer.appendInt((Integer) value);
+                }
+
+                @Override
+                public Object read(Buffer buffer, Cursor cursor) {
+                    return buffer.getInt(cursor.advance(4));
+                }
+            };
+        } else if (type == long.class) {
+            return new PrimitiveCodec("J") {
+                @Override
+                public void write(Object value, Buffer buffer) {
+                    buffer.appendLong((Long) value);
+                }
+
+                @Override
+                public Object read(Buffer buffer, Cursor cursor) {
+                    return buffer.getLong(cursor.advance(8));
+                }
+            };
+        } else if (type == float.class) {
+            return new PrimitiveCodec("F") {
+                @Override
+                public void write(Object value, Buffer buffer) {
+                    buffer.appendFloat((Float) value);
+                }
+
+                @Override
+                public Object read(Buffer buffer, Cursor cursor) {
+                    return buffer.getFloat(cursor.advance(4));
+                }
+            };
+        } else {
+            return new PrimitiveCodec("D") {
+                @Override
+                public void write(Object value, Buffer buffer) {
+                    buffer.appendDouble((Double) value);
+                }
+
+                @Override
+                public Object read(Buffer buffer, Cursor cursor) {
+                    return buffer.getDouble(cursor.advance(8));
+                }
+            };
+        }
+    }
+
+    /**
+     * The position of the next byte to read.
+     */
+    static final class Cursor {
+
+        private int position;
+
+        Cursor(int position) {
+            this.position = position;
+        }
+
+        /**
+         * @return the current position, which is then moved forward by {@code length} bytes
+         */
+        int advance(int length) {
+            int current = position;
+            position += length;
+            return current;
+        }
+    }
+
+    private interface ComponentCodec {
+
+        String schema();
+
+        void write(Object value, Buffer buffer);
+
+        Object read(Buffer buffer, Cursor cursor);
+
+    }
+
+    private abstract static class PrimitiveCodec implements ComponentCodec {
+
+        private final String schema;
+
+        PrimitiveCodec(String schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public String schema() {
+            return schema;
+        }
+    }
+
+    private static class NullableCodec implements ComponentCodec {
+
+        private final ComponentCodec delegate;
+
+        NullableCodec(ComponentCodec delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String schema() {
+            return "?" + delegate.schema();
+        }
+
+        @Override
+        public void write(Object value, Buffer buffer) {
+            if (value == null) {
+                buffer.appendByte((byte) 0);
+            } else {
+                buffer.appendByte((byte) 1);
+                delegate.write(value, buffer);
+            }
+        }
+
+        @Override
+        public Object read(Buffer buffer, Cursor cursor) {
+            return buffer.getByte(cursor.advance(1)) == 0 ? null : delegate.read(buffer, cursor);
+        }
+    }
+
+    private static class StringCodec implements ComponentCodec {
+
+        @Override
+        public String schema() {
+            return "T";
+        }
+
+        @Override
+        public void write(Object value, Buffer buffer) {
+            if (value == null) {
+                buffer.appendInt(-1);
+            } else {
+                byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                buffer.appendInt(bytes.length).appendBytes(bytes);
+            }
+        }
+
+        @Override
+        public Object read(Buffer buffer, Cursor cursor) {
+            int length = buffer.getInt(cursor.advance(4));
+            if (length < 0) {
+                return null;
+            }
+            int start = cursor.advance(length);
+            return buffer.getString(start, start + length, StandardCharsets.UTF_8.name());
+        }
+    }
+
+    private static class BytesCodec implements ComponentCodec {
+
+        @Override
+        public String schema() {
+            return "[B";
+        }
+
+        @Override
+        public void write(Object value, Buffer buffer) {
+            if (value == null) {
+                buffer.appendInt(-1);
+            } else {
+                byte[] bytes = (byte[]) value;
+                buffer.appendInt(bytes.length).appendBytes(bytes);
+            }
+        }
+
+        @Override
+        public Object read(Buffer buffer, Cursor cursor) {
+            int length = buffer.getInt(cursor.advance(4));
+            if (length < 0) {
+                return null;
+            }
+            int start = cursor.advance(length);
+            return buffer.getBytes(start, start + length);
+        }
+    }
+
+    private static class EnumCodec implements ComponentCodec {
+
+        private final Class<?> type;
+        private final Object[] constants;
+
+        EnumCodec(Class<?> type) {
+            this.type = type;
+            this.constants = type.getEnumConstants();
+        }
+
+        @Override
+        public String schema() {
+            // The constants are written by ordinal so they are part of the schema
+            StringBuilder schema = new StringBuilder(type.getName()).append('{');
+            for (Object constant : constants) {
+                schema.append(((Enum<?>) constant).name()).append(',');
+            }
+            return schema.append('}').toString();
+        }
+
+        @Override
+        public void write(Object value, Buffer buffer) {
+            buffer.appendInt(value == null ? -1 : ((Enum<?>) value).ordinal());
+        }
+
+        @Override
+        public Object read(Buffer buffer, Cursor cursor) {
+            int ordinal = buffer.getInt(cursor.advance(4));
+            return ordinal < 0 ? null : constants[ordinal];
+        }
+    }
+
+    private static class RecordCodec implements ComponentCodec {
+
+        private final Class<?> type;
+        private final RedisCacheRecordCodec codec;
+
+        RecordCodec(Class<?> type, RedisCacheRecordCodec codec) {
+            this.type = type;
+            this.codec = codec;
+        }
+
+        @Override
+        public String schema() {
+            return type.getName() + "#" + codec.fingerprint;
+        }
+
+        @Override
+        public void write(Object value, Buffer buffer) {
+            codec.encode(value, buffer);
+        }
+
+        @Override
+        public Object read(Buffer buffer, Cursor cursor) {
+            return codec.decode(buffer, cursor);
+        }
+    }
+}
@@ -5,6 +5,7 @@
 import java.util.OptionalInt;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigGroup
 public interface RedisCacheRuntimeConfig {
@@ -28,6 +29,15 @@ public interface RedisCacheRuntimeConfig {
      */
     Optional<Duration> expireAfterAccess();
 
+    /**
+     * Specifies that an entry should be reloaded in the background once a fixed duration has elapsed after the entry's
+     * creation, or the most recent replacement of its value. The reload is triggered by the first read of the entry after
+     * that duration and the callers keep getting the current value until the reload completes. If the reload fails, the
+     * current value is kept. The maximum staleness of an entry is bounded by {@code expire-after-write}, which must be
+     * configured. This is not supported together with {@code expire-after-access}.
+     */
+    Optional<Duration> refreshAfterWrite();
+
     /**
      * The key prefix allowing to identify the keys belonging to the cache.
      * If not set, the value "{@code cache:{cache-name}}" will be used. The variable
@@ -49,4 +59,39 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * The format of the values stored in Redis. With {@code binary}, the values whose type is a Java record made of
+     * primitives, strings, byte arrays, enums and nested records are written in a compact binary format derived from the
+     * record components. The other values are written in JSON. Default is {@code json}.
+     */
+    Optional<ValueCodec> valueCodec();
+
+    /**
+     * If set, the values whose encoded size is larger than this threshold are compressed before being stored in Redis.
+     * If not set (default), the values are not compressed.
+     */
+    Optional<MemorySize> compressionThreshold();
+
+    /**
+     * Whether the distribution of the size of the values written to Redis should be recorded if the application depends
+     * on a Micrometer extension. Default is {@code false}.
+     */
+    Optional<Boolean> valueSizeMetricsEnabled();
+
+    /**
+     * The local cache kept in front of Redis.
+     */
+    RedisNearCacheRuntimeConfig nearCache();
+
+    enum ValueCodec {
+        /**
+         * The values are written in JSON.
+         */
+        JSON,
+        /**
+         * The record values are written in a compact binary format, the other values in JSON.
+         */
+        BINARY
+    }
 }
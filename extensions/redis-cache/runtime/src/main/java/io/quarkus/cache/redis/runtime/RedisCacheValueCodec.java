@@ -0,0 +1,220 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.redis.runtime.datasource.Marshaller;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * Encodes and decodes the values stored in Redis by {@link RedisCacheImpl}.
+ * <p>
+ * With the default configuration (JSON values and no compression), the values are written by the {@link Marshaller} as
+ * is. Otherwise, each value starts with a one-byte header telling how the rest of the value is encoded:
+ * <ul>
+ * <li>{@link #FORMAT_MARSHALLER}: the value written by the {@link Marshaller}</li>
+ * <li>{@link #FORMAT_RECORD}: the fingerprint of the record schema followed by the value written by the
+ * {@link RedisCacheRecordCodec}</li>
+ * </ul>
+ * The {@link #COMPRESSED} flag of the header means that the rest of the value is the length of the uncompressed value
+ * followed by the deflated value. The values without a known header, e.g. written before the configuration was changed,
+ * are decoded by the {@link Marshaller}.
+ */
+class RedisCacheValueCodec {
+
+    private static final Logger log = Logger.getLogger(RedisCacheValueCodec.class);
+
+    static final byte FORMAT_MARSHALLER = 0x01;
+    static final byte FORMAT_RECORD = 0x02;
+    static final byte COMPRESSED = 0x10;
+
+    // Deflate cannot compress more than about 1032:1
+    private static final int MAX_DEFLATE_RATIO = 1032;
+
+    private static final LongConsumer NO_SIZE_RECORDER = new LongConsumer() {
+        @Override
+        public void accept(long size) {
+        }
+    };
+
+    private final String cacheName;
+    private final Marshaller marshaller;
+    private final boolean binary;
+    private final int compressionThreshold;
+    private final boolean framed;
+    // The record codecs by value type, an empty codec if the type is not supported
+    private final Map<Class<?>, Optional<RedisCacheRecordCodec>> recordCodecs = new ConcurrentHashMap<>();
+
+    private volatile LongConsumer sizeRecorder = NO_SIZE_RECORDER;
+
+    RedisCacheValueCodec(RedisCacheInfo cacheInfo, Marshaller marshaller) {
+        this.cacheName = cacheInfo.name;
+        this.marshaller = marshaller;
+        this.binary = cacheInfo.valueCodec == RedisCacheRuntimeConfig.ValueCodec.BINARY;
+        this.compressionThreshold = cacheInfo.compressionThreshold.isPresent()
+                ? (int) Math.min(cacheInfo.compressionThreshold.getAsLong(), Integer.MAX_VALUE)
+                : -1;
+        this.framed = binary || compressionThreshold >= 0;
+    }
+
+    /**
+     * @param sizeRecorder called with the size in bytes of each encoded value
+     */
+    void setSizeRecorder(LongConsumer sizeRecorder) {
+        this.sizeRecorder = sizeRecorder;
+    }
+
+    byte[] encode(Object value) {
+        byte[] encoded;
+        if (!framed) {
+            encoded = marshaller.encode(value);
+        } else {
+            RedisCacheRecordCodec recordCodec = binary && value != null ? recordCodec(value.getClass()) : null;
+            Buffer buffer;
+            if (recordCodec != null) {
+                buffer = Buffer.buffer(64).appendByte(FORMAT_RECORD).appendInt(recordCodec.fingerprint);
+                recordCodec.encode(value, buffer);
+            } else {
+                byte[] marshalled = marshaller.encode(value);
+                buffer = Buffer.buffer(marshalled.length + 1).appendByte(FORMAT_MARSHALLER).appendBytes(marshalled);
+            }
+            if (compressionThreshold >= 0 && buffer.length() - 1 > compressionThreshold) {
+                encoded = compress(buffer);
+            } else {
+                encoded = buffer.getBytes();
+            }
+        }
+        if (encoded != null) {
+            sizeRecorder.accept(encoded.length);
+        }
+        return encoded;
+    }
+
+    /**
+     * @return the decoded value, or {@code null} if there is no value or the value was written with a different record
+     *         schema
+     */
+    @SuppressWarnings("unchecked")
+    <V> V decode(Type type, Response response) {
+        if (!framed || response == null || response.type() != ResponseType.BULK) {
+            return marshaller.decode(type, response);
+        }
+        // Read the value in place rather than copying it to an array first
+        Buffer buffer = response.getDelegate().toBuffer();
+        if (buffer.length() == 0) {
+            return marshaller.decode(type, response);
+        }
+        byte header = buffer.getByte(0);
+        int start = 1;
+        if ((header & COMPRESSED) != 0) {
+            byte format = (byte) (header & ~COMPRESSED);
+            if (format != FORMAT_MARSHALLER && format != FORMAT_RECORD) {
+                // Not written by this codec, e.g. a JSON value written before the configuration was changed
+                return marshaller.decode(type, response);
+            }
+            buffer = decompress(buffer);
+            header = format;
+            start = 0;
+        }
+        switch (header) {
+            case FORMAT_MARSHALLER:
+                return marshaller.decode(type, buffer.getBytes(start, buffer.length()));
+            case FORMAT_RECORD:
+                RedisCacheRecordCodec recordCodec = type instanceof Class<?> ? recordCodec((Class<?>) type) : null;
+                int fingerprint = buffer.getInt(start);
+                if (recordCodec == null || recordCodec.fingerprint != fingerprint) {
+                    // Written with another version of the value type, the value is recomputed
+                    log.debugf("Ignoring a value of cache [%s] written with a different schema of %s", cacheName,
+                            type.getTypeName());
+                    return null;
+                }
+                return (V) recordCodec.decode(buffer, new RedisCacheRecordCodec.Cursor(start + 4));
+            default:
+                return marshaller.decode(type, response);
+        }
+    }
+
+    private RedisCacheRecordCodec recordCodec(Class<?> type) {
+        return recordCodecs.computeIfAbsent(type, new Function<Class<?>, Optional<RedisCacheRecordCodec>>() {
+            @Override
+            public Optional<RedisCacheRecordCodec> apply(Class<?> t) {
+                RedisCacheRecordCodec codec = RedisCacheRecordCodec.of(t);
+                if (codec == null) {
+                    log.debugf("The values of type %s of cache [%s] are not supported by the binary codec, JSON is used"
+                            + " instead", t.getName(), cacheName);
+                }
+                return Optional.ofNullable(codec);
+            }
+        }).orElse(null);
+    }
+
+    private static byte[] compress(Buffer buffer) {
+        // The header is kept uncompressed
+        byte[] input = buffer.getBytes(1, buffer.length());
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 2 + 16);
+            output.write(buffer.getByte(0) | COMPRESSED);
+            output.write(input.length >>> 24);
+            output.write(input.length >>> 16);
+            output.write(input.length >>> 8);
+            output.write(input.length);
+            byte[] chunk = new byte[Math.max(64, Math.min(input.length, 8192))];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(chunk);
+                output.write(chunk, 0, count);
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static Buffer decompress(Buffer buffer) {
+        if (buffer.length() < 5) {
+            throw new CacheException(new IllegalStateException("Unable to decompress a truncated cached value"));
+        }
+        int length = buffer.getInt(1);
+        // The length is checked before allocating, a corrupted value must not make us allocate gigabytes
+        if (length < 0 || length > (long) (buffer.length() - 5) * MAX_DEFLATE_RATIO) {
+            throw new CacheException(new IllegalStateException(
+                    "Unable to decompress a cached value with an invalid uncompressed length: " + length));
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(buffer.getBytes(5, buffer.length()));
+            byte[] output = new byte[length];
+            int count = 0;
+            while (count < length && !inflater.finished()) {
+                int inflated = inflater.inflate(output, count, length - count);
+                if (inflated == 0 && inflater.needsInput()) {
+                    break;
+                }
+                count += inflated;
+            }
+            if (count != length) {
+                throw new CacheException(new IllegalStateException("Unable to decompress a truncated cached value"));
+            }
+            return Buffer.buffer(output);
+        } catch (DataFormatException e) {
+            throw new CacheException("Unable to decompress a cached value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
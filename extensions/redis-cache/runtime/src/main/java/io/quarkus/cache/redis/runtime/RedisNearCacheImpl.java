@@ -0,0 +1,455 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.cache.runtime.AbstractCache;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * This class is an internal Quarkus cache implementation keeping a bounded local Caffeine cache in front of a
+ * {@link RedisCacheImpl}. Do not use it explicitly from your Quarkus application.
+ * <p>
+ * The local entries are keyed by the actual Redis key. An entry loaded from Redis is only stored locally if no
+ * invalidation happened since the load started, so that a concurrent invalidation is never overridden by a stale value.
+ * The invalidations are broadcast to the other nodes by {@link RedisNearCacheInvalidations}.
+ */
+public class RedisNearCacheImpl extends AbstractCache implements RedisCache {
+
+    static final long DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private final RedisCacheImpl remote;
+    private final Cache<String, Object> local;
+    private final String invalidationChannel;
+    private final RedisNearCacheInvalidations invalidations;
+
+    // Incremented whenever a local entry is invalidated
+    private final AtomicLong localVersion;
+
+    private final LongAdder localHits;
+    private final LongAdder localMisses;
+    private final LongAdder remoteHits;
+    private final LongAdder remoteMisses;
+
+    RedisNearCacheImpl(RedisCacheImpl remote, RedisCacheInfo cacheInfo, RedisNearCacheInvalidations invalidations) {
+        this.remote = remote;
+        this.invalidationChannel = cacheInfo.nearCacheInvalidationChannel;
+        this.invalidations = invalidations;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(cacheInfo.nearCacheMaximumSize.orElse(DEFAULT_MAXIMUM_SIZE));
+        if (cacheInfo.nearCacheExpireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(cacheInfo.nearCacheExpireAfterWrite.get());
+        }
+        this.local = builder.build();
+        this.localVersion = new AtomicLong();
+        this.localHits = new LongAdder();
+        this.localMisses = new LongAdder();
+        this.remoteHits = new LongAdder();
+        this.remoteMisses = new LongAdder();
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return remote.getDefaultKey();
+    }
+
+    @Override
+    public Class<?> getDefaultValueType() {
+        return remote.getDefaultValueType();
+    }
+
+    String getInvalidationChannel() {
+        return invalidationChannel;
+    }
+
+    long getLocalHits() {
+        return localHits.sum();
+    }
+
+    long getLocalMisses() {
+        return localMisses.sum();
+    }
+
+    long getRemoteHits() {
+        return remoteHits.sum();
+    }
+
+    long getRemoteMisses() {
+        return remoteMisses.sum();
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        String localKey = remote.encodeActualKey(key);
+        V cached = getLocal(localKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        TrackingLoader<K, V> loader = new TrackingLoader<>(valueLoader);
+        return loadThrough(localKey, remote.get(key, loader), loader);
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        String localKey = remote.encodeActualKey(key);
+        V cached = getLocal(localKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        TrackingAsyncLoader<K, V> loader = new TrackingAsyncLoader<>(valueLoader);
+        return loadThrough(localKey, remote.getAsync(key, loader), loader);
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
+        String localKey = remote.encodeActualKey(key);
+        V cached = getLocal(localKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        TrackingLoader<K, V> loader = new TrackingLoader<>(valueLoader);
+        return loadThrough(localKey, remote.get(key, clazz, loader), loader);
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader) {
+        String localKey = remote.encodeActualKey(key);
+        V cached = getLocal(localKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        TrackingLoader<K, V> loader = new TrackingLoader<>(valueLoader);
+        return loadThrough(localKey, remote.get(key, type, loader), loader);
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
+        String localKey = remote.encodeActualKey(key);
+        V cached = getLocal(localKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        TrackingAsyncLoader<K, V> loader = new TrackingAsyncLoader<>(valueLoader);
+        return loadThrough(localKey, remote.getAsync(key, clazz, loader), loader);
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader) {
+        String localKey = remote.encodeActualKey(key);
+        V cached = getLocal(localKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        TrackingAsyncLoader<K, V> loader = new TrackingAsyncLoader<>(valueLoader);
+        return loadThrough(localKey, remote.getAsync(key, type, loader), loader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        // A null class means the default type of the remote cache
+        return getAll(keys, null, valuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> valuesLoader) {
+        Set<K> distinctKeys = new LinkedHashSet<>(keys);
+        Map<K, V> cached = new LinkedHashMap<>();
+        Map<K, String> remoteKeys = new LinkedHashMap<>();
+        for (K key : distinctKeys) {
+            String localKey = remote.encodeActualKey(key);
+            V value = getLocal(localKey);
+            if (value != null) {
+                cached.put(key, value);
+            } else {
+                remoteKeys.put(key, localKey);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return Uni.createFrom().item(cached);
+        }
+        long version = localVersion.get();
+        AtomicInteger loaded = new AtomicInteger();
+        Function<Set<K>, Map<K, V>> loader = new Function<Set<K>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(Set<K> missingKeys) {
+                loaded.set(missingKeys.size());
+                return valuesLoader.apply(missingKeys);
+            }
+        };
+        // The remote cache is only queried with the keys missing locally
+        Uni<Map<K, V>> remoteGet = clazz != null ? remote.getAll(remoteKeys.keySet(), clazz, loader)
+                : remote.getAll(remoteKeys.keySet(), loader);
+        return remoteGet.map(new Function<Map<K, V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(Map<K, V> values) {
+                remoteMisses.add(loaded.get());
+                remoteHits.add(remoteKeys.size() - loaded.get());
+                for (Map.Entry<K, String> entry : remoteKeys.entrySet()) {
+                    V value = values.get(entry.getKey());
+                    if (value != null) {
+                        putLocal(version, entry.getValue(), value);
+                    }
+                }
+                Map<K, V> result = new LinkedHashMap<>();
+                for (K key : distinctKeys) {
+                    V value = cached.containsKey(key) ? cached.get(key) : values.get(key);
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, V value) {
+        String localKey = remote.encodeActualKey(key);
+        return remote.put(key, value).call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                localVersion.incrementAndGet();
+                local.put(localKey, value);
+                return invalidations.publish(invalidationChannel, getName(), localKey);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
+        return put(key, supplier.get());
+    }
+
+    @Override
+    public <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        if (entries.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return remote.putAll(entries).call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                localVersion.incrementAndGet();
+                List<Uni<Void>> publications = new ArrayList<>(entries.size());
+                for (Map.Entry<K, V> entry : entries.entrySet()) {
+                    String localKey = remote.encodeActualKey(entry.getKey());
+                    local.put(localKey, entry.getValue());
+                    publications.add(invalidations.publish(invalidationChannel, getName(), localKey));
+                }
+                return Uni.join().all(publications).andFailFast();
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
+        String localKey = remote.encodeActualKey(key);
+        V cached = getLocal(localKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return this.<V> loadThrough(localKey, remote.getOrNull(key), null).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, Class<V> clazz, V defaultValue) {
+        String localKey = remote.encodeActualKey(key);
+        V cached = getLocal(localKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return loadThrough(localKey, remote.getOrNull(key, clazz), null).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
+        String localKey = remote.encodeActualKey(key);
+        V cached = getLocal(localKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return loadThrough(localKey, remote.getOrNull(key, type), null).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key) {
+        String localKey = remote.encodeActualKey(key);
+        V cached = getLocal(localKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return loadThrough(localKey, remote.getOrNull(key), null);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
+        String localKey = remote.encodeActualKey(key);
+        V cached = getLocal(localKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return loadThrough(localKey, remote.getOrNull(key, clazz), null);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
+        String localKey = remote.encodeActualKey(key);
+        V cached = getLocal(localKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return loadThrough(localKey, remote.getOrNull(key, type), null);
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        String localKey = remote.encodeActualKey(key);
+        return remote.invalidate(key).call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                invalidateLocal(localKey);
+                return invalidations.publish(invalidationChannel, getName(), localKey);
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return remote.invalidateAll().call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                invalidateAllLocal();
+                return invalidations.publish(invalidationChannel, getName(), null);
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        return remote.invalidateIf(predicate).call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                localVersion.incrementAndGet();
+                local.asMap().keySet().removeIf(new Predicate<String>() {
+                    @Override
+                    public boolean test(String localKey) {
+                        return predicate.test(remote.computeUserKey(localKey));
+                    }
+                });
+                // The predicate cannot be sent to the other nodes
+                return invalidations.publish(invalidationChannel, getName(), null);
+            }
+        });
+    }
+
+    void invalidateLocal(String localKey) {
+        localVersion.incrementAndGet();
+        local.invalidate(localKey);
+    }
+
+    void invalidateAllLocal() {
+        localVersion.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V getLocal(String localKey) {
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+        } else {
+            localMisses.increment();
+        }
+        return (V) cached;
+    }
+
+    /**
+     * @param tracker the loader passed to the remote cache, or {@code null} if there is no loader
+     */
+    private <V> Uni<V> loadThrough(String localKey, Uni<V> remoteGet, LoaderTracker tracker) {
+        long version = localVersion.get();
+        return remoteGet.invoke(new Consumer<V>() {
+            @Override
+            public void accept(V value) {
+                if (tracker != null ? !tracker.invoked : value != null) {
+                    remoteHits.increment();
+                } else {
+                    remoteMisses.increment();
+                }
+                if (value != null) {
+                    putLocal(version, localKey, value);
+                }
+            }
+        });
+    }
+
+    /**
+     * Stores a value loaded from Redis unless a local entry was invalidated since {@code version} was read.
+     */
+    private void putLocal(long version, String localKey, Object value) {
+        if (version == localVersion.get()) {
+            local.put(localKey, value);
+            if (version != localVersion.get()) {
+                // Invalidated in the meantime
+                local.invalidate(localKey);
+            }
+        }
+    }
+
+    private abstract static class LoaderTracker {
+
+        volatile boolean invoked;
+
+    }
+
+    private static class TrackingLoader<K, V> extends LoaderTracker implements Function<K, V> {
+
+        private final Function<K, V> delegate;
+
+        TrackingLoader(Function<K, V> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public V apply(K key) {
+            invoked = true;
+            return delegate.apply(key);
+        }
+    }
+
+    private static class TrackingAsyncLoader<K, V> extends LoaderTracker implements Function<K, Uni<V>> {
+
+        private final Function<K, Uni<V>> delegate;
+
+        TrackingAsyncLoader(Function<K, Uni<V>> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Uni<V> apply(K key) {
+            invoked = true;
+            return delegate.apply(key);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.redis.datasource.pubsub.ReactiveRedisSubscriber;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisAPI;
+
+/**
+ * Broadcasts the invalidations of the local caches of {@link RedisNearCacheImpl} to the other nodes using Redis pub/sub.
+ * <p>
+ * A message consists of the identifier of the sending node, the cache name and the key separated by a line feed. If the
+ * key is missing then all the entries of the cache are invalidated. The messages sent by this node are ignored.
+ */
+class RedisNearCacheInvalidations {
+
+    private static final Logger log = Logger.getLogger(RedisNearCacheInvalidations.class);
+
+    private static final char SEPARATOR = '\n';
+
+    static final long RESUBSCRIBE_DELAY_MILLIS = 5_000;
+
+    private final Vertx vertx;
+    private final String origin;
+    private final ReactivePubSubCommands<String> pubSub;
+    private final Map<String, RedisNearCacheImpl> caches;
+    private final AtomicBoolean resubscribing;
+
+    RedisNearCacheInvalidations(Vertx vertx, Redis redis) {
+        this.vertx = vertx;
+        this.origin = UUID.randomUUID().toString();
+        this.pubSub = new ReactiveRedisDataSourceImpl(vertx, redis, RedisAPI.api(redis)).pubsub(String.class);
+        this.caches = new ConcurrentHashMap<>();
+        this.resubscribing = new AtomicBoolean();
+    }
+
+    void register(RedisNearCacheImpl cache) {
+        caches.put(cache.getName(), cache);
+    }
+
+    /**
+     * Subscribes to the invalidation channels of all registered caches. The subscription is asynchronous.
+     * <p>
+     * The invalidations published while this node is not subscribed are lost, so the local entries of all registered
+     * caches are discarded whenever the subscription is (re)established. If the subscription fails or the connection
+     * is closed, another attempt is made after {@link #RESUBSCRIBE_DELAY_MILLIS}.
+     */
+    void subscribe() {
+        if (caches.isEmpty()) {
+            return;
+        }
+        ArrayList<String> channels = new ArrayList<>();
+        for (RedisNearCacheImpl cache : caches.values()) {
+            if (!channels.contains(cache.getInvalidationChannel())) {
+                channels.add(cache.getInvalidationChannel());
+            }
+        }
+        subscribe(channels);
+    }
+
+    private void subscribe(List<String> channels) {
+        pubSub.subscribe(channels, new Consumer<String>() {
+            @Override
+            public void accept(String message) {
+                onMessage(message);
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                log.warnf("The subscription to the near cache invalidation channels %s ended", channels);
+                resubscribe(channels);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                log.warnf(failure, "The subscription to the near cache invalidation channels %s failed", channels);
+                resubscribe(channels);
+            }
+        }).subscribe().with(new Consumer<ReactiveRedisSubscriber>() {
+            @Override
+            public void accept(ReactiveRedisSubscriber subscriber) {
+                log.debugf("Subscribed to the near cache invalidation channels %s", channels);
+                invalidateAllLocal();
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                log.warnf(failure, "Unable to subscribe to the near cache invalidation channels %s", channels);
+                resubscribe(channels);
+            }
+        });
+    }
+
+    private void resubscribe(List<String> channels) {
+        // The end and failure of a subscription may both be reported
+        if (!resubscribing.compareAndSet(false, true)) {
+            return;
+        }
+        // The local entries can no longer be kept up to date
+        invalidateAllLocal();
+        vertx.setTimer(RESUBSCRIBE_DELAY_MILLIS, new Consumer<Long>() {
+            @Override
+            public void accept(Long ignored) {
+                resubscribing.set(false);
+                subscribe(channels);
+            }
+        });
+    }
+
+    private void invalidateAllLocal() {
+        for (RedisNearCacheImpl cache : caches.values()) {
+            cache.invalidateAllLocal();
+        }
+    }
+
+    /**
+     * @param channel the channel
+     * @param cacheName the name of the cache
+     * @param key the actual Redis key, or {@code null} if all the entries were invalidated
+     * @return the result of the publication, a failure is logged and never propagated
+     */
+    Uni<Void> publish(String channel, String cacheName, String key) {
+        StringBuilder message = new StringBuilder(origin).append(SEPARATOR).append(cacheName);
+        if (key != null) {
+            message.append(SEPARATOR).append(key);
+        }
+        return pubSub.publish(channel, message.toString())
+                .onFailure().recoverWithUni(new Function<Throwable, Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> apply(Throwable failure) {
+                        log.warnf(failure, "Unable to publish the invalidation of cache [%s] to channel [%s]", cacheName,
+                                channel);
+                        return Uni.createFrom().voidItem();
+                    }
+                });
+    }
+
+    void onMessage(String message) {
+        String[] parts = message.split(String.valueOf(SEPARATOR), 3);
+        if (parts.length < 2 || origin.equals(parts[0])) {
+            return;
+        }
+        RedisNearCacheImpl cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (parts.length == 3) {
+            cache.invalidateLocal(parts[2]);
+        } else {
+            cache.invalidateAllLocal();
+        }
+    }
+}
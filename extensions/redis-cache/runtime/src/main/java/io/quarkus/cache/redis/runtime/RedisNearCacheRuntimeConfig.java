@@ -0,0 +1,44 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+
+@ConfigGroup
+public interface RedisNearCacheRuntimeConfig {
+
+    /**
+     * Whether a local in-memory cache should be kept in front of Redis. Entries read from or written to Redis are
+     * also stored locally so that subsequent reads on the same node do not require a round trip to Redis.
+     * Invalidations are broadcast to the other nodes using Redis pub/sub.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> enabled();
+
+    /**
+     * The maximum number of entries the local cache may contain. Default is {@code 10000}.
+     */
+    OptionalLong maximumSize();
+
+    /**
+     * Specifies that each entry should be automatically removed from the local cache once a fixed duration has elapsed
+     * after the entry's creation, or the most recent replacement of its value. This bounds the time a node may serve
+     * a stale value if an invalidation message is lost.
+     * Default is the {@code expire-after-write} of the Redis cache; the near cache cannot be enabled if neither is set.
+     */
+    Optional<Duration> expireAfterWrite();
+
+    /**
+     * The Redis pub/sub channel used to broadcast the invalidations of the local caches.
+     * Default is {@code cache:invalidations}.
+     */
+    Optional<String> invalidationChannel();
+
+    /**
+     * Whether the hits and misses of the local cache and of Redis should be recorded if the application depends on
+     * a Micrometer extension. Default is {@code false}.
+     */
+    Optional<Boolean> metricsEnabled();
+}
@@ -28,6 +28,7 @@
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonView;
 
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -367,11 +368,33 @@ boolean isIgnoredField() {
             return annotations.get(JsonIgnore.class.getName()) != null;
         }
 
+        boolean hasJsonView() {
+            return annotations.get(JsonView.class.getName()) != null;
+        }
+
+        /**
+         * @return the views declared by {@code @JsonView} on this property, or else on the class declaring it, or
+         *         {@code null} if there are none
+         */
+        Type[] jsonViews() {
+            AnnotationInstance jsonView = annotations.get(JsonView.class.getName());
+            if (jsonView == null) {
+                ClassInfo declaringClass = fieldInfo != null ? fieldInfo.declaringClass()
+                        : methodInfo != null ? methodInfo.declaringClass() : null;
+                jsonView = declaringClass != null ? declaringClass.declaredAnnotation(JsonView.class) : null;
+            }
+            if (jsonView == null || jsonView.value() == null) {
+                return null;
+            }
+            return jsonView.value().asClassArray();
+        }
+
         private static boolean isUnknownAnnotation(String ann) {
             if (ann.startsWith("com.fasterxml.jackson.")) {
                 return !ann.equals(JsonProperty.class.getName()) &&
                         !ann.equals(JsonIgnore.class.getName()) &&
-                        !ann.equals(JsonCreator.class.getName());
+                        !ann.equals(JsonCreator.class.getName()) &&
+                        !ann.equals(JsonView.class.getName());
             }
             return false;
         }
@@ -357,7 +357,8 @@ private boolean deserializeFieldSpecs(DeserializationData deserData, ResultHandl
             if (fieldSpecs.isIgnoredField()) {
                 return true;
             }
-            if (fieldSpecs.hasUnknownAnnotation()) {
+            if (fieldSpecs.hasUnknownAnnotation() || fieldSpecs.hasJsonView()) {
+                // views are only supported when serializing
                 return false;
             }
             strSwitch.caseOf(fieldSpecs.jsonName,
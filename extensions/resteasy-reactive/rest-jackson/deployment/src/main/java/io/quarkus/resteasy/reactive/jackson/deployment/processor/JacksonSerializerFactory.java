@@ -17,6 +17,7 @@
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 import org.jboss.jandex.VoidType;
 
 import com.fasterxml.jackson.annotation.JsonValue;
@@ -98,7 +99,7 @@
  *         if (JacksonMapperUtil.includeSecureField(address_ROLES_ALLOWED)) {
  *             var2.writeFieldName(SerializedStrings$quarkusjacksonserializer.address);
  *             Address var9 = var4.getAddress();
- *             var2.writePOJO(var9);
+ *             var3.defaultSerializeValue(var9, var2);
  *         }
  *         var2.writeEndObject();
  *     }
@@ -279,7 +280,7 @@ private boolean serializeFields(ClassInfo classInfo, ClassCreator classCreator,
                 if (fieldSpecs.hasUnknownAnnotation()) {
                     return false;
                 }
-                writeField(classInfo, fieldSpecs, writeFieldBranch(classCreator, serialize, fieldSpecs), ctx);
+                writeField(classInfo, classCreator, fieldSpecs, writeFieldBranch(classCreator, serialize, fieldSpecs), ctx);
             }
         }
         return true;
@@ -296,7 +297,7 @@ private boolean serializeMethods(ClassInfo classInfo, ClassCreator classCreator,
                 if (fieldSpecs.hasUnknownAnnotation()) {
                     return false;
                 }
-                writeField(classInfo, fieldSpecs, serialize, ctx);
+                writeField(classInfo, classCreator, fieldSpecs, serialize, ctx);
             }
         }
         return true;
@@ -323,10 +324,12 @@ private boolean isGetterMethod(MethodInfo methodInfo) {
                 && (methodName.startsWith("get") || methodName.startsWith("is"));
     }
 
-    private void writeField(ClassInfo classInfo, FieldSpecs fieldSpecs, BytecodeCreator bytecode, SerializationContext ctx) {
+    private void writeField(ClassInfo classInfo, ClassCreator classCreator, FieldSpecs fieldSpecs, BytecodeCreator bytecode,
+            SerializationContext ctx) {
         String pkgName = classInfo.name().packagePrefixName().toString();
         generatedFields.computeIfAbsent(pkgName, pkg -> new HashSet<>()).add(fieldSpecs.jsonName);
 
+        bytecode = checkJsonView(classCreator, fieldSpecs, bytecode, ctx);
         ResultHandle arg = fieldSpecs.toValueReaderHandle(bytecode, ctx.valueHandle);
         bytecode = checkInclude(bytecode, ctx, arg);
 
@@ -357,12 +360,40 @@ private void writeFieldValue(FieldSpecs fieldSpecs, BytecodeCreator bytecode, Se
                 writeFieldName(fieldSpecs, bytecode, ctx.jsonGenerator, pkgName);
             }
 
-            MethodDescriptor writeMethod = MethodDescriptor.ofMethod(JSON_GEN_CLASS_NAME, "writePOJO",
-                    void.class, Object.class);
-            bytecode.invokeVirtualMethod(writeMethod, ctx.jsonGenerator, arg);
+            // going through the provider, instead of JsonGenerator.writePOJO, reuses the current serialization context
+            // (including the active view) rather than creating a new one for each nested value
+            MethodDescriptor writeMethod = MethodDescriptor.ofMethod(SerializerProvider.class, "defaultSerializeValue",
+                    void.class, Object.class, JsonGenerator.class);
+            bytecode.invokeVirtualMethod(writeMethod, ctx.serializerProvider, arg, ctx.jsonGenerator);
         }
     }
 
+    private static BytecodeCreator checkJsonView(ClassCreator classCreator, FieldSpecs fieldSpecs, BytecodeCreator bytecode,
+            SerializationContext ctx) {
+        Type[] views = fieldSpecs.jsonViews();
+        if (views == null) {
+            // properties without a view are only written if the default view inclusion is enabled
+            return bytecode.ifTrue(ctx.defaultViewIncluded).trueBranch();
+        }
+
+        MethodCreator clinit = classCreator.getMethodCreator("<clinit>", void.class).setModifiers(ACC_STATIC);
+        ResultHandle viewsArray = clinit.newArray(Class.class, views.length);
+        for (int i = 0; i < views.length; ++i) {
+            clinit.writeArrayValue(viewsArray, clinit.load(i), clinit.loadClass(views[i].name().toString()));
+        }
+
+        FieldCreator fieldCreator = classCreator
+                .getFieldCreator(fieldSpecs.fieldName + "_JSON_VIEWS", Class[].class.getName())
+                .setModifiers(ACC_STATIC | ACC_FINAL);
+        clinit.writeStaticField(fieldCreator.getFieldDescriptor(), viewsArray);
+
+        ResultHandle viewsArrayReader = bytecode.readStaticField(fieldCreator.getFieldDescriptor());
+        MethodDescriptor includeView = MethodDescriptor.ofMethod(JacksonMapperUtil.class, "includeView",
+                boolean.class, SerializerProvider.class, Class[].class);
+        ResultHandle included = bytecode.invokeStaticMethod(includeView, ctx.serializerProvider, viewsArrayReader);
+        return bytecode.ifTrue(included).trueBranch();
+    }
+
     private static BytecodeCreator checkInclude(BytecodeCreator bytecode, SerializationContext ctx, ResultHandle arg) {
         MethodDescriptor shouldSerialize = MethodDescriptor.ofMethod(JacksonMapperUtil.SerializationInclude.class,
                 "shouldSerialize",
@@ -450,10 +481,10 @@ private void throwExceptionForEmptyBean(String beanClassName, MethodCreator seri
     }
 
     private record SerializationContext(ResultHandle valueHandle, ResultHandle jsonGenerator, ResultHandle serializerProvider,
-            ResultHandle includeHandle) {
+            ResultHandle includeHandle, ResultHandle defaultViewIncluded) {
         SerializationContext(MethodCreator serialize, String beanClassName) {
             this(valueHandle(serialize, beanClassName), serialize.getMethodParam(1), serialize.getMethodParam(2),
-                    includeHandle(serialize));
+                    includeHandle(serialize), defaultViewIncluded(serialize));
         }
 
         private static ResultHandle valueHandle(MethodCreator serialize, String beanClassName) {
@@ -465,5 +496,11 @@ private static ResultHandle includeHandle(MethodCreator serialize) {
                     JacksonMapperUtil.SerializationInclude.class, Object.class, SerializerProvider.class);
             return serialize.invokeStaticMethod(decodeInclude, serialize.getMethodParam(0), serialize.getMethodParam(2));
         }
+
+        private static ResultHandle defaultViewIncluded(MethodCreator serialize) {
+            MethodDescriptor includeDefaultView = MethodDescriptor.ofMethod(JacksonMapperUtil.class, "includeDefaultView",
+                    boolean.class, SerializerProvider.class);
+            return serialize.invokeStaticMethod(includeDefaultView, serialize.getMethodParam(2));
+        }
     }
 }
\ No newline at end of file
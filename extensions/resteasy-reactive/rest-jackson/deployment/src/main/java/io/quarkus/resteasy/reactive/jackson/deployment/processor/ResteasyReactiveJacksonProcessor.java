@@ -20,7 +20,6 @@
 import java.util.function.Supplier;
 
 import jakarta.inject.Singleton;
-import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.RuntimeType;
 import jakarta.ws.rs.core.Cookie;
@@ -36,6 +35,8 @@
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.model.MethodParameter;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
 import org.jboss.resteasy.reactive.server.util.MethodId;
@@ -411,12 +412,15 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
                 serializedClasses.put(effectiveReturnClassInfo.name().toString(), effectiveReturnClassInfo);
             }
 
-            if (methodInfo.hasAnnotation(POST.class)) {
-                for (Type paramType : methodInfo.parameterTypes()) {
-                    ClassInfo effectiveParamClassInfo = getEffectiveClassInfo(paramType, indexView);
-                    if (effectiveParamClassInfo != null) {
-                        deserializedClasses.put(effectiveParamClassInfo.name().toString(), effectiveParamClassInfo);
-                    }
+            // the request body can be sent with any HTTP method, not only POST
+            MethodParameter[] parameters = entry.getResourceMethod().getParameters();
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i].getParameterType() != ParameterType.BODY) {
+                    continue;
+                }
+                ClassInfo effectiveParamClassInfo = getEffectiveClassInfo(methodInfo.parameterType(i), indexView);
+                if (effectiveParamClassInfo != null) {
+                    deserializedClasses.put(effectiveParamClassInfo.name().toString(), effectiveParamClassInfo);
                 }
             }
         }
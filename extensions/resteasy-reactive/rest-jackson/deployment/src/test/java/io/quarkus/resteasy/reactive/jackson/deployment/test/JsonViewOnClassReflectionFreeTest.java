@@ -0,0 +1,51 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import java.util.function.Supplier;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+class JsonViewOnClassReflectionFreeTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(User.class, Views.class, JsonViewOnClassTest.Public.class,
+                                    JsonViewOnClassTest.Private.class, JsonViewOnClassTest.Mixed.class)
+                            .addAsResource(
+                                    new StringAsset(
+                                            "quarkus.rest.jackson.optimization.enable-reflection-free-serializers=true\n"),
+                                    "application.properties");
+                }
+            });
+
+    @Test
+    void test() {
+        given().accept("application/json").get("public")
+                .then()
+                .statusCode(200)
+                .body(not(containsString("1")), containsString("test"));
+
+        given().accept("application/json").get("mixed")
+                .then()
+                .statusCode(200)
+                .body(containsString("1"), containsString("test"));
+
+        given().accept("application/json").get("private")
+                .then()
+                .statusCode(200)
+                .body(containsString("1"), containsString("test"));
+    }
+}
@@ -10,6 +10,7 @@
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializerProvider;
 
@@ -49,6 +50,23 @@ public static boolean includeSecureField(String[] rolesAllowed) {
         return false;
     }
 
+    public static boolean includeView(SerializerProvider provider, Class<?>[] views) {
+        Class<?> activeView = provider.getActiveView();
+        if (activeView == null) {
+            return true;
+        }
+        for (Class<?> view : views) {
+            if (view.isAssignableFrom(activeView)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean includeDefaultView(SerializerProvider provider) {
+        return provider.getActiveView() == null || provider.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION);
+    }
+
     /**
      * Determine the root type that should be used for serialization of generic types.
      * Returns the appropriate root type or {@code null} if default serialization should be used.
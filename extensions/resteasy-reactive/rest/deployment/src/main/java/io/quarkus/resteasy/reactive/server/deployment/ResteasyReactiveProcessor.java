@@ -223,6 +223,7 @@
 import io.quarkus.vertx.http.deployment.EagerSecurityInterceptorMethodsBuildItem;
 import io.quarkus.vertx.http.deployment.FilterBuildItem;
 import io.quarkus.vertx.http.deployment.HttpSecurityUtils;
+import io.quarkus.vertx.http.deployment.NonApplicationRootPathBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
 import io.quarkus.vertx.http.runtime.RouteConstants;
 import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
@@ -1528,7 +1529,8 @@ public void setupDeployment(BeanContainerBuildItem beanContainerBuildItem,
                 .setResourceClasses(resourceClasses)
                 .setDevelopmentMode(launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT)
                 .setLocatableResourceClasses(subResourceClasses)
-                .setParamConverterProviders(paramConverterProviders);
+                .setParamConverterProviders(paramConverterProviders)
+                .setEndpointProfiling(serverConfig.profiling().enabled());
         quarkusRestDeploymentInfoBuildItemBuildProducer
                 .produce(new ResteasyReactiveDeploymentInfoBuildItem(deploymentInfo));
 
@@ -1577,6 +1579,20 @@ public void setupDeployment(BeanContainerBuildItem beanContainerBuildItem,
             // so that user can define failure handlers that precede exception mappers
             filterBuildItemBuildProducer.produce(FilterBuildItem.ofAuthenticationFailureHandler(failureHandler));
 
+            if (serverConfig.batch().path().isPresent()) {
+                // runs before the routes of the deployment, which would otherwise match the batch path
+                String batchPath = serverConfig.batch().path().get();
+                batchPath = deploymentPath.endsWith("/")
+                        ? deploymentPath + (batchPath.startsWith("/") ? batchPath.substring(1) : batchPath)
+                        : deploymentPath + (batchPath.startsWith("/") ? batchPath : "/" + batchPath);
+                routes.produce(RouteBuildItem.builder()
+                        .orderedRoute(batchPath, order - 1)
+                        .handler(recorder.batchHandler(restInitialHandler, serverConfig.batch().maxRequests(),
+                                serverConfig.batch().timeout().toMillis(),
+                                serverConfig.batch().maxResponseBodySize().asLongValue()))
+                        .build());
+            }
+
             // Exact match for resources matched to the root path
             routes.produce(RouteBuildItem.builder()
                     .orderedRoute(deploymentPath, order).handler(handler).build());
@@ -1637,6 +1653,24 @@ public FilterBuildItem addDefaultAuthFailureHandler(ResteasyReactiveRecorder rec
                 SecurityHandlerPriorities.AUTHENTICATION - 1);
     }
 
+    @BuildStep
+    @Record(value = ExecutionTime.RUNTIME_INIT)
+    public void endpointProfiles(ResteasyReactiveRecorder recorder, ResteasyReactiveServerConfig serverConfig,
+            Optional<ResteasyReactiveDeploymentBuildItem> deployment,
+            NonApplicationRootPathBuildItem nonApplicationRootPath,
+            BuildProducer<RouteBuildItem> routes) {
+        if (!serverConfig.profiling().enabled() || deployment.isEmpty()) {
+            return;
+        }
+        routes.produce(nonApplicationRootPath.routeBuilder()
+                .management()
+                .route(serverConfig.profiling().path())
+                .routeConfigKey("quarkus.rest.profiling.path")
+                .handler(recorder.endpointProfilesHandler(deployment.get().getDeployment()))
+                .displayOnNotFoundPage("REST endpoint profiles")
+                .build());
+    }
+
     private void checkForDuplicateEndpoint(ResteasyReactiveConfig config, Map<String, List<EndpointConfig>> allMethods) {
         String message = allMethods.values().stream()
                 .map(this::getDuplicateEndpointMessage)
@@ -1715,6 +1749,17 @@ private org.jboss.resteasy.reactive.common.ResteasyReactiveConfig createRestReac
                 config.defaultProduces());
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    public void serverResponseCacheProvider(ResteasyReactiveRecorder recorder, Capabilities capabilities,
+            Optional<ResteasyReactiveDeploymentBuildItem> deployment) {
+        if (deployment.isEmpty() || !capabilities.isPresent(Capability.CACHE)) {
+            // @ServerCached responses are then kept in memory by each resource method
+            return;
+        }
+        recorder.serverResponseCacheProvider(deployment.get().getDeployment());
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     public void runtimeConfiguration(ResteasyReactiveRuntimeRecorder recorder,
@@ -1725,6 +1770,7 @@ public void runtimeConfiguration(ResteasyReactiveRuntimeRecorder recorder,
         }
         producer.produce(new HandlerConfigurationProviderBuildItem(RuntimeConfiguration.class,
                 recorder.runtimeConfiguration(deployment.get().getDeployment())));
+        recorder.credentialCookies(deployment.get().getDeployment());
     }
 
     @BuildStep
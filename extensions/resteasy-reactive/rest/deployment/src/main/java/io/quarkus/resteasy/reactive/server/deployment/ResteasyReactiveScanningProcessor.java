@@ -34,6 +34,7 @@
 import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
 import org.jboss.resteasy.reactive.common.processor.scanning.ApplicationScanningResult;
 import org.jboss.resteasy.reactive.common.processor.scanning.ResteasyReactiveInterceptorScanner;
+import org.jboss.resteasy.reactive.server.ServerCached;
 import org.jboss.resteasy.reactive.server.UnwrapException;
 import org.jboss.resteasy.reactive.server.core.ExceptionMapping;
 import org.jboss.resteasy.reactive.server.model.ContextResolvers;
@@ -45,6 +46,7 @@
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveContextResolverScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveExceptionMappingScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveFeatureScanner;
+import org.jboss.resteasy.reactive.server.processor.scanning.ServerCachedScanner;
 
 import io.quarkus.arc.ArcUndeclaredThrowableException;
 import io.quarkus.arc.Unremovable;
@@ -54,6 +56,7 @@
 import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
 import io.quarkus.arc.deployment.LookupConditionsProcessor;
 import io.quarkus.arc.processor.DotNames;
+import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -104,6 +107,29 @@ public MethodScannerBuildItem cacheControlSupport() {
         return new MethodScannerBuildItem(new CacheControlScanner());
     }
 
+    @BuildStep
+    public MethodScannerBuildItem serverCachedSupport() {
+        return new MethodScannerBuildItem(new ServerCachedScanner());
+    }
+
+    @BuildStep
+    void serverCachedCaches(Capabilities capabilities, CombinedIndexBuildItem combinedIndexBuildItem,
+            BuildProducer<AdditionalCacheNameBuildItem> cacheNames) {
+        if (!capabilities.isPresent(Capability.CACHE)) {
+            // responses are then kept in memory by each resource method
+            return;
+        }
+        Set<String> names = new HashSet<>();
+        for (AnnotationInstance instance : combinedIndexBuildItem.getIndex()
+                .getAnnotations(ServerCachedScanner.SERVER_CACHED)) {
+            AnnotationValue cacheName = instance.value("cacheName");
+            names.add(cacheName == null ? ServerCached.DEFAULT_CACHE_NAME : cacheName.asString());
+        }
+        for (String name : names) {
+            cacheNames.produce(new AdditionalCacheNameBuildItem(name));
+        }
+    }
+
     @BuildStep
     public MethodScannerBuildItem compressionSupport(VertxHttpBuildTimeConfig httpBuildTimeConfig) {
         return new MethodScannerBuildItem(new CompressionScanner(httpBuildTimeConfig));
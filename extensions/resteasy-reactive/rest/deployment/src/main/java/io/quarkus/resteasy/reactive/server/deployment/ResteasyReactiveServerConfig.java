@@ -1,10 +1,13 @@
 package io.quarkus.resteasy.reactive.server.deployment;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 
 @ConfigMapping(prefix = "quarkus.rest")
 @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
@@ -18,4 +21,64 @@ public interface ResteasyReactiveServerConfig {
      * This value is always resolved relative to {@code quarkus.http.root-path}.
      */
     Optional<String> path();
+
+    /**
+     * Batching of requests
+     */
+    Batch batch();
+
+    interface Batch {
+
+        /**
+         * The path of the endpoint that accepts batches of requests, relative to the application path.
+         * <p>
+         * A batch is a {@code POST} of a JSON array of requests, each with a {@code method}, a {@code path}, and
+         * optionally {@code headers} and a {@code body}, which are processed as if they had been sent on their own.
+         * The response is a JSON array of their responses. Batching is disabled when this is not set.
+         */
+        Optional<String> path();
+
+        /**
+         * The maximum number of requests in a batch.
+         */
+        @WithDefault("20")
+        int maxRequests();
+
+        /**
+         * How long each request of a batch may take once it has started, after which it gets a {@code 504} response.
+         */
+        @WithDefault("30s")
+        Duration timeout();
+
+        /**
+         * The maximum size of the response body of each request of a batch, which is buffered until the whole batch
+         * completes. A request whose response is larger gets a {@code 502} response instead.
+         */
+        @WithDefault("10M")
+        MemorySize maxResponseBodySize();
+    }
+
+    /**
+     * Latency profiling of the endpoints
+     */
+    Profiling profiling();
+
+    interface Profiling {
+
+        /**
+         * Whether the latency of every endpoint is recorded, along with the kind of thread it ran on and how long it
+         * waited for one. The profiles are served as JSON on the management interface, or under the non-application
+         * root path if it is disabled.
+         * <p>
+         * Endpoints annotated with {@code @AdaptiveDispatch} are always profiled, as they rely on it.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The path the endpoint profiles are served on, relative to the non-application root path.
+         */
+        @WithDefault("rest-profile")
+        String path();
+    }
 }
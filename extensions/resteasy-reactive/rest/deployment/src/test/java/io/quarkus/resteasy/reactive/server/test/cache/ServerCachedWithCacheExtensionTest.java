@@ -0,0 +1,76 @@
+package io.quarkus.resteasy.reactive.server.test.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.jboss.resteasy.reactive.server.ServerCached;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class ServerCachedWithCacheExtensionTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedResource.class));
+
+    @Inject
+    @CacheName(ServerCached.DEFAULT_CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testResponsesAreStoredInTheCacheExtension() {
+        int before = CachedResource.COUNTER.get();
+        RestAssured.get("/cached").then().statusCode(200).body(equalTo("cached"));
+        RestAssured.get("/cached").then().statusCode(200).body(equalTo("cached"));
+        assertThat(CachedResource.COUNTER.get()).isEqualTo(before + 1);
+        assertThat(cache.as(CaffeineCache.class).keySet()).isNotEmpty();
+
+        cache.invalidateAll().await().indefinitely();
+        RestAssured.get("/cached").then().statusCode(200).body(equalTo("cached"));
+        assertThat(CachedResource.COUNTER.get()).isEqualTo(before + 2);
+    }
+
+    @Test
+    public void testRequestsWithCredentialsAreNotCached() {
+        int before = CachedResource.COUNTER.get();
+        RestAssured.given().header("Authorization", "Bearer token").get("/cached").then().statusCode(200);
+        RestAssured.given().header("Authorization", "Bearer token").get("/cached").then().statusCode(200);
+        assertThat(CachedResource.COUNTER.get()).isEqualTo(before + 2);
+
+        // the identity behind session cookies is not resolved yet without proactive authentication
+        RestAssured.given().cookie("quarkus-credential", "session").get("/cached").then().statusCode(200);
+        RestAssured.given().cookie("quarkus-credential", "session").get("/cached").then().statusCode(200);
+        RestAssured.given().cookie("q_session_tenant", "session").get("/cached").then().statusCode(200);
+        assertThat(CachedResource.COUNTER.get()).isEqualTo(before + 5);
+
+        // other cookies don't matter
+        RestAssured.given().cookie("theme", "dark").get("/cached").then().statusCode(200);
+        RestAssured.given().cookie("theme", "dark").get("/cached").then().statusCode(200);
+        assertThat(CachedResource.COUNTER.get()).isLessThanOrEqualTo(before + 6);
+    }
+
+    @Path("/cached")
+    public static class CachedResource {
+
+        static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @ServerCached(ttl = 60)
+        @GET
+        public String get() {
+            COUNTER.incrementAndGet();
+            return "cached";
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.quarkus.resteasy.reactive.server.test.security;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.security.test.utils.TestIdentityController;
+import io.quarkus.security.test.utils.TestIdentityProvider;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class BatchHttpPermissionTest {
+
+    private static final String PROPERTIES = "quarkus.rest.batch.path=/batch\n" +
+            "quarkus.http.auth.basic=true\n" +
+            "quarkus.http.auth.policy.admin-policy.roles-allowed=admin\n" +
+            "quarkus.http.auth.permission.admin.paths=/admin/*\n" +
+            "quarkus.http.auth.permission.admin.policy=admin-policy\n" +
+            "quarkus.http.auth.permission.denied.paths=/denied\n" +
+            "quarkus.http.auth.permission.denied.policy=deny\n" +
+            "quarkus.http.auth.permission.jax-rs.paths=/jax-rs\n" +
+            "quarkus.http.auth.permission.jax-rs.policy=admin-policy\n" +
+            "quarkus.http.auth.permission.jax-rs.applies-to=JAXRS\n";
+
+    private static final String BATCH = """
+            [
+              { "path": "/public" },
+              { "path": "/admin/secret" },
+              { "path": "//admin/./secret" },
+              { "path": "/denied" },
+              { "path": "/jax-rs" }
+            ]
+            """;
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestIdentityProvider.class, TestIdentityController.class, PublicResource.class,
+                            AdminResource.class, DeniedResource.class, JaxRsResource.class)
+                    .addAsResource(new StringAsset(PROPERTIES), "application.properties"));
+
+    @BeforeAll
+    public static void setup() {
+        TestIdentityController.resetRoles()
+                .add("admin", "admin", "admin")
+                .add("user", "user", "user");
+    }
+
+    @Test
+    public void testDeniedPathsStayDeniedForAnonymousUser() {
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BATCH)
+                .post("/batch")
+                .then()
+                .statusCode(200)
+                .body("status", contains(200, 401, 401, 401, 401));
+    }
+
+    @Test
+    public void testDeniedPathsStayDeniedForUserWithoutRole() {
+        RestAssured.given()
+                .auth().preemptive().basic("user", "user")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BATCH)
+                .post("/batch")
+                .then()
+                .statusCode(200)
+                .body("status", contains(200, 403, 403, 403, 403));
+    }
+
+    @Test
+    public void testAllowedPathsForUserWithRole() {
+        RestAssured.given()
+                .auth().preemptive().basic("admin", "admin")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BATCH)
+                .post("/batch")
+                .then()
+                .statusCode(200)
+                .body("status", contains(200, 200, 200, 403, 200))
+                .body("[1].body", equalTo("secret"))
+                .body("[4].body", equalTo("jax-rs"));
+    }
+
+    @Path("/public")
+    public static class PublicResource {
+
+        @GET
+        public String get() {
+            return "public";
+        }
+    }
+
+    @Path("/admin/secret")
+    public static class AdminResource {
+
+        @GET
+        public String get() {
+            return "secret";
+        }
+    }
+
+    @Path("/denied")
+    public static class DeniedResource {
+
+        @GET
+        public String get() {
+            return "denied";
+        }
+    }
+
+    @Path("/jax-rs")
+    public static class JaxRsResource {
+
+        @GET
+        public String get() {
+            return "jax-rs";
+        }
+    }
+}
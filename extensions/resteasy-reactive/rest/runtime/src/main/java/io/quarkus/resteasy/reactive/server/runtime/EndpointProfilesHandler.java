@@ -0,0 +1,66 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.profiling.EndpointProfile;
+import org.jboss.resteasy.reactive.server.core.profiling.LatencyHistogram;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the latency profiles of the endpoints as JSON, durations are in microseconds.
+ */
+public class EndpointProfilesHandler implements Handler<RoutingContext> {
+
+    private final Deployment deployment;
+
+    public EndpointProfilesHandler(Deployment deployment) {
+        this.deployment = deployment;
+    }
+
+    @Override
+    public void handle(RoutingContext event) {
+        JsonArray profiles = new JsonArray();
+        for (EndpointProfile profile : deployment.getEndpointProfiles()) {
+            JsonObject dispatches = new JsonObject();
+            for (EndpointProfile.Dispatch dispatch : EndpointProfile.Dispatch.values()) {
+                dispatches.put(dispatch.name(), profile.getDispatches(dispatch));
+            }
+            JsonObject json = new JsonObject()
+                    .put("method", profile.getHttpMethod())
+                    .put("path", profile.getPath())
+                    .put("class", profile.getClassName())
+                    .put("javaMethod", profile.getMethodName())
+                    .put("serviceTime", toJson(profile.getServiceTime()))
+                    .put("queueTime", toJson(profile.getQueueTime()))
+                    .put("dispatches", dispatches);
+            if (profile.isAdaptive()) {
+                json.put("preferredDispatch", profile.getPreferredDispatch().name())
+                        .put("switches", profile.getSwitches());
+            }
+            profiles.add(json);
+        }
+        event.response()
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .end(profiles.toBuffer());
+    }
+
+    private static JsonObject toJson(LatencyHistogram histogram) {
+        return new JsonObject()
+                .put("count", histogram.getCount())
+                .put("mean", micros(histogram.getMeanNanos()))
+                .put("p50", micros(histogram.getPercentileNanos(50)))
+                .put("p90", micros(histogram.getPercentileNanos(90)))
+                .put("p99", micros(histogram.getPercentileNanos(99)))
+                .put("max", micros(histogram.getMaxNanos()));
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,70 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
+import org.jboss.resteasy.reactive.server.vertx.ResteasyReactiveVertxBatchHandler;
+import org.jboss.resteasy.reactive.server.vertx.VertxBatchedRequest;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.vertx.http.runtime.security.HttpAuthorizer;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy;
+import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.impl.HttpUtils;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Applies the HTTP permissions ({@code quarkus.http.auth.permission}) matching the path of each request of a batch,
+ * which the batch request was not checked against, with the identity the batch request was authenticated with.
+ */
+public class QuarkusBatchHandler extends ResteasyReactiveVertxBatchHandler {
+
+    private final InjectableInstance<HttpAuthorizer> httpAuthorizerInstance;
+    private HttpAuthorizer httpAuthorizer;
+
+    public QuarkusBatchHandler(RestInitialHandler initialHandler, RequestContextFactory requestContextFactory,
+            int maxRequests, long timeoutMillis, long maxResponseBodySize) {
+        super(initialHandler, requestContextFactory, maxRequests, timeoutMillis, maxResponseBodySize);
+        this.httpAuthorizerInstance = Arc.container().select(HttpAuthorizer.class);
+    }
+
+    @Override
+    protected CompletionStage<Integer> authorize(RoutingContext event, VertxBatchedRequest request) {
+        HttpAuthorizer httpAuthorizer = httpAuthorizer();
+        if (httpAuthorizer == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return httpAuthorizer.checkPermission(event, HttpUtils.normalizePath(request.getPath()), request.getMethod())
+                .flatMap(new Function<HttpSecurityPolicy.CheckResult, Uni<? extends Integer>>() {
+                    @Override
+                    public Uni<? extends Integer> apply(HttpSecurityPolicy.CheckResult checkResult) {
+                        if (checkResult.isPermitted()) {
+                            return Uni.createFrom().nullItem();
+                        }
+                        return QuarkusHttpUser.getSecurityIdentity(event, null)
+                                .map(new Function<SecurityIdentity, Integer>() {
+                                    @Override
+                                    public Integer apply(SecurityIdentity identity) {
+                                        // no challenge can be sent for a single request of a batch
+                                        return identity == null || identity.isAnonymous() ? 401 : 403;
+                                    }
+                                });
+                    }
+                })
+                .subscribeAsCompletionStage();
+    }
+
+    private HttpAuthorizer httpAuthorizer() {
+        // resolved on first use, as the handler is created during static init
+        if (httpAuthorizer == null && httpAuthorizerInstance.isResolvable()) {
+            httpAuthorizer = httpAuthorizerInstance.get();
+        }
+        return httpAuthorizer;
+    }
+}
@@ -0,0 +1,54 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import jakarta.ws.rs.core.SecurityContext;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.server.vertx.VertxBatchedRequest;
+import org.jboss.resteasy.reactive.server.vertx.VertxBatchedRequestContext;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+import io.quarkus.security.identity.CurrentIdentityAssociation;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
+
+/**
+ * The context of a request of a batch, which runs with the identity the batch request was authenticated with.
+ */
+public class QuarkusBatchedRequestContext extends VertxBatchedRequestContext {
+
+    final CurrentIdentityAssociation association;
+    boolean userSetup = false;
+
+    public QuarkusBatchedRequestContext(Deployment deployment, VertxBatchedRequest batchedRequest,
+            ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain,
+            CurrentIdentityAssociation currentIdentityAssociation) {
+        super(deployment, batchedRequest, requestContext, handlerChain, abortHandlerChain);
+        this.association = currentIdentityAssociation;
+    }
+
+    @Override
+    protected void handleRequestScopeActivation() {
+        super.handleRequestScopeActivation();
+        if (!userSetup && association != null) {
+            userSetup = true;
+            QuarkusHttpUser existing = (QuarkusHttpUser) context.user();
+            if (existing != null) {
+                SecurityIdentity identity = existing.getSecurityIdentity();
+                association.setIdentity(identity);
+            } else {
+                association.setIdentity(QuarkusHttpUser.getSecurityIdentity(context, null));
+            }
+        }
+    }
+
+    @Override
+    protected void requestScopeDeactivated() {
+        // each request of the batch runs on its own duplicated context, see QuarkusResteasyReactiveRequestContext
+    }
+
+    @Override
+    protected SecurityContext createSecurityContext() {
+        return new ResteasyReactiveSecurityContext(context);
+    }
+}
@@ -48,6 +48,7 @@
 import org.jboss.resteasy.reactive.server.util.RuntimeResourceVisitor;
 import org.jboss.resteasy.reactive.server.util.ScoreSystem;
 import org.jboss.resteasy.reactive.server.vertx.ResteasyReactiveVertxHandler;
+import org.jboss.resteasy.reactive.server.vertx.VertxBatchedRequest;
 import org.jboss.resteasy.reactive.spi.BeanFactory;
 import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
 
@@ -57,6 +58,7 @@
 import io.quarkus.resteasy.reactive.common.runtime.ArcBeanFactory;
 import io.quarkus.resteasy.reactive.common.runtime.ArcThreadSetupAction;
 import io.quarkus.resteasy.reactive.common.runtime.ResteasyReactiveCommonRecorder;
+import io.quarkus.resteasy.reactive.server.runtime.cache.QuarkusServerResponseCacheProvider;
 import io.quarkus.resteasy.reactive.server.runtime.observability.ObservabilityIntegrationRecorder;
 import io.quarkus.runtime.BlockingOperationControl;
 import io.quarkus.runtime.ExecutorRecorder;
@@ -198,6 +200,31 @@ public void accept(RoutingContext routingContext) {
         return new ResteasyReactiveVertxHandler(eventCustomizer, initialHandler);
     }
 
+    public Handler<RoutingContext> batchHandler(RuntimeValue<RestInitialHandler> restInitialHandlerRuntimeValue,
+            int maxRequests, long timeoutMillis, long maxResponseBodySize) {
+        CurrentIdentityAssociation currentIdentityAssociation = Arc.container().select(CurrentIdentityAssociation.class)
+                .orNull();
+        RequestContextFactory contextFactory = new RequestContextFactory() {
+            @Override
+            public ResteasyReactiveRequestContext createContext(Deployment deployment,
+                    Object context, ThreadSetupAction requestContext,
+                    ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+                return new QuarkusBatchedRequestContext(deployment, (VertxBatchedRequest) context, requestContext,
+                        handlerChain, abortHandlerChain, currentIdentityAssociation);
+            }
+        };
+        return new QuarkusBatchHandler(restInitialHandlerRuntimeValue.getValue(), contextFactory, maxRequests,
+                timeoutMillis, maxResponseBodySize);
+    }
+
+    public void serverResponseCacheProvider(RuntimeValue<Deployment> deployment) {
+        deployment.getValue().setServerResponseCacheProvider(new QuarkusServerResponseCacheProvider());
+    }
+
+    public Handler<RoutingContext> endpointProfilesHandler(RuntimeValue<Deployment> deployment) {
+        return new EndpointProfilesHandler(deployment.getValue());
+    }
+
     public Handler<RoutingContext> failureHandler(RuntimeValue<RestInitialHandler> restInitialHandlerRuntimeValue,
             boolean noCustomAuthCompletionExMapper, boolean noCustomAuthFailureExMapper, boolean noCustomAuthRedirectExMapper,
             boolean proactive) {
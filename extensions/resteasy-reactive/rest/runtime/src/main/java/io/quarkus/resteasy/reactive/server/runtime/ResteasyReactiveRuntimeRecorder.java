@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.reactive.server.runtime;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalLong;
@@ -55,6 +56,12 @@ public RuntimeConfiguration get() {
         };
     }
 
+    public void credentialCookies(RuntimeValue<Deployment> deployment) {
+        List<String> credentialCookies = new ArrayList<>(runtimeConfig.getValue().serverCached().credentialCookies());
+        credentialCookies.add(httpRuntimeConfig.getValue().auth().form().cookieName());
+        deployment.getValue().setCredentialCookies(credentialCookies);
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes", "ForLoopReplaceableByForEach" })
     public void configureHandlers(RuntimeValue<Deployment> deployment, Map<Class<?>, Supplier<?>> runtimeConfigMap) {
         List<GenericRuntimeConfigurableServerRestHandler<?>> runtimeConfigurableServerRestHandlers = deployment.getValue()
@@ -1,6 +1,7 @@
 package io.quarkus.resteasy.reactive.server.runtime;
 
 import java.nio.charset.Charset;
+import java.util.List;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,6 +17,11 @@ public interface ResteasyReactiveServerRuntimeConfig {
      */
     MultipartConfigGroup multipart();
 
+    /**
+     * Server side response cache configuration.
+     */
+    ServerCachedConfigGroup serverCached();
+
     interface MultipartConfigGroup {
 
         /**
@@ -32,4 +38,15 @@ interface InputPartConfigGroup {
         @WithDefault("UTF-8")
         Charset defaultCharset();
     }
+
+    interface ServerCachedConfigGroup {
+
+        /**
+         * The cookies that carry the credentials of the caller, in addition to the form authentication cookie.
+         * Requests with one of these cookies, or with a cookie whose name starts with one of them followed by {@code _},
+         * are neither answered from nor stored in the cache of {@code @ServerCached} resource methods.
+         */
+        @WithDefault("q_session")
+        List<String> credentialCookies();
+    }
 }
@@ -0,0 +1,52 @@
+package io.quarkus.resteasy.reactive.server.runtime.cache;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.jboss.resteasy.reactive.server.spi.CachedServerResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerResponseCache;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Backs {@code @ServerCached} resource methods with the caches of the {@code quarkus-cache} extension, so that they can
+ * be configured like any other cache.
+ */
+public class QuarkusServerResponseCacheProvider implements ServerResponseCache.Provider {
+
+    @Override
+    public ServerResponseCache getCache(String name) {
+        InstanceHandle<CacheManager> cacheManager = Arc.container().instance(CacheManager.class);
+        if (!cacheManager.isAvailable()) {
+            return null;
+        }
+        Optional<Cache> cache = cacheManager.get().getCache(name);
+        return cache.isPresent() ? new QuarkusServerResponseCache(cache.get()) : null;
+    }
+
+    private static class QuarkusServerResponseCache implements ServerResponseCache {
+
+        private final Cache cache;
+
+        QuarkusServerResponseCache(Cache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public CompletionStage<CachedServerResponse> getValue(String key,
+                Function<String, CompletionStage<CachedServerResponse>> loader) {
+            return cache.<String, CachedServerResponse> getAsync(key, k -> Uni.createFrom().completionStage(loader.apply(k)))
+                    .subscribeAsCompletionStage();
+        }
+
+        @Override
+        public CompletionStage<Void> invalidate(String key) {
+            return cache.invalidate(key).subscribeAsCompletionStage();
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.VertxBatchedRequestContext;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InjectableInstance;
@@ -95,9 +96,17 @@ Uni<SecurityIdentity> getPermissionCheck(ResteasyReactiveRequestContext requestC
         }
         record SecurityCheckWithIdentity(SecurityIdentity identity, HttpSecurityPolicy.CheckResult checkResult) {
         }
-        return jaxRsPathMatchingPolicy
-                .checkPermission(routingContext, identity == null ? getDeferredIdentity() : Uni.createFrom().item(identity),
-                        invokedMethodDesc)
+        final Uni<SecurityIdentity> identityUni = identity == null ? getDeferredIdentity() : Uni.createFrom().item(identity);
+        final Uni<HttpSecurityPolicy.CheckResult> permissionCheck;
+        if (requestContext instanceof VertxBatchedRequestContext) {
+            // the routing context is the one of the whole batch, not of this request
+            permissionCheck = jaxRsPathMatchingPolicy.checkPermission(routingContext,
+                    requestContext.serverRequest().getRequestNormalisedPath(),
+                    requestContext.serverRequest().getRequestMethod(), identityUni, invokedMethodDesc);
+        } else {
+            permissionCheck = jaxRsPathMatchingPolicy.checkPermission(routingContext, identityUni, invokedMethodDesc);
+        }
+        return permissionCheck
                 .flatMap(new Function<HttpSecurityPolicy.CheckResult, Uni<? extends SecurityCheckWithIdentity>>() {
                     @Override
                     public Uni<SecurityCheckWithIdentity> apply(HttpSecurityPolicy.CheckResult checkResult) {
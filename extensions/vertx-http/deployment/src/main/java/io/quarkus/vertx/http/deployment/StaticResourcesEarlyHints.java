@@ -0,0 +1,90 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Collects the {@code Link} headers of the {@code 103 Early Hints} response of a static HTML page, from the
+ * stylesheets and scripts it references.
+ */
+final class StaticResourcesEarlyHints {
+
+    private static final Pattern COMMENT = Pattern.compile("<!--.*?-->", Pattern.DOTALL);
+    private static final Pattern TAG = Pattern.compile("<(link|script)\\b([^>]*)>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ATTRIBUTE = Pattern.compile(
+            "([a-zA-Z-]+)\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s\"'>]+))");
+
+    private StaticResourcesEarlyHints() {
+    }
+
+    /**
+     * @param path the path of the page, e.g. {@code /docs/index.html}
+     * @param html the content of the page
+     * @return the values of the {@code Link} headers to send before the page, possibly empty
+     */
+    static List<String> collect(String path, String html) {
+        Set<String> links = new LinkedHashSet<>();
+        URI base = URI.create(path);
+        Matcher tag = TAG.matcher(COMMENT.matcher(html).replaceAll(""));
+        while (tag.find()) {
+            String rel = null;
+            String href = null;
+            String as = null;
+            String type = null;
+            Matcher attribute = ATTRIBUTE.matcher(tag.group(2));
+            while (attribute.find()) {
+                String value = attribute.group(2) != null ? attribute.group(2)
+                        : attribute.group(3) != null ? attribute.group(3) : attribute.group(4);
+                switch (attribute.group(1).toLowerCase(Locale.ROOT)) {
+                    case "rel" -> rel = value.trim().toLowerCase(Locale.ROOT);
+                    case "href", "src" -> href = value.trim();
+                    case "as" -> as = value.trim();
+                    case "type" -> type = value.trim().toLowerCase(Locale.ROOT);
+                }
+            }
+            String target = resolve(base, href);
+            if (target == null) {
+                continue;
+            }
+            if (tag.group(1).equalsIgnoreCase("script")) {
+                if ("module".equals(type)) {
+                    links.add("<" + target + ">; rel=modulepreload");
+                } else {
+                    links.add("<" + target + ">; rel=preload; as=script");
+                }
+            } else if ("stylesheet".equals(rel)) {
+                links.add("<" + target + ">; rel=preload; as=style");
+            } else if ("modulepreload".equals(rel)) {
+                links.add("<" + target + ">; rel=modulepreload");
+            } else if ("preload".equals(rel) && as != null) {
+                links.add("<" + target + ">; rel=preload; as=" + as);
+            }
+        }
+        return new ArrayList<>(links);
+    }
+
+    /**
+     * @return the absolute path of the given reference, or {@code null} if it is not on the same origin
+     */
+    private static String resolve(URI base, String href) {
+        if (href == null || href.isEmpty() || href.startsWith("//") || href.startsWith("#")) {
+            return null;
+        }
+        try {
+            URI uri = URI.create(href);
+            if (uri.getScheme() != null || uri.getRawAuthority() != null) {
+                return null;
+            }
+            return base.resolve(uri).toString();
+        } catch (IllegalArgumentException e) {
+            // not a valid URI, e.g. a template placeholder
+            return null;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import io.netty.handler.codec.compression.Brotli;
+
+/**
+ * Compresses the static resources when the application is built, so that they are not compressed on each request.
+ */
+final class StaticResourcesPrecompression {
+
+    static final int GZIP_MAX_LEVEL = 9;
+    static final int BROTLI_MAX_LEVEL = 11;
+
+    private StaticResourcesPrecompression() {
+    }
+
+    /**
+     * @return whether the brotli native library is available for the current platform
+     */
+    static boolean isBrotliAvailable() {
+        return Brotli.isAvailable();
+    }
+
+    /**
+     * @param level the compression level, or a negative value for the highest one
+     */
+    static byte[] gzip(byte[] content, int level) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output) {
+            {
+                def.setLevel(level < 0 ? GZIP_MAX_LEVEL : Math.min(level, GZIP_MAX_LEVEL));
+            }
+        }) {
+            gzip.write(content);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * @param level the compression level, or a negative value for the highest one
+     */
+    static byte[] brotli(byte[] content, int level) throws IOException {
+        return Encoder.compress(content,
+                new Encoder.Parameters().setQuality(level < 0 ? BROTLI_MAX_LEVEL : Math.min(level, BROTLI_MAX_LEVEL)));
+    }
+}
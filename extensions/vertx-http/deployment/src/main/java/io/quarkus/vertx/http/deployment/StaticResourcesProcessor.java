@@ -2,14 +2,20 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jboss.logging.Logger;
+
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
@@ -19,21 +25,28 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOGGER = Logger.getLogger(StaticResourcesProcessor.class);
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -63,10 +76,21 @@ void collectStaticResources(Capabilities capabilities,
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
-            CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
-            BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
+            CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer, VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            LaunchModeBuildItem launchMode, BuildProducer<DefaultRouteBuildItem> defaultRoutes,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            Map<String, List<String>> earlyHints = httpBuildTimeConfig.staticResourcesEarlyHints() ? getEarlyHints()
+                    : Map.of();
+            // the resources change frequently in dev mode
+            Map<String, List<String>> precompressed = httpBuildTimeConfig.staticResourcesPrecompression()
+                    && launchMode.getLaunchMode() != LaunchMode.DEVELOPMENT
+                            ? precompress(staticResources.get().getPaths(), httpBuildTimeConfig, generatedResources,
+                                    nativeImageResources)
+                            : Map.of();
+            defaultRoutes.produce(new DefaultRouteBuildItem(
+                    recorder.start(staticResources.get().getPaths(), earlyHints, precompressed)));
         }
     }
 
@@ -124,6 +148,116 @@ private Set<StaticResourcesBuildItem.Entry> getClasspathResources() {
         return knownPaths;
     }
 
+    /**
+     * Collect the early hints of the HTML pages that are available from classpath.
+     *
+     * @return the values of the {@code Link} headers of each page, by path
+     */
+    private Map<String, List<String>> getEarlyHints() {
+        Map<String, List<String>> earlyHints = new HashMap<>();
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        visitRuntimeMetaInfResources(visit -> {
+            Path visitPath = visit.getPath();
+            String rel = visit.getRelativePath();
+            if (rel.startsWith(prefix) && (rel.endsWith(".html") || rel.endsWith(".htm"))
+                    && !Files.isDirectory(visitPath)) {
+                String subPath = rel.substring(prefix.length());
+                try {
+                    List<String> links = StaticResourcesEarlyHints.collect(subPath, Files.readString(visitPath));
+                    if (!links.isEmpty()) {
+                        earlyHints.putIfAbsent(subPath, links);
+                    }
+                } catch (IOException | UncheckedIOException e) {
+                    // not worth failing the build for, the page is still served
+                    LOGGER.debugf(e, "Unable to collect the early hints of %s", subPath);
+                }
+            }
+        });
+        return earlyHints;
+    }
+
+    /**
+     * Compress the static resources of a compressed media type that are available from classpath, unless the compressed
+     * variants are provided.
+     *
+     * @return the content encodings of the compressed variants of each resource, by path
+     */
+    private Map<String, List<String>> precompress(Set<String> knownPaths, VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) {
+        Set<String> mediaTypes = httpBuildTimeConfig.compressMediaTypes().isPresent()
+                ? Set.copyOf(httpBuildTimeConfig.compressMediaTypes().get())
+                : Set.of();
+        if (mediaTypes.isEmpty()) {
+            return Map.of();
+        }
+        boolean brotli = StaticResourcesPrecompression.isBrotliAvailable();
+        if (!brotli) {
+            LOGGER.debug("Brotli is not available for the current platform, static resources are only compressed with gzip");
+        }
+        long minSize = httpBuildTimeConfig.compressionMinSize().map(MemorySize::asLongValue).orElse(0L);
+        Map<String, Integer> levels = httpBuildTimeConfig.staticResourcesCompressionLevel();
+        Map<String, List<String>> precompressed = new HashMap<>();
+        Set<String> visited = new HashSet<>();
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        visitRuntimeMetaInfResources(visit -> {
+            Path visitPath = visit.getPath();
+            String rel = visit.getRelativePath();
+            if (!rel.startsWith(prefix) || Files.isDirectory(visitPath)) {
+                return;
+            }
+            String subPath = rel.substring(prefix.length());
+            String mediaType = MimeMapping.getMimeTypeForFilename(subPath);
+            if (mediaType == null || !mediaTypes.contains(mediaType) || !visited.add(subPath)) {
+                return;
+            }
+            try {
+                byte[] content = Files.readAllBytes(visitPath);
+                if (content.length < minSize) {
+                    return;
+                }
+                int level = levels.getOrDefault(mediaType, -1);
+                // in the order of preference
+                List<String> encodings = new ArrayList<>(3);
+                if (knownPaths.contains(subPath + ".br")) {
+                    encodings.add("br");
+                } else if (brotli && produceVariant(subPath, ".br", content,
+                        StaticResourcesPrecompression.brotli(content, level), generatedResources, nativeImageResources)) {
+                    encodings.add("br");
+                }
+                if (knownPaths.contains(subPath + ".zst")) {
+                    encodings.add("zstd");
+                }
+                if (knownPaths.contains(subPath + ".gz")) {
+                    encodings.add("gzip");
+                } else if (produceVariant(subPath, ".gz", content, StaticResourcesPrecompression.gzip(content, level),
+                        generatedResources, nativeImageResources)) {
+                    encodings.add("gzip");
+                }
+                if (!encodings.isEmpty()) {
+                    precompressed.put(subPath, List.copyOf(encodings));
+                }
+            } catch (IOException | UncheckedIOException e) {
+                // not worth failing the build for, the resource is still served uncompressed
+                LOGGER.debugf(e, "Unable to compress %s", subPath);
+            }
+        });
+        return precompressed;
+    }
+
+    private static boolean produceVariant(String subPath, String extension, byte[] content, byte[] compressed,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) {
+        if (compressed.length >= content.length) {
+            // incompressible, e.g. an already minified small file
+            return false;
+        }
+        String name = StaticResourcesRecorder.META_INF_RESOURCES + subPath + extension;
+        generatedResources.produce(new GeneratedResourceBuildItem(name, compressed));
+        nativeImageResources.produce(new NativeImageResourceBuildItem(name));
+        return true;
+    }
+
     /**
      * Visits all {@code META-INF/resources} directories and their content found on the runtime classpath
      *
@@ -0,0 +1,74 @@
+package io.quarkus.vertx.http;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+
+public class StaticResourcesEarlyHintsTest {
+
+    private static final String PAGE = """
+            <html>
+            <head>
+              <link rel="stylesheet" href="css/app.css">
+              <link rel="icon" href="/favicon.ico">
+              <script type="module" src="/js/app.js"></script>
+              <script src="https://cdn.example.com/lib.js"></script>
+            </head>
+            </html>
+            """;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.static-resources-early-hints=true\n"), "application.properties")
+                    .addAsResource(new StringAsset(PAGE), "META-INF/resources/app/index.html")
+                    .addAsResource(new StringAsset("body {}"), "META-INF/resources/app/css/app.css"));
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource
+    URL url;
+
+    @Test
+    public void testEarlyHints() throws Exception {
+        Assertions.assertEquals(List.of("</app/css/app.css>; rel=preload; as=style", "</js/app.js>; rel=modulepreload"),
+                earlyHints("/app/index.html").getAll("Link"));
+        Assertions.assertEquals(List.of("</app/css/app.css>; rel=preload; as=style", "</js/app.js>; rel=modulepreload"),
+                earlyHints("/app/").getAll("Link"));
+        Assertions.assertNull(earlyHints("/app/css/app.css"));
+    }
+
+    private MultiMap earlyHints(String path) throws Exception {
+        HttpClient client = vertx.createHttpClient();
+        try {
+            CompletableFuture<MultiMap> hints = new CompletableFuture<>();
+            int status = client.request(new RequestOptions().setMethod(HttpMethod.GET)
+                    .setHost(url.getHost()).setPort(url.getPort()).setURI(path))
+                    .compose(request -> request.earlyHintsHandler(hints::complete).send())
+                    .compose(response -> response.body().map(ignored -> response.statusCode()))
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+            Assertions.assertEquals(200, status);
+            // early hints are written before the final response on the same connection
+            return hints.getNow(null);
+        } finally {
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.quarkus.vertx.http;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+
+public class StaticResourcesPrecompressionTest {
+
+    private static final String CSS = "body { color: red; }\n".repeat(100);
+    private static final String ZSTD_VARIANT = "not really zstd";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.static-resources-precompression=true\n"
+                            + "quarkus.http.compression-min-size=100\n"), "application.properties")
+                    .addAsResource(new StringAsset(CSS), "META-INF/resources/app.css")
+                    .addAsResource(new StringAsset("p {}"), "META-INF/resources/small.css")
+                    .addAsResource(new StringAsset(CSS), "META-INF/resources/app.html")
+                    .addAsResource(new StringAsset(ZSTD_VARIANT), "META-INF/resources/app.html.zst"));
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource
+    URL url;
+
+    @Test
+    public void testPrecompressedVariants() throws Exception {
+        Response gzip = get("/app.css", "gzip, deflate");
+        Assertions.assertEquals(200, gzip.statusCode);
+        Assertions.assertEquals("gzip", gzip.contentEncoding);
+        Assertions.assertEquals("Accept-Encoding", gzip.vary);
+        Assertions.assertTrue(gzip.contentType.startsWith("text/css"));
+        Assertions.assertTrue(gzip.body.length() < CSS.length());
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzip.body.getBytes()))) {
+            Assertions.assertEquals(CSS, new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // not accepted
+        Response identity = get("/app.css", "gzip;q=0");
+        Assertions.assertNull(identity.contentEncoding);
+        Assertions.assertEquals(CSS, identity.body.toString());
+        identity = get("/app.css", null);
+        Assertions.assertNull(identity.contentEncoding);
+        Assertions.assertEquals(CSS, identity.body.toString());
+
+        // below the minimum size
+        Response small = get("/small.css", "gzip");
+        Assertions.assertNull(small.contentEncoding);
+        Assertions.assertEquals("p {}", small.body.toString());
+
+        // the variant provided by the application is preferred
+        Response zstd = get("/app.html", "gzip, zstd");
+        Assertions.assertEquals("zstd", zstd.contentEncoding);
+        Assertions.assertEquals(ZSTD_VARIANT, zstd.body.toString());
+        Assertions.assertTrue(zstd.contentType.startsWith("text/html"));
+    }
+
+    @Test
+    public void testConditionalRequests() throws Exception {
+        Response gzip = get("/app.css", "gzip");
+        Assertions.assertEquals(200, gzip.statusCode);
+        Assertions.assertNotNull(gzip.etag);
+        Assertions.assertNotNull(gzip.lastModified);
+        Assertions.assertNotEquals(get("/app.css", null).etag, gzip.etag);
+
+        Response notModified = get("/app.css", "gzip", "If-None-Match", gzip.etag);
+        Assertions.assertEquals(304, notModified.statusCode);
+        Assertions.assertEquals(0, notModified.body.length());
+        notModified = get("/app.css", "gzip", "If-Modified-Since", gzip.lastModified);
+        Assertions.assertEquals(304, notModified.statusCode);
+
+        Response modified = get("/app.css", "gzip", "If-None-Match", "\"other\"");
+        Assertions.assertEquals(200, modified.statusCode);
+        Assertions.assertEquals("gzip", modified.contentEncoding);
+    }
+
+    private Response get(String path, String acceptEncoding, String... headers) throws Exception {
+        HttpClient client = vertx.createHttpClient();
+        try {
+            RequestOptions options = new RequestOptions().setMethod(HttpMethod.GET)
+                    .setAbsoluteURI(new URL(url, path).toString());
+            if (acceptEncoding != null) {
+                options.putHeader("Accept-Encoding", acceptEncoding);
+            }
+            for (int i = 0; i < headers.length; i += 2) {
+                options.putHeader(headers[i], headers[i + 1]);
+            }
+            return client.request(options)
+                    .compose(request -> request.send())
+                    .compose(response -> response.body().map(body -> new Response(response, body)))
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        } finally {
+            client.close();
+        }
+    }
+
+    private static final class Response {
+        final int statusCode;
+        final String contentEncoding;
+        final String contentType;
+        final String vary;
+        final String etag;
+        final String lastModified;
+        final Buffer body;
+
+        Response(HttpClientResponse response, Buffer body) {
+            this.statusCode = response.statusCode();
+            this.contentEncoding = response.getHeader("Content-Encoding");
+            this.contentType = response.getHeader("Content-Type");
+            this.vary = response.getHeader("Vary");
+            this.etag = response.getHeader("ETag");
+            this.lastModified = response.getHeader("Last-Modified");
+            this.body = body;
+        }
+    }
+}
@@ -3,16 +3,25 @@
 import static io.quarkus.vertx.http.runtime.RoutingUtils.*;
 
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.file.FileProps;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.FileSystemAccess;
@@ -39,7 +48,14 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    /**
+     * @param knownPaths the paths of the static resources
+     * @param earlyHints the values of the {@code Link} headers of the early hints, by path
+     * @param precompressed the content encodings of the compressed variants of the static resources, by path, in the
+     *        order of preference
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, List<String>> earlyHints,
+            Map<String, List<String>> precompressed) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -103,7 +119,16 @@ public void handle(RoutingContext ctx) {
                         return;
                     }
                     // check effective path, otherwise the index page when path ends with '/'
-                    if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                    String page = knownPaths.contains(rel) ? rel
+                            : rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)) ? rel.concat(indexPage) : null;
+                    if (page != null) {
+                        if (!earlyHints.isEmpty()) {
+                            writeEarlyHints(ctx, earlyHints.get(page));
+                        }
+                        if (!precompressed.isEmpty()
+                                && sendPrecompressed(ctx, page, precompressed.get(page), config)) {
+                            return;
+                        }
                         compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
@@ -131,4 +156,133 @@ public void accept(Route route) {
         };
     }
 
+    /**
+     * Sends the compressed variant of a static resource if the client accepts one of its encodings.
+     *
+     * @return {@code true} if the variant is sent, {@code false} if the resource should be sent as usual
+     */
+    private static boolean sendPrecompressed(RoutingContext ctx, String page, List<String> encodings,
+            StaticResourcesConfig config) {
+        if (encodings == null) {
+            return false;
+        }
+        HttpServerResponse response = ctx.response();
+        // Caches must not send a compressed variant to the clients which do not accept it
+        response.headers().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        // Ranges and HEAD requests are left to the static handler
+        if (ctx.request().method() != HttpMethod.GET || ctx.request().headers().contains(HttpHeaders.RANGE)) {
+            return false;
+        }
+        String encoding = negotiateEncoding(ctx.request().getHeader(HttpHeaders.ACCEPT_ENCODING), encodings);
+        if (encoding == null) {
+            return false;
+        }
+        String contentType = MimeMapping.getMimeTypeForFilename(page);
+        if (contentType != null) {
+            response.putHeader(HttpHeaders.CONTENT_TYPE,
+                    contentType.startsWith("text") ? contentType + ";charset=UTF-8" : contentType);
+        }
+        // Replaces the "Content-Encoding: identity" header, so the variant is not compressed again
+        response.putHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        String file = META_INF_RESOURCES + page + precompressedExtension(encoding);
+        if (!config.cachingEnabled()) {
+            response.sendFile(file).onFailure(ctx::fail);
+            return true;
+        }
+        ctx.vertx().fileSystem().props(file).onComplete(new Handler<AsyncResult<FileProps>>() {
+            @Override
+            public void handle(AsyncResult<FileProps> result) {
+                if (result.failed()) {
+                    ctx.fail(result.cause());
+                    return;
+                }
+                FileProps props = result.result();
+                response.putHeader(HttpHeaders.CACHE_CONTROL, "public, immutable, max-age=" + config.maxAge().toSeconds());
+                ctx.lastModified(Instant.ofEpochMilli(props.lastModifiedTime()));
+                // Each variant needs its own entity tag
+                ctx.etag("\"" + encoding + "-" + props.size() + "-" + props.lastModifiedTime() + "\"");
+                if (ctx.isFresh()) {
+                    response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+                } else {
+                    response.sendFile(file).onFailure(ctx::fail);
+                }
+            }
+        });
+        return true;
+    }
+
+    /**
+     * @return the file extension of the compressed variants with given content encoding
+     */
+    private static String precompressedExtension(String encoding) {
+        switch (encoding) {
+            case "br":
+                return ".br";
+            case "zstd":
+                return ".zst";
+            default:
+                return ".gz";
+        }
+    }
+
+    /**
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header, possibly {@code null}
+     * @param encodings the available encodings, in the order of preference
+     * @return the first available encoding accepted by the client, or {@code null} if none is accepted
+     */
+    static String negotiateEncoding(String acceptEncoding, List<String> encodings) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        for (String encoding : encodings) {
+            if (isAccepted(acceptEncoding, encoding)) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAccepted(String acceptEncoding, String encoding) {
+        boolean accepted = false;
+        for (String part : acceptEncoding.split(",")) {
+            int paramIndex = part.indexOf(';');
+            String name = (paramIndex > -1 ? part.substring(0, paramIndex) : part).trim();
+            boolean wildcard = name.equals("*");
+            if (!wildcard && !name.equalsIgnoreCase(encoding)) {
+                continue;
+            }
+            boolean acceptable = paramIndex < 0 || quality(part.substring(paramIndex + 1)) > 0;
+            if (!wildcard) {
+                // An explicit entry takes precedence over the wildcard
+                return acceptable;
+            }
+            accepted = acceptable;
+        }
+        return accepted;
+    }
+
+    private static double quality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static void writeEarlyHints(RoutingContext ctx, List<String> links) {
+        // HTTP/1.0 clients cannot tell an informational response from the final one
+        if (links == null || ctx.request().method() != HttpMethod.GET || ctx.request().version() == HttpVersion.HTTP_1_0
+                || ctx.response().headWritten()) {
+            return;
+        }
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        headers.add("Link", links);
+        ctx.response().writeEarlyHints(headers);
+    }
 }
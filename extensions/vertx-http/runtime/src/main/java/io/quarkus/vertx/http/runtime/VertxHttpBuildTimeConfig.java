@@ -2,11 +2,14 @@
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.configuration.NormalizeRootHttpPathConverter;
 import io.quarkus.vertx.http.Compressed;
 import io.quarkus.vertx.http.Uncompressed;
@@ -106,6 +109,9 @@ public interface VertxHttpBuildTimeConfig {
      * Server chooses the compression algorithm based on the client's capabilities and
      * marks it in a response header, e.g.:
      * content-encoding: gzip
+     * <p>
+     * If user adds zstd, then Zstandard will be added to the list of supported compression algorithms. It requires the
+     * {@code com.github.luben:zstd-jni} library, and is ignored if the library is not available.
      *
      */
     @WithDefault("gzip,deflate")
@@ -122,4 +128,41 @@ public interface VertxHttpBuildTimeConfig {
      * The compression level used when compression support is enabled.
      */
     OptionalInt compressionLevel();
+
+    /**
+     * The minimum size of a response body for the response to be compressed.
+     * Responses whose {@code Content-Length} is lower are sent uncompressed, as compressing them costs more CPU than
+     * it saves bandwidth. Responses without a {@code Content-Length} header are always compressed.
+     */
+    Optional<MemorySize> compressionMinSize();
+
+    /**
+     * If enabled, HTML pages served from {@code META-INF/resources} are preceded by a {@code 103 Early Hints}
+     * response that lets browsers preload the stylesheets and scripts they reference.
+     * <p>
+     * The references are collected from the pages when the application is built, and only those on the same origin
+     * are hinted.
+     */
+    @WithDefault("false")
+    boolean staticResourcesEarlyHints();
+
+    /**
+     * If enabled, the static resources from {@code META-INF/resources} whose media type is listed in
+     * {@link #compressMediaTypes} are compressed with gzip, and with brotli if it is available, when the application is
+     * built. The compressed variants are then sent to the clients which accept them, without compressing anything at
+     * runtime.
+     * <p>
+     * The variants provided by the application next to a resource, e.g. {@code app.js.gz}, {@code app.js.br} or
+     * {@code app.js.zst}, are used as is. This has no effect in dev mode.
+     */
+    @WithDefault("false")
+    boolean staticResourcesPrecompression();
+
+    /**
+     * The compression level used to compress the static resources of given media type when the application is built,
+     * for example {@code quarkus.http.static-resources-compression-level."text/html"=6}.
+     * By default, the highest level of each algorithm is used, i.e. 9 for gzip and 11 for brotli.
+     */
+    @ConfigDocMapKey("media-type")
+    Map<String, Integer> staticResourcesCompressionLevel();
 }
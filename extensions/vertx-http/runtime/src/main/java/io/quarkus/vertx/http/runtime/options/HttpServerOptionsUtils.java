@@ -22,6 +22,8 @@
 import io.netty.handler.codec.compression.DeflateOptions;
 import io.netty.handler.codec.compression.GzipOptions;
 import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdOptions;
 import io.quarkus.credentials.CredentialsProvider;
 import io.quarkus.credentials.runtime.CredentialsProviderFinder;
 import io.quarkus.runtime.LaunchMode;
@@ -305,6 +307,10 @@ public static void applyCommonOptions(
         if (httpBuildTimeConfig.compressionLevel().isPresent()) {
             httpServerOptions.setCompressionLevel(httpBuildTimeConfig.compressionLevel().getAsInt());
         }
+        if (httpBuildTimeConfig.compressionMinSize().isPresent()) {
+            httpServerOptions.setCompressionContentSizeThreshold(
+                    httpBuildTimeConfig.compressionMinSize().get().asBigInteger().intValueExact());
+        }
         httpServerOptions.setDecompressionSupported(httpBuildTimeConfig.enableDecompression());
         httpServerOptions.setMaxInitialLineLength(httpConfig.limits().maxInitialLineLength());
         httpServerOptions.setHandle100ContinueAutomatically(httpConfig.handle100ContinueAutomatically());
@@ -332,6 +338,18 @@ public static void applyCommonOptions(
                         o.parameters().setQuality(httpBuildTimeConfig.compressionLevel().getAsInt());
                     }
                     httpServerOptions.addCompressor(o);
+                } else if ("zstd".equalsIgnoreCase(compressor)) {
+                    if (!Zstd.isAvailable()) {
+                        Logger.getLogger(HttpServerOptionsUtils.class).warnf(
+                                "The zstd compressor is ignored as the com.github.luben:zstd-jni library is not available: %s",
+                                Zstd.cause());
+                        continue;
+                    }
+                    final ZstdOptions defaultOps = StandardCompressionOptions.zstd();
+                    // The default compression level for zstd as of Netty Codec 4.1 is 3, user can override:
+                    httpServerOptions.addCompressor(StandardCompressionOptions.zstd(
+                            httpBuildTimeConfig.compressionLevel().orElse(defaultOps.compressionLevel()),
+                            defaultOps.blockSize(), defaultOps.maxEncodeSize()));
                 } else {
                     Logger.getLogger(HttpServerOptionsUtils.class).errorf("Unknown compressor: %s", compressor);
                 }
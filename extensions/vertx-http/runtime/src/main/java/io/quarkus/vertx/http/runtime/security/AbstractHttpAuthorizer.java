@@ -8,6 +8,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import jakarta.enterprise.event.Event;
 import jakarta.enterprise.inject.spi.BeanManager;
@@ -68,6 +69,48 @@ public void checkPermission(RoutingContext routingContext) {
                 policies);
     }
 
+    /**
+     * Checks whether a request that is not sent on its own HTTP exchange, such as a request of a batch, is allowed to
+     * proceed with the identity of the given routing context. The path-matching rules are applied to the given path
+     * and method, while other policies only see the routing context. Unlike {@link #checkPermission(RoutingContext)},
+     * the routing context is neither continued nor failed.
+     *
+     * @param normalizedPath the normalized path of the request, including the root path
+     */
+    public Uni<HttpSecurityPolicy.CheckResult> checkPermission(RoutingContext routingContext, String normalizedPath,
+            String method) {
+        if (!controller.isAuthorizationEnabled()) {
+            return HttpSecurityPolicy.CheckResult.permit();
+        }
+        return doPermissionCheck(routingContext, normalizedPath, method,
+                QuarkusHttpUser.getSecurityIdentity(routingContext, identityProviderManager), 0);
+    }
+
+    private Uni<HttpSecurityPolicy.CheckResult> doPermissionCheck(RoutingContext routingContext, String normalizedPath,
+            String method, Uni<SecurityIdentity> identity, int index) {
+        if (index == policies.size()) {
+            return HttpSecurityPolicy.CheckResult.permit();
+        }
+        HttpSecurityPolicy policy = policies.get(index);
+        Uni<HttpSecurityPolicy.CheckResult> check;
+        if (policy instanceof AbstractPathMatchingHttpSecurityPolicy pathMatchingPolicy) {
+            check = pathMatchingPolicy.checkPermission(routingContext, normalizedPath, method, identity, context);
+        } else {
+            check = policy.checkPermission(routingContext, identity, context);
+        }
+        return check.flatMap(new Function<HttpSecurityPolicy.CheckResult, Uni<? extends HttpSecurityPolicy.CheckResult>>() {
+            @Override
+            public Uni<? extends HttpSecurityPolicy.CheckResult> apply(HttpSecurityPolicy.CheckResult checkResult) {
+                if (!checkResult.isPermitted()) {
+                    return Uni.createFrom().item(checkResult);
+                }
+                return doPermissionCheck(routingContext, normalizedPath, method,
+                        checkResult.getAugmentedIdentity() == null ? identity : checkResult.getAugmentedIdentityAsUni(),
+                        index + 1);
+            }
+        });
+    }
+
     private void doPermissionCheck(RoutingContext routingContext,
             Uni<SecurityIdentity> identity, int index,
             SecurityIdentity augmentedIdentity,
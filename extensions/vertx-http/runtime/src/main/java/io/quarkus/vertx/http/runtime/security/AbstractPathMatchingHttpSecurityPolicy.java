@@ -104,10 +104,28 @@ public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<Secur
         return checkPermissions(routingContext, identity, requestContext);
     }
 
+    /**
+     * Applies the policies matched by the given path and method rather than by those of the routing context, for
+     * requests that are not sent on their own HTTP exchange, such as the requests of a batch.
+     *
+     * @param normalizedPath the normalized path of the request, including the root path
+     */
+    public Uni<CheckResult> checkPermission(RoutingContext routingContext, String normalizedPath, String method,
+            Uni<SecurityIdentity> identity, AuthorizationRequestContext requestContext) {
+        return checkPermissions(routingContext, normalizedPath, method, identity, requestContext);
+    }
+
     Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext, HttpSecurityPolicy... additionalPolicies) {
+        return checkPermissions(routingContext, routingContext.normalizedPath(), routingContext.request().method().name(),
+                identity, requestContext, additionalPolicies);
+    }
+
+    Uni<CheckResult> checkPermissions(RoutingContext routingContext, String normalizedPath, String method,
+            Uni<SecurityIdentity> identity, AuthorizationRequestContext requestContext,
+            HttpSecurityPolicy... additionalPolicies) {
         final List<HttpSecurityPolicy> permissionCheckers = hasNoPermissions ? new ArrayList<>()
-                : getHttpSecurityPolicies(routingContext);
+                : getHttpSecurityPolicies(normalizedPath, method);
         if (additionalPolicies.length > 0) {
             if (additionalPolicies.length == 1) {
                 permissionCheckers.add(additionalPolicies[0]);
@@ -118,16 +136,16 @@ Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIde
         return doPermissionCheck(routingContext, identity, 0, null, permissionCheckers, requestContext);
     }
 
-    private List<HttpSecurityPolicy> getHttpSecurityPolicies(RoutingContext routingContext) {
+    private List<HttpSecurityPolicy> getHttpSecurityPolicies(String normalizedPath, String method) {
         final List<HttpSecurityPolicy> permissionCheckers;
         if (sharedPermissionsPathMatchers == null) {
-            permissionCheckers = findPermissionCheckers(routingContext, pathMatcher);
+            permissionCheckers = findPermissionCheckers(normalizedPath, method, pathMatcher);
         } else {
             permissionCheckers = new ArrayList<>();
             for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
-                permissionCheckers.addAll(findPermissionCheckers(routingContext, matcher));
+                permissionCheckers.addAll(findPermissionCheckers(normalizedPath, method, matcher));
             }
-            permissionCheckers.addAll(findPermissionCheckers(routingContext, pathMatcher));
+            permissionCheckers.addAll(findPermissionCheckers(normalizedPath, method, pathMatcher));
         }
         return permissionCheckers;
     }
@@ -175,7 +193,8 @@ public Uni<? extends CheckResult> apply(CheckResult checkResult) {
 
     private static AuthenticationMechanism getAuthMechanism(RoutingContext routingContext,
             ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        for (HttpMatcher i : findHttpMatchers(routingContext, pathMatcher)) {
+        for (HttpMatcher i : findHttpMatchers(routingContext.normalizedPath(), routingContext.request().method().name(),
+                pathMatcher)) {
             if (i.authMechanism != null) {
                 return i.authMechanism;
             }
@@ -205,18 +224,18 @@ private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> p
         }
     }
 
-    private static List<HttpSecurityPolicy> findPermissionCheckers(RoutingContext context,
+    private static List<HttpSecurityPolicy> findPermissionCheckers(String normalizedPath, String method,
             ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
         List<HttpSecurityPolicy> list = new ArrayList<>();
-        for (HttpMatcher httpMatcher : findHttpMatchers(context, pathMatcher)) {
+        for (HttpMatcher httpMatcher : findHttpMatchers(normalizedPath, method, pathMatcher)) {
             list.add(httpMatcher.checker);
         }
         return list;
     }
 
-    private static List<HttpMatcher> findHttpMatchers(RoutingContext context,
+    private static List<HttpMatcher> findHttpMatchers(String normalizedPath, String method,
             ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(context.normalizedPath());
+        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(normalizedPath);
         if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
             return List.of();
         }
@@ -225,7 +244,7 @@ private static List<HttpMatcher> findHttpMatchers(RoutingContext context,
         for (HttpMatcher i : toCheck.getValue()) {
             if (i.methods == null || i.methods.isEmpty()) {
                 noMethod.add(i);
-            } else if (i.methods.contains(context.request().method().toString())) {
+            } else if (i.methods.contains(method)) {
                 methodMatch.add(i);
             }
         }
@@ -103,6 +103,21 @@ public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<Secur
         }
     }
 
+    /**
+     * Applies {@link HttpSecurityPolicy} matched by path-matching rules for the given path and method rather than
+     * for those of the routing context, or by {@link io.quarkus.vertx.http.security.AuthorizationPolicy}.
+     */
+    public Uni<CheckResult> checkPermission(RoutingContext routingContext, String normalizedPath, String method,
+            Uni<SecurityIdentity> identity, MethodDescription description) {
+        var authorizationPolicy = findAuthorizationPolicy(description);
+        if (authorizationPolicy == null) {
+            return delegate.checkPermissions(routingContext, normalizedPath, method, identity, requestContext);
+        } else {
+            return delegate.checkPermissions(routingContext, normalizedPath, method, identity, requestContext,
+                    authorizationPolicy);
+        }
+    }
+
     private HttpSecurityPolicy findAuthorizationPolicy(MethodDescription description) {
         if (description != null) {
             var policyName = storage.getMethodToPolicyName().get(description);
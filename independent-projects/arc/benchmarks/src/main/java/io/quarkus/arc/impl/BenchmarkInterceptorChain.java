@@ -0,0 +1,135 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.InterceptionType;
+import jakarta.interceptor.InvocationContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.InjectableInterceptor;
+
+/**
+ * Measures an intercepted call through {@link InvocationContexts#performAroundInvoke(Object, Object[],
+ * InterceptedMethodMetadata)}, which is what a generated subclass does, for chains of various lengths.
+ * <p>
+ * With {@code contextData} every interceptor reads the context data, like interceptors looking up the bindings do.
+ * Run with {@code -prof gc} to see the allocations per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkInterceptorChain {
+
+    @Param({ "0", "1", "3", "5" })
+    public int interceptors;
+
+    @Param({ "false", "true" })
+    public boolean contextData;
+
+    private Target target;
+    private InterceptedMethodMetadata metadata;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        target = new Target();
+        List<InterceptorInvocation> chain = new ArrayList<>();
+        for (int i = 0; i < interceptors; i++) {
+            chain.add(InterceptorInvocation.aroundInvoke(new PassThroughInterceptor(contextData), null));
+        }
+        metadata = new InterceptedMethodMetadata(List.copyOf(chain), Target.class.getMethod("hello", String.class),
+                Set.of(), new BiFunction<Object, InvocationContext, Object>() {
+                    @Override
+                    public Object apply(Object target, InvocationContext ctx) {
+                        return ((Target) target).hello((String) ctx.getParameters()[0]);
+                    }
+                });
+    }
+
+    @Benchmark
+    public Object intercepted() throws Exception {
+        return InvocationContexts.performAroundInvoke(target, new Object[] { "world" }, metadata);
+    }
+
+    public static class Target {
+
+        public String hello(String name) {
+            return name;
+        }
+
+    }
+
+    static class PassThroughInterceptor implements InjectableInterceptor<Object> {
+
+        private final boolean contextData;
+
+        PassThroughInterceptor(boolean contextData) {
+            this.contextData = contextData;
+        }
+
+        @Override
+        public Object intercept(InterceptionType type, Object instance, InvocationContext ctx) throws Exception {
+            if (contextData && ctx.getContextData().isEmpty()) {
+                throw new IllegalStateException();
+            }
+            return ctx.proceed();
+        }
+
+        @Override
+        public boolean intercepts(InterceptionType type) {
+            return type == InterceptionType.AROUND_INVOKE;
+        }
+
+        @Override
+        public Set<Annotation> getInterceptorBindings() {
+            return Set.of();
+        }
+
+        @Override
+        public String getIdentifier() {
+            return PassThroughInterceptor.class.getName();
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(PassThroughInterceptor.class, Object.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return PassThroughInterceptor.class;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return this;
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return this;
+        }
+
+    }
+
+}
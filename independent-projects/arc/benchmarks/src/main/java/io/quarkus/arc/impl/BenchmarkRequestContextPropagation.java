@@ -0,0 +1,142 @@
+package io.quarkus.arc.impl;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+
+/**
+ * Measures the request context handling of a request that is propagated three times, e.g. from the event loop to a
+ * worker thread, then to a virtual thread and back to the event loop. Every hop captures the current state, makes it
+ * current on the target thread and restores the previous state afterwards, like the context propagation does. The hops
+ * are simulated on the benchmark thread so that the thread handoff does not dominate the results.
+ * <p>
+ * With {@code restore} the hops use {@link ManagedContext#restore(ContextState)}, otherwise
+ * {@link ManagedContext#activate(ContextState)} and {@link ManagedContext#deactivate()} are used. With {@code bean} a
+ * request scoped bean instance is obtained during the request. Run with {@code -prof gc} to see the allocations per
+ * request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkRequestContextPropagation {
+
+    private static final int HOPS = 3;
+
+    @Param({ "false", "true" })
+    public boolean restore;
+
+    @Param({ "false", "true" })
+    public boolean bean;
+
+    private RequestContext requestContext;
+    private InjectableBean<Object> requestScopedBean;
+    private Function<Contextual<Object>, CreationalContext<Object>> creationalContextFun;
+
+    @Setup
+    public void setup() {
+        requestContext = new RequestContext(new ThreadLocalCurrentContext<>(), null, null, null,
+                new Supplier<ContextInstances>() {
+                    @Override
+                    public ContextInstances get() {
+                        return new ComputingCacheContextInstances();
+                    }
+                });
+        requestScopedBean = new RequestScopedBean();
+        creationalContextFun = new Function<Contextual<Object>, CreationalContext<Object>>() {
+            @Override
+            public CreationalContext<Object> apply(Contextual<Object> contextual) {
+                return new CreationalContextImpl<>(contextual);
+            }
+        };
+    }
+
+    @Benchmark
+    public Object request() {
+        ContextState state = requestContext.activate();
+        Object result = null;
+        for (int i = 0; i < HOPS; i++) {
+            ContextState captured = requestContext.getStateIfActive();
+            // The target thread has no active request context
+            requestContext.deactivate();
+            if (restore) {
+                ContextState previous = requestContext.restore(captured);
+                result = hop(i);
+                requestContext.restore(previous);
+            } else {
+                requestContext.activate(captured.isValid() ? captured : null);
+                result = hop(i);
+                requestContext.deactivate();
+            }
+            // Back on the original thread
+            requestContext.activate(state);
+        }
+        requestContext.terminate();
+        return result;
+    }
+
+    private Object hop(int idx) {
+        if (bean && idx == 1) {
+            return requestContext.getIfActive(requestScopedBean, creationalContextFun);
+        }
+        return null;
+    }
+
+    static class RequestScopedBean implements InjectableBean<Object> {
+
+        @Override
+        public String getIdentifier() {
+            return RequestScopedBean.class.getName();
+        }
+
+        @Override
+        public Set<java.lang.reflect.Type> getTypes() {
+            return Set.of(RequestScopedBean.class, Object.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return RequestScopedBean.class;
+        }
+
+        @Override
+        public Class<? extends java.lang.annotation.Annotation> getScope() {
+            return RequestScoped.class;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return create(creationalContext);
+        }
+
+    }
+
+}
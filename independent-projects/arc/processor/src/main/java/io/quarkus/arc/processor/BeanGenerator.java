@@ -57,6 +57,7 @@
 import io.quarkus.arc.impl.CurrentInjectionPointProvider;
 import io.quarkus.arc.impl.DecoratorDelegateProvider;
 import io.quarkus.arc.impl.InitializedInterceptor;
+import io.quarkus.arc.impl.StartupProfiler;
 import io.quarkus.arc.impl.SyntheticCreationalContextImpl;
 import io.quarkus.arc.impl.SyntheticCreationalContextImpl.TypeAndQualifiers;
 import io.quarkus.arc.impl.UncaughtExceptions;
@@ -106,12 +107,22 @@ public class BeanGenerator extends AbstractGenerator {
     protected final Map<BeanInfo, String> beanToGeneratedBaseName;
     protected final Predicate<DotName> injectionPointAnnotationsPredicate;
     protected final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
+    protected final boolean startupProfiling;
 
     public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
             Set<String> existingClasses, Map<BeanInfo, String> beanToGeneratedName,
             Predicate<DotName> injectionPointAnnotationsPredicate,
             List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators) {
+        this(annotationLiterals, applicationClassPredicate, privateMembers, generateSources, reflectionRegistration,
+                existingClasses, beanToGeneratedName, injectionPointAnnotationsPredicate, suppressConditionGenerators, false);
+    }
+
+    public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
+            PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
+            Set<String> existingClasses, Map<BeanInfo, String> beanToGeneratedName,
+            Predicate<DotName> injectionPointAnnotationsPredicate,
+            List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators, boolean startupProfiling) {
         super(generateSources, reflectionRegistration);
         this.annotationLiterals = annotationLiterals;
         this.applicationClassPredicate = applicationClassPredicate;
@@ -120,6 +131,7 @@ public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<Do
         this.beanToGeneratedName = beanToGeneratedName;
         this.injectionPointAnnotationsPredicate = injectionPointAnnotationsPredicate;
         this.suppressConditionGenerators = suppressConditionGenerators;
+        this.startupProfiling = startupProfiling;
         this.beanToGeneratedBaseName = new HashMap<>();
     }
 
@@ -1065,8 +1077,32 @@ protected void implementCreate(ClassOutput classOutput, ClassCreator beanCreator
         MethodCreator create = beanCreator.getMethodCreator("create", providerType.descriptorName(), CreationalContext.class)
                 .setModifiers(ACC_PUBLIC);
         TryBlock tryBlock = create.tryBlock();
-        tryBlock.returnValue(
-                tryBlock.invokeSpecialMethod(doCreate.getMethodDescriptor(), tryBlock.getThis(), tryBlock.getMethodParam(0)));
+        if (startupProfiling) {
+            // Object profilerToken = StartupProfiler.begin();
+            // try {
+            //     Foo instance = doCreate(ctx);
+            //     StartupProfiler.end(profilerToken, "create", "org.acme.Foo");
+            //     return instance;
+            // } catch (Throwable e) {
+            //     StartupProfiler.end(profilerToken, "create", "org.acme.Foo");
+            //     throw e;
+            // }
+            ResultHandle profilerToken = tryBlock.invokeStaticMethod(MethodDescriptors.STARTUP_PROFILER_BEGIN);
+            TryBlock profiled = tryBlock.tryBlock();
+            ResultHandle instance = profiled.invokeSpecialMethod(doCreate.getMethodDescriptor(), profiled.getThis(),
+                    profiled.getMethodParam(0));
+            profiled.invokeStaticMethod(MethodDescriptors.STARTUP_PROFILER_END, profilerToken,
+                    profiled.load(StartupProfiler.CREATE), profiled.load(profilingDescription(bean)));
+            profiled.returnValue(instance);
+            CatchBlockCreator profiledCatch = profiled.addCatch(Throwable.class);
+            profiledCatch.invokeStaticMethod(MethodDescriptors.STARTUP_PROFILER_END, profilerToken,
+                    profiledCatch.load(StartupProfiler.CREATE), profiledCatch.load(profilingDescription(bean)));
+            profiledCatch.throwException(profiledCatch.getCaughtException());
+        } else {
+            ResultHandle instance = tryBlock.invokeSpecialMethod(doCreate.getMethodDescriptor(), tryBlock.getThis(),
+                    tryBlock.getMethodParam(0));
+            tryBlock.returnValue(instance);
+        }
         // `Reflections.newInstance()` throws `CreationException` on its own,
         // but that's handled like all other `RuntimeException`s
         // also ignore custom Throwables, they are virtually never used in practice
@@ -1934,10 +1970,32 @@ void implementCreateForClassBean(ClassOutput classOutput, ClassCreator beanCreat
         //     var2.myPostConstructCallback();
         //     return var2;
         // }
-        BytecodeCreator postConstructsBytecode = create;
+        BytecodeCreator postConstructsBlock = create;
 
         // PostConstruct lifecycle callback interceptors
         InterceptionInfo postConstructs = bean.getLifecycleInterceptors(InterceptionType.POST_CONSTRUCT);
+        List<MethodInfo> postConstructCallbacks = bean.isInterceptor() ? List.of()
+                : Beans.getCallbacks(bean.getTarget().get().asClass(), DotNames.POST_CONSTRUCT,
+                        bean.getDeployment().getBeanArchiveIndex());
+        ResultHandle profilerToken = null;
+        if (startupProfiling && (!postConstructs.isEmpty() || !postConstructCallbacks.isEmpty())) {
+            // Object profilerToken = StartupProfiler.begin();
+            // try {
+            //     ...
+            // } catch (Throwable e) {
+            //     StartupProfiler.end(profilerToken, "post-construct", "org.acme.Foo");
+            //     throw e;
+            // }
+            // StartupProfiler.end(profilerToken, "post-construct", "org.acme.Foo");
+            profilerToken = create.invokeStaticMethod(MethodDescriptors.STARTUP_PROFILER_BEGIN);
+            TryBlock profiled = create.tryBlock();
+            CatchBlockCreator profiledCatch = profiled.addCatch(Throwable.class);
+            profiledCatch.invokeStaticMethod(MethodDescriptors.STARTUP_PROFILER_END, profilerToken,
+                    profiledCatch.load(StartupProfiler.POST_CONSTRUCT), profiledCatch.load(profilingDescription(bean)));
+            profiledCatch.throwException(profiledCatch.getCaughtException());
+            postConstructsBlock = profiled;
+        }
+        BytecodeCreator postConstructsBytecode = postConstructsBlock;
         if (!postConstructs.isEmpty()) {
             // if there _is_ some `@PostConstruct` interceptor, however, we'll reify the chain of `@PostConstruct`
             // callbacks into a `Runnable` that we pass into the interceptor chain to be called
@@ -1953,27 +2011,27 @@ void implementCreateForClassBean(ClassOutput classOutput, ClassCreator beanCreat
             //     var12.proceed();
             //     return var7;
             // }
-            FunctionCreator postConstructForwarder = create.createFunction(Runnable.class);
+            FunctionCreator postConstructForwarder = postConstructsBlock.createFunction(Runnable.class);
             postConstructsBytecode = postConstructForwarder.getBytecode();
 
             // Interceptor bindings
-            ResultHandle bindingsArray = create.newArray(Object.class, postConstructs.bindings.size());
+            ResultHandle bindingsArray = postConstructsBlock.newArray(Object.class, postConstructs.bindings.size());
             int bindingsIndex = 0;
             for (AnnotationInstance binding : postConstructs.bindings) {
                 // Create annotation literals first
                 ClassInfo bindingClass = bean.getDeployment().getInterceptorBinding(binding.name());
-                create.writeArrayValue(bindingsArray, bindingsIndex++,
-                        annotationLiterals.create(create, bindingClass, binding));
+                postConstructsBlock.writeArrayValue(bindingsArray, bindingsIndex++,
+                        annotationLiterals.create(postConstructsBlock, bindingClass, binding));
 
             }
 
             // InvocationContextImpl.postConstruct(instance,postConstructs).proceed()
-            ResultHandle invocationContextHandle = create.invokeStaticMethod(
+            ResultHandle invocationContextHandle = postConstructsBlock.invokeStaticMethod(
                     MethodDescriptors.INVOCATION_CONTEXTS_POST_CONSTRUCT, instanceHandle,
-                    postConstructsHandle, create.invokeStaticMethod(MethodDescriptors.SETS_OF, bindingsArray),
+                    postConstructsHandle, postConstructsBlock.invokeStaticMethod(MethodDescriptors.SETS_OF, bindingsArray),
                     postConstructForwarder.getInstance());
 
-            TryBlock tryCatch = create.tryBlock();
+            TryBlock tryCatch = postConstructsBlock.tryBlock();
             CatchBlockCreator exceptionCatch = tryCatch.addCatch(Exception.class);
             exceptionCatch.ifFalse(exceptionCatch.instanceOf(exceptionCatch.getCaughtException(), RuntimeException.class))
                     .falseBranch().throwException(exceptionCatch.getCaughtException());
@@ -1987,9 +2045,6 @@ void implementCreateForClassBean(ClassOutput classOutput, ClassCreator beanCreat
         // PostConstruct callbacks
         // possibly wrapped into Runnable so that PostConstruct interceptors can proceed() correctly
         if (!bean.isInterceptor()) {
-            List<MethodInfo> postConstructCallbacks = Beans.getCallbacks(bean.getTarget().get().asClass(),
-                    DotNames.POST_CONSTRUCT, bean.getDeployment().getBeanArchiveIndex());
-
             for (MethodInfo callback : postConstructCallbacks) {
                 if (isReflectionFallbackNeeded(callback, targetPackage)) {
                     if (Modifier.isPrivate(callback.flags())) {
@@ -2008,10 +2063,14 @@ void implementCreateForClassBean(ClassOutput classOutput, ClassCreator beanCreat
                 }
             }
         }
-        if (postConstructsBytecode != create) {
+        if (postConstructsBytecode != postConstructsBlock) {
             // only if we're generating a `Runnable`, see above
             postConstructsBytecode.returnVoid();
         }
+        if (profilerToken != null) {
+            create.invokeStaticMethod(MethodDescriptors.STARTUP_PROFILER_END, profilerToken,
+                    create.load(StartupProfiler.POST_CONSTRUCT), create.load(profilingDescription(bean)));
+        }
 
         create.returnValue(instanceHandle);
     }
@@ -2453,6 +2512,24 @@ public static ResultHandle collectQualifiers(BeanDeployment beanDeployment, Meth
         return qualifiersHandle;
     }
 
+    /**
+     *
+     * @param bean
+     * @return a human-readable description used in the startup profiling report
+     */
+    static String profilingDescription(BeanInfo bean) {
+        if (bean.isProducerMethod()) {
+            MethodInfo method = bean.getTarget().get().asMethod();
+            return method.declaringClass().name() + "#" + method.name() + "()";
+        } else if (bean.isProducerField()) {
+            FieldInfo field = bean.getTarget().get().asField();
+            return field.declaringClass().name() + "#" + field.name();
+        } else if (bean.isSynthetic()) {
+            return bean.getBeanClass() + " (synthetic)";
+        }
+        return bean.getBeanClass().toString();
+    }
+
     static void destroyTransientReferences(BytecodeCreator bytecode, Iterable<TransientReference> transientReferences) {
         for (TransientReference transientReference : transientReferences) {
             bytecode.invokeStaticMethod(MethodDescriptors.INJECTABLE_REFERENCE_PROVIDERS_DESTROY, transientReference.provider,
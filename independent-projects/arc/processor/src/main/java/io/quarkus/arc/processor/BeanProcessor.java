@@ -86,6 +86,7 @@ public static Builder builder() {
     private final BeanDeployment beanDeployment;
     private final boolean generateSources;
     private final boolean allowMocking;
+    private final boolean startupProfiling;
     private final boolean transformUnproxyableClasses;
     private final Predicate<BeanDeployment> optimizeContexts;
     private final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
@@ -117,6 +118,7 @@ private BeanProcessor(Builder builder) {
                 applicationClassPredicate);
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
+        this.startupProfiling = builder.startupProfiling;
         this.optimizeContexts = builder.optimizeContexts;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
         this.suppressConditionGenerators = builder.suppressConditionGenerators;
@@ -216,7 +218,7 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
 
         BeanGenerator beanGenerator = new BeanGenerator(annotationLiterals, applicationClassPredicate, privateMembers,
                 generateSources, refReg, existingClasses, beanToGeneratedName,
-                injectionPointAnnotationsPredicate, suppressConditionGenerators);
+                injectionPointAnnotationsPredicate, suppressConditionGenerators, startupProfiling);
         Collection<BeanInfo> beans = beanDeployment.getBeans();
         for (BeanInfo bean : beans) {
             beanGenerator.precomputeGeneratedName(bean);
@@ -252,7 +254,7 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
 
         ObserverGenerator observerGenerator = new ObserverGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, refReg, existingClasses, observerToGeneratedName,
-                injectionPointAnnotationsPredicate, allowMocking);
+                injectionPointAnnotationsPredicate, allowMocking, startupProfiling);
         Collection<ObserverInfo> observers = beanDeployment.getObservers();
         for (ObserverInfo observer : observers) {
             observerGenerator.precomputeGeneratedName(observer);
@@ -642,6 +644,7 @@ public static class Builder {
         boolean transformPrivateInjectedFields;
         boolean failOnInterceptedPrivateMethod;
         boolean allowMocking;
+        boolean startupProfiling;
         boolean strictCompatibility;
         Predicate<BeanDeployment> optimizeContexts;
 
@@ -678,6 +681,7 @@ public Builder() {
             transformPrivateInjectedFields = false;
             failOnInterceptedPrivateMethod = false;
             allowMocking = false;
+            startupProfiling = false;
             strictCompatibility = false;
 
             excludeTypes = new ArrayList<>();
@@ -924,6 +928,19 @@ public Builder setStrictCompatibility(boolean strictCompatibility) {
             return this;
         }
 
+        /**
+         * If set to {@code true}, the generated beans and observers record the time spent in bean creation,
+         * {@code @PostConstruct} callbacks and observer notifications while the {@link io.quarkus.arc.impl.StartupProfiler}
+         * is recording.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setStartupProfiling(boolean value) {
+            this.startupProfiling = value;
+            return this;
+        }
+
         /**
          *
          * @param value
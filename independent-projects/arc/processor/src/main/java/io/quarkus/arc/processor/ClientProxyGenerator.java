@@ -26,6 +26,7 @@
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.Mockable;
 import io.quarkus.arc.processor.BeanGenerator.ProviderType;
 import io.quarkus.arc.processor.Methods.MethodKey;
@@ -55,6 +56,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String BEAN_FIELD = "bean";
     static final String MOCK_FIELD = "mock";
     static final String CONTEXT_FIELD = "context";
+    static final String DELEGATE_HANDLE_FIELD = "delegateHandle";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final boolean mockable;
@@ -147,6 +149,11 @@ Collection<Resource> generate(BeanInfo bean, String beanClassName,
             contextField = clientProxy.getFieldCreator(CONTEXT_FIELD, InjectableContext.class)
                     .setModifiers(ACC_PRIVATE | ACC_FINAL);
         }
+        if (BuiltinScope.APPLICATION.is(bean.getScope())) {
+            // The handle of an application scoped instance is cached until the instance is destroyed
+            clientProxy.getFieldCreator(DELEGATE_HANDLE_FIELD, ContextInstanceHandleImpl.class)
+                    .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
+        }
 
         createConstructor(clientProxy, superClass, beanField.getFieldDescriptor(),
                 contextField != null ? contextField.getFieldDescriptor() : null);
@@ -309,11 +316,30 @@ void implementDelegate(ClassCreator clientProxy, ProviderType providerType, Fiel
 
         if (BuiltinScope.APPLICATION.is(bean.getScope())) {
             // Application context is stored in a field and is always active
-            creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
+            // ContextInstanceHandleImpl handle = this.delegateHandle;
+            // if (handle != null) {
+            //    Object delegate = handle.getIfNotDestroyed();
+            //    if (delegate != null) {
+            //       return delegate;
+            //    }
+            // }
+            // handle = ClientProxies.getApplicationScopedDelegateHandle(this.context, this.bean);
+            // this.delegateHandle = handle;
+            // return handle.get();
+            FieldDescriptor delegateHandleField = FieldDescriptor.of(clientProxy.getClassName(), DELEGATE_HANDLE_FIELD,
+                    ContextInstanceHandleImpl.class);
+            ResultHandle cachedHandle = creator.readInstanceField(delegateHandleField, creator.getThis());
+            BytecodeCreator cached = creator.ifNotNull(cachedHandle).trueBranch();
+            ResultHandle cachedDelegate = cached.invokeVirtualMethod(
+                    MethodDescriptors.CONTEXT_INSTANCE_HANDLE_GET_IF_NOT_DESTROYED, cachedHandle);
+            cached.ifNotNull(cachedDelegate).trueBranch().returnValue(cachedDelegate);
+            ResultHandle handle = creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE_HANDLE,
                     creator.readInstanceField(
                             FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
                             creator.getThis()),
-                    beanHandle));
+                    beanHandle);
+            creator.writeInstanceField(delegateHandleField, creator.getThis(), handle);
+            creator.returnValue(creator.invokeInterfaceMethod(MethodDescriptors.INSTANCE_HANDLE_GET, handle));
         } else if (singleContextNormalScopes.contains(bean.getScope().getDotName())) {
             creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_SINGLE_CONTEXT_DELEGATE,
                     creator.readInstanceField(
@@ -57,6 +57,7 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
     static final String ADD_OBSERVERS = "addObservers";
     static final String ADD_REMOVED_BEANS = "addRemovedBeans";
     static final String ADD_BEANS = "addBeans";
+    static final String ADD_RESOLUTIONS = "addResolutions";
     private static final Comparator<BeanInfo> BEAN_INFO_COMPARATOR = Comparator.comparing(BeanInfo::getIdentifier);
     private static final Comparator<ObserverInfo> OBSERVER_INFO_COMPARATOR = Comparator.comparing(ObserverInfo::getIdentifier);
 
@@ -195,11 +196,15 @@ Collection<Resource> generate(String name, BeanDeployment beanDeployment, Map<Be
             }
         }
 
+        // Break precomputed resolutions processing into multiple addResolutions() methods
+        ResultHandle precomputedResolutions = getComponents.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
+        processPrecomputedResolutions(componentsProvider, getComponents, beanDeployment, precomputedResolutions);
+
         ResultHandle componentsHandle = getComponents.newInstance(
                 MethodDescriptor.ofConstructor(Components.class, Collection.class, Collection.class, Collection.class,
-                        Set.class, Map.class, Supplier.class, Map.class, Set.class, Map.class),
+                        Set.class, Map.class, Supplier.class, Map.class, Set.class, Map.class, Map.class),
                 beansHandle, observersHandle, contextsHandle, interceptorBindings, transitiveBindingsHandle,
-                removedBeansSupplier, qualifiersNonbindingMembers, qualifiers, contextInstances);
+                removedBeansSupplier, qualifiersNonbindingMembers, qualifiers, contextInstances, precomputedResolutions);
         getComponents.returnValue(componentsHandle);
 
         // Finally write the bytecode
@@ -329,6 +334,98 @@ private void processRemovedBeans(ClassCreator componentsProvider, BytecodeCreato
         }
     }
 
+    private void processPrecomputedResolutions(ClassCreator componentsProvider, MethodCreator getComponents,
+            BeanDeployment beanDeployment, ResultHandle resolutionsHandle) {
+        MethodCreator addMethod = null;
+        int group = 1;
+        int added = 0;
+        for (Entry<String, Map<List<String>, List<String>>> type : collectPrecomputedResolutions(beanDeployment)
+                .entrySet()) {
+            if (addMethod == null || added >= ComponentAdder.GROUP_LIMIT) {
+                if (addMethod != null) {
+                    addMethod.returnValue(null);
+                }
+                added = 0;
+                // static void addResolutions1(Map resolutions)
+                addMethod = componentsProvider.getMethodCreator(ADD_RESOLUTIONS + group++, void.class, Map.class)
+                        .setModifiers(ACC_PRIVATE | ACC_STATIC);
+                getComponents.invokeStaticMethod(MethodDescriptor.ofMethod(componentsProvider.getClassName(),
+                        addMethod.getMethodDescriptor().getName(), void.class, Map.class), resolutionsHandle);
+            }
+            added++;
+            ResultHandle lookupsHandle = addMethod.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
+            for (Entry<List<String>, List<String>> lookup : type.getValue().entrySet()) {
+                addMethod.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, lookupsHandle,
+                        loadStringSet(addMethod, lookup.getKey()), loadStringSet(addMethod, lookup.getValue()));
+            }
+            addMethod.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, addMethod.getMethodParam(0),
+                    addMethod.load(type.getKey()), lookupsHandle);
+        }
+        if (addMethod != null) {
+            addMethod.returnValue(null);
+        }
+    }
+
+    /**
+     * Performs the typesafe resolution of the programmatic lookups that can be proven at build time, i.e. the
+     * {@code Instance<T>}, {@code InjectableInstance<T>} and {@code Provider<T>} injection points.
+     * <p>
+     * Only raw required types and qualifiers without members are considered, so that the runtime can match a lookup
+     * without allocating a key. Lookups that resolve to no bean are left to the runtime, which reports removed beans.
+     *
+     * @return a map of required types to sorted required qualifiers to sorted identifiers of the matching beans
+     */
+    static Map<String, Map<List<String>, List<String>>> collectPrecomputedResolutions(BeanDeployment beanDeployment) {
+        // We need to iterate in a deterministic order for build time reproducibility
+        Map<String, Map<List<String>, List<String>>> resolutions = new TreeMap<>();
+        for (InjectionPointInfo injectionPoint : beanDeployment.getInjectionPoints()) {
+            if (!injectionPoint.isProgrammaticLookup()) {
+                continue;
+            }
+            org.jboss.jandex.Type requiredType = injectionPoint.getRequiredType();
+            if (requiredType.kind() != org.jboss.jandex.Type.Kind.CLASS || DotNames.OBJECT.equals(requiredType.name())) {
+                continue;
+            }
+            List<String> qualifiers = new ArrayList<>();
+            for (AnnotationInstance qualifier : injectionPoint.getRequiredQualifiers()) {
+                if (!isMemberless(beanDeployment, qualifier.name())) {
+                    qualifiers = null;
+                    break;
+                }
+                qualifiers.add(qualifier.name().toString());
+            }
+            if (qualifiers == null || qualifiers.isEmpty()) {
+                continue;
+            }
+            Set<BeanInfo> beans = beanDeployment.getBeanResolver().resolveBeans(requiredType,
+                    injectionPoint.getRequiredQualifiers());
+            if (beans.isEmpty()) {
+                continue;
+            }
+            qualifiers.sort(Comparator.naturalOrder());
+            resolutions.computeIfAbsent(requiredType.name().toString(),
+                    t -> new TreeMap<List<String>, List<String>>(Comparator.comparing(Object::toString)))
+                    .put(qualifiers, beans.stream().map(BeanInfo::getIdentifier).sorted().toList());
+        }
+        return resolutions;
+    }
+
+    private static boolean isMemberless(BeanDeployment beanDeployment, DotName qualifierName) {
+        if (DotNames.DEFAULT.equals(qualifierName) || DotNames.ANY.equals(qualifierName)) {
+            return true;
+        }
+        ClassInfo qualifierClass = beanDeployment.getQualifier(qualifierName);
+        return qualifierClass != null && qualifierClass.methods().isEmpty();
+    }
+
+    private static ResultHandle loadStringSet(BytecodeCreator bytecode, List<String> values) {
+        ResultHandle array = bytecode.newArray(Object.class, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            bytecode.writeArrayValue(array, i, bytecode.load(values.get(i)));
+        }
+        return bytecode.invokeStaticMethod(MethodDescriptors.SETS_OF, array);
+    }
+
     /**
      * Returns a dependency map for bean instantiation. Say the following beans exist:
      *
@@ -794,7 +891,7 @@ void addComponentInternal(BeanInfo bean) {
 
     static abstract class ComponentAdder<T extends InjectionTargetInfo> implements AutoCloseable {
 
-        private static final int GROUP_LIMIT = 30;
+        static final int GROUP_LIMIT = 30;
         protected int group;
         private int componentsAdded;
         protected MethodCreator addMethod;
@@ -62,6 +62,7 @@
 import io.quarkus.arc.All;
 import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.BindingsSource;
+import io.quarkus.arc.Concurrent;
 import io.quarkus.arc.DefaultBean;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableInstance;
@@ -155,6 +156,7 @@ public final class DotNames {
     public static final DotName INTERCEPTION_PROXY = create(InterceptionProxy.class);
     public static final DotName BINDINGS_SOURCE = create(BindingsSource.class);
     public static final DotName WITH_CACHING = create(WithCaching.class);
+    public static final DotName CONCURRENT = create(Concurrent.class);
 
     public static final DotName BOOLEAN = create(Boolean.class);
     public static final DotName BYTE = create(Byte.class);
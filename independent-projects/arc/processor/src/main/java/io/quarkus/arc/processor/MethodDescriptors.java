@@ -33,8 +33,10 @@
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.InjectableReferenceProvider;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.InterceptorCreator.InterceptFunction;
 import io.quarkus.arc.impl.ClientProxies;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.DecoratorDelegateProvider;
 import io.quarkus.arc.impl.FixedValueSupplier;
@@ -48,6 +50,7 @@
 import io.quarkus.arc.impl.Reflections;
 import io.quarkus.arc.impl.RemovedBeanImpl;
 import io.quarkus.arc.impl.Sets;
+import io.quarkus.arc.impl.StartupProfiler;
 import io.quarkus.gizmo.MethodDescriptor;
 
 /**
@@ -189,6 +192,12 @@ public final class MethodDescriptors {
             "aroundConstruct",
             InvocationContext.class, Constructor.class, Object[].class, List.class, Function.class, Set.class);
 
+    public static final MethodDescriptor STARTUP_PROFILER_BEGIN = MethodDescriptor.ofMethod(StartupProfiler.class, "begin",
+            Object.class);
+
+    public static final MethodDescriptor STARTUP_PROFILER_END = MethodDescriptor.ofMethod(StartupProfiler.class, "end",
+            void.class, Object.class, String.class, String.class);
+
     public static final MethodDescriptor INVOCATION_CONTEXTS_POST_CONSTRUCT = MethodDescriptor.ofMethod(
             InvocationContexts.class,
             "postConstruct",
@@ -283,6 +292,17 @@ public final class MethodDescriptors {
     public static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
             "getApplicationScopedDelegate", Object.class, InjectableContext.class, InjectableBean.class);
 
+    public static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE_HANDLE = MethodDescriptor.ofMethod(
+            ClientProxies.class,
+            "getApplicationScopedDelegateHandle", ContextInstanceHandleImpl.class, InjectableContext.class,
+            InjectableBean.class);
+
+    public static final MethodDescriptor CONTEXT_INSTANCE_HANDLE_GET_IF_NOT_DESTROYED = MethodDescriptor.ofMethod(
+            ContextInstanceHandleImpl.class, "getIfNotDestroyed", Object.class);
+
+    public static final MethodDescriptor INSTANCE_HANDLE_GET = MethodDescriptor.ofMethod(InstanceHandle.class, "get",
+            Object.class);
+
     public static final MethodDescriptor CLIENT_PROXIES_GET_SINGLE_CONTEXT_DELEGATE = MethodDescriptor.ofMethod(
             ClientProxies.class,
             "getSingleContextDelegate", Object.class, InjectableContext.class, InjectableBean.class);
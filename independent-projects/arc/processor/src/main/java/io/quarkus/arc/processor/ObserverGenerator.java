@@ -31,10 +31,12 @@
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
 
 import io.quarkus.arc.InjectableObserverMethod;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.Mockable;
+import io.quarkus.arc.impl.StartupProfiler;
 import io.quarkus.arc.processor.BeanProcessor.PrivateMembersCollector;
 import io.quarkus.arc.processor.BuiltinBean.GeneratorContext;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
@@ -42,6 +44,7 @@
 import io.quarkus.gizmo.AssignableResultHandle;
 import io.quarkus.gizmo.BranchResult;
 import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.CatchBlockCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.FieldCreator;
@@ -49,6 +52,7 @@
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.TryBlock;
 
 /**
  *
@@ -69,12 +73,21 @@ public class ObserverGenerator extends AbstractGenerator {
     private final Map<ObserverInfo, String> observerToGeneratedBaseName;
     private final Predicate<DotName> injectionPointAnnotationsPredicate;
     private final boolean mockable;
+    private final boolean startupProfiling;
     private final ConcurrentMap<String, ObserverInfo> generatedClasses;
 
     public ObserverGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
             Set<String> existingClasses, Map<ObserverInfo, String> observerToGeneratedName,
             Predicate<DotName> injectionPointAnnotationsPredicate, boolean mockable) {
+        this(annotationLiterals, applicationClassPredicate, privateMembers, generateSources, reflectionRegistration,
+                existingClasses, observerToGeneratedName, injectionPointAnnotationsPredicate, mockable, false);
+    }
+
+    public ObserverGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
+            PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
+            Set<String> existingClasses, Map<ObserverInfo, String> observerToGeneratedName,
+            Predicate<DotName> injectionPointAnnotationsPredicate, boolean mockable, boolean startupProfiling) {
         super(generateSources, reflectionRegistration);
         this.annotationLiterals = annotationLiterals;
         this.applicationClassPredicate = applicationClassPredicate;
@@ -84,6 +97,7 @@ public ObserverGenerator(AnnotationLiteralProcessor annotationLiterals, Predicat
         this.observerToGeneratedBaseName = new HashMap<>();
         this.injectionPointAnnotationsPredicate = injectionPointAnnotationsPredicate;
         this.mockable = mockable;
+        this.startupProfiling = startupProfiling;
         this.generatedClasses = new ConcurrentHashMap<>();
     }
 
@@ -214,6 +228,9 @@ Collection<Resource> generate(ObserverInfo observer) {
         if (observer.isAsync()) {
             implementIsAsync(observerCreator);
         }
+        if (observer.isConcurrent()) {
+            implementIsConcurrent(observerCreator);
+        }
         implementGetDeclaringBeanIdentifier(observerCreator, observer.getDeclaringBean());
 
         if (mockable) {
@@ -280,6 +297,11 @@ protected void implementIsAsync(ClassCreator observerCreator) {
         isAsync.returnValue(isAsync.load(true));
     }
 
+    protected void implementIsConcurrent(ClassCreator observerCreator) {
+        MethodCreator isConcurrent = observerCreator.getMethodCreator("isConcurrent", boolean.class).setModifiers(ACC_PUBLIC);
+        isConcurrent.returnValue(isConcurrent.load(true));
+    }
+
     protected void implementGetDeclaringBeanIdentifier(ClassCreator observerCreator, BeanInfo declaringBean) {
         MethodCreator getDeclaringBeanIdentifier = observerCreator.getMethodCreator("getDeclaringBeanIdentifier", String.class)
                 .setModifiers(ACC_PUBLIC);
@@ -313,12 +335,51 @@ protected void implementToString(ClassCreator observerCreator, ObserverInfo obse
         toString.returnValue(toString.load(val.toString()));
     }
 
+    private void implementProfiledNotify(ObserverInfo observer, ClassCreator observerCreator, MethodDescriptor doNotify) {
+        MethodCreator notify = observerCreator.getMethodCreator("notify", void.class, EventContext.class)
+                .setModifiers(ACC_PUBLIC);
+        // Object profilerToken = StartupProfiler.begin();
+        // try {
+        //     doNotify(eventContext);
+        // } catch (Throwable e) {
+        //     StartupProfiler.end(profilerToken, "observer", "org.acme.Foo#onStart(io.quarkus.runtime.StartupEvent)");
+        //     throw e;
+        // }
+        // StartupProfiler.end(profilerToken, "observer", "org.acme.Foo#onStart(io.quarkus.runtime.StartupEvent)");
+        ResultHandle profilerToken = notify.invokeStaticMethod(MethodDescriptors.STARTUP_PROFILER_BEGIN);
+        TryBlock profiled = notify.tryBlock();
+        profiled.invokeSpecialMethod(doNotify, profiled.getThis(), profiled.getMethodParam(0));
+        CatchBlockCreator profiledCatch = profiled.addCatch(Throwable.class);
+        profiledCatch.invokeStaticMethod(MethodDescriptors.STARTUP_PROFILER_END, profilerToken,
+                profiledCatch.load(StartupProfiler.OBSERVER), profiledCatch.load(profilingDescription(observer)));
+        profiledCatch.throwException(profiledCatch.getCaughtException());
+        notify.invokeStaticMethod(MethodDescriptors.STARTUP_PROFILER_END, profilerToken,
+                notify.load(StartupProfiler.OBSERVER), notify.load(profilingDescription(observer)));
+        notify.returnVoid();
+    }
+
+    static String profilingDescription(ObserverInfo observer) {
+        if (observer.isSynthetic()) {
+            return observer.getBeanClass() + " (synthetic observer of " + observer.getObservedType() + ")";
+        }
+        MethodInfo method = observer.getObserverMethod();
+        return method.declaringClass().name() + "#" + method.name() + "(" + observer.getObservedType() + ")";
+    }
+
     protected void implementNotify(ObserverInfo observer, ClassCreator observerCreator,
             Map<InjectionPointInfo, String> injectionPointToProviderField,
             ReflectionRegistration reflectionRegistration, boolean isApplicationClass) {
 
-        MethodCreator notify = observerCreator.getMethodCreator("notify", void.class, EventContext.class)
-                .setModifiers(ACC_PUBLIC);
+        MethodCreator notify;
+        if (startupProfiling) {
+            // The notification is moved to a private method so that all the exit points are covered
+            notify = observerCreator.getMethodCreator("doNotify", void.class, EventContext.class)
+                    .setModifiers(ACC_PRIVATE);
+            implementProfiledNotify(observer, observerCreator, notify.getMethodDescriptor());
+        } else {
+            notify = observerCreator.getMethodCreator("notify", void.class, EventContext.class)
+                    .setModifiers(ACC_PUBLIC);
+        }
 
         if (mockable) {
             // If mockable and mocked then just return from the method
@@ -80,6 +80,9 @@ static ObserverInfo create(BeanInfo declaringBean, MethodInfo observerMethod, In
         if (Annotations.hasParameterAnnotation(beanDeployment, observerMethod, DotNames.DISPOSES)) {
             throw new DefinitionException("Observer method must not have a @Disposes parameter: " + observerMethod);
         }
+        if (!isAsync && isAnnotatedConcurrent(beanDeployment, observerMethod)) {
+            throw new DefinitionException("Synchronous observer method must not be annotated @Concurrent: " + observerMethod);
+        }
 
         return create(null, beanDeployment, declaringBean.getTarget().get().asClass().name(), declaringBean,
                 observerMethod, injection,
@@ -313,6 +316,20 @@ public boolean isAsync() {
         return isAsync;
     }
 
+    /**
+     *
+     * @return {@code true} if the observer is asynchronous and the method or its event parameter is annotated with
+     *         {@link io.quarkus.arc.Concurrent}
+     */
+    public boolean isConcurrent() {
+        return isAsync && observerMethod != null && isAnnotatedConcurrent(beanDeployment, observerMethod);
+    }
+
+    private static boolean isAnnotatedConcurrent(BeanDeployment beanDeployment, MethodInfo observerMethod) {
+        // method annotations include the annotations of its parameters
+        return Annotations.find(beanDeployment.getAnnotations(observerMethod), DotNames.CONCURRENT) != null;
+    }
+
     public Type getObservedType() {
         return observedType;
     }
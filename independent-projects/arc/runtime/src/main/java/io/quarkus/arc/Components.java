@@ -2,6 +2,7 @@
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -19,6 +20,7 @@ public final class Components {
     private final Map<String, Set<String>> qualifierNonbindingMembers;
     private final Set<String> qualifiers;
     private final Map<Class<? extends Annotation>, Supplier<ContextInstances>> contextInstances;
+    private final Map<String, Map<Set<String>, Set<String>>> precomputedResolutions;
 
     public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
             Collection<InjectableContext> contexts,
@@ -27,6 +29,18 @@ public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObse
             Supplier<Collection<RemovedBean>> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
             Set<String> qualifiers,
             Map<Class<? extends Annotation>, Supplier<ContextInstances>> contextInstances) {
+        this(beans, observers, contexts, interceptorBindings, transitiveInterceptorBindings, removedBeans,
+                qualifierNonbindingMembers, qualifiers, contextInstances, Collections.emptyMap());
+    }
+
+    public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
+            Collection<InjectableContext> contexts,
+            Set<String> interceptorBindings,
+            Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
+            Supplier<Collection<RemovedBean>> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
+            Set<String> qualifiers,
+            Map<Class<? extends Annotation>, Supplier<ContextInstances>> contextInstances,
+            Map<String, Map<Set<String>, Set<String>>> precomputedResolutions) {
         this.beans = beans;
         this.observers = observers;
         this.contexts = contexts;
@@ -36,6 +50,7 @@ public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObse
         this.qualifierNonbindingMembers = qualifierNonbindingMembers;
         this.qualifiers = qualifiers;
         this.contextInstances = contextInstances;
+        this.precomputedResolutions = precomputedResolutions;
     }
 
     public Collection<InjectableBean<?>> getBeans() {
@@ -84,4 +99,15 @@ public Map<Class<? extends Annotation>, Supplier<ContextInstances>> getContextIn
         return contextInstances;
     }
 
+    /**
+     * The typesafe resolution of the programmatic lookups that are known at build time, e.g. {@code Instance<Foo>} injection
+     * points. Only lookups of a raw type with qualifiers without members are included.
+     *
+     * @return a map of fully-qualified class names of required types to the set of fully-qualified class names of required
+     *         qualifiers to the set of identifiers of the matching beans
+     */
+    public Map<String, Map<Set<String>, Set<String>>> getPrecomputedResolutions() {
+        return precomputedResolutions;
+    }
+
 }
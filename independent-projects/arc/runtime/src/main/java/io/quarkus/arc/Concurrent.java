@@ -0,0 +1,44 @@
+package io.quarkus.arc;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.ObservesAsync;
+
+/**
+ * An asynchronous observer method annotated with this annotation is notified concurrently with the other observers of the
+ * same event.
+ * <p>
+ * By default, the asynchronous observers of an event fired with {@link Event#fireAsync(Object)} are notified one after
+ * another, in a single task submitted to the executor. Each concurrent observer is notified in a separate task instead, so
+ * that slow observers do not delay each other. As a consequence, the priority of a concurrent observer is not taken into
+ * account and the observer must not rely on the side effects of the other observers.
+ * <p>
+ * The completion stage returned by {@link Event#fireAsync(Object)} completes once all the observers were notified.
+ *
+ * <pre>
+ * <code>
+ *  class Auditor {
+ *
+ *     void onOrder({@literal @ObservesAsync} {@literal @Concurrent} OrderPlaced event) {
+ *        // ...
+ *     }
+ *  }
+ *  </code>
+ * </pre>
+ *
+ * It is a definition error if this annotation is declared on a synchronous observer method.
+ *
+ * @see ObservesAsync
+ * @see InjectableObserverMethod#isConcurrent()
+ */
+@Retention(RUNTIME)
+@Target({ METHOD, PARAMETER })
+public @interface Concurrent {
+
+}
@@ -46,6 +46,15 @@ default void notify(T event) {
                 new EventMetadataImpl(getObservedQualifiers(), event.getClass(), null)));
     }
 
+    /**
+     *
+     * @return {@code true} if this asynchronous observer is notified concurrently with the other observers
+     * @see Concurrent
+     */
+    default boolean isConcurrent() {
+        return false;
+    }
+
     /**
      *
      * @return the identifier or null for synthetic observers
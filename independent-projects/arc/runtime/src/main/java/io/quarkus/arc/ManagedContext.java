@@ -45,6 +45,40 @@ default ContextState activate() {
      */
     void deactivate();
 
+    /**
+     * Make the given snapshot the current state of the context, e.g. when an action is propagated to another thread.
+     * <p>
+     * Unlike {@link #activate(ContextState)}, restoring a state that is already current does nothing. No
+     * {@code @Initialized} event is fired for a valid snapshot. If the snapshot is {@code null} then the context is
+     * deactivated. If the snapshot is not valid anymore, i.e. it was destroyed in the meantime, then a new state is
+     * activated.
+     * <p>
+     * The returned state should be restored when the action completes:
+     *
+     * <pre>
+     * ContextState previous = requestContext.restore(snapshot);
+     * try {
+     *     // ...
+     * } finally {
+     *     requestContext.restore(previous);
+     * }
+     * </pre>
+     *
+     * @param snapshot the state obtained from {@link #getStateIfActive()}, may be {@code null}
+     * @return the previous state, or {@code null} if the context was not active
+     */
+    default ContextState restore(ContextState snapshot) {
+        ContextState previous = getStateIfActive();
+        if (snapshot == null) {
+            if (previous != null) {
+                deactivate();
+            }
+        } else if (snapshot != previous) {
+            activate(snapshot.isValid() ? snapshot : null);
+        }
+        return previous;
+    }
+
     /**
      * Destroy and deactivate the context.
      */
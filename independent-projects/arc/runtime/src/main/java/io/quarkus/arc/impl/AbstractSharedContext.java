@@ -52,6 +52,26 @@ public <T> T get(Contextual<T> contextual) {
         return handle != null ? (T) handle.get() : null;
     }
 
+    /**
+     * Unlike {@link #get(Contextual, CreationalContext)} the scope of the bean is not validated.
+     *
+     * @param bean
+     * @return the handle of the contextual instance, a new instance is created if needed
+     */
+    @SuppressWarnings("unchecked")
+    <T> ContextInstanceHandleImpl<T> getInstanceHandle(InjectableBean<T> bean) {
+        ContextInstanceHandle<?> handle = instances.getIfPresent(bean.getIdentifier());
+        if (handle == null) {
+            handle = instances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
+                @Override
+                public ContextInstanceHandle<?> get() {
+                    return createInstanceHandle(bean, new CreationalContextImpl<>(bean));
+                }
+            });
+        }
+        return (ContextInstanceHandleImpl<T>) handle;
+    }
+
     @Override
     public ContextState getState() {
         return this;
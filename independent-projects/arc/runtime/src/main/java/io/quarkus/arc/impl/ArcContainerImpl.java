@@ -90,6 +90,8 @@ public class ArcContainerImpl implements ArcContainer {
     private final List<InjectableObserverMethod<?>> observers;
     private final Contexts contexts;
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    // Required type name -> resolutions precomputed from the lookups known at build time
+    private final Map<String, PrecomputedResolution[]> precomputedResolutions;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
@@ -119,6 +121,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
         Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings = new HashMap<>();
         Map<String, Set<String>> qualifierNonbindingMembers = new HashMap<>();
         Set<String> qualifiers = new HashSet<>();
+        Map<String, Map<Set<String>, Set<String>>> precomputedResolutions = new HashMap<>();
         Supplier<ContextInstances> applicationContextInstances = null;
         Supplier<ContextInstances> requestContextInstances = null;
         this.currentContextFactory = currentContextFactory == null ? new ThreadLocalCurrentContextFactory()
@@ -146,6 +149,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
             transitiveInterceptorBindings.putAll(c.getTransitiveInterceptorBindings());
             qualifierNonbindingMembers.putAll(c.getQualifierNonbindingMembers());
             qualifiers.addAll(c.getQualifiers());
+            precomputedResolutions.putAll(c.getPrecomputedResolutions());
             if (applicationContextInstances == null) {
                 applicationContextInstances = c.getContextInstances().get(ApplicationScoped.class);
             }
@@ -173,6 +177,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
 
         this.beans = List.copyOf(beans);
         this.beansByRawType = Map.copyOf(beansByRawType);
+        this.precomputedResolutions = precomputeResolutions(precomputedResolutions, beans);
         // Trim the size of the non-singleton lists
         this.beansByRawType.forEach(new BiConsumer<String, List<InjectableBean<?>>>() {
             @Override
@@ -238,6 +243,59 @@ public List<RemovedBean> get() {
         this.contexts = contextsBuilder.build();
     }
 
+    private static Map<String, PrecomputedResolution[]> precomputeResolutions(
+            Map<String, Map<Set<String>, Set<String>>> precomputedResolutions, List<InjectableBean<?>> beans) {
+        if (precomputedResolutions.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, InjectableBean<?>> beansById = new HashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            beansById.put(bean.getIdentifier(), bean);
+        }
+        Map<String, PrecomputedResolution[]> ret = new HashMap<>();
+        for (Map.Entry<String, Map<Set<String>, Set<String>>> type : precomputedResolutions.entrySet()) {
+            List<PrecomputedResolution> resolutions = new ArrayList<>(type.getValue().size());
+            for (Map.Entry<Set<String>, Set<String>> lookup : type.getValue().entrySet()) {
+                List<InjectableBean<?>> matching = new ArrayList<>(lookup.getValue().size());
+                for (String id : lookup.getValue()) {
+                    InjectableBean<?> bean = beansById.get(id);
+                    if (bean == null) {
+                        // Should never happen - fall back to the regular resolution
+                        matching = null;
+                        break;
+                    }
+                    matching.add(bean);
+                }
+                if (matching != null) {
+                    resolutions.add(new PrecomputedResolution(lookup.getKey().toArray(new String[0]), resolve(matching)));
+                }
+            }
+            if (!resolutions.isEmpty()) {
+                ret.put(type.getKey(), resolutions.toArray(new PrecomputedResolution[0]));
+            }
+        }
+        LOGGER.debugf("Precomputed the resolution of %s programmatic lookups", precomputedResolutions.size());
+        return Map.copyOf(ret);
+    }
+
+    /**
+     * @return the precomputed set of resolved beans, or {@code null} if the resolution was not precomputed
+     */
+    private Set<InjectableBean<?>> getPrecomputedResolution(Type requiredType, Annotation[] qualifiers) {
+        if (precomputedResolutions.isEmpty() || !(requiredType instanceof Class)) {
+            return null;
+        }
+        PrecomputedResolution[] resolutions = precomputedResolutions.get(((Class<?>) requiredType).getName());
+        if (resolutions != null) {
+            for (PrecomputedResolution resolution : resolutions) {
+                if (resolution.matches(qualifiers)) {
+                    return resolution.beans;
+                }
+            }
+        }
+        return null;
+    }
+
     static void precomputeBeanRawTypes(Map<String, List<InjectableBean<?>>> map, InjectableBean<?> bean) {
         for (Type type : bean.getTypes()) {
             if (Object.class.equals(type)) {
@@ -312,13 +370,16 @@ public <X> InstanceHandle<X> instance(Type type, Annotation... qualifiers) {
 
     @Override
     public <T> Supplier<InstanceHandle<T>> beanInstanceSupplier(Class<T> type, Annotation... qualifiers) {
-        if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
-        }
-        Resolvable resolvable = new Resolvable(type, qualifiers);
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(resolvable);
-        if (resolvedBeans.isEmpty()) {
-            scanRemovedBeans(resolvable);
+        Set<InjectableBean<?>> resolvedBeans = getPrecomputedResolution(type, qualifiers);
+        if (resolvedBeans == null) {
+            if (qualifiers == null || qualifiers.length == 0) {
+                qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            }
+            Resolvable resolvable = new Resolvable(type, qualifiers);
+            resolvedBeans = resolved.getValue(resolvable);
+            if (resolvedBeans.isEmpty()) {
+                scanRemovedBeans(resolvable);
+            }
         }
         Set<InjectableBean<?>> filteredBean = resolvedBeans;
         if (resolvedBeans.size() > 1) {
@@ -585,6 +646,10 @@ static <T> InstanceHandle<T> beanInstanceHandle(InjectableBean<T> bean, Creation
 
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
+        Set<InjectableBean<?>> precomputed = getPrecomputedResolution(requiredType, qualifiers);
+        if (precomputed != null) {
+            return precomputed.size() != 1 ? null : (InjectableBean<T>) precomputed.iterator().next();
+        }
         if (qualifiers == null || qualifiers.length == 0) {
             qualifiers = new Annotation[] { Default.Literal.INSTANCE };
         } else {
@@ -973,6 +1038,10 @@ private boolean hasAllInterceptionBindings(InjectableInterceptor<?> interceptor,
      * @return the set of resolved beans
      */
     Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifiers) {
+        Set<InjectableBean<?>> precomputed = getPrecomputedResolution(requiredType, qualifiers);
+        if (precomputed != null) {
+            return precomputed;
+        }
         if (qualifiers == null || qualifiers.length == 0) {
             qualifiers = new Annotation[] { Default.Literal.INSTANCE };
         } else {
@@ -1042,6 +1111,64 @@ public static ArcContainerImpl instance() {
         return unwrap(Arc.container());
     }
 
+    /**
+     * The resolution of a lookup of a raw type with qualifiers without members; such qualifiers are equal if and only if
+     * they are of the same annotation type, so no literal needs to be compared.
+     */
+    private static final class PrecomputedResolution {
+
+        private static final String DEFAULT_QUALIFIER = Default.class.getName();
+
+        final String[] qualifiers;
+
+        final Set<InjectableBean<?>> beans;
+
+        PrecomputedResolution(String[] qualifiers, Set<InjectableBean<?>> beans) {
+            this.qualifiers = qualifiers;
+            this.beans = beans;
+        }
+
+        boolean matches(Annotation[] required) {
+            if (required == null || required.length == 0) {
+                return qualifiers.length == 1 && DEFAULT_QUALIFIER.equals(qualifiers[0]);
+            }
+            if (required.length != qualifiers.length) {
+                return false;
+            }
+            for (Annotation qualifier : required) {
+                if (!contains(qualifier.annotationType().getName())) {
+                    return false;
+                }
+            }
+            // Duplicate required qualifiers must not hide a missing one
+            for (String qualifier : qualifiers) {
+                if (!isRequired(qualifier, required)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean contains(String qualifier) {
+            for (String q : qualifiers) {
+                if (q.equals(qualifier)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isRequired(String qualifier, Annotation[] required) {
+            for (Annotation q : required) {
+                if (q.annotationType().getName().equals(qualifier)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
     private static final class Resolvable {
 
         private static final Annotation[] ANY_QUALIFIER = { Any.Literal.INSTANCE };
@@ -24,19 +24,29 @@
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     static Object perform(Object target, Object[] args, InterceptedMethodMetadata metadata) throws Exception {
-        if (metadata.chain.isEmpty()) {
+        InterceptorInvocation[] interceptors = metadata.interceptors;
+        if (interceptors.length == 0) {
             return metadata.aroundInvokeForward.apply(target, new AroundInvokeInvocationContext(target, args, metadata));
         }
-        return metadata.chain.get(0).invoke(new AroundInvokeInvocationContext(target, args, metadata));
+        return interceptors[0].invoke(new AroundInvokeInvocationContext(target, args, metadata));
     }
 
     private final InterceptedMethodMetadata metadata;
 
     AroundInvokeInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata) {
-        super(target, args, new ContextDataMap(metadata.bindings));
+        // The context data map is only created if an interceptor asks for it
+        super(target, args, null);
         this.metadata = metadata;
     }
 
+    @Override
+    public Map<String, Object> getContextData() {
+        if (contextData == null) {
+            contextData = new ContextDataMap(metadata.bindings);
+        }
+        return contextData;
+    }
+
     @Override
     public Set<Annotation> getInterceptorBindings() {
         return metadata.bindings;
@@ -64,10 +74,10 @@ public Object proceed() throws Exception {
 
     private Object proceed(int currentPosition) throws Exception {
         try {
-            if (currentPosition < metadata.chain.size()) {
+            InterceptorInvocation[] interceptors = metadata.interceptors;
+            if (currentPosition < interceptors.length) {
                 // Invoke the next interceptor in the chain
-                return metadata.chain.get(currentPosition)
-                        .invoke(new NextAroundInvokeInvocationContext(currentPosition + 1));
+                return interceptors[currentPosition].invoke(new NextAroundInvokeInvocationContext(currentPosition + 1));
             } else {
                 // Invoke the target method
                 return metadata.aroundInvokeForward.apply(target, this);
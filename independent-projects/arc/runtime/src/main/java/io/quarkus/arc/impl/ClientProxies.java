@@ -25,6 +25,12 @@ public static <T> T getApplicationScopedDelegate(InjectableContext applicationCo
         return result;
     }
 
+    // This method is only used if the client proxy caches the handle, see ContextInstanceHandleImpl#getIfNotDestroyed()
+    public static <T> ContextInstanceHandleImpl<T> getApplicationScopedDelegateHandle(InjectableContext applicationContext,
+            InjectableBean<T> bean) {
+        return ((ApplicationContext) applicationContext).getInstanceHandle(bean);
+    }
+
     // This method is only used if a single context is registered for the given scope
     public static <T> T getSingleContextDelegate(InjectableContext context, InjectableBean<T> bean) {
         T result = context.getIfActive(bean, ClientProxies::newCreationalContext);
@@ -16,12 +16,15 @@
 
     private static final Logger LOG = Logger.getLogger(ContextInstanceHandleImpl.class);
 
+    private volatile boolean destroyed;
+
     public ContextInstanceHandleImpl(InjectableBean<T> bean, T instance, CreationalContext<T> creationalContext) {
         super(bean, instance, creationalContext);
     }
 
     @Override
     public void destroy() {
+        destroyed = true;
         try {
             destroyInternal();
         } catch (Exception e) {
@@ -29,4 +32,14 @@ public void destroy() {
         }
     }
 
+    /**
+     * A client proxy of an {@link jakarta.enterprise.context.ApplicationScoped} bean caches the handle and uses this method
+     * to find out whether the instance was destroyed in the meantime.
+     *
+     * @return the contextual instance, or {@code null} if the instance was already destroyed
+     */
+    public T getIfNotDestroyed() {
+        return destroyed ? null : instanceInternal();
+    }
+
 }
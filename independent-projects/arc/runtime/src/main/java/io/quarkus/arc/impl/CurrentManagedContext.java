@@ -54,6 +54,12 @@ public ContextState getState() {
         return state;
     }
 
+    @Override
+    public ContextState getStateIfActive() {
+        CurrentContextState state = currentState();
+        return state != null && state.isValid() ? state : null;
+    }
+
     @Override
     public ContextState activate(ContextState initialState) {
         if (traceLog().isTraceEnabled()) {
@@ -87,6 +93,29 @@ public void deactivate() {
         currentContext.remove();
     }
 
+    @Override
+    public ContextState restore(ContextState snapshot) {
+        CurrentContextState previous = currentState();
+        if (snapshot == null) {
+            if (previous != null) {
+                deactivate();
+            }
+        } else if (snapshot instanceof CurrentContextState current) {
+            if (!current.isValid()) {
+                // The state was destroyed in the meantime
+                activate(null);
+            } else if (current != previous) {
+                if (traceLog().isTraceEnabled()) {
+                    traceActivate(current);
+                }
+                currentContext.set(current);
+            }
+        } else {
+            throw new IllegalArgumentException("Invalid snapshot: " + snapshot.getClass().getName());
+        }
+        return previous != null && previous.isValid() ? previous : null;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, CreationalContext<T>> creationalContextFun) {
@@ -100,7 +129,8 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
         if (state == null || !state.isValid()) {
             return null;
         }
-        ContextInstances contextInstances = state.contextInstances;
+        // The context instances are created when a bean instance is needed for the first time
+        ContextInstances contextInstances = state.contextInstances();
         ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
@@ -136,9 +166,12 @@ public <T> T get(Contextual<T> contextual) {
         if (state == null || !state.isValid()) {
             throw notActive();
         }
+        ContextInstances contextInstances = state.contextInstancesIfPresent();
+        if (contextInstances == null) {
+            return null;
+        }
         @SuppressWarnings("unchecked")
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.contextInstances
-                .getIfPresent(bean.getIdentifier());
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
         return instance == null ? null : instance.get();
     }
 
@@ -159,8 +192,12 @@ public void destroy(Contextual<?> contextual) {
         if (state == null || !state.isValid()) {
             throw notActive();
         }
+        ContextInstances contextInstances = state.contextInstancesIfPresent();
+        if (contextInstances == null) {
+            return;
+        }
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> instance = state.contextInstances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> instance = contextInstances.remove(bean.getIdentifier());
         if (instance != null) {
             instance.destroy();
         }
@@ -181,12 +218,15 @@ public void destroy(ContextState state) {
                 fireIfNotNull(beforeDestroyedNotifier);
             }
             if (currentState.invalidate()) {
-                currentState.contextInstances.removeEach(new Consumer<>() {
-                    @Override
-                    public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
-                        contextInstanceHandle.destroy();
-                    }
-                });
+                ContextInstances contextInstances = currentState.contextInstancesIfPresent();
+                if (contextInstances != null) {
+                    contextInstances.removeEach(new Consumer<>() {
+                        @Override
+                        public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
+                            contextInstanceHandle.destroy();
+                        }
+                    });
+                }
                 fireIfNotNull(destroyedNotifier);
             }
         } else {
@@ -196,7 +236,7 @@ public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
 
     @Override
     public CurrentContextState initializeState() {
-        CurrentContextState state = new CurrentContextState(contextInstances.get());
+        CurrentContextState state = new CurrentContextState(contextInstances);
         return state;
     }
 
@@ -241,6 +281,7 @@ public static class CurrentContextState implements ContextState {
         // they should be the very first value observable even in presence of
         // unsafe publication of this object.
         private static final VarHandle STATE_UPDATER;
+        private static final VarHandle INSTANCES_UPDATER;
 
         private static final byte INVALID_MASK = 0b00000001;
         private static final byte INITIALIZED_FIRED_MASK = 0b00000010;
@@ -249,25 +290,54 @@ public static class CurrentContextState implements ContextState {
         static {
             try {
                 STATE_UPDATER = MethodHandles.lookup().findVarHandle(CurrentContextState.class, "state", byte.class);
+                INSTANCES_UPDATER = MethodHandles.lookup().findVarHandle(CurrentContextState.class, "contextInstances",
+                        ContextInstances.class);
             } catch (ReflectiveOperationException e) {
                 throw new Error(e);
             }
         }
 
-        private final ContextInstances contextInstances;
+        // the context instances are only created if a bean instance is needed, i.e. a state that is only activated,
+        // propagated and destroyed does not allocate the context instances at all
+        private final Supplier<ContextInstances> contextInstancesSupplier;
+        private volatile ContextInstances contextInstances;
         // it contains 3 states: isValid, initializedFired and beforeDestroyedFired
         private volatile byte state;
 
-        CurrentContextState(ContextInstances contextInstances) {
-            this.contextInstances = Objects.requireNonNull(contextInstances);
+        CurrentContextState(Supplier<ContextInstances> contextInstancesSupplier) {
+            this.contextInstancesSupplier = Objects.requireNonNull(contextInstancesSupplier);
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
+            ContextInstances contextInstances = this.contextInstances;
+            if (contextInstances == null) {
+                return Map.of();
+            }
             return contextInstances.getAllPresent().stream()
                     .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
         }
 
+        ContextInstances contextInstances() {
+            ContextInstances contextInstances = this.contextInstances;
+            if (contextInstances == null) {
+                ContextInstances created = Objects.requireNonNull(contextInstancesSupplier.get());
+                // the state may be shared by multiple threads
+                contextInstances = (ContextInstances) INSTANCES_UPDATER.compareAndExchange(this, null, created);
+                if (contextInstances == null) {
+                    contextInstances = created;
+                }
+            }
+            return contextInstances;
+        }
+
+        /**
+         * @return the context instances or {@code null} if no bean instance was needed yet
+         */
+        ContextInstances contextInstancesIfPresent() {
+            return contextInstances;
+        }
+
         /**
          * @return {@code true} if the state was successfully invalidated, {@code false} otherwise
          */
@@ -43,6 +43,7 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.AsyncObserverExceptionHandler;
+import io.quarkus.arc.InjectableObserverMethod;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 
@@ -102,6 +103,10 @@ public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions o
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        if (notifier.hasConcurrentObservers()) {
+            return new AsyncEventDeliveryStage<>(notifyConcurrently(notifier, event, executor), executor);
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
@@ -118,6 +123,42 @@ public U get() {
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
+    private <U extends T> CompletableFuture<U> notifyConcurrently(Notifier<U> notifier, U event, Executor executor) {
+        // Observers are notified concurrently - the collection must be synchronized
+        ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(
+                Collections.synchronizedList(new ArrayList<>()),
+                Arc.container().instance(AsyncObserverExceptionHandler.class).get());
+        List<ObserverMethod<? super U>> concurrentObservers = notifier.concurrentObserverMethods;
+        CompletableFuture<?>[] notifications = new CompletableFuture<?>[concurrentObservers.size() + 1];
+        if (notifier.hasSerialAsyncObservers) {
+            // All the other async observers are notified serially in a single task
+            notifications[0] = CompletableFuture.runAsync(new Runnable() {
+                @Override
+                public void run() {
+                    notifier.notify(event, exceptionHandler, true);
+                }
+            }, executor);
+        } else {
+            notifications[0] = CompletableFuture.completedFuture(null);
+        }
+        for (int i = 0; i < concurrentObservers.size(); i++) {
+            ObserverMethod<? super U> observerMethod = concurrentObservers.get(i);
+            notifications[i + 1] = CompletableFuture.runAsync(new Runnable() {
+                @Override
+                public void run() {
+                    notifier.notifyConcurrent(event, observerMethod, exceptionHandler);
+                }
+            }, executor);
+        }
+        return CompletableFuture.allOf(notifications).thenApply(new Function<Void, U>() {
+            @Override
+            public U apply(Void ignored) {
+                handleExceptions(exceptionHandler);
+                return event;
+            }
+        });
+    }
+
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
         Notifier<? super T> notifier = this.lastNotifier;
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
@@ -257,6 +298,9 @@ private void handleExceptions(ObserverExceptionHandler handler) {
         final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
+        // Async observers are partitioned once so that firing an event does not need to inspect them
+        final List<ObserverMethod<? super T>> concurrentObserverMethods;
+        final boolean hasSerialAsyncObservers;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this(runtimeType, observerMethods, eventMetadata, true);
@@ -276,6 +320,17 @@ private void handleExceptions(ObserverExceptionHandler handler) {
             }
             this.hasTxObservers = hasTxObservers;
             this.activateRequestContext = activateRequestContext;
+            List<ObserverMethod<? super T>> concurrentObserverMethods = new ArrayList<>();
+            boolean hasSerialAsyncObservers = false;
+            for (ObserverMethod<? super T> method : observerMethods) {
+                if (isConcurrent(method)) {
+                    concurrentObserverMethods.add(method);
+                } else if (method.isAsync()) {
+                    hasSerialAsyncObservers = true;
+                }
+            }
+            this.concurrentObserverMethods = List.copyOf(concurrentObserverMethods);
+            this.hasSerialAsyncObservers = hasSerialAsyncObservers;
         }
 
         void notify(T event) {
@@ -286,7 +341,8 @@ void notify(T event) {
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
             if (!isEmpty()) {
 
-                Predicate<ObserverMethod<?>> predicate = async ? ObserverMethodIsAsync.INSTANCE
+                // Concurrent observers are notified separately, see notifyConcurrent()
+                Predicate<ObserverMethod<?>> predicate = async ? ObserverMethodIsSerialAsync.INSTANCE
                         : ObserverMethodIsNotAsync.INSTANCE;
 
                 if (!async && hasTxObservers) {
@@ -336,22 +392,47 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                 }
 
                 // Non-tx observers notifications
-                // req. context is activated if not in strict mode and not for lifecycle events such as init/shutdown
-                if (activateRequestContext) {
-                    ManagedContext requestContext = Arc.container().requestContext();
-                    if (requestContext.isActive()) {
-                        notifyObservers(event, exceptionHandler, predicate);
-                    } else {
-                        try {
-                            requestContext.activate();
-                            notifyObservers(event, exceptionHandler, predicate);
-                        } finally {
-                            requestContext.terminate();
-                        }
+                Predicate<ObserverMethod<?>> observers = predicate;
+                runInRequestContext(new Runnable() {
+                    @Override
+                    public void run() {
+                        notifyObservers(event, exceptionHandler, observers);
+                    }
+                });
+            }
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        void notifyConcurrent(T event, ObserverMethod<? super T> observerMethod, ObserverExceptionHandler exceptionHandler) {
+            runInRequestContext(new Runnable() {
+                @Override
+                public void run() {
+                    EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
+                    try {
+                        observerMethod.notify(eventContext);
+                    } catch (Throwable t) {
+                        exceptionHandler.handle(t, observerMethod, eventContext);
                     }
+                }
+            });
+        }
+
+        private void runInRequestContext(Runnable notification) {
+            // req. context is activated if not in strict mode and not for lifecycle events such as init/shutdown
+            if (activateRequestContext) {
+                ManagedContext requestContext = Arc.container().requestContext();
+                if (requestContext.isActive()) {
+                    notification.run();
                 } else {
-                    notifyObservers(event, exceptionHandler, predicate);
+                    try {
+                        requestContext.activate();
+                        notification.run();
+                    } finally {
+                        requestContext.terminate();
+                    }
                 }
+            } else {
+                notification.run();
             }
         }
 
@@ -374,6 +455,15 @@ boolean isEmpty() {
             return observerMethods.isEmpty();
         }
 
+        boolean hasConcurrentObservers() {
+            return !concurrentObserverMethods.isEmpty();
+        }
+
+        private static boolean isConcurrent(ObserverMethod<?> observer) {
+            return observer.isAsync() && observer instanceof InjectableObserverMethod
+                    && ((InjectableObserverMethod<?>) observer).isConcurrent();
+        }
+
         private static boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
@@ -407,13 +497,13 @@ public void afterCompletion(int i) {
         }
     }
 
-    private static class ObserverMethodIsAsync implements Predicate<ObserverMethod<?>> {
+    private static class ObserverMethodIsSerialAsync implements Predicate<ObserverMethod<?>> {
 
-        private static final Predicate<ObserverMethod<?>> INSTANCE = new ObserverMethodIsAsync();
+        private static final Predicate<ObserverMethod<?>> INSTANCE = new ObserverMethodIsSerialAsync();
 
         @Override
         public boolean test(ObserverMethod<?> observerMethod) {
-            return observerMethod.isAsync();
+            return observerMethod.isAsync() && !EventImpl.Notifier.isConcurrent(observerMethod);
         }
     }
 
@@ -0,0 +1,233 @@
+package io.quarkus.arc.impl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Records the wall time and the memory allocated by bean instantiation, {@code @PostConstruct} callbacks and observer
+ * notifications, e.g. while the application starts.
+ * <p>
+ * The calls to {@link #begin()} and {@link #end(Object, String, String)} are only generated if the startup profiling is
+ * enabled at build time. Nothing is recorded unless the recording was {@link #start() started}. Nested operations are
+ * subtracted from the self time and self allocation of the enclosing operation, so that a slow producer does not make
+ * all its dependants look slow.
+ */
+public final class StartupProfiler {
+
+    public static final String CREATE = "create";
+    public static final String POST_CONSTRUCT = "post-construct";
+    public static final String OBSERVER = "observer";
+
+    private static final ConcurrentMap<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Frame> CURRENT = new ThreadLocal<>();
+
+    private static volatile boolean recording;
+    private static volatile com.sun.management.ThreadMXBean threads;
+    private static volatile List<Entry> profile = List.of();
+
+    private StartupProfiler() {
+    }
+
+    /**
+     * Starts a new recording; the entries of a previous recording are discarded.
+     */
+    public static void start() {
+        ENTRIES.clear();
+        threads = allocationTrackingThreads();
+        recording = true;
+    }
+
+    /**
+     * Stops the recording.
+     *
+     * @return the recorded entries, sorted by the self wall time in descending order
+     */
+    public static List<Entry> stop() {
+        recording = false;
+        List<Entry> entries = new ArrayList<>(ENTRIES.values());
+        entries.sort(new Comparator<Entry>() {
+            @Override
+            public int compare(Entry e1, Entry e2) {
+                return Long.compare(e2.getSelfWallTime(), e1.getSelfWallTime());
+            }
+        });
+        ENTRIES.clear();
+        profile = Collections.unmodifiableList(entries);
+        return profile;
+    }
+
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     *
+     * @return the result of the last recording, or an empty list if nothing was recorded
+     */
+    public static List<Entry> getProfile() {
+        return profile;
+    }
+
+    /**
+     *
+     * @return the token that must be passed to {@link #end(Object, String, String)}, or {@code null} if not recording
+     */
+    public static Object begin() {
+        if (!recording) {
+            return null;
+        }
+        Frame frame = new Frame(CURRENT.get(), System.nanoTime(), allocatedBytes());
+        CURRENT.set(frame);
+        return frame;
+    }
+
+    /**
+     *
+     * @param token the value returned from {@link #begin()}
+     * @param kind
+     * @param description
+     */
+    public static void end(Object token, String kind, String description) {
+        if (token == null) {
+            return;
+        }
+        Frame frame = (Frame) token;
+        long wallTime = System.nanoTime() - frame.start;
+        long allocated = frame.allocatedAtStart < 0 ? -1 : allocatedBytes() - frame.allocatedAtStart;
+        Frame parent = frame.parent;
+        // Frames of operations that failed before calling end() are discarded here
+        if (parent != null) {
+            parent.nestedWallTime += wallTime;
+            parent.nestedAllocated += allocated;
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+        if (recording) {
+            String key = kind + ' ' + description;
+            Entry entry = ENTRIES.get(key);
+            if (entry == null) {
+                entry = ENTRIES.computeIfAbsent(key, new Function<String, Entry>() {
+                    @Override
+                    public Entry apply(String key) {
+                        return new Entry(kind, description);
+                    }
+                });
+            }
+            entry.add(wallTime, wallTime - frame.nestedWallTime, allocated,
+                    allocated < 0 ? -1 : allocated - frame.nestedAllocated);
+        }
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = StartupProfiler.threads;
+        return threads != null ? threads.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationTrackingThreads() {
+        try {
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (threads instanceof com.sun.management.ThreadMXBean
+                    && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()
+                    && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemoryEnabled()) {
+                return (com.sun.management.ThreadMXBean) threads;
+            }
+        } catch (Throwable ignored) {
+            // Allocations are not recorded, e.g. in a native image without the management support
+        }
+        return null;
+    }
+
+    private static final class Frame {
+
+        private final Frame parent;
+        private final long start;
+        private final long allocatedAtStart;
+        private long nestedWallTime;
+        private long nestedAllocated;
+
+        Frame(Frame parent, long start, long allocatedAtStart) {
+            this.parent = parent;
+            this.start = start;
+            this.allocatedAtStart = allocatedAtStart;
+        }
+
+    }
+
+    /**
+     * The aggregated measurements of a single operation; e.g. a {@code @Dependent} bean may be created many times.
+     * Times are in nanoseconds. The allocated bytes are {@code -1} if the JVM does not support the allocation tracking.
+     */
+    public static final class Entry {
+
+        private final String kind;
+        private final String description;
+        private int count;
+        private long wallTime;
+        private long selfWallTime;
+        private long allocatedBytes;
+        private long selfAllocatedBytes;
+
+        Entry(String kind, String description) {
+            this.kind = kind;
+            this.description = description;
+        }
+
+        synchronized void add(long wallTime, long selfWallTime, long allocatedBytes, long selfAllocatedBytes) {
+            this.count++;
+            this.wallTime += wallTime;
+            this.selfWallTime += selfWallTime;
+            if (allocatedBytes < 0 || this.allocatedBytes < 0) {
+                this.allocatedBytes = -1;
+                this.selfAllocatedBytes = -1;
+            } else {
+                this.allocatedBytes += allocatedBytes;
+                this.selfAllocatedBytes += selfAllocatedBytes;
+            }
+        }
+
+        public String getKind() {
+            return kind;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public synchronized int getCount() {
+            return count;
+        }
+
+        public synchronized long getWallTime() {
+            return wallTime;
+        }
+
+        public synchronized long getSelfWallTime() {
+            return selfWallTime;
+        }
+
+        public synchronized long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public synchronized long getSelfAllocatedBytes() {
+            return selfAllocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + description + " [count=" + getCount() + ", wallTime=" + getWallTime() + ", selfWallTime="
+                    + getSelfWallTime() + ", allocatedBytes=" + getAllocatedBytes() + ", selfAllocatedBytes="
+                    + getSelfAllocatedBytes() + "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.quarkus.arc.test.clientproxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ApplicationScopedCachedDelegateTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Counter.class);
+
+    @Test
+    public void testDelegateInvalidated() {
+        Counter.CREATED.set(0);
+        Counter.DESTROYED.set(0);
+
+        Counter counter = Arc.container().instance(Counter.class).get();
+        int id = counter.getId();
+        assertEquals(id, counter.getId());
+        Object delegate = ClientProxy.unwrap(counter);
+        assertSame(delegate, ClientProxy.unwrap(counter));
+        assertEquals(1, Counter.CREATED.get());
+
+        // Destroy the instance through the context
+        InjectableBean<Counter> bean = Arc.container().instance(Counter.class).getBean();
+        Arc.container().getActiveContext(ApplicationScoped.class).destroy(bean);
+        assertEquals(1, Counter.DESTROYED.get());
+        assertNotEquals(id, counter.getId());
+        assertEquals(2, Counter.CREATED.get());
+
+        // Destroy the instance through the handle
+        id = counter.getId();
+        Arc.container().instance(Counter.class).destroy();
+        assertEquals(2, Counter.DESTROYED.get());
+        assertNotEquals(id, counter.getId());
+        assertEquals(3, Counter.CREATED.get());
+
+        // Destroy all instances of the context
+        id = counter.getId();
+        Arc.container().getActiveContext(ApplicationScoped.class).destroy();
+        assertEquals(3, Counter.DESTROYED.get());
+        assertNotEquals(id, counter.getId());
+        assertEquals(4, Counter.CREATED.get());
+    }
+
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private int id;
+
+        @PostConstruct
+        void init() {
+            id = CREATED.incrementAndGet();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        int getId() {
+            return id;
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.quarkus.arc.test.contexts.request.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class RequestContextRestoreTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(SuperController.class, SuperButton.class);
+
+    @Test
+    public void testRestore() throws Exception {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+
+        ContextState state = requestContext.activate();
+        // No bean instance was needed yet
+        assertTrue(state.getContextualInstances().isEmpty());
+        String id = arc.instance(SuperController.class).get().getId();
+        assertEquals(1, state.getContextualInstances().size());
+
+        // Restoring the current state is a noop
+        assertSame(state, requestContext.restore(state));
+        assertSame(state, requestContext.getState());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            String propagatedId = CompletableFuture.supplyAsync(() -> {
+                ContextState previous = requestContext.restore(state);
+                try {
+                    assertNull(previous);
+                    return arc.instance(SuperController.class).get().getId();
+                } finally {
+                    requestContext.restore(previous);
+                }
+            }, executor).get(5, TimeUnit.SECONDS);
+            assertEquals(id, propagatedId);
+            // The context is not active on the executor thread anymore
+            assertFalse(CompletableFuture.supplyAsync(requestContext::isActive, executor).get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Restore null - the context is deactivated
+        assertSame(state, requestContext.restore(null));
+        assertFalse(requestContext.isActive());
+        assertNull(requestContext.restore(state));
+        assertTrue(requestContext.isActive());
+
+        // Restore a destroyed state - a new state is activated
+        SuperController.DESTROYED.set(false);
+        requestContext.destroy(state);
+        assertTrue(SuperController.DESTROYED.get());
+        assertNull(requestContext.restore(state));
+        ContextState newState = requestContext.getState();
+        assertNotNull(newState);
+        assertNotSame(state, newState);
+        assertTrue(newState.getContextualInstances().isEmpty());
+        requestContext.terminate();
+    }
+
+}
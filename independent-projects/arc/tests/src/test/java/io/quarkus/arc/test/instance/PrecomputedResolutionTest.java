@@ -0,0 +1,125 @@
+package io.quarkus.arc.test.instance;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class PrecomputedResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Special.class, Service.class, DefaultService.class,
+            AlternativeService.class, SpecialService.class, Client.class);
+
+    @Test
+    public void testInjectedInstance() {
+        Client client = Arc.container().instance(Client.class).get();
+        assertEquals("alternative", client.service.get().ping());
+        assertEquals("special", client.special.get().ping());
+        // The alternative takes precedence over the other beans
+        assertEquals(1, client.all.stream().count());
+    }
+
+    @Test
+    public void testContainerLookup() {
+        assertEquals("alternative", Arc.container().instance(Service.class).get().ping());
+        assertEquals("special", Arc.container().instance(Service.class, Special.Literal.INSTANCE).get().ping());
+        assertEquals("alternative", Arc.container().beanInstanceSupplier(Service.class).get().get().ping());
+        assertEquals("special",
+                Arc.container().instance(Service.class, Any.Literal.INSTANCE, Special.Literal.INSTANCE).get().ping());
+        assertTrue(Arc.container().select(Service.class, Any.Literal.INSTANCE).isResolvable());
+    }
+
+    @Qualifier
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD, FIELD, PARAMETER })
+    public @interface Special {
+
+        final class Literal extends AnnotationLiteral<Special> implements Special {
+
+            static final Literal INSTANCE = new Literal();
+
+            private static final long serialVersionUID = 1L;
+
+        }
+
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Singleton
+    static class DefaultService implements Service {
+
+        @Override
+        public String ping() {
+            return "default";
+        }
+
+    }
+
+    @Alternative
+    @Priority(1)
+    @Singleton
+    static class AlternativeService implements Service {
+
+        @Override
+        public String ping() {
+            return "alternative";
+        }
+
+    }
+
+    @Special
+    @Singleton
+    static class SpecialService implements Service {
+
+        @Override
+        public String ping() {
+            return "special";
+        }
+
+    }
+
+    @Singleton
+    static class Client {
+
+        @Inject
+        Instance<Service> service;
+
+        @Special
+        @Any
+        @Inject
+        Instance<Service> special;
+
+        @Any
+        @Inject
+        Instance<Service> all;
+
+    }
+
+}
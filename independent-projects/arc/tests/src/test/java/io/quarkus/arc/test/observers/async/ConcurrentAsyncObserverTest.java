@@ -0,0 +1,100 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Concurrent;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ConcurrentAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Observers.class);
+
+    @Test
+    public void testConcurrentObservers() throws Exception {
+        Observers observers = Arc.container().instance(Observers.class).get();
+        Event<Ping> event = Arc.container().beanManager().getEvent().select(Ping.class);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            // The concurrent observers wait for each other, so they would time out if notified serially
+            Ping ping = new Ping(false);
+            assertEquals(ping, event.fireAsync(ping, NotificationOptions.ofExecutor(executor)).toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS));
+            assertEquals(3, observers.events.size());
+            assertTrue(observers.events.containsAll(List.of("serial", "alpha", "bravo")));
+
+            observers.reset();
+            ExecutionException failure = assertThrows(ExecutionException.class,
+                    () -> event.fireAsync(new Ping(true), NotificationOptions.ofExecutor(executor)).toCompletableFuture()
+                            .get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+            assertEquals("alpha", failure.getCause().getMessage());
+            assertEquals(2, observers.events.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    record Ping(boolean fail) {
+    }
+
+    @Singleton
+    static class Observers {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        volatile CountDownLatch latch = new CountDownLatch(2);
+
+        void reset() {
+            events.clear();
+            latch = new CountDownLatch(2);
+        }
+
+        void serial(@ObservesAsync Ping ping) {
+            events.add("serial");
+        }
+
+        @Concurrent
+        void alpha(@ObservesAsync Ping ping) throws InterruptedException {
+            await();
+            if (ping.fail()) {
+                throw new IllegalStateException("alpha");
+            }
+            events.add("alpha");
+        }
+
+        void bravo(@ObservesAsync @Concurrent Ping ping) throws InterruptedException {
+            await();
+            events.add("bravo");
+        }
+
+        private void await() throws InterruptedException {
+            latch.countDown();
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Not notified concurrently");
+            }
+        }
+
+    }
+
+}
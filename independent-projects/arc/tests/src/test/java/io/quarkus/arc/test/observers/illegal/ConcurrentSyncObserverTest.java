@@ -0,0 +1,38 @@
+package io.quarkus.arc.test.observers.illegal;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.DefinitionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Concurrent;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ConcurrentSyncObserverTest {
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Observer.class)
+            .shouldFail()
+            .build();
+
+    @Test
+    public void trigger() {
+        Throwable error = container.getFailure();
+        assertNotNull(error);
+        assertInstanceOf(DefinitionException.class, error);
+        assertTrue(error.getMessage().contains("Synchronous observer method must not be annotated @Concurrent"));
+    }
+
+    @Dependent
+    static class Observer {
+        @Concurrent
+        void observe(@Observes String ignored) {
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package io.quarkus.arc.test.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.impl.StartupProfiler;
+import io.quarkus.arc.impl.StartupProfiler.Entry;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class StartupProfilingTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Service.class, Producers.class, Observer.class, Failing.class, FailingObserver.class)
+            .startupProfiling(true)
+            .build();
+
+    @Test
+    public void testProfile() {
+        StartupProfiler.start();
+        try {
+            Arc.container().beanManager().getEvent().select(String.class).fire("start");
+        } finally {
+            StartupProfiler.stop();
+        }
+        List<Entry> profile = StartupProfiler.getProfile();
+
+        Entry observer = find(profile, StartupProfiler.OBSERVER, Observer.class.getName() + "#onStart(java.lang.String)");
+        Entry service = find(profile, StartupProfiler.CREATE, Service.class.getName());
+        Entry postConstruct = find(profile, StartupProfiler.POST_CONSTRUCT, Service.class.getName());
+        Entry ping = find(profile, StartupProfiler.CREATE, Producers.class.getName() + "#ping()");
+        assertNotNull(observer);
+        assertNotNull(service);
+        assertNotNull(postConstruct);
+        assertNotNull(ping);
+        // Not created during the recording
+        assertNull(find(profile, StartupProfiler.CREATE, Producers.class.getName() + "#unused()"));
+
+        assertEquals(1, service.getCount());
+        assertEquals(2, ping.getCount());
+        assertTrue(ping.getWallTime() >= TimeUnit.MILLISECONDS.toNanos(40), "" + ping);
+        assertTrue(postConstruct.getWallTime() >= TimeUnit.MILLISECONDS.toNanos(20), "" + postConstruct);
+        // The nested operations are not included in the self time
+        assertTrue(service.getWallTime() >= postConstruct.getWallTime() + ping.getWallTime(), "" + service);
+        assertTrue(service.getSelfWallTime() <= service.getWallTime() - postConstruct.getWallTime() - ping.getWallTime(),
+                "" + service);
+        assertTrue(observer.getSelfWallTime() <= observer.getWallTime() - service.getWallTime(), "" + observer);
+        // Sorted by self time
+        for (int i = 1; i < profile.size(); i++) {
+            assertTrue(profile.get(i - 1).getSelfWallTime() >= profile.get(i).getSelfWallTime());
+        }
+    }
+
+    @Test
+    public void testFailure() {
+        StartupProfiler.start();
+        try {
+            assertThrows(IllegalStateException.class,
+                    () -> Arc.container().beanManager().getEvent().select(Integer.class).fire(1));
+            Arc.container().beanManager().getEvent().select(String.class).fire("start");
+        } finally {
+            StartupProfiler.stop();
+        }
+        List<Entry> profile = StartupProfiler.getProfile();
+
+        // The operations that failed are recorded as well
+        Entry failingObserver = find(profile, StartupProfiler.OBSERVER,
+                FailingObserver.class.getName() + "#onStart(java.lang.Integer)");
+        Entry failing = find(profile, StartupProfiler.CREATE, Failing.class.getName());
+        Entry postConstruct = find(profile, StartupProfiler.POST_CONSTRUCT, Failing.class.getName());
+        assertNotNull(failingObserver);
+        assertNotNull(failing);
+        assertNotNull(postConstruct);
+        assertEquals(1, failing.getCount());
+        assertTrue(postConstruct.getWallTime() >= TimeUnit.MILLISECONDS.toNanos(20), "" + postConstruct);
+        assertTrue(failingObserver.getSelfWallTime() <= failingObserver.getWallTime() - failing.getWallTime(),
+                "" + failingObserver);
+        // The next operations are not nested in the failed ones
+        assertNotNull(find(profile, StartupProfiler.OBSERVER, Observer.class.getName() + "#onStart(java.lang.String)"));
+        assertNotNull(find(profile, StartupProfiler.CREATE, Service.class.getName()));
+    }
+
+    @Test
+    public void testNotRecording() {
+        StartupProfiler.start();
+        StartupProfiler.stop();
+        Arc.container().beanManager().getEvent().select(String.class).fire("start");
+        assertTrue(StartupProfiler.getProfile().isEmpty());
+    }
+
+    private static Entry find(List<Entry> profile, String kind, String description) {
+        for (Entry entry : profile) {
+            if (entry.getKind().equals(kind) && entry.getDescription().equals(description)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    static void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class Ping {
+    }
+
+    static class Pong {
+    }
+
+    @Singleton
+    static class Producers {
+
+        @Produces
+        @Dependent
+        Ping ping() {
+            sleep();
+            return new Ping();
+        }
+
+        @Produces
+        @Dependent
+        Pong unused() {
+            return new Pong();
+        }
+
+    }
+
+    @Singleton
+    static class Service {
+
+        final Ping ping1;
+        final Ping ping2;
+
+        Service(Ping ping1, Ping ping2) {
+            this.ping1 = ping1;
+            this.ping2 = ping2;
+        }
+
+        @PostConstruct
+        void init() {
+            sleep();
+        }
+
+    }
+
+    @Singleton
+    static class Observer {
+
+        void onStart(@Observes String event, Service service) {
+        }
+
+    }
+
+    @Dependent
+    static class Failing {
+
+        @PostConstruct
+        void init() {
+            sleep();
+            throw new IllegalStateException();
+        }
+
+    }
+
+    @Singleton
+    static class FailingObserver {
+
+        void onStart(@Observes Integer event, Failing failing) {
+        }
+
+    }
+
+}
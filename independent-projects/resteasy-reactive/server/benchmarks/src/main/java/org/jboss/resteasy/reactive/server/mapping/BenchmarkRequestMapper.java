@@ -0,0 +1,105 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares resolving a path through the {@link RequestPathTrie} with trying every candidate of the matched stem in
+ * sort order, which is what {@link RequestMapper} used to do.
+ * <p>
+ * With {@code sharedStem} all the endpoints start with a path parameter, so they all end up in the same candidate
+ * list, which is the worst case for the linear scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkRequestMapper {
+
+    @Param({ "10", "100", "600" })
+    public int endpoints;
+
+    @Param({ "true", "false" })
+    public boolean sharedStem;
+
+    private RequestMapper<String> mapper;
+    private String[] paths;
+    private int next;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        String prefix = sharedStem ? "/{tenant}" : "/tenant";
+        for (int i = 0; i < endpoints; ++i) {
+            add(templates, prefix + "/resource" + i);
+            add(templates, prefix + "/resource" + i + "/{id}");
+            add(templates, prefix + "/resource" + i + "/{id}/items/{item}");
+        }
+        mapper = new RequestMapper<>(templates);
+        paths = new String[] {
+                "/tenant/resource0",
+                "/tenant/resource" + (endpoints / 2) + "/42",
+                "/tenant/resource" + (endpoints - 1) + "/42/items/7",
+                "/tenant/unknown/42"
+        };
+    }
+
+    private static void add(ArrayList<RequestMapper.RequestPath<String>> templates, String template) {
+        templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+    }
+
+    private String nextPath() {
+        String path = paths[next];
+        next = (next + 1) % paths.length;
+        return path;
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> trie() {
+        return mapper.map(nextPath());
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> linearScan() {
+        String path = nextPath();
+        RequestMapper.RequestMatch<String> result = linearScan(path, mapper.getRequestPaths().matchPrefix(path));
+        if (result != null) {
+            return result;
+        }
+        return linearScan(path, mapper.getRequestPaths().defaultPrefix());
+    }
+
+    private RequestMapper.RequestMatch<String> linearScan(String path,
+            SubstringMap.SubstringMatch<RequestPathTrie<String>> prefix) {
+        if (prefix.getValue() == null) {
+            return null;
+        }
+        for (RequestMapper.RequestPath<String> candidate : prefix.getValue().getPaths()) {
+            RequestMapper.RequestMatch<String> result = mapper.matchCandidate(path, candidate, prefix.getKey().length());
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc" });
+    }
+
+}
@@ -61,7 +61,12 @@ public static void doLegacyWrite(Object o, Annotation[] annotations, Multivalued
                     }
                 }
             }
-            entityStream.write(defaultWriter.writeValueAsString(o).getBytes(StandardCharsets.UTF_8));
+            if (entityStream instanceof StreamingOutputStream) {
+                // the stream is only a buffer, so there is no need to serialize to a String first to avoid partial writes
+                defaultWriter.writeValue(entityStream, o);
+            } else {
+                entityStream.write(defaultWriter.writeValueAsString(o).getBytes(StandardCharsets.UTF_8));
+            }
         }
     }
 
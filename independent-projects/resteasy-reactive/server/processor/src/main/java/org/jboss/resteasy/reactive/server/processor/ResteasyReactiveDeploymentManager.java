@@ -103,6 +103,8 @@ public static class ScanStep {
 
         private boolean removesTrailingSlash = true;
 
+        private boolean endpointProfiling;
+
         private Map<DotName, ClassInfo> additionalResources = new HashMap<>();
         private Map<DotName, String> additionalResourcePaths = new HashMap<>();
         private Set<String> excludedClasses = new HashSet<>();
@@ -206,6 +208,11 @@ public ScanStep setRemovesTrailingSlash(boolean removesTrailingSlash) {
             return this;
         }
 
+        public ScanStep setEndpointProfiling(boolean endpointProfiling) {
+            this.endpointProfiling = endpointProfiling;
+            return this;
+        }
+
         public ScanResult scan() {
 
             ApplicationScanningResult applicationScanningResult = ResteasyReactiveScanner.scanForApplicationClass(index,
@@ -445,6 +452,7 @@ public Application get() {
                 path = getApplicationPath();
             }
             info.setApplicationPath(path);
+            info.setEndpointProfiling(scanStep.endpointProfiling);
             List<Closeable> closeTasks = new ArrayList<>();
             Supplier<Executor> executorSupplier = new Supplier<Executor>() {
                 @Override
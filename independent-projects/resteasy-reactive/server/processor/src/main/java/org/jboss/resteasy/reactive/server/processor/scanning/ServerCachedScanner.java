@@ -0,0 +1,83 @@
+package org.jboss.resteasy.reactive.server.processor.scanning;
+
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.GET;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.ServerCached;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.ServerCachedCustomizer;
+
+public class ServerCachedScanner implements MethodScanner {
+
+    public static final DotName SERVER_CACHED = DotName.createSimple(ServerCached.class.getName());
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        boolean get = annotationStore.hasAnnotation(method, GET);
+
+        AnnotationInstance instance = annotationStore.getAnnotation(method, SERVER_CACHED);
+        if (instance != null) {
+            if (!get) {
+                throw new IllegalStateException(
+                        "'@ServerCached' can only be used on GET resource methods. Offending method is '"
+                                + method.name() + "' of class '" + method.declaringClass().name() + "'");
+            }
+        } else if (get) {
+            instance = annotationStore.getAnnotation(actualEndpointClass, SERVER_CACHED);
+            if (instance == null && !actualEndpointClass.equals(method.declaringClass())) {
+                instance = annotationStore.getAnnotation(method.declaringClass(), SERVER_CACHED);
+            }
+        }
+        if (instance == null) {
+            return Collections.emptyList();
+        }
+
+        ServerCachedCustomizer customizer = new ServerCachedCustomizer()
+                .setTtl(ServerCached.DEFAULT_TTL)
+                .setVaryByHeaders(new String[0])
+                .setVaryByQuery(true)
+                .setCacheName(ServerCached.DEFAULT_CACHE_NAME)
+                .setMaxEntries(ServerCached.DEFAULT_MAX_ENTRIES);
+        AnnotationValue ttlValue = instance.value("ttl");
+        if (ttlValue != null) {
+            if (ttlValue.asInt() <= 0) {
+                throw new IllegalStateException("'@ServerCached' requires a positive ttl. Offending method is '"
+                        + method.name() + "' of class '" + method.declaringClass().name() + "'");
+            }
+            customizer.setTtl(ttlValue.asInt());
+        }
+        AnnotationValue varyByHeadersValue = instance.value("varyByHeaders");
+        if (varyByHeadersValue != null) {
+            customizer.setVaryByHeaders(varyByHeadersValue.asStringArray());
+        }
+        AnnotationValue varyByQueryValue = instance.value("varyByQuery");
+        if (varyByQueryValue != null) {
+            customizer.setVaryByQuery(varyByQueryValue.asBoolean());
+        }
+        AnnotationValue cacheNameValue = instance.value("cacheName");
+        if (cacheNameValue != null) {
+            customizer.setCacheName(cacheNameValue.asString());
+        }
+        AnnotationValue maxEntriesValue = instance.value("maxEntries");
+        if (maxEntriesValue != null) {
+            if (maxEntriesValue.asInt() <= 0) {
+                throw new IllegalStateException("'@ServerCached' requires a positive maxEntries. Offending method is '"
+                        + method.name() + "' of class '" + method.declaringClass().name() + "'");
+            }
+            customizer.setMaxEntries(maxEntriesValue.asInt());
+        }
+        return Collections.singletonList(customizer);
+    }
+}
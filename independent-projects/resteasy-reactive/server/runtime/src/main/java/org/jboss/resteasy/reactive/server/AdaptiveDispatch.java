@@ -0,0 +1,23 @@
+package org.jboss.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets the runtime move a blocking resource method between the worker pool and virtual threads, depending on the
+ * latency observed on each of them.
+ * <p>
+ * The method must run on virtual threads, e.g. because it is annotated with {@code @RunOnVirtualThread}, so that it
+ * goes through the same checks as the other methods that do, and requests are dispatched to virtual threads at first.
+ * A small share of the requests keeps being dispatched to the other kind of threads, and the method moves to it once
+ * it consistently serves requests faster, e.g. because the worker pool is saturated or because the method pins its
+ * virtual threads to their carrier.
+ * <p>
+ * The method must be safe to run on both kinds of threads.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdaptiveDispatch {
+}
@@ -0,0 +1,61 @@
+package org.jboss.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the serialized responses of a {@code GET} resource method on the server, so that subsequent requests for the
+ * same resource are answered from the cache without invoking the resource method or serializing its result again.
+ * <p>
+ * Only successful ({@code 200}) responses with an entity are cached, and only the entity and its content type are
+ * kept, not the headers set by the resource method. Cached responses carry an {@code ETag} header, and requests with a
+ * matching {@code If-None-Match} header are answered with a {@code 304 Not Modified}.
+ * <p>
+ * The lookup happens right before the resource method is invoked, so request filters, and therefore security checks,
+ * still run for requests answered from the cache. Requests made by an authenticated user, or with an
+ * {@code Authorization} header or one of the {@link org.jboss.resteasy.reactive.server.core.Deployment#getCredentialCookies()
+ * credential cookies}, are neither answered from nor stored in the cache, as their responses may depend on who makes
+ * them. Responses carry a {@code Vary} header with the {@link #varyByHeaders()}.
+ * <p>
+ * When used on a class, it applies to all its {@code GET} resource methods.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ServerCached {
+
+    int DEFAULT_TTL = 60;
+
+    String DEFAULT_CACHE_NAME = "resteasy-reactive-server";
+
+    int DEFAULT_MAX_ENTRIES = 1000;
+
+    /**
+     * The number of seconds a response is served from the cache
+     */
+    int ttl() default DEFAULT_TTL;
+
+    /**
+     * The request headers whose values are part of the cache key, e.g. {@code Accept-Language}
+     */
+    String[] varyByHeaders() default {};
+
+    /**
+     * Whether the query string is part of the cache key
+     */
+    boolean varyByQuery() default true;
+
+    /**
+     * The name of the cache the responses are stored in, when the runtime provides one
+     *
+     * @see org.jboss.resteasy.reactive.server.spi.ServerResponseCache.Provider
+     */
+    String cacheName() default DEFAULT_CACHE_NAME;
+
+    /**
+     * The maximum number of responses kept in memory for the resource method, when the runtime does not provide a
+     * cache. The least recently used responses are evicted first.
+     */
+    int maxEntries() default DEFAULT_MAX_ENTRIES;
+}
@@ -1,10 +1,18 @@
 package org.jboss.resteasy.reactive.server;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * The only reason we use this is to give MessageBodyWriter classes the ability to tell
  * if they are being called in a streaming context
  */
 public class StreamingOutputStream extends ByteArrayOutputStream {
+
+    /**
+     * @return a view of the bytes written so far, which unlike {@link #toByteArray()} does not copy them
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(buf, 0, count);
+    }
 }
@@ -20,6 +20,7 @@
 import org.jboss.resteasy.reactive.common.util.types.Types;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.ParameterConverter;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.RuntimeParameterConverter;
+import org.jboss.resteasy.reactive.server.core.profiling.EndpointProfile;
 import org.jboss.resteasy.reactive.server.core.serialization.EntityWriter;
 import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
 import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
@@ -27,6 +28,7 @@
 import org.jboss.resteasy.reactive.server.model.ParamConverterProviders;
 import org.jboss.resteasy.reactive.server.spi.GenericRuntimeConfigurableServerRestHandler;
 import org.jboss.resteasy.reactive.server.spi.RuntimeConfiguration;
+import org.jboss.resteasy.reactive.server.spi.ServerResponseCache;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.spi.BeanFactory.BeanInstance;
 import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
@@ -52,6 +54,9 @@ public class Deployment {
     private final Map<String, List<String>> disabledEndpoints;
     //this is not final, as it is set after startup
     private RuntimeConfiguration runtimeConfiguration;
+    private ServerResponseCache.Provider serverResponseCacheProvider;
+    private List<String> credentialCookies = List.of();
+    private final List<EndpointProfile> endpointProfiles;
 
     public Deployment(ExceptionMapping exceptionMapping,
             ContextResolvers contextResolvers,
@@ -66,7 +71,8 @@ public Deployment(ExceptionMapping exceptionMapping,
             RuntimeExceptionMapper exceptionMapper,
             boolean servletPresent,
             ResteasyReactiveConfig resteasyReactiveConfig,
-            Map<String, List<String>> disabledEndpoints) {
+            Map<String, List<String>> disabledEndpoints,
+            List<EndpointProfile> endpointProfiles) {
         this.exceptionMapping = exceptionMapping;
         this.contextResolvers = contextResolvers;
         this.serialisers = serialisers;
@@ -85,6 +91,7 @@ public Deployment(ExceptionMapping exceptionMapping,
         this.servletPresent = servletPresent;
         this.resteasyReactiveConfig = resteasyReactiveConfig;
         this.disabledEndpoints = disabledEndpoints;
+        this.endpointProfiles = endpointProfiles;
     }
 
     public RuntimeExceptionMapper getExceptionMapper() {
@@ -212,7 +219,40 @@ public Deployment setRuntimeConfiguration(RuntimeConfiguration runtimeConfigurat
         return this;
     }
 
+    /**
+     * @return the provider of the caches of {@link org.jboss.resteasy.reactive.server.ServerCached} resource methods,
+     *         or {@code null} if their responses are kept in memory
+     */
+    public ServerResponseCache.Provider getServerResponseCacheProvider() {
+        return serverResponseCacheProvider;
+    }
+
+    public Deployment setServerResponseCacheProvider(ServerResponseCache.Provider serverResponseCacheProvider) {
+        this.serverResponseCacheProvider = serverResponseCacheProvider;
+        return this;
+    }
+
+    /**
+     * @return the names of the cookies that carry the credentials of the caller, e.g. a session cookie, which may not
+     *         have been turned into an identity yet when a request reaches a {@code ServerCached} resource method
+     */
+    public List<String> getCredentialCookies() {
+        return credentialCookies;
+    }
+
+    public Deployment setCredentialCookies(List<String> credentialCookies) {
+        this.credentialCookies = credentialCookies;
+        return this;
+    }
+
     public Map<String, List<String>> getDisabledEndpoints() {
         return disabledEndpoints;
     }
+
+    /**
+     * @return the latency profiles of the resource methods that are profiled
+     */
+    public List<EndpointProfile> getEndpointProfiles() {
+        return endpointProfiles;
+    }
 }
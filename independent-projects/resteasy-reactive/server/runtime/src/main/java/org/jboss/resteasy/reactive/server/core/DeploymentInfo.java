@@ -39,6 +39,7 @@ public class DeploymentInfo {
     private List<HandlerChainCustomizer> globalHandlerCustomizers = new ArrayList<>();
     private boolean developmentMode;
     private boolean servletPresent = false;
+    private boolean endpointProfiling;
 
     public ResourceInterceptors getInterceptors() {
         return interceptors;
@@ -201,4 +202,17 @@ public DeploymentInfo setServletPresent(boolean servletPresent) {
         this.servletPresent = servletPresent;
         return this;
     }
+
+    public boolean isEndpointProfiling() {
+        return endpointProfiling;
+    }
+
+    /**
+     * Whether the latency of all the resource methods is profiled, and not only the ones that need it to adapt their
+     * dispatch
+     */
+    public DeploymentInfo setEndpointProfiling(boolean endpointProfiling) {
+        this.endpointProfiling = endpointProfiling;
+        return this;
+    }
 }
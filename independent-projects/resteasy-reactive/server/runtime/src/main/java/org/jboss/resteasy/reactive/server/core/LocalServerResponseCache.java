@@ -0,0 +1,63 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.jboss.resteasy.reactive.server.spi.CachedServerResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerResponseCache;
+
+/**
+ * The in memory {@link ServerResponseCache} used when the runtime does not provide one.
+ * <p>
+ * It keeps up to a maximum number of responses, evicting the least recently used one when a new one is added.
+ */
+public class LocalServerResponseCache implements ServerResponseCache {
+
+    private final Map<String, CompletableFuture<CachedServerResponse>> entries;
+
+    public LocalServerResponseCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<CachedServerResponse>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public CompletionStage<CachedServerResponse> getValue(String key,
+            Function<String, CompletionStage<CachedServerResponse>> loader) {
+        CompletableFuture<CachedServerResponse> created;
+        synchronized (entries) {
+            CompletableFuture<CachedServerResponse> existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            created = new CompletableFuture<>();
+            entries.put(key, created);
+        }
+        // an evicted pending entry is still completed for the requests waiting for it
+        loader.apply(key).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                synchronized (entries) {
+                    entries.remove(key, created);
+                }
+                created.completeExceptionally(throwable);
+            } else {
+                created.complete(response);
+            }
+        });
+        return created;
+    }
+
+    @Override
+    public CompletionStage<Void> invalidate(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -5,6 +5,7 @@
 import java.io.InputStream;
 import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -52,6 +53,7 @@
 import org.jboss.resteasy.reactive.server.multipart.MultipartFormDataOutput;
 import org.jboss.resteasy.reactive.server.providers.serialisers.ServerBooleanMessageBodyHandler;
 import org.jboss.resteasy.reactive.server.providers.serialisers.ServerByteArrayMessageBodyHandler;
+import org.jboss.resteasy.reactive.server.providers.serialisers.ServerByteBufferMessageBodyHandler;
 import org.jboss.resteasy.reactive.server.providers.serialisers.ServerCharArrayMessageBodyHandler;
 import org.jboss.resteasy.reactive.server.providers.serialisers.ServerCharacterMessageBodyHandler;
 import org.jboss.resteasy.reactive.server.providers.serialisers.ServerDefaultTextPlainBodyHandler;
@@ -119,6 +121,8 @@ public void accept(ResteasyReactiveRequestContext context) {
                     MediaType.TEXT_PLAIN),
             new Serialisers.BuiltinWriter(byte[].class, ServerByteArrayMessageBodyHandler.class,
                     MediaType.WILDCARD),
+            new Serialisers.BuiltinWriter(ByteBuffer.class, ServerByteBufferMessageBodyHandler.class,
+                    MediaType.WILDCARD),
             new Serialisers.BuiltinWriter(MultivaluedMap.class, ServerFormUrlEncodedProvider.class,
                     MediaType.APPLICATION_FORM_URLENCODED),
             new Serialisers.BuiltinWriter(InputStream.class, ServerInputStreamMessageBodyHandler.class,
@@ -31,33 +31,27 @@ public static CompletionStage<?> send(ResteasyReactiveRequestContext context,
             // FIXME: check spec
             return CompletableFuture.completedFuture(null);
         }
-        byte[] data;
+        // the prefix, entity and suffix are all written to the same buffer, which is then handed to the response as is
+        StreamingOutputStream data = new StreamingOutputStream();
         try {
-            data = serialiseEntity(context, entity);
+            if (prefix != null) {
+                data.write(prefix.getBytes(StandardCharsets.US_ASCII));
+            }
+            serialiseEntity(context, entity, data);
+            if (suffix != null) {
+                data.write(suffix.getBytes(StandardCharsets.US_ASCII));
+            }
         } catch (Exception e) {
             CompletableFuture<?> ret = new CompletableFuture<>();
             ret.completeExceptionally(e);
             return ret;
         }
         setHeaders(context, response, customizers);
-        if (prefix != null) {
-            byte[] prefixBytes = prefix.getBytes(StandardCharsets.US_ASCII);
-            byte[] prefixedData = new byte[prefixBytes.length + data.length];
-            System.arraycopy(prefixBytes, 0, prefixedData, 0, prefixBytes.length);
-            System.arraycopy(data, 0, prefixedData, prefixBytes.length, data.length);
-            data = prefixedData;
-        }
-        if (suffix != null) {
-            byte[] suffixBytes = suffix.getBytes(StandardCharsets.US_ASCII);
-            byte[] suffixedData = new byte[data.length + suffixBytes.length];
-            System.arraycopy(data, 0, suffixedData, 0, data.length);
-            System.arraycopy(suffixBytes, 0, suffixedData, data.length, suffixBytes.length);
-            data = suffixedData;
-        }
-        return response.write(data);
+        return response.write(data.toByteBuffer());
     }
 
-    private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+    private static void serialiseEntity(ResteasyReactiveRequestContext context, Object entity, StreamingOutputStream baos)
+            throws IOException {
         ServerSerialisers serialisers = context.getDeployment().getSerialisers();
         Class<?> entityClass = entity.getClass();
         Type entityType = context.getGenericReturnType();
@@ -67,7 +61,6 @@ private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Ob
         MessageBodyWriter<Object>[] writers = (MessageBodyWriter<Object>[]) serialisers
                 .findWriters(null, entityClass, mediaType, RuntimeType.SERVER)
                 .toArray(ServerSerialisers.NO_WRITER);
-        StreamingOutputStream baos = new StreamingOutputStream();
         boolean wrote = false;
         for (MessageBodyWriter<Object> writer : writers) {
             if (writer.isWriteable(entityClass, entityType, context.getAllAnnotations(), mediaType)) {
@@ -82,7 +75,6 @@ private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Ob
             throw new IllegalStateException(
                     "Could not find MessageBodyWriter for " + entityClass + " / " + entityType + " as " + mediaType);
         }
-        return baos.toByteArray();
     }
 
     public static void setHeaders(ResteasyReactiveRequestContext context, ServerHttpResponse response,
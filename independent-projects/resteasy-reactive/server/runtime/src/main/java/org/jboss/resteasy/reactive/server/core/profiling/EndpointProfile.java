@@ -0,0 +1,195 @@
+package org.jboss.resteasy.reactive.server.core.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.ws.rs.container.CompletionCallback;
+
+/**
+ * The latency profile of a resource method: how long its requests take from the moment they are matched to the
+ * moment their response has been written, how long they wait for a thread when they are dispatched off the event
+ * loop, and how often they are.
+ * <p>
+ * For {@link org.jboss.resteasy.reactive.server.AdaptiveDispatch} methods, it also decides whether requests are
+ * dispatched to the worker pool or to virtual threads.
+ */
+public final class EndpointProfile {
+
+    public static final String SAMPLE_PROPERTY = EndpointProfile.class.getName() + ".sample";
+
+    /**
+     * One request in 32 is dispatched to the thread kind that is not preferred, to keep its latency estimate fresh
+     */
+    static final int EXPLORATION_INTERVAL = 32;
+    /**
+     * The other thread kind must be faster by this ratio to become the preferred one, to avoid flip-flopping
+     */
+    static final double SWITCH_RATIO = 0.8;
+    /**
+     * The weight of each request in the average latency of each thread kind
+     */
+    static final double EWMA_WEIGHT = 0.1;
+
+    private final String httpMethod;
+    private final String path;
+    private final String className;
+    private final String methodName;
+    private final boolean adaptive;
+
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+    private final LatencyHistogram queueTime = new LatencyHistogram();
+    private final LongAdder[] dispatches = new LongAdder[Dispatch.values().length];
+
+    private final AtomicLong decisions = new AtomicLong();
+    private volatile Dispatch preferred;
+    // updated without synchronization, losing a sample now and then does not matter for a moving average
+    private volatile double averageWorkerNanos = Double.NaN;
+    private volatile double averageVirtualThreadNanos = Double.NaN;
+    private final LongAdder switches = new LongAdder();
+
+    public EndpointProfile(String httpMethod, String path, String className, String methodName, boolean adaptive,
+            Dispatch initialDispatch) {
+        this.httpMethod = httpMethod;
+        this.path = path;
+        this.className = className;
+        this.methodName = methodName;
+        this.adaptive = adaptive;
+        this.preferred = initialDispatch;
+        for (int i = 0; i < dispatches.length; i++) {
+            dispatches[i] = new LongAdder();
+        }
+    }
+
+    public Sample startSample() {
+        return new Sample(System.nanoTime());
+    }
+
+    /**
+     * @return the thread kind the next request of an adaptive method should be dispatched to
+     */
+    public Dispatch nextBlockingDispatch() {
+        Dispatch preferred = this.preferred;
+        if (decisions.incrementAndGet() % EXPLORATION_INTERVAL == 0) {
+            return preferred == Dispatch.WORKER ? Dispatch.VIRTUAL_THREAD : Dispatch.WORKER;
+        }
+        return preferred;
+    }
+
+    void record(Sample sample, long endNanos) {
+        long nanos = endNanos - sample.startNanos;
+        serviceTime.record(nanos);
+        dispatches[sample.dispatch.ordinal()].increment();
+        if (sample.dispatch != Dispatch.EVENT_LOOP) {
+            queueTime.record(sample.queueNanos);
+            if (adaptive) {
+                updateAverages(sample.dispatch, nanos);
+            }
+        }
+    }
+
+    private void updateAverages(Dispatch dispatch, long nanos) {
+        if (dispatch == Dispatch.WORKER) {
+            averageWorkerNanos = average(averageWorkerNanos, nanos);
+        } else {
+            averageVirtualThreadNanos = average(averageVirtualThreadNanos, nanos);
+        }
+        Dispatch preferred = this.preferred;
+        double preferredNanos = preferred == Dispatch.WORKER ? averageWorkerNanos : averageVirtualThreadNanos;
+        double otherNanos = preferred == Dispatch.WORKER ? averageVirtualThreadNanos : averageWorkerNanos;
+        // NaN until the other thread kind has been tried, in which case the comparison is false
+        if (otherNanos < preferredNanos * SWITCH_RATIO) {
+            this.preferred = preferred == Dispatch.WORKER ? Dispatch.VIRTUAL_THREAD : Dispatch.WORKER;
+            switches.increment();
+        }
+    }
+
+    private static double average(double average, long nanos) {
+        return Double.isNaN(average) ? nanos : average + EWMA_WEIGHT * (nanos - average);
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * @return the time from the moment requests are matched to the moment their response has been written
+     */
+    public LatencyHistogram getServiceTime() {
+        return serviceTime;
+    }
+
+    /**
+     * @return the time requests dispatched off the event loop wait before a thread runs them
+     */
+    public LatencyHistogram getQueueTime() {
+        return queueTime;
+    }
+
+    public long getDispatches(Dispatch dispatch) {
+        return dispatches[dispatch.ordinal()].sum();
+    }
+
+    /**
+     * @return the thread kind requests are currently dispatched to, only meaningful for adaptive methods
+     */
+    public Dispatch getPreferredDispatch() {
+        return preferred;
+    }
+
+    /**
+     * @return how many times an adaptive method moved from one thread kind to the other
+     */
+    public long getSwitches() {
+        return switches.sum();
+    }
+
+    public enum Dispatch {
+        EVENT_LOOP,
+        WORKER,
+        VIRTUAL_THREAD
+    }
+
+    /**
+     * The measurements of a single request, recorded once it completes
+     */
+    public final class Sample implements CompletionCallback {
+
+        final long startNanos;
+        Dispatch dispatch = Dispatch.EVENT_LOOP;
+        long queueNanos;
+
+        Sample(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        public EndpointProfile getProfile() {
+            return EndpointProfile.this;
+        }
+
+        public void dispatched(Dispatch dispatch, long queueNanos) {
+            this.dispatch = dispatch;
+            this.queueNanos = queueNanos;
+        }
+
+        @Override
+        public void onComplete(Throwable throwable) {
+            record(this, System.nanoTime());
+        }
+    }
+}
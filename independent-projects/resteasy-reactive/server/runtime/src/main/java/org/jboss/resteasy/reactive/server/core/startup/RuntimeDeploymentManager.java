@@ -241,7 +241,7 @@ public void accept(String method, RequestMapper<RuntimeResource> mapper) {
                 threadSetupAction, requestContextFactory, preMatchHandlers, classMappers,
                 runtimeConfigurableServerRestHandlers, exceptionMapper, info.isServletPresent(),
                 info.getResteasyReactiveConfig(),
-                disabledEndpoints);
+                disabledEndpoints, runtimeResourceDeployment.getEndpointProfiles());
     }
 
     private void forEachMapperEntry(MappersKey key,
@@ -17,6 +17,7 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -41,6 +42,7 @@
 import org.jboss.resteasy.reactive.common.util.types.TypeSignatureParser;
 import org.jboss.resteasy.reactive.common.util.types.Types;
 import org.jboss.resteasy.reactive.multipart.FileUpload;
+import org.jboss.resteasy.reactive.server.AdaptiveDispatch;
 import org.jboss.resteasy.reactive.server.core.DeploymentInfo;
 import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
 import org.jboss.resteasy.reactive.server.core.parameters.AsyncResponseExtractor;
@@ -61,11 +63,13 @@
 import org.jboss.resteasy.reactive.server.core.parameters.RecordBeanParamExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.ParameterConverter;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.RuntimeResolvedConverter;
+import org.jboss.resteasy.reactive.server.core.profiling.EndpointProfile;
 import org.jboss.resteasy.reactive.server.core.serialization.DynamicEntityWriter;
 import org.jboss.resteasy.reactive.server.core.serialization.FixedEntityWriter;
 import org.jboss.resteasy.reactive.server.core.serialization.FixedEntityWriterArray;
 import org.jboss.resteasy.reactive.server.handlers.AbortChainHandler;
 import org.jboss.resteasy.reactive.server.handlers.BlockingHandler;
+import org.jboss.resteasy.reactive.server.handlers.EndpointProfilingHandler;
 import org.jboss.resteasy.reactive.server.handlers.ExceptionHandler;
 import org.jboss.resteasy.reactive.server.handlers.FixedProducesHandler;
 import org.jboss.resteasy.reactive.server.handlers.FormBodyHandler;
@@ -75,12 +79,14 @@
 import org.jboss.resteasy.reactive.server.handlers.NonBlockingHandler;
 import org.jboss.resteasy.reactive.server.handlers.ParameterHandler;
 import org.jboss.resteasy.reactive.server.handlers.PerRequestInstanceHandler;
+import org.jboss.resteasy.reactive.server.handlers.ProfiledBlockingHandler;
 import org.jboss.resteasy.reactive.server.handlers.PublisherResponseHandler;
 import org.jboss.resteasy.reactive.server.handlers.RequestDeserializeHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResourceLocatorHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResourceRequestFilterHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResponseHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResponseWriterHandler;
+import org.jboss.resteasy.reactive.server.handlers.SimpleParametersHandler;
 import org.jboss.resteasy.reactive.server.handlers.SseResponseWriterHandler;
 import org.jboss.resteasy.reactive.server.handlers.VariableProducesHandler;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
@@ -122,6 +128,8 @@ public class RuntimeResourceDeployment {
     private final BlockingHandler blockingHandler;
     private final BlockingHandler blockingHandlerVirtualThread;
     private final ResponseWriterHandler responseWriterHandler;
+    // the chain of a method is built once as a root resource and once as a locatable one, they share the profile
+    private final Map<ServerResourceMethod, EndpointProfile> endpointProfiles = new LinkedHashMap<>();
 
     public RuntimeResourceDeployment(DeploymentInfo info, Supplier<Executor> executorSupplier,
             Supplier<Executor> virtualExecutorSupplier,
@@ -141,6 +149,46 @@ public RuntimeResourceDeployment(DeploymentInfo info, Supplier<Executor> executo
         this.responseWriterHandler = new ResponseWriterHandler(dynamicEntityWriter);
     }
 
+    public List<EndpointProfile> getEndpointProfiles() {
+        return new ArrayList<>(endpointProfiles.values());
+    }
+
+    private EndpointProfile createEndpointProfile(ResourceClass clazz, ServerResourceMethod method) {
+        if (defaultBlocking) {
+            // everything already runs on the caller's thread
+            return null;
+        }
+        boolean adaptive = method.getMethodAnnotationNames() != null
+                && method.getMethodAnnotationNames().contains(AdaptiveDispatch.class.getName());
+        if (adaptive && !method.isBlocking()) {
+            throw new IllegalStateException("'@AdaptiveDispatch' can only be used on blocking resource methods. Offending "
+                    + "method is '" + method.getName() + "' of class '" + clazz.getClassName() + "'");
+        }
+        if (adaptive && !method.isRunOnVirtualThread()) {
+            // the method must have gone through the build time checks of virtual threads to be moved to them
+            throw new IllegalStateException("'@AdaptiveDispatch' can only be used on resource methods that run on "
+                    + "virtual threads. Offending method is '" + method.getName() + "' of class '" + clazz.getClassName()
+                    + "'");
+        }
+        if (!adaptive && !info.isEndpointProfiling()) {
+            return null;
+        }
+        EndpointProfile existing = endpointProfiles.get(method);
+        if (existing != null) {
+            return existing;
+        }
+        String path = clazz.getPath() == null ? "" : clazz.getPath();
+        if (method.getPath() != null) {
+            path = path.endsWith("/") || method.getPath().startsWith("/") ? path + method.getPath()
+                    : path + "/" + method.getPath();
+        }
+        EndpointProfile profile = new EndpointProfile(method.getHttpMethod(), path, clazz.getClassName(),
+                method.getName(), adaptive,
+                method.isRunOnVirtualThread() ? EndpointProfile.Dispatch.VIRTUAL_THREAD : EndpointProfile.Dispatch.WORKER);
+        endpointProfiles.put(method, profile);
+        return profile;
+    }
+
     public RuntimeResource buildResourceMethod(ResourceClass clazz,
             ServerResourceMethod method, boolean locatableResource, URITemplate classPathTemplate, DeploymentInfo info) {
         URITemplate methodPathTemplate = new URITemplate(method.getPath(), method.isResourceLocator());
@@ -193,6 +241,11 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
         // and that the items don't need to shifted when at the end of the method we set the
         // first item
         handlers.add(null);
+        EndpointProfile profile = createEndpointProfile(clazz, method);
+        if (profile != null) {
+            // first, so that the time spent in security checks and the like is accounted for
+            handlers.add(new EndpointProfilingHandler(profile));
+        }
         addHandlers(handlers, clazz, method, info, HandlerChainCustomizer.Phase.AFTER_MATCH);
         if (interceptorHandler != null) {
             handlers.add(interceptorHandler);
@@ -205,10 +258,14 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
         if (!defaultBlocking) {
             if (method.isBlocking()) {
                 if (method.isRunOnVirtualThread()) {
-                    handlers.add(blockingHandlerVirtualThread);
+                    handlers.add(profile == null ? blockingHandlerVirtualThread
+                            : new ProfiledBlockingHandler(profile, EndpointProfile.Dispatch.VIRTUAL_THREAD,
+                                    executorSupplier, virtualExecutorSupplier));
                     score.add(ScoreSystem.Category.Execution, ScoreSystem.Diagnostic.ExecutionVirtualThread);
                 } else {
-                    handlers.add(blockingHandler);
+                    handlers.add(profile == null ? blockingHandler
+                            : new ProfiledBlockingHandler(profile, EndpointProfile.Dispatch.WORKER,
+                                    executorSupplier, virtualExecutorSupplier));
                     score.add(ScoreSystem.Category.Execution, ScoreSystem.Diagnostic.ExecutionBlocking);
                 }
                 blockingHandlerIndex = Optional.of(handlers.size() - 1);
@@ -339,14 +396,23 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
         }
 
         addHandlers(handlers, clazz, method, info, HandlerChainCustomizer.Phase.RESOLVE_METHOD_PARAMETERS);
+        ParamConverterProviders paramConverterProviders = info.getParamConverterProviders();
+        boolean userProviderConvertersExist = !paramConverterProviders.getParamConverterProviders().isEmpty();
+        List<SimpleParametersHandler.Parameter> simpleParameters = new ArrayList<>();
         for (int i = 0; i < parameters.length; i++) {
             ServerMethodParameter param = (ServerMethodParameter) parameters[i];
             if (param.parameterType.equals(ParameterType.SKIPPED))
                 continue;
+            SimpleParametersHandler.Parameter simpleParameter = userProviderConvertersExist ? null
+                    : simpleParameter(i, pathParameterIndexes, param);
+            if (simpleParameter != null) {
+                simpleParameters.add(simpleParameter);
+                continue;
+            }
+            // keep the parameters in order, so that the first invalid one is the one that is reported
+            addSimpleParametersHandler(handlers, simpleParameters);
             ParameterExtractor extractor = parameterExtractor(pathParameterIndexes, locatableResource, param);
             ParameterConverter converter = null;
-            ParamConverterProviders paramConverterProviders = info.getParamConverterProviders();
-            boolean userProviderConvertersExist = !paramConverterProviders.getParamConverterProviders().isEmpty();
             if (param.converter != null) {
                 converter = param.converter.get();
                 if (userProviderConvertersExist) {
@@ -370,6 +436,7 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                     converter, param.parameterType,
                     param.isObtainedAsCollection(), param.isOptional()));
         }
+        addSimpleParametersHandler(handlers, simpleParameters);
         addHandlers(handlers, clazz, method, info, HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE);
         EndpointInvoker invoker = method.getInvoker().get();
         ServerRestHandler alternate = alternateInvoker(method, invoker);
@@ -637,6 +704,44 @@ private ServerRestHandler alternateInvoker(ServerResourceMethod method, Endpoint
         return null;
     }
 
+    /**
+     * @return the parameter if it can be handled by {@link SimpleParametersHandler}, null otherwise
+     */
+    private SimpleParametersHandler.Parameter simpleParameter(int index, Map<String, Integer> pathParameterIndexes,
+            ServerMethodParameter param) {
+        if (!param.isSingle() || param.isOptional() || param.isObtainedAsCollection()
+                || param.customParameterExtractor != null || param.type == null) {
+            return null;
+        }
+        SimpleParametersHandler.ValueType valueType = SimpleParametersHandler.ValueType.forType(param.type);
+        if (valueType == null) {
+            return null;
+        }
+        switch (param.parameterType) {
+            case PATH:
+                Integer pathIndex = pathParameterIndexes.get(param.name);
+                if (pathIndex == null) {
+                    return null;
+                }
+                return new SimpleParametersHandler.Parameter(index, param.parameterType, param.name, pathIndex,
+                        param.encoded, param.getDefaultValue(), valueType);
+            case QUERY:
+            case HEADER:
+                return new SimpleParametersHandler.Parameter(index, param.parameterType, param.name, -1,
+                        param.encoded, param.getDefaultValue(), valueType);
+            default:
+                return null;
+        }
+    }
+
+    private static void addSimpleParametersHandler(List<ServerRestHandler> handlers,
+            List<SimpleParametersHandler.Parameter> simpleParameters) {
+        if (!simpleParameters.isEmpty()) {
+            handlers.add(new SimpleParametersHandler(simpleParameters.toArray(new SimpleParametersHandler.Parameter[0])));
+            simpleParameters.clear();
+        }
+    }
+
     public ParameterExtractor parameterExtractor(Map<String, Integer> pathParameterIndexes, boolean locatableResource,
             ServerMethodParameter param) {
         ParameterExtractor extractor;
@@ -0,0 +1,25 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.profiling.EndpointProfile;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Starts measuring a request as soon as it has been matched, the measurement is recorded in the
+ * {@link EndpointProfile} once the request completes.
+ */
+public class EndpointProfilingHandler implements ServerRestHandler {
+
+    private final EndpointProfile profile;
+
+    public EndpointProfilingHandler(EndpointProfile profile) {
+        this.profile = profile;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        EndpointProfile.Sample sample = profile.startSample();
+        requestContext.setProperty(EndpointProfile.SAMPLE_PROPERTY, sample);
+        requestContext.registerCompletionCallback(sample);
+    }
+}
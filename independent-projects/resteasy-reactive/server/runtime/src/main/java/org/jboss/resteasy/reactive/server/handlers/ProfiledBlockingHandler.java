@@ -0,0 +1,93 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.jboss.resteasy.reactive.server.core.BlockingOperationSupport;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.profiling.EndpointProfile;
+import org.jboss.resteasy.reactive.server.core.profiling.EndpointProfile.Dispatch;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * The {@link BlockingHandler} of profiled endpoints, which also measures how long requests wait for a thread, and
+ * for {@link org.jboss.resteasy.reactive.server.AdaptiveDispatch} methods lets the {@link EndpointProfile} choose
+ * between the worker pool and virtual threads.
+ */
+public class ProfiledBlockingHandler implements ServerRestHandler {
+
+    private final EndpointProfile profile;
+    private final Dispatch dispatch;
+    private final Supplier<Executor> workerSupplier;
+    private final Supplier<Executor> virtualThreadSupplier;
+    private volatile Executor worker;
+    private volatile Executor virtualThread;
+
+    /**
+     * @param dispatch the thread kind requests are dispatched to, ignored for adaptive methods
+     */
+    public ProfiledBlockingHandler(EndpointProfile profile, Dispatch dispatch, Supplier<Executor> workerSupplier,
+            Supplier<Executor> virtualThreadSupplier) {
+        this.profile = profile;
+        this.dispatch = dispatch;
+        this.workerSupplier = workerSupplier;
+        this.virtualThreadSupplier = virtualThreadSupplier;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (BlockingOperationSupport.isBlockingAllowed()) {
+            return; //already dispatched
+        }
+        Dispatch dispatch = profile.isAdaptive() ? profile.nextBlockingDispatch() : this.dispatch;
+        Executor executor;
+        if (dispatch == Dispatch.VIRTUAL_THREAD) {
+            executor = virtualThread;
+            if (executor == null) {
+                virtualThread = executor = virtualThreadSupplier.get();
+            }
+        } else {
+            executor = worker;
+            if (executor == null) {
+                worker = executor = workerSupplier.get();
+            }
+        }
+        EndpointProfile.Sample sample = (EndpointProfile.Sample) requestContext.getProperty(EndpointProfile.SAMPLE_PROPERTY);
+        requestContext.suspend();
+        requestContext.resume(sample == null ? executor : new TimedExecutor(executor, sample, dispatch));
+    }
+
+    /**
+     * Records how long the first task waited for a thread, the request may be resumed on this executor again later
+     */
+    private static final class TimedExecutor implements Executor {
+
+        private final Executor delegate;
+        private final EndpointProfile.Sample sample;
+        private final Dispatch dispatch;
+        private boolean measured;
+
+        TimedExecutor(Executor delegate, EndpointProfile.Sample sample, Dispatch dispatch) {
+            this.delegate = delegate;
+            this.sample = sample;
+            this.dispatch = dispatch;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (measured) {
+                delegate.execute(command);
+                return;
+            }
+            measured = true;
+            long submitted = System.nanoTime();
+            delegate.execute(new Runnable() {
+                @Override
+                public void run() {
+                    sample.dispatched(dispatch, System.nanoTime() - submitted);
+                    command.run();
+                }
+            });
+        }
+    }
+}
@@ -48,6 +48,17 @@ public void beginProcessing(Object externalHttpContext) {
         rq.run();
     }
 
+    /**
+     * Processes a request with a context created by the given factory instead of the one of the deployment, for
+     * requests that are not backed by their own HTTP exchange, such as the requests of a batch.
+     */
+    public void beginProcessing(Object externalHttpContext, RequestContextFactory requestContextFactory) {
+        ResteasyReactiveRequestContext rq = requestContextFactory.createContext(deployment, externalHttpContext,
+                requestContext,
+                initialChain, deployment.getAbortHandlerChain());
+        rq.run();
+    }
+
     public void beginProcessing(Object externalHttpContext, Throwable throwable) {
         ResteasyReactiveRequestContext rq = requestContextFactory.createContext(deployment, externalHttpContext,
                 requestContext,
@@ -56,6 +67,10 @@ public void beginProcessing(Object externalHttpContext, Throwable throwable) {
         rq.run();
     }
 
+    public Deployment getDeployment() {
+        return deployment;
+    }
+
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
         RequestMapper.RequestMatch<InitialMatch> target = mappers.map(requestContext.getPathWithoutPrefix());
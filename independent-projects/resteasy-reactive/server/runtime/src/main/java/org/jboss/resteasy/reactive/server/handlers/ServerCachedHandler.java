@@ -0,0 +1,320 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.CompletionCallback;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.core.LocalServerResponseCache;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.CachedServerResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerResponseCache;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Answers requests to {@link org.jboss.resteasy.reactive.server.ServerCached} resource methods from the cache.
+ * <p>
+ * On a miss the request carries on as usual, and {@link StoreHandler} captures the serialized entity so that it can be
+ * stored once it has been written. Concurrent requests for the same key wait for that instead of invoking the
+ * resource method as well.
+ */
+public class ServerCachedHandler implements ServerRestHandler {
+
+    private static final String LOOKUP_PROPERTY = ServerCachedHandler.class.getName() + ".lookup";
+
+    private final String cacheName;
+    private final String methodId;
+    private final String[] varyByHeaders;
+    private final boolean varyByQuery;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final String vary;
+
+    private volatile ServerResponseCache cache;
+
+    public ServerCachedHandler(String cacheName, String methodId, String[] varyByHeaders, boolean varyByQuery,
+            long ttlMillis, int maxEntries) {
+        this.cacheName = cacheName;
+        this.methodId = methodId;
+        this.varyByHeaders = varyByHeaders;
+        this.varyByQuery = varyByQuery;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.vary = varyByHeaders.length == 0 ? null : String.join(", ", varyByHeaders);
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+            return;
+        }
+        if (vary != null) {
+            // lets shared caches downstream tell apart the responses this cache tells apart
+            requestContext.serverResponse().addResponseHeader(HttpHeaders.VARY, vary);
+        }
+        if (isAuthenticated(requestContext)) {
+            return;
+        }
+        String key = key(requestContext);
+        Lookup lookup = new Lookup(ttlMillis);
+        ServerResponseCache cache = cache(requestContext);
+        cache.getValue(key, lookup).whenComplete(lookup);
+        if (lookup.isDone()) {
+            handleLookup(requestContext, cache, key, lookup, lookup.join());
+            return;
+        }
+        requestContext.suspend();
+        lookup.whenComplete(new BiConsumer<>() {
+            @Override
+            public void accept(Object result, Throwable throwable) {
+                try {
+                    if (!handleLookup(requestContext, cache, key, lookup, result)) {
+                        requestContext.resume();
+                    }
+                } catch (Throwable t) {
+                    requestContext.resume(t);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return whether the request has been answered from the cache
+     */
+    private boolean handleLookup(ResteasyReactiveRequestContext requestContext, ServerResponseCache cache, String key,
+            Lookup lookup, Object result) {
+        if (result == lookup) {
+            // the entry is loaded by this request
+            requestContext.setProperty(LOOKUP_PROPERTY, lookup);
+            requestContext.registerCompletionCallback(lookup);
+            return false;
+        }
+        if (result == null) {
+            // the request that was loading the entry did not produce a cacheable response
+            return false;
+        }
+        CachedServerResponse cached = (CachedServerResponse) result;
+        if (cached.isExpired(System.currentTimeMillis())) {
+            cache.invalidate(key);
+            return false;
+        }
+        if (matches(requestContext.serverRequest().getRequestHeader(HttpHeaders.IF_NONE_MATCH), cached.getEtag())) {
+            requestContext.abortWith(Response.notModified().header(HttpHeaders.ETAG, cached.getEtag()).build());
+        } else {
+            requestContext.abortWith(Response.ok(ByteBuffer.wrap(cached.getBody()))
+                    .header(HttpHeaders.CONTENT_TYPE, cached.getContentType())
+                    .header(HttpHeaders.ETAG, cached.getEtag())
+                    .build());
+        }
+        return true;
+    }
+
+    /**
+     * The response may depend on who makes the request, which the key does not account for. The identity may not have
+     * been established yet, e.g. when it is only resolved on demand, so requests carrying credentials count as well.
+     */
+    private static boolean isAuthenticated(ResteasyReactiveRequestContext requestContext) {
+        return requestContext.serverRequest().containsRequestHeader(HttpHeaders.AUTHORIZATION)
+                || hasCredentialCookie(requestContext)
+                || requestContext.getSecurityContext().getUserPrincipal() != null;
+    }
+
+    private static boolean hasCredentialCookie(ResteasyReactiveRequestContext requestContext) {
+        List<String> credentialCookies = requestContext.getDeployment().getCredentialCookies();
+        if (credentialCookies.isEmpty() || !requestContext.serverRequest().containsRequestHeader(HttpHeaders.COOKIE)) {
+            return false;
+        }
+        for (String cookie : requestContext.getHttpHeaders().getCookies().keySet()) {
+            for (String credentialCookie : credentialCookies) {
+                // session cookies may be split into chunks, or get a suffix per tenant, e.g. q_session_chunk_1
+                if (cookie.equals(credentialCookie) || cookie.startsWith(credentialCookie + "_")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The cache is looked up on the first request, as the runtime may not have created its caches yet when the
+     * deployment is built.
+     */
+    private ServerResponseCache cache(ResteasyReactiveRequestContext requestContext) {
+        ServerResponseCache cache = this.cache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = this.cache;
+                if (cache == null) {
+                    ServerResponseCache.Provider provider = requestContext.getDeployment()
+                            .getServerResponseCacheProvider();
+                    if (provider != null) {
+                        cache = provider.getCache(cacheName);
+                    }
+                    if (cache == null) {
+                        cache = new LocalServerResponseCache(maxEntries);
+                    }
+                    this.cache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    private String key(ResteasyReactiveRequestContext requestContext) {
+        StringBuilder key = new StringBuilder(methodId).append(' ').append(requestContext.getPath());
+        if (varyByQuery) {
+            String query = requestContext.serverRequest().query();
+            if (query != null) {
+                key.append('?').append(query);
+            }
+        }
+        for (String header : varyByHeaders) {
+            key.append('\n').append(header).append(':');
+            String value = requestContext.serverRequest().getRequestHeader(header);
+            if (value != null) {
+                key.append(value);
+            }
+        }
+        return key.toString();
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                // If-None-Match uses the weak comparison
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Both the loader given to the cache, which completes this future with itself when invoked, and the callback of the
+     * value returned by the cache, for when the entry is loaded by another request.
+     */
+    private static final class Lookup extends CompletableFuture<Object>
+            implements Function<String, CompletionStage<CachedServerResponse>>, BiConsumer<CachedServerResponse, Throwable>,
+            CompletionCallback {
+
+        final long ttlMillis;
+        final CompletableFuture<CachedServerResponse> pending = new CompletableFuture<>();
+
+        Lookup(long ttlMillis) {
+            this.ttlMillis = ttlMillis;
+        }
+
+        @Override
+        public CompletionStage<CachedServerResponse> apply(String key) {
+            complete(this);
+            return pending;
+        }
+
+        @Override
+        public void accept(CachedServerResponse response, Throwable throwable) {
+            complete(throwable == null ? response : null);
+        }
+
+        @Override
+        public void onComplete(Throwable throwable) {
+            // makes sure the entry is dropped when the response could not be captured, this is a noop otherwise
+            pending.completeExceptionally(NotCacheableException.INSTANCE);
+        }
+    }
+
+    /**
+     * Captures the entity written for a request that loads a cache entry.
+     */
+    public static class StoreHandler implements ServerRestHandler {
+
+        public static final StoreHandler INSTANCE = new StoreHandler();
+
+        @Override
+        public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+            Lookup lookup = (Lookup) requestContext.getProperty(LOOKUP_PROPERTY);
+            if (lookup == null) {
+                return;
+            }
+            if (requestContext.getResponseEntity() == null || (requestContext.getResponse().isCreated()
+                    && requestContext.getResponse().get().getStatus() != Response.Status.OK.getStatusCode())) {
+                lookup.pending.completeExceptionally(NotCacheableException.INSTANCE);
+                return;
+            }
+            requestContext.setOutputStream(new CapturingOutputStream(requestContext, lookup));
+        }
+    }
+
+    /**
+     * Buffers the whole entity, so that its {@code ETag} can be sent along with it, and stores it once the writer is
+     * done.
+     */
+    private static class CapturingOutputStream extends ByteArrayOutputStream {
+
+        private final ResteasyReactiveRequestContext requestContext;
+        private final Lookup lookup;
+        private boolean closed;
+
+        CapturingOutputStream(ResteasyReactiveRequestContext requestContext, Lookup lookup) {
+            this.requestContext = requestContext;
+            this.lookup = lookup;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            ServerHttpResponse response = requestContext.serverResponse();
+            if (response.headWritten()) {
+                // the response was written by other means, e.g. the stream was replaced by a filter
+                lookup.pending.completeExceptionally(NotCacheableException.INSTANCE);
+                return;
+            }
+            String etag = null;
+            if (count > 0) {
+                CRC32C crc = new CRC32C();
+                crc.update(buf, 0, count);
+                etag = "\"" + Integer.toHexString(count) + '-' + Long.toHexString(crc.getValue()) + "\"";
+                response.setResponseHeader(HttpHeaders.ETAG, etag);
+            }
+            try (OutputStream out = response.createResponseOutputStream()) {
+                out.write(buf, 0, count);
+            }
+            if (etag == null) {
+                lookup.pending.completeExceptionally(NotCacheableException.INSTANCE);
+            } else {
+                lookup.pending.complete(new CachedServerResponse(toByteArray(),
+                        response.getResponseHeader(HttpHeaders.CONTENT_TYPE), etag,
+                        System.currentTimeMillis() + lookup.ttlMillis));
+            }
+        }
+    }
+
+    private static class NotCacheableException extends RuntimeException {
+
+        static final NotCacheableException INSTANCE = new NotCacheableException();
+
+        private NotCacheableException() {
+            super("Response is not cacheable", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.WebApplicationException;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Handles a run of single valued path, query and header parameters of type {@code String} or of a primitive (or
+ * primitive wrapper) type in one go.
+ * <p>
+ * These are by far the most common parameters, and going through a {@link ParameterHandler} for each of them means
+ * a call to a {@link org.jboss.resteasy.reactive.server.core.parameters.ParameterExtractor} and a
+ * {@link org.jboss.resteasy.reactive.server.core.parameters.converters.ParameterConverter} per parameter. Those call
+ * sites see every extractor and converter of the application, so they are megamorphic and prevent inlining. This
+ * handler reads the values directly from the request context and parses them itself, which has the same semantics
+ * as the generated {@code valueOf} converters.
+ * <p>
+ * This must not be used when user provided {@code ParamConverterProvider}s exist, as these can replace the conversion
+ * of any type.
+ */
+public class SimpleParametersHandler implements ServerRestHandler {
+
+    private static final Logger log = Logger.getLogger(SimpleParametersHandler.class);
+
+    private final Parameter[] parameters;
+
+    public SimpleParametersHandler(Parameter[] parameters) {
+        this.parameters = parameters;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        // keep the same request scope semantics as ParameterHandler
+        requestContext.requireCDIRequestScope();
+        Object[] values = requestContext.getParameters();
+        for (Parameter parameter : parameters) {
+            String value;
+            try {
+                value = parameter.extract(requestContext);
+            } catch (WebApplicationException e) {
+                log.debug("Error occurred during parameter extraction", e);
+                throw e;
+            } catch (Exception e) {
+                log.debug("Error occurred during parameter extraction", e);
+                throw new WebApplicationException(e, 400);
+            }
+            if (value == null) {
+                value = parameter.defaultValue;
+                if (value == null) {
+                    values[parameter.index] = null;
+                    continue;
+                }
+            }
+            try {
+                values[parameter.index] = parameter.valueType.convert(value);
+            } catch (Throwable x) {
+                log.debug("Unable to handle parameter", x);
+                // see ParameterHandler for the spec rules about which exception to use
+                if (parameter.parameterType == ParameterType.HEADER) {
+                    throw new BadRequestException(x);
+                }
+                throw new NotFoundException(x);
+            }
+        }
+    }
+
+    public static class Parameter {
+        final int index;
+        final ParameterType parameterType;
+        final String name;
+        final int pathIndex;
+        final boolean encoded;
+        final String defaultValue;
+        final ValueType valueType;
+
+        /**
+         * @param index the index of the parameter in the endpoint method
+         * @param parameterType one of {@link ParameterType#PATH}, {@link ParameterType#QUERY} or {@link ParameterType#HEADER}
+         * @param name the name of the query parameter or header
+         * @param pathIndex the index of the path parameter, only used for {@link ParameterType#PATH}
+         * @param encoded whether the value must be kept encoded
+         * @param defaultValue the default value, may be null
+         * @param valueType the type to convert to
+         */
+        public Parameter(int index, ParameterType parameterType, String name, int pathIndex, boolean encoded,
+                String defaultValue, ValueType valueType) {
+            if (parameterType != ParameterType.PATH && parameterType != ParameterType.QUERY
+                    && parameterType != ParameterType.HEADER) {
+                throw new IllegalArgumentException("Unsupported parameter type " + parameterType);
+            }
+            this.index = index;
+            this.parameterType = parameterType;
+            this.name = name;
+            this.pathIndex = pathIndex;
+            this.encoded = encoded;
+            this.defaultValue = defaultValue;
+            this.valueType = valueType;
+        }
+
+        String extract(ResteasyReactiveRequestContext requestContext) {
+            switch (parameterType) {
+                case PATH:
+                    return requestContext.getPathParam(pathIndex, encoded);
+                case QUERY:
+                    return (String) requestContext.getQueryParameter(name, true, encoded);
+                default:
+                    return (String) requestContext.getHeader(name, true);
+            }
+        }
+    }
+
+    public enum ValueType {
+        STRING,
+        BOOLEAN,
+        BYTE,
+        SHORT,
+        INT,
+        LONG,
+        FLOAT,
+        DOUBLE;
+
+        /**
+         * @param type the name of the parameter type
+         * @return the value type, or null if this type is not supported
+         */
+        public static ValueType forType(String type) {
+            switch (type) {
+                case "java.lang.String":
+                    return STRING;
+                case "boolean":
+                case "java.lang.Boolean":
+                    return BOOLEAN;
+                case "byte":
+                case "java.lang.Byte":
+                    return BYTE;
+                case "short":
+                case "java.lang.Short":
+                    return SHORT;
+                case "int":
+                case "java.lang.Integer":
+                    return INT;
+                case "long":
+                case "java.lang.Long":
+                    return LONG;
+                case "float":
+                case "java.lang.Float":
+                    return FLOAT;
+                case "double":
+                case "java.lang.Double":
+                    return DOUBLE;
+                default:
+                    return null;
+            }
+        }
+
+        Object convert(String value) {
+            switch (this) {
+                case BOOLEAN:
+                    return Boolean.valueOf(value);
+                case BYTE:
+                    return Byte.valueOf(value);
+                case SHORT:
+                    return Short.valueOf(value);
+                case INT:
+                    return Integer.valueOf(value);
+                case LONG:
+                    return Long.valueOf(value);
+                case FLOAT:
+                    return Float.valueOf(value);
+                case DOUBLE:
+                    return Double.valueOf(value);
+                default:
+                    return value;
+            }
+        }
+    }
+}
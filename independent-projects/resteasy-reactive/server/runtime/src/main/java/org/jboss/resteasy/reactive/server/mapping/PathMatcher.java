@@ -19,11 +19,13 @@
 class PathMatcher<T> implements Dumpable {
 
     private final T defaultHandler;
+    private final SubstringMap.SubstringMatch<T> defaultPrefix;
     private final SubstringMap<T> paths;
     private final int[] lengths;
 
     PathMatcher(T defaultHandler, SubstringMap<T> paths, int[] lengths) {
         this.defaultHandler = defaultHandler;
+        this.defaultPrefix = new SubstringMap.SubstringMatch<>("/", defaultHandler);
         this.paths = paths;
         this.lengths = lengths;
     }
@@ -58,6 +60,34 @@ PathMatch<T> defaultMatch(String path) {
         return new PathMatch<>("/", path, defaultHandler);
     }
 
+    /**
+     * Matches a path against the registered handlers, without allocating.
+     * <p>
+     * This is the same as {@link #match(String)}, except that the remaining part of the path is not computed.
+     *
+     * @param path The relative path to match
+     * @return The longest prefix that matched, and its value. This will never be null, if nothing matched then
+     *         {@link #defaultPrefix()} is returned
+     */
+    SubstringMap.SubstringMatch<T> matchPrefix(String path) {
+        int length = path.length();
+        final int[] lengths = this.lengths;
+        for (int i = 0; i < lengths.length; ++i) {
+            int pathLength = lengths[i];
+            if (pathLength <= length) {
+                SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
+                if (next != null) {
+                    return next;
+                }
+            }
+        }
+        return defaultPrefix;
+    }
+
+    SubstringMap.SubstringMatch<T> defaultPrefix() {
+        return defaultPrefix;
+    }
+
     static class Builder<T> {
 
         private static final String STRING_PATH_SEPARATOR = "/";
@@ -155,7 +185,9 @@ public void dump(int level) {
     }
 
     private void dumpValue(T value, int level) {
-        if (value instanceof List) {
+        if (value instanceof Dumpable) {
+            ((Dumpable) value).dump(level);
+        } else if (value instanceof List) {
             for (Object x : (List) value) {
                 if (x instanceof Dumpable)
                     ((Dumpable) x).dump(level);
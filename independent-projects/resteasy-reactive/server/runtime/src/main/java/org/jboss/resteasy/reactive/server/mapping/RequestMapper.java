@@ -4,6 +4,7 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
@@ -12,8 +13,8 @@
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
 
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    private final PathMatcher<RequestPathTrie<T>> requestPaths;
+    private final PathMatcher.Builder<RequestPathTrie<T>> pathMatcherBuilder;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
@@ -34,7 +35,7 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             @Override
             public void accept(String stem, ArrayList<RequestPath<T>> list) {
                 Collections.sort(list);
-                pathMatcherBuilder.addPrefixPath(stem, list);
+                pathMatcherBuilder.addPrefixPath(stem, new RequestPathTrie<>(list));
             }
         });
         maxParams = max;
@@ -48,13 +49,13 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
      * @return best RequestMatch, or null if the path has no match
      */
     public RequestMatch<T> map(String path) {
-        var result = mapFromPathMatcher(path, requestPaths.match(path), 0);
+        var result = mapFromPathMatcher(path, requestPaths.matchPrefix(path), 0);
         if (result != null) {
             return result;
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path), 0);
+        return mapFromPathMatcher(path, requestPaths.defaultPrefix(), 0);
     }
 
     /**
@@ -68,7 +69,7 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
             return null;
         }
 
-        var initialMatches = requestPaths.match(path);
+        var initialMatches = requestPaths.matchPrefix(path);
         var result = mapFromPathMatcher(path, initialMatches, 0);
         if (result != null) {
             int idx = nextMatchStartingIndex(initialMatches, lastMatch);
@@ -76,7 +77,7 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        initialMatches = requestPaths.defaultMatch(path);
+        initialMatches = requestPaths.defaultPrefix();
         result = mapFromPathMatcher(path, initialMatches, 0);
         if (result != null) {
             int idx = nextMatchStartingIndex(initialMatches, lastMatch);
@@ -85,16 +86,17 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
         return null;
     }
 
-    private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
+    private int nextMatchStartingIndex(SubstringMap.SubstringMatch<RequestPathTrie<T>> initialMatches,
             RequestMatch<T> current) {
-        if (initialMatches.getValue() == null || initialMatches.getValue().isEmpty()) {
+        if (initialMatches.getValue() == null || initialMatches.getValue().getPaths().isEmpty()) {
             return -1;
         }
-        for (int i = 0; i < initialMatches.getValue().size(); i++) {
-            if (initialMatches.getValue().get(i).template == current.template) {
+        List<RequestPath<T>> paths = initialMatches.getValue().getPaths();
+        for (int i = 0; i < paths.size(); i++) {
+            if (paths.get(i).template == current.template) {
                 i++;
 
-                if (i < initialMatches.getValue().size()) {
+                if (i < paths.size()) {
                     return i;
                 }
                 return -1;
@@ -104,97 +106,77 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
         return -1;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
+    private RequestMatch<T> mapFromPathMatcher(String path, SubstringMap.SubstringMatch<RequestPathTrie<T>> initialMatches,
             int startIdx) {
         var value = initialMatches.getValue();
         if (value == null || startIdx < 0) {
             return null;
         }
+        int matchPos = initialMatches.getKey().length();
+        int index = value.find(path, matchPos, startIdx);
+        if (index == -1) {
+            return null;
+        }
+        return matchCandidate(path, value.getPaths().get(index), matchPos);
+    }
+
+    /**
+     * Matches a single candidate against the path, starting right after its stem.
+     * <p>
+     * The {@link RequestPathTrie} has already determined which candidate wins, this is only invoked once per request
+     * to extract the path parameter values.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    RequestMatch<T> matchCandidate(String path, RequestPath<T> potentialMatch, int matchPos) {
         int pathLength = path.length();
-        for (int index = startIdx; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    // exclude any path end slash when matching a subdir, but include it in the matched length
-                    boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
-                    Matcher matcher = segment.pattern.matcher(
-                            endSlash ? path.substring(0, path.length() - 1) : path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    if (endSlash) {
-                        matchPos++;
-                    }
-                    for (String group : segment.groups) {
-                        params[paramCount++] = matcher.group(group);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
-                    params[paramCount++] = path.substring(start, matchPos);
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        int paramCount = 0;
+        for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+            URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+            if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                // exclude any path end slash when matching a subdir, but include it in the matched length
+                boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
+                Matcher matcher = segment.pattern.matcher(
+                        endSlash ? path.substring(0, path.length() - 1) : path);
+                if (!matcher.find(matchPos) || matcher.start() != matchPos) {
+                    return null;
                 }
-            }
-            if (!matched) {
-                continue;
-            }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
-            boolean fullMatch = matchPos == pathLength;
-            boolean doPrefixMatch = false;
-            if (!fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
-                    doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
-                } else if (path.charAt(matchPos) == '/') {
-                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+                matchPos = matcher.end();
+                if (endSlash) {
+                    matchPos++;
                 }
-            }
-            if (fullMatch || doPrefixMatch) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
-                } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
+                for (String group : segment.groups) {
+                    params[paramCount++] = matcher.group(group);
+                }
+            } else if (segment.type == URITemplate.Type.LITERAL) {
+                //make sure the literal text is the same
+                if (!path.regionMatches(matchPos, segment.literalText, 0, segment.literalText.length())) {
+                    return null;
+                }
+                matchPos += segment.literalText.length();
+            } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (matchPos == pathLength) {
+                    return null;
+                }
+                int start = matchPos;
+                while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                    matchPos++;
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+                params[paramCount++] = path.substring(start, matchPos);
             }
         }
-        return null;
+        if (!RequestPathTrie.isAcceptableEnd(path, matchPos, potentialMatch.prefixTemplate)) {
+            return null;
+        }
+        String remaining;
+        if (matchPos == pathLength) {
+            remaining = "";
+        } else if (matchPos == 1) {
+            remaining = path;
+        } else {
+            remaining = path.substring(matchPos);
+        }
+        return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
     }
 
     public static class RequestPath<T> implements Dumpable, Comparable<RequestPath<T>> {
@@ -259,7 +241,7 @@ public void dump() {
         this.requestPaths.dump(0);
     }
 
-    public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
+    public PathMatcher<RequestPathTrie<T>> getRequestPaths() {
         return requestPaths;
     }
 
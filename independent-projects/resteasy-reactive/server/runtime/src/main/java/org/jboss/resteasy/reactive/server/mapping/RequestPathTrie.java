@@ -0,0 +1,242 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+
+/**
+ * A compiled matcher for all the templates that share a given stem.
+ * <p>
+ * The templates are compiled into a radix trie, where literal text is stored on the edges and default path
+ * parameters ({@code {name}}) are represented by a dedicated param slot on each node. Custom regular expressions are
+ * always coalesced by {@link URITemplate} into a single trailing component, so they are only ever evaluated on the
+ * node where they begin.
+ * <p>
+ * Resolving a path walks the trie once, following the single literal edge that can match and the param slot, and
+ * returns the index of the best candidate, which is the same one the linear scan over the sorted templates would find.
+ * No objects are allocated during the walk unless a custom regex needs to be evaluated.
+ */
+class RequestPathTrie<T> implements Dumpable {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final List<RequestMapper.RequestPath<T>> paths;
+    private final Node root;
+
+    RequestPathTrie(List<RequestMapper.RequestPath<T>> paths) {
+        this.paths = paths;
+        this.root = new Node(0);
+        for (int i = 0; i < paths.size(); ++i) {
+            insert(i, paths.get(i).template);
+        }
+    }
+
+    /**
+     * @return the sorted candidates this trie was compiled from
+     */
+    List<RequestMapper.RequestPath<T>> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Finds the best matching template.
+     *
+     * @param path the path to match
+     * @param matchPos the position right after the stem
+     * @param startIdx the lowest candidate index that may be returned
+     * @return the index of the first candidate in sort order that matches the path, or {@code -1} if none match
+     */
+    int find(String path, int matchPos, int startIdx) {
+        if (startIdx < 0) {
+            return -1;
+        }
+        int best = find(root, path, matchPos, startIdx, Integer.MAX_VALUE);
+        return best == Integer.MAX_VALUE ? -1 : best;
+    }
+
+    private int find(Node node, String path, int matchPos, int startIdx, int best) {
+        if (node.minIndex >= best) {
+            return best;
+        }
+        int pathLength = path.length();
+        for (int idx : node.terminals) {
+            if (idx >= best) {
+                break;
+            }
+            if (idx >= startIdx && isAcceptableEnd(path, matchPos, paths.get(idx).prefixTemplate)) {
+                best = idx;
+                break;
+            }
+        }
+        for (int idx : node.regexTails) {
+            if (idx >= best) {
+                break;
+            }
+            if (idx >= startIdx && regexTailMatches(path, matchPos, paths.get(idx))) {
+                best = idx;
+                break;
+            }
+        }
+        if (matchPos < pathLength) {
+            char c = path.charAt(matchPos);
+            char[] edgeChars = node.edgeChars;
+            for (int i = 0; i < edgeChars.length; ++i) {
+                if (edgeChars[i] == c) {
+                    String label = node.edgeLabels[i];
+                    if (path.regionMatches(matchPos, label, 0, label.length())) {
+                        best = find(node.edgeNodes[i], path, matchPos + label.length(), startIdx, best);
+                    }
+                    break;
+                }
+            }
+            if (node.param != null) {
+                int end = matchPos;
+                while (end < pathLength && path.charAt(end) != '/') {
+                    end++;
+                }
+                best = find(node.param, path, end, startIdx, best);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * According to the spec every template ends with (/.*)? so we also accept a match that stops at a path separator
+     * if the template allows prefix matches or only a trailing slash remains.
+     */
+    static boolean isAcceptableEnd(String path, int matchPos, boolean prefixAllowed) {
+        int pathLength = path.length();
+        if (matchPos == pathLength) {
+            return true;
+        }
+        if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+            return prefixAllowed || pathLength == 1;
+        } else if (path.charAt(matchPos) == '/') {
+            return prefixAllowed || matchPos == pathLength - 1;
+        }
+        return false;
+    }
+
+    private static boolean regexTailMatches(String path, int matchPos, RequestMapper.RequestPath<?> candidate) {
+        URITemplate.TemplateComponent[] components = candidate.template.components;
+        URITemplate.TemplateComponent segment = components[components.length - 1];
+        // exclude any path end slash when matching a subdir, but include it in the matched length
+        boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
+        Matcher matcher = segment.pattern.matcher(endSlash ? path.substring(0, path.length() - 1) : path);
+        if (!matcher.find(matchPos) || matcher.start() != matchPos) {
+            return false;
+        }
+        int end = matcher.end();
+        if (endSlash) {
+            end++;
+        }
+        return isAcceptableEnd(path, end, candidate.prefixTemplate);
+    }
+
+    private void insert(int idx, URITemplate template) {
+        Node current = root;
+        StringBuilder literal = new StringBuilder();
+        URITemplate.TemplateComponent[] components = template.components;
+        //the first component is always the stem, which has already been matched
+        for (int i = 1; i < components.length; ++i) {
+            URITemplate.TemplateComponent component = components[i];
+            if (component.type == URITemplate.Type.LITERAL) {
+                literal.append(component.literalText);
+            } else {
+                current = insertLiteral(current, literal.toString(), idx);
+                literal.setLength(0);
+                if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (current.param == null) {
+                        current.param = new Node(idx);
+                    }
+                    current = current.param;
+                } else {
+                    //custom regex components are always the last one
+                    current.regexTails = append(current.regexTails, idx);
+                    return;
+                }
+            }
+        }
+        current = insertLiteral(current, literal.toString(), idx);
+        current.terminals = append(current.terminals, idx);
+    }
+
+    private static Node insertLiteral(Node node, String literal, int idx) {
+        while (!literal.isEmpty()) {
+            int edge = node.edgeIndex(literal.charAt(0));
+            if (edge == -1) {
+                Node child = new Node(idx);
+                node.addEdge(literal, child);
+                return child;
+            }
+            String label = node.edgeLabels[edge];
+            int common = 1;
+            int max = Math.min(label.length(), literal.length());
+            while (common < max && label.charAt(common) == literal.charAt(common)) {
+                common++;
+            }
+            if (common < label.length()) {
+                //split the edge, the new intermediate node has the same candidates as the existing child
+                Node existing = node.edgeNodes[edge];
+                Node intermediate = new Node(existing.minIndex);
+                intermediate.addEdge(label.substring(common), existing);
+                node.edgeLabels[edge] = label.substring(0, common);
+                node.edgeNodes[edge] = intermediate;
+            }
+            node = node.edgeNodes[edge];
+            literal = literal.substring(common);
+        }
+        return node;
+    }
+
+    private static int[] append(int[] array, int value) {
+        int[] result = Arrays.copyOf(array, array.length + 1);
+        result[array.length] = value;
+        return result;
+    }
+
+    @Override
+    public void dump(int level) {
+        for (RequestMapper.RequestPath<T> path : paths) {
+            path.dump(level);
+        }
+    }
+
+    private static final class Node {
+
+        /**
+         * The lowest candidate index reachable from this node, templates are inserted in sort order so this is the
+         * index of the first template that created the node.
+         */
+        final int minIndex;
+        char[] edgeChars = new char[0];
+        String[] edgeLabels = new String[0];
+        Node[] edgeNodes = new Node[0];
+        Node param;
+        int[] terminals = EMPTY;
+        int[] regexTails = EMPTY;
+
+        Node(int minIndex) {
+            this.minIndex = minIndex;
+        }
+
+        int edgeIndex(char c) {
+            for (int i = 0; i < edgeChars.length; ++i) {
+                if (edgeChars[i] == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void addEdge(String label, Node node) {
+            int size = edgeChars.length;
+            edgeChars = Arrays.copyOf(edgeChars, size + 1);
+            edgeLabels = Arrays.copyOf(edgeLabels, size + 1);
+            edgeNodes = Arrays.copyOf(edgeNodes, size + 1);
+            edgeChars[size] = label.charAt(0);
+            edgeLabels[size] = label;
+            edgeNodes[size] = node;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.jboss.resteasy.reactive.server.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.ws.rs.core.HttpHeaders;
+
+import org.jboss.resteasy.reactive.common.model.ResourceClass;
+import org.jboss.resteasy.reactive.server.handlers.ServerCachedHandler;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Adds the handlers of a {@link org.jboss.resteasy.reactive.server.ServerCached} resource method
+ */
+public class ServerCachedCustomizer implements HandlerChainCustomizer {
+
+    private int ttl;
+    private String[] varyByHeaders;
+    private boolean varyByQuery;
+    private String cacheName;
+    private int maxEntries;
+
+    @Override
+    public List<ServerRestHandler> handlers(Phase phase, ResourceClass resourceClass,
+            ServerResourceMethod serverResourceMethod) {
+        if (phase == Phase.BEFORE_METHOD_INVOKE) {
+            String[] headers = varyByHeaders;
+            String[] produces = serverResourceMethod.getProduces();
+            if (produces != null && produces.length > 1 && !contains(headers, HttpHeaders.ACCEPT)) {
+                // the representation depends on the Accept header
+                headers = Arrays.copyOf(headers, headers.length + 1);
+                headers[headers.length - 1] = HttpHeaders.ACCEPT;
+            }
+            return Collections.singletonList(new ServerCachedHandler(cacheName,
+                    resourceClass.getClassName() + "#" + serverResourceMethod.getName(), headers, varyByQuery,
+                    ttl * 1000L, maxEntries));
+        } else if (phase == Phase.AFTER_RESPONSE_CREATED) {
+            return Collections.singletonList(ServerCachedHandler.StoreHandler.INSTANCE);
+        }
+        return Collections.emptyList();
+    }
+
+    private static boolean contains(String[] headers, String header) {
+        for (String h : headers) {
+            if (h.equalsIgnoreCase(header)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getTtl() {
+        return ttl;
+    }
+
+    public ServerCachedCustomizer setTtl(int ttl) {
+        this.ttl = ttl;
+        return this;
+    }
+
+    public String[] getVaryByHeaders() {
+        return varyByHeaders;
+    }
+
+    public ServerCachedCustomizer setVaryByHeaders(String[] varyByHeaders) {
+        this.varyByHeaders = varyByHeaders;
+        return this;
+    }
+
+    public boolean isVaryByQuery() {
+        return varyByQuery;
+    }
+
+    public ServerCachedCustomizer setVaryByQuery(boolean varyByQuery) {
+        this.varyByQuery = varyByQuery;
+        return this;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public ServerCachedCustomizer setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+        return this;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public ServerCachedCustomizer setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+        return this;
+    }
+}
@@ -0,0 +1,57 @@
+package org.jboss.resteasy.reactive.server.providers.serialisers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+/**
+ * Writes the remaining bytes of a {@link ByteBuffer}, without changing its position.
+ * <p>
+ * The buffer is handed to the HTTP layer as is, so it must not be modified by the application after being returned.
+ */
+@Produces("*/*")
+public class ServerByteBufferMessageBodyHandler implements ServerMessageBodyWriter<ByteBuffer> {
+
+    @Override
+    public long getSize(ByteBuffer o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return o.remaining();
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return ByteBuffer.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return ByteBuffer.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeResponse(ByteBuffer o, Type genericType, ServerRequestContext context) throws WebApplicationException {
+        context.serverResponse().end(o);
+    }
+
+    @Override
+    public void writeTo(ByteBuffer o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        if (o.hasArray()) {
+            entityStream.write(o.array(), o.arrayOffset() + o.position(), o.remaining());
+        } else {
+            byte[] bytes = new byte[o.remaining()];
+            o.duplicate().get(bytes);
+            entityStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import java.io.Serializable;
+
+/**
+ * A serialized response stored in a {@link ServerResponseCache}
+ */
+public final class CachedServerResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] body;
+    private final String contentType;
+    private final String etag;
+    private final long expiresAt;
+
+    public CachedServerResponse(byte[] body, String contentType, String etag, long expiresAt) {
+        this.body = body;
+        this.contentType = contentType;
+        this.etag = etag;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * @return the serialized entity, which must not be modified
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @return the quoted entity tag, as sent in the {@code ETag} header
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
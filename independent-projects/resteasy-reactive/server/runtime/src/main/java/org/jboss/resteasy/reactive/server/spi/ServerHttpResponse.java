@@ -1,7 +1,10 @@
 package org.jboss.resteasy.reactive.server.spi;
 
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -19,6 +22,29 @@ public interface ServerHttpResponse extends StreamingResponse<ServerHttpResponse
 
     ServerHttpResponse end(String data);
 
+    /**
+     * Ends the response with the remaining bytes of the given buffer, without changing its position.
+     * <p>
+     * Implementations should hand the buffer to the transport without copying it, in which case it must not be
+     * modified until the response has been written. The default implementation copies it.
+     */
+    default ServerHttpResponse end(ByteBuffer data) {
+        byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        return end(bytes);
+    }
+
+    /**
+     * Sends a {@code 103 Early Hints} informational response with the given headers, ahead of the final response.
+     * <p>
+     * Hints are advisory: implementations that cannot send informational responses, or that have already written the
+     * head of the final response, complete the returned stage without sending anything, which is what the default
+     * implementation does.
+     */
+    default CompletionStage<Void> writeEarlyHints(Map<String, List<String>> headers) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     ServerHttpResponse addResponseHeader(CharSequence name, CharSequence value);
 
     ServerHttpResponse setResponseHeader(CharSequence name, CharSequence value);
@@ -39,6 +65,18 @@ public interface ServerHttpResponse extends StreamingResponse<ServerHttpResponse
 
     CompletionStage<Void> write(byte[] data);
 
+    /**
+     * Writes the remaining bytes of the given buffer, without changing its position.
+     * <p>
+     * Implementations should hand the buffer to the transport without copying it, in which case it must not be
+     * modified until the returned stage completes. The default implementation copies it.
+     */
+    default CompletionStage<Void> write(ByteBuffer data) {
+        byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        return write(bytes);
+    }
+
     ServerHttpResponse sendFile(String path, long offset, long length);
 
     OutputStream createResponseOutputStream();
@@ -2,8 +2,13 @@
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
@@ -26,4 +31,19 @@ public interface ServerRequestContext extends ResteasyReactiveCallbackContext {
     HttpHeaders getRequestHeaders();
 
     void abortWith(Response response);
+
+    /**
+     * Sends a {@code 103 Early Hints} response with the given {@code Link} headers, typically {@code rel=preload} ones,
+     * so that clients can start fetching the resources they point to while the final response is being prepared.
+     * <p>
+     * This must be called before the final response is written, and is ignored by clients and transports that do not
+     * support informational responses.
+     */
+    default CompletionStage<Void> sendEarlyHints(Link... links) {
+        List<String> values = new ArrayList<>(links.length);
+        for (Link link : links) {
+            values.add(link.toString());
+        }
+        return serverResponse().writeEarlyHints(Map.of(HttpHeaders.LINK, values));
+    }
 }
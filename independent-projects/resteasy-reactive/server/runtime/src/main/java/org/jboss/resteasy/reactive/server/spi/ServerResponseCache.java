@@ -0,0 +1,36 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * The storage behind {@link org.jboss.resteasy.reactive.server.ServerCached} resource methods.
+ * <p>
+ * Expiration is handled by the caller, using {@link CachedServerResponse#isExpired(long)}, so implementations don't need
+ * to support a per entry time to live.
+ */
+public interface ServerResponseCache {
+
+    /**
+     * Returns the response cached under the given key. If there is none, the value is obtained from {@code loader} and
+     * stored, unless the returned stage completes exceptionally. Concurrent calls for a key that is being loaded
+     * should wait for the pending load instead of invoking {@code loader} again.
+     */
+    CompletionStage<CachedServerResponse> getValue(String key,
+            Function<String, CompletionStage<CachedServerResponse>> loader);
+
+    CompletionStage<Void> invalidate(String key);
+
+    /**
+     * Set on the {@link org.jboss.resteasy.reactive.server.core.Deployment} to let the runtime back
+     * {@code ServerCached} with its own caches. When there is none, or it does not return a cache, responses are kept
+     * in memory.
+     */
+    interface Provider {
+
+        /**
+         * @return the cache with the given name, or {@code null} if this provider does not know it
+         */
+        ServerResponseCache getCache(String name);
+    }
+}
@@ -0,0 +1,130 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestPathTrieTest {
+
+    private static final String[] SEGMENTS = { "a", "ab", "abc", "b", "{p%d}", "{q%d}x", "{r%d:\\d+}", "{s%d:.*}" };
+    private static final String[] PATH_SEGMENTS = { "a", "ab", "abc", "b", "bx", "12", "x", "" };
+
+    @Test
+    public void testSharedPrefixes() {
+        RequestMapper<String> mapper = mapper(false, "/items", "/items/{id}", "/items/{id}/parts", "/items/index",
+                "/itemsets/{id}", "/items/{id}/parts/{part}", "/items/{id:\\d+}/raw");
+
+        assertMatch(mapper, "/items", "/items");
+        assertMatch(mapper, "/items/", "/items");
+        assertMatch(mapper, "/items/index", "/items/index");
+        assertMatch(mapper, "/items/42/parts", "/items/{id}/parts", "42");
+        assertMatch(mapper, "/items/42/parts/7", "/items/{id}/parts/{part}", "42", "7");
+        assertMatch(mapper, "/items/42/raw", "/items/{id:\\d+}/raw", "42");
+        assertMatch(mapper, "/itemsets/3", "/itemsets/{id}", "3");
+        assertNull(mapper.map("/items/42/other"));
+        assertNull(mapper.map("/item"));
+    }
+
+    @Test
+    public void testPrefixTemplates() {
+        RequestMapper<String> mapper = mapper(true, "/", "/greetings", "/greetings/{id}");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/greetings/1/more");
+        assertNotNull(result);
+        assertEquals("/greetings/{id}", result.value);
+        assertEquals("/more", result.remaining);
+
+        result = mapper.map("/unknown");
+        assertNotNull(result);
+        assertEquals("/", result.value);
+        assertEquals("/unknown", result.remaining);
+    }
+
+    @Test
+    public void testMatchesLinearScan() {
+        Random random = new Random(42);
+        for (int run = 0; run < 200; ++run) {
+            boolean prefix = random.nextBoolean();
+            List<String> templates = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(20); ++i) {
+                templates.add(randomPath(random, SEGMENTS));
+            }
+            RequestMapper<String> mapper = mapper(prefix, templates.toArray(new String[0]));
+            for (int i = 0; i < 50; ++i) {
+                String path = randomPath(random, PATH_SEGMENTS);
+                if (random.nextInt(4) == 0) {
+                    path = path + "/";
+                }
+                RequestMapper.RequestMatch<String> expected = linearScan(mapper, path);
+                RequestMapper.RequestMatch<String> actual = mapper.map(path);
+                String message = "Templates " + templates + " and path " + path;
+                if (expected == null) {
+                    assertNull(actual, message);
+                } else {
+                    assertNotNull(actual, message);
+                    assertEquals(expected.template, actual.template, message);
+                    assertEquals(expected.remaining, actual.remaining, message);
+                    assertArrayEquals(expected.pathParamValues, actual.pathParamValues, message);
+                }
+            }
+        }
+    }
+
+    private static void assertMatch(RequestMapper<String> mapper, String path, String expected, String... params) {
+        RequestMapper.RequestMatch<String> result = mapper.map(path);
+        assertNotNull(result, path);
+        assertEquals(expected, result.value);
+        for (int i = 0; i < params.length; ++i) {
+            assertEquals(params[i], result.pathParamValues[i]);
+        }
+    }
+
+    /**
+     * Tries every candidate in sort order, which is how the mapper resolved paths before the trie was introduced.
+     */
+    private static RequestMapper.RequestMatch<String> linearScan(RequestMapper<String> mapper, String path) {
+        RequestMapper.RequestMatch<String> result = linearScan(mapper, path, mapper.getRequestPaths().matchPrefix(path));
+        if (result != null) {
+            return result;
+        }
+        return linearScan(mapper, path, mapper.getRequestPaths().defaultPrefix());
+    }
+
+    private static RequestMapper.RequestMatch<String> linearScan(RequestMapper<String> mapper, String path,
+            SubstringMap.SubstringMatch<RequestPathTrie<String>> prefix) {
+        if (prefix.getValue() == null) {
+            return null;
+        }
+        for (RequestMapper.RequestPath<String> candidate : prefix.getValue().getPaths()) {
+            RequestMapper.RequestMatch<String> result = mapper.matchCandidate(path, candidate, prefix.getKey().length());
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private static String randomPath(Random random, String[] segments) {
+        StringBuilder sb = new StringBuilder();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; ++i) {
+            sb.append('/').append(String.format(segments[random.nextInt(segments.length)], i));
+        }
+        return sb.toString();
+    }
+
+    private static RequestMapper<String> mapper(boolean prefixTemplates, String... vals) {
+        ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
+        for (String i : vals) {
+            list.add(new RequestMapper.RequestPath<>(prefixTemplates, new URITemplate(i, false), i));
+        }
+        return new RequestMapper<>(list);
+    }
+}
@@ -0,0 +1,457 @@
+package org.jboss.resteasy.reactive.server.vertx;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RequestBody;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handles a batch of requests sent as a single HTTP request, which saves clients that need many small resources
+ * the cost of as many HTTP exchanges, and the server the cost of parsing and authenticating each of them.
+ * <p>
+ * The batch is a {@code POST} of a JSON array, each element describing a request:
+ *
+ * <pre>
+ * [
+ *   { "method": "GET", "path": "/api/hello?name=world", "headers": { "Accept": "text/plain" } },
+ *   { "method": "POST", "path": "/api/items", "body": { "name": "item" } }
+ * ]
+ * </pre>
+ *
+ * Each request is dispatched to the {@link RestInitialHandler}, so it is matched and processed exactly as if it had
+ * been sent on its own, and the response is a JSON array with a {@code status}, {@code headers} and {@code body}
+ * for each of them, in the same order. Valid JSON bodies are embedded as JSON values, other textual bodies as strings
+ * and binary ones as base64 strings, with {@code "bodyEncoding": "base64"}.
+ * <p>
+ * {@code GET}, {@code HEAD} and {@code OPTIONS} requests are all started right away, and thus run concurrently. Other
+ * requests may depend on each other, so each of them only starts once the previous one of them has completed.
+ * A request that has not completed within the timeout gets a {@code 504} response, one that streams its response,
+ * such as server-sent events, a {@code 406} one, and one whose response body exceeds the maximum size a {@code 502}
+ * one. A batch larger than the maximum body size is rejected while it is read, with a {@code 413} response.
+ * <p>
+ * The batch request only went through the route handlers and security checks of the batch path, so
+ * {@link #authorize(RoutingContext, VertxBatchedRequest)} is given a chance to apply the checks of the path of each
+ * request before it is dispatched.
+ */
+public class ResteasyReactiveVertxBatchHandler implements Handler<RoutingContext> {
+
+    private static final Logger log = Logger.getLogger(ResteasyReactiveVertxBatchHandler.class);
+
+    public static final int DEFAULT_MAX_REQUESTS = 20;
+
+    public static final long DEFAULT_TIMEOUT_MILLIS = 30_000;
+
+    public static final long DEFAULT_MAX_RESPONSE_BODY_SIZE = 10 * 1024 * 1024;
+
+    public static final RequestContextFactory DEFAULT_REQUEST_CONTEXT_FACTORY = new RequestContextFactory() {
+        @Override
+        public ResteasyReactiveRequestContext createContext(Deployment deployment, Object context,
+                ThreadSetupAction requestContext, ServerRestHandler[] handlerChain,
+                ServerRestHandler[] abortHandlerChain) {
+            return new VertxBatchedRequestContext(deployment, (VertxBatchedRequest) context, requestContext, handlerChain,
+                    abortHandlerChain);
+        }
+    };
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final RestInitialHandler initialHandler;
+    private final RequestContextFactory requestContextFactory;
+    private final int maxRequests;
+    private final long timeoutMillis;
+    private final long maxResponseBodySize;
+
+    public ResteasyReactiveVertxBatchHandler(RestInitialHandler initialHandler) {
+        this(initialHandler, DEFAULT_REQUEST_CONTEXT_FACTORY, DEFAULT_MAX_REQUESTS, DEFAULT_TIMEOUT_MILLIS,
+                DEFAULT_MAX_RESPONSE_BODY_SIZE);
+    }
+
+    /**
+     * @param requestContextFactory creates the context of each request from its {@link VertxBatchedRequest}
+     * @param maxRequests the maximum number of requests in a batch
+     * @param timeoutMillis how long each request of a batch may take once it has started
+     * @param maxResponseBodySize the maximum size in bytes of the response body of each request of a batch
+     */
+    public ResteasyReactiveVertxBatchHandler(RestInitialHandler initialHandler, RequestContextFactory requestContextFactory,
+            int maxRequests, long timeoutMillis, long maxResponseBodySize) {
+        this.initialHandler = initialHandler;
+        this.requestContextFactory = requestContextFactory;
+        this.maxRequests = maxRequests;
+        this.timeoutMillis = timeoutMillis;
+        this.maxResponseBodySize = maxResponseBodySize;
+    }
+
+    @Override
+    public void handle(RoutingContext event) {
+        if (!HttpMethod.POST.equals(event.request().method().name())) {
+            event.response().setStatusCode(405).putHeader(HttpHeaders.ALLOW, HttpMethod.POST).end();
+            return;
+        }
+        OptionalLong maxBodySize = initialHandler.getDeployment().getRuntimeConfiguration().limits().maxBodySize();
+        RequestBody body = event.body();
+        if (body.available()) {
+            if (maxBodySize.isPresent() && body.length() > maxBodySize.getAsLong()) {
+                rejectTooLarge(event);
+            } else {
+                handle(event, body.buffer());
+            }
+            return;
+        }
+        if (maxBodySize.isPresent()) {
+            // no need to read a batch that is announced as too large
+            String contentLength = event.request().getHeader(HttpHeaders.CONTENT_LENGTH);
+            if (contentLength != null && parseContentLength(contentLength) > maxBodySize.getAsLong()) {
+                rejectTooLarge(event);
+                return;
+            }
+        }
+        BodyReader reader = new BodyReader(event, maxBodySize.orElse(-1));
+        event.request().handler(reader).endHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void v) {
+                reader.end();
+            }
+        }).exceptionHandler(new Handler<Throwable>() {
+            @Override
+            public void handle(Throwable t) {
+                if (!event.response().ended()) {
+                    event.fail(t);
+                }
+            }
+        });
+        event.request().resume();
+    }
+
+    private void handle(RoutingContext event, Buffer body) {
+        if (body == null || body.length() == 0) {
+            event.response().setStatusCode(400).end("Empty batch");
+            return;
+        }
+        List<VertxBatchedRequest> requests;
+        try {
+            requests = parse(event, body, maxResponseBodySize);
+        } catch (DecodeException | IllegalArgumentException | ClassCastException e) {
+            event.response().setStatusCode(400).end(e.getMessage());
+            return;
+        }
+        if (requests.size() > maxRequests) {
+            event.response().setStatusCode(413).end("A batch cannot contain more than " + maxRequests + " requests");
+            return;
+        }
+
+        ContextInternal context = (ContextInternal) event.vertx().getOrCreateContext();
+        CompletableFuture<?>[] done = new CompletableFuture<?>[requests.size()];
+        CompletableFuture<?> previousUnsafe = null;
+        for (int i = 0; i < requests.size(); i++) {
+            VertxBatchedRequest request = requests.get(i);
+            done[i] = request.getDone();
+            if (isSafe(request.getMethod())) {
+                authorizeAndDispatch(event, context, request);
+            } else {
+                if (previousUnsafe == null) {
+                    authorizeAndDispatch(event, context, request);
+                } else {
+                    previousUnsafe.whenComplete((r, t) -> context.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void v) {
+                            authorizeAndDispatch(event, context, request);
+                        }
+                    }));
+                }
+                previousUnsafe = request.getDone();
+            }
+        }
+        CompletableFuture.allOf(done).whenComplete((r, t) -> {
+            if (!event.response().closed()) {
+                event.response()
+                        .putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                        .end(encode(requests));
+            }
+        });
+    }
+
+    /**
+     * Checks whether the given request of a batch may be processed, in addition to the checks the batch request went
+     * through. The default implementation allows all requests.
+     *
+     * @param event the context of the batch request
+     * @return a stage completed with the status to reply to the request with instead of processing it, or with
+     *         {@code null} if it may be processed
+     */
+    protected CompletionStage<Integer> authorize(RoutingContext event, VertxBatchedRequest request) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void authorizeAndDispatch(RoutingContext event, ContextInternal context, VertxBatchedRequest request) {
+        CompletionStage<Integer> authorization;
+        try {
+            authorization = authorize(event, request);
+        } catch (Throwable t) {
+            authorization = CompletableFuture.failedFuture(t);
+        }
+        authorization.whenComplete((status, t) -> {
+            if (Vertx.currentContext() == context) {
+                dispatchIfAllowed(event, context, request, status, t);
+            } else {
+                context.runOnContext(new Handler<Void>() {
+                    @Override
+                    public void handle(Void v) {
+                        dispatchIfAllowed(event, context, request, status, t);
+                    }
+                });
+            }
+        });
+    }
+
+    private void dispatchIfAllowed(RoutingContext event, ContextInternal context, VertxBatchedRequest request,
+            Integer deniedStatus, Throwable authorizationFailure) {
+        if (authorizationFailure != null) {
+            log.error("Failed to authorize batched request", authorizationFailure);
+            request.complete(500, MultiMap.caseInsensitiveMultiMap(), Buffer.buffer());
+        } else if (deniedStatus != null) {
+            request.complete(deniedStatus, MultiMap.caseInsensitiveMultiMap(), Buffer.buffer());
+        } else {
+            long timer = event.vertx().setTimer(timeoutMillis, new Handler<Long>() {
+                @Override
+                public void handle(Long id) {
+                    request.abort(504, "The request did not complete within " + timeoutMillis + "ms");
+                }
+            });
+            request.getDone().whenComplete((r, t) -> event.vertx().cancelTimer(timer));
+            dispatch(context, request);
+        }
+    }
+
+    /**
+     * Each request runs in its own duplicated context, as it would if it had been sent on its own, so that they do
+     * not share any context local state, such as the CDI request context.
+     */
+    private void dispatch(ContextInternal context, VertxBatchedRequest request) {
+        context.duplicate().dispatch(request, new Handler<VertxBatchedRequest>() {
+            @Override
+            public void handle(VertxBatchedRequest request) {
+                try {
+                    initialHandler.beginProcessing(request, requestContextFactory);
+                } catch (Throwable t) {
+                    log.error("Batched request failed", t);
+                    request.complete(500, MultiMap.caseInsensitiveMultiMap(), Buffer.buffer());
+                }
+            }
+        });
+    }
+
+    private static long parseContentLength(String contentLength) {
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            // the HTTP codec rejects invalid lengths anyway
+            return -1;
+        }
+    }
+
+    /**
+     * The connection is closed once the response is sent, rather than reading the rest of the batch just to discard it.
+     */
+    private static void rejectTooLarge(RoutingContext event) {
+        if (event.response().ended()) {
+            return;
+        }
+        boolean close = event.request().version() != HttpVersion.HTTP_2;
+        if (close) {
+            event.response().putHeader(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        }
+        event.response().setStatusCode(413).end().onComplete(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> result) {
+                if (close) {
+                    event.request().connection().close();
+                }
+            }
+        });
+    }
+
+    private static boolean isSafe(String method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method);
+    }
+
+    private static List<VertxBatchedRequest> parse(RoutingContext event, Buffer body, long maxResponseBodySize) {
+        if (!(Json.decodeValue(body) instanceof JsonArray array)) {
+            throw new IllegalArgumentException("A batch must be a JSON array");
+        }
+        List<VertxBatchedRequest> requests = new ArrayList<>(array.size());
+        for (Object element : array) {
+            if (!(element instanceof JsonObject json)) {
+                throw new IllegalArgumentException("Each request of a batch must be a JSON object");
+            }
+            String path = json.getString("path");
+            if (path == null || !path.startsWith("/")) {
+                throw new IllegalArgumentException("Each request of a batch must have an absolute 'path'");
+            }
+            String method = json.getString("method", HttpMethod.GET).toUpperCase(Locale.ROOT);
+            MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+            JsonObject jsonHeaders = json.getJsonObject("headers");
+            if (jsonHeaders != null) {
+                for (Map.Entry<String, Object> header : jsonHeaders) {
+                    if (header.getValue() instanceof JsonArray values) {
+                        for (Object value : values) {
+                            headers.add(header.getKey(), String.valueOf(value));
+                        }
+                    } else {
+                        headers.add(header.getKey(), String.valueOf(header.getValue()));
+                    }
+                }
+            }
+            Object jsonBody = json.getValue("body");
+            byte[] requestBody;
+            if (jsonBody == null) {
+                requestBody = EMPTY;
+            } else if (jsonBody instanceof String string) {
+                requestBody = string.getBytes(StandardCharsets.UTF_8);
+            } else {
+                requestBody = Json.encodeToBuffer(jsonBody).getBytes();
+                if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
+                    headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+                }
+            }
+            requests.add(new VertxBatchedRequest(event, method, path, headers, requestBody, maxResponseBodySize));
+        }
+        return requests;
+    }
+
+    private static Buffer encode(List<VertxBatchedRequest> requests) {
+        Buffer out = Buffer.buffer();
+        out.appendByte((byte) '[');
+        for (int i = 0; i < requests.size(); i++) {
+            VertxBatchedRequest request = requests.get(i);
+            if (i > 0) {
+                out.appendByte((byte) ',');
+            }
+            JsonObject headers = new JsonObject();
+            for (String name : request.getResponseHeaders().names()) {
+                List<String> values = request.getResponseHeaders().getAll(name);
+                headers.put(name, values.size() == 1 ? values.get(0) : new JsonArray(new ArrayList<>(values)));
+            }
+            out.appendString("{\"status\":").appendString(Integer.toString(request.getStatus()))
+                    .appendString(",\"headers\":").appendBuffer(headers.toBuffer());
+            Buffer body = request.getResponseBody();
+            if (body.length() > 0) {
+                out.appendString(",\"body\":");
+                MediaType mediaType = mediaType(request.getResponseHeaders().get(HttpHeaders.CONTENT_TYPE));
+                if (mediaType == null || isText(mediaType)) {
+                    String charset = mediaType == null ? null : mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+                    Charset bodyCharset = charset == null || !Charset.isSupported(charset) ? StandardCharsets.UTF_8
+                            : Charset.forName(charset);
+                    out.appendString(Json.encode(new String(body.getBytes(), bodyCharset)));
+                } else if (isJson(mediaType)) {
+                    out.appendString(Json.encode(decodeJson(body)));
+                } else {
+                    out.appendString(Json.encode(Base64.getEncoder().encodeToString(body.getBytes())))
+                            .appendString(",\"bodyEncoding\":\"base64\"");
+                }
+            }
+            out.appendByte((byte) '}');
+        }
+        out.appendByte((byte) ']');
+        return out;
+    }
+
+    /**
+     * The body is decoded rather than copied as is, so that an invalid one cannot corrupt the rest of the response.
+     */
+    private static Object decodeJson(Buffer body) {
+        try {
+            return Json.decodeValue(body);
+        } catch (DecodeException e) {
+            return body.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static MediaType mediaType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        try {
+            return MediaType.valueOf(contentType);
+        } catch (IllegalArgumentException e) {
+            return MediaType.APPLICATION_OCTET_STREAM_TYPE;
+        }
+    }
+
+    private static boolean isJson(MediaType mediaType) {
+        return mediaType.getSubtype().equals("json") || mediaType.getSubtype().endsWith("+json");
+    }
+
+    private static boolean isText(MediaType mediaType) {
+        return mediaType.getType().equals("text") || mediaType.getSubtype().equals("xml")
+                || mediaType.getSubtype().endsWith("+xml") || mediaType.getSubtype().equals("x-www-form-urlencoded");
+    }
+
+    /**
+     * Reads the batch, which is rejected as soon as it exceeds the maximum body size rather than once it is complete.
+     */
+    private final class BodyReader implements Handler<Buffer> {
+
+        private final RoutingContext event;
+        private final long maxBodySize;
+        private final Buffer body = Buffer.buffer();
+        private boolean rejected;
+
+        BodyReader(RoutingContext event, long maxBodySize) {
+            this.event = event;
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        public void handle(Buffer chunk) {
+            if (rejected) {
+                return;
+            }
+            if (maxBodySize >= 0 && (long) body.length() + chunk.length() > maxBodySize) {
+                rejected = true;
+                rejectTooLarge(event);
+                return;
+            }
+            body.appendBuffer(chunk);
+        }
+
+        void end() {
+            if (!rejected) {
+                ResteasyReactiveVertxBatchHandler.this.handle(event, body);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.jboss.resteasy.reactive.server.vertx;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * One of the requests of a batch handled by {@link ResteasyReactiveVertxBatchHandler}, along with its response once
+ * it has been processed.
+ */
+public final class VertxBatchedRequest {
+
+    private final RoutingContext batchContext;
+    private final String method;
+    private final String uri;
+    private final MultiMap headers;
+    private final byte[] body;
+    private final long maxResponseBodySize;
+    private final CompletableFuture<VertxBatchedRequest> done = new CompletableFuture<>();
+    private final List<Runnable> closeHandlers = new CopyOnWriteArrayList<>();
+
+    private int status;
+    private MultiMap responseHeaders;
+    private Buffer responseBody;
+
+    public VertxBatchedRequest(RoutingContext batchContext, String method, String uri, MultiMap headers, byte[] body,
+            long maxResponseBodySize) {
+        this.batchContext = batchContext;
+        this.method = method;
+        this.uri = uri;
+        this.headers = headers;
+        this.body = body;
+        this.maxResponseBodySize = maxResponseBodySize;
+    }
+
+    /**
+     * @return the context of the HTTP request that carried the batch
+     */
+    public RoutingContext getBatchContext() {
+        return batchContext;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the path of the request, including the query string if any
+     */
+    public String getUri() {
+        return uri;
+    }
+
+    /**
+     * @return the path of the request, without the query string
+     */
+    public String getPath() {
+        int queryStart = uri.indexOf('?');
+        return queryStart < 0 ? uri : uri.substring(0, queryStart);
+    }
+
+    public MultiMap getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * @return the maximum size in bytes of the response body, which is buffered until the whole batch completes
+     */
+    public long getMaxResponseBodySize() {
+        return maxResponseBodySize;
+    }
+
+    public CompletableFuture<VertxBatchedRequest> getDone() {
+        return done;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public MultiMap getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    public Buffer getResponseBody() {
+        return responseBody;
+    }
+
+    void addCloseHandler(Runnable onClose) {
+        closeHandlers.add(onClose);
+    }
+
+    /**
+     * Completes this request with the given response, unless it was already completed.
+     *
+     * @return whether this request was completed by this call
+     */
+    synchronized boolean complete(int status, MultiMap responseHeaders, Buffer responseBody) {
+        if (done.isDone()) {
+            return false;
+        }
+        this.status = status;
+        this.responseHeaders = responseHeaders;
+        this.responseBody = responseBody;
+        done.complete(this);
+        return true;
+    }
+
+    /**
+     * Completes this request with a plain text response with the given status, while it may still be processed, and
+     * lets its processing know that nobody is waiting for its response anymore, as if the client had gone away.
+     */
+    void abort(int status, String message) {
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap().add(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN);
+        if (complete(status, headers, Buffer.buffer(message))) {
+            for (Runnable closeHandler : closeHandlers) {
+                closeHandler.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,502 @@
+package org.jboss.resteasy.reactive.server.vertx;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.impl.HttpUtils;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The context of a request of a batch, which goes through the regular handler chain but is read from and written to
+ * memory instead of an HTTP exchange.
+ * <p>
+ * It runs on the event loop of the request that carried the batch, in the duplicated context current when it was
+ * created. The {@link RoutingContext} of that request is what {@link #unwrap(Class)} returns, so that the
+ * authentication of the batch applies to all its requests, but it must not be used to write a response.
+ */
+public class VertxBatchedRequestContext extends ResteasyReactiveRequestContext
+        implements ServerHttpRequest, ServerHttpResponse {
+
+    protected final VertxBatchedRequest batchedRequest;
+    protected final RoutingContext context;
+    private final ContextInternal vertxContext;
+    private final String path;
+    private final String query;
+    private Map<String, List<String>> queryParams;
+
+    private final MultiMap responseHeaders = MultiMap.caseInsensitiveMultiMap();
+    private final Buffer responseBody = Buffer.buffer();
+    private int status = 200;
+    private boolean committed;
+    private boolean ended;
+    private Consumer<ResteasyReactiveRequestContext> preCommitTask;
+
+    public VertxBatchedRequestContext(Deployment deployment, VertxBatchedRequest batchedRequest,
+            ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        super(deployment, requestContext, handlerChain, abortHandlerChain);
+        this.batchedRequest = batchedRequest;
+        this.context = batchedRequest.getBatchContext();
+        this.vertxContext = (ContextInternal) Vertx.currentContext();
+        this.path = batchedRequest.getPath();
+        String uri = batchedRequest.getUri();
+        int queryStart = uri.indexOf('?');
+        this.query = queryStart < 0 ? null : uri.substring(queryStart + 1);
+        if (batchedRequest.getBody().length > 0) {
+            // the whole entity is already there, no need to go through the InputHandler
+            setInputStream(new ByteArrayInputStream(batchedRequest.getBody()));
+        }
+    }
+
+    @Override
+    public ServerHttpRequest serverRequest() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse serverResponse() {
+        return this;
+    }
+
+    @Override
+    protected EventLoop getEventLoop() {
+        return vertxContext.nettyEventLoop();
+    }
+
+    @Override
+    public Runnable registerTimer(long millis, Runnable task) {
+        ScheduledFuture<?> handle = getEventLoop().schedule(task, millis, TimeUnit.MILLISECONDS);
+        return new Runnable() {
+            @Override
+            public void run() {
+                handle.cancel(false);
+            }
+        };
+    }
+
+    @Override
+    public boolean resumeExternalProcessing() {
+        // there is nothing else that could handle a batched request
+        setStatusCode(404).end();
+        return true;
+    }
+
+    @Override
+    protected void setQueryParamsFrom(String uri) {
+        queryParams = decodeQueryParams(uri);
+    }
+
+    private Map<String, List<String>> queryParams() {
+        Map<String, List<String>> queryParams = this.queryParams;
+        if (queryParams == null) {
+            this.queryParams = queryParams = decodeQueryParams(batchedRequest.getUri());
+        }
+        return queryParams;
+    }
+
+    private static Map<String, List<String>> decodeQueryParams(String uri) {
+        return new QueryStringDecoder(uri).parameters();
+    }
+
+    @Override
+    public String getRequestHeader(CharSequence name) {
+        return batchedRequest.getHeaders().get(name);
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllRequestHeaders() {
+        return batchedRequest.getHeaders();
+    }
+
+    @Override
+    public List<String> getAllRequestHeaders(String name) {
+        return batchedRequest.getHeaders().getAll(name);
+    }
+
+    @Override
+    public boolean containsRequestHeader(CharSequence accept) {
+        return batchedRequest.getHeaders().contains(accept);
+    }
+
+    @Override
+    public String getRequestPath() {
+        return path;
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return batchedRequest.getMethod();
+    }
+
+    @Override
+    public String getRequestNormalisedPath() {
+        return HttpUtils.normalizePath(path);
+    }
+
+    @Override
+    public String getRequestAbsoluteUri() {
+        return getRequestScheme() + "://" + getRequestHost() + batchedRequest.getUri();
+    }
+
+    @Override
+    public String getRequestScheme() {
+        return context.request().scheme();
+    }
+
+    @Override
+    public String getRequestHost() {
+        return context.request().authority().toString();
+    }
+
+    @Override
+    public void closeConnection() {
+        // the connection is shared with the other requests of the batch, so only this response is ended
+        end();
+    }
+
+    @Override
+    public String getQueryParam(String name) {
+        List<String> values = queryParams().get(name);
+        return values == null ? null : values.get(0);
+    }
+
+    @Override
+    public Map<String, List<String>> getQueryParamsMap() {
+        return new HashMap<>(queryParams());
+    }
+
+    @Override
+    public List<String> getAllQueryParams(String name) {
+        return queryParams().getOrDefault(name, Collections.emptyList());
+    }
+
+    @Override
+    public String query() {
+        return query;
+    }
+
+    @Override
+    public Collection<String> queryParamNames() {
+        return queryParams().keySet();
+    }
+
+    @Override
+    public boolean isRequestEnded() {
+        return true;
+    }
+
+    @Override
+    public InputStream createInputStream(ByteBuffer existingData) {
+        if (existingData == null) {
+            return createInputStream();
+        }
+        // the existing data can only be the whole entity
+        byte[] data = new byte[existingData.remaining()];
+        existingData.get(data);
+        return new ByteArrayInputStream(data);
+    }
+
+    @Override
+    public InputStream createInputStream() {
+        return new ByteArrayInputStream(batchedRequest.getBody());
+    }
+
+    @Override
+    public ServerHttpResponse pauseRequestInput() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse resumeRequestInput() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setReadListener(ReadCallback callback) {
+        if (batchedRequest.getBody().length > 0) {
+            callback.data(ByteBuffer.wrap(batchedRequest.getBody()));
+        }
+        callback.done();
+        return this;
+    }
+
+    @Override
+    public boolean isOnIoThread() {
+        return getEventLoop().inEventLoop();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T unwrap(Class<T> theType) {
+        if (theType == RoutingContext.class) {
+            return (T) context;
+        } else if (theType == VertxBatchedRequest.class) {
+            return (T) batchedRequest;
+        } else if (theType == ResteasyReactiveRequestContext.class) {
+            return (T) this;
+        }
+        return null;
+    }
+
+    @Override
+    public ServerHttpResponse setStatusCode(int code) {
+        if (!committed) {
+            status = code;
+        }
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end() {
+        if (!ended) {
+            commit();
+            ended = true;
+            batchedRequest.complete(status, responseHeaders, responseBody);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean headWritten() {
+        return committed;
+    }
+
+    @Override
+    public ServerHttpResponse end(byte[] data) {
+        commit();
+        append(data);
+        return end();
+    }
+
+    @Override
+    public ServerHttpResponse end(ByteBuffer data) {
+        commit();
+        if (fits(data.remaining())) {
+            responseBody.appendBytes(bytes(data));
+        }
+        return end();
+    }
+
+    @Override
+    public ServerHttpResponse end(String data) {
+        commit();
+        append(data.getBytes(StandardCharsets.UTF_8));
+        return end();
+    }
+
+    @Override
+    public ServerHttpResponse addResponseHeader(CharSequence name, CharSequence value) {
+        responseHeaders.add(name, value);
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, CharSequence value) {
+        responseHeaders.set(name, value);
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, Iterable<CharSequence> values) {
+        responseHeaders.set(name, values);
+        return this;
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllResponseHeaders() {
+        return responseHeaders;
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        return responseHeaders.get(name);
+    }
+
+    @Override
+    public void removeResponseHeader(String name) {
+        responseHeaders.remove(name);
+    }
+
+    @Override
+    public boolean closed() {
+        return ended;
+    }
+
+    @Override
+    public ServerHttpResponse setChunked(boolean chunked) {
+        if (chunked && isStream(responseHeaders.get(HttpHeaders.CONTENT_TYPE))) {
+            // a stream may never end, and its events could not be delivered as they come anyway
+            batchedRequest.abort(406, "Streamed responses cannot be batched");
+        }
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
+        commit();
+        append(data);
+        asyncResultHandler.accept(null);
+        return this;
+    }
+
+    @Override
+    public CompletionStage<Void> write(byte[] data) {
+        commit();
+        append(data);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletionStage<Void> write(ByteBuffer data) {
+        commit();
+        if (fits(data.remaining())) {
+            responseBody.appendBytes(bytes(data));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public ServerHttpResponse sendFile(String path, long offset, long length) {
+        commit();
+        try (RandomAccessFile file = new RandomAccessFile(path, "r")) {
+            long size = Math.min(length, file.length() - offset);
+            if (fits(size)) {
+                byte[] data = new byte[(int) size];
+                file.seek(offset);
+                file.readFully(data);
+                responseBody.appendBytes(data);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return end();
+    }
+
+    @Override
+    public OutputStream createResponseOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                commit();
+                if (fits(1)) {
+                    responseBody.appendByte((byte) b);
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                commit();
+                if (fits(len)) {
+                    responseBody.appendBytes(b, off, len);
+                }
+            }
+
+            @Override
+            public void close() {
+                end();
+            }
+        };
+    }
+
+    @Override
+    public void setPreCommitListener(Consumer<ResteasyReactiveRequestContext> task) {
+        preCommitTask = task;
+    }
+
+    @Override
+    public ServerHttpResponse addCloseHandler(Runnable onClose) {
+        // the response is not sent on its own, it is only closed when the batch gives up waiting for it
+        batchedRequest.addCloseHandler(onClose);
+        return this;
+    }
+
+    @Override
+    public boolean isWriteQueueFull() {
+        return false;
+    }
+
+    @Override
+    public ServerHttpResponse addDrainHandler(Runnable onDrain) {
+        return this;
+    }
+
+    private void append(byte[] data) {
+        if (fits(data.length)) {
+            responseBody.appendBytes(data);
+        }
+    }
+
+    /**
+     * The response body is buffered until the whole batch completes, so a request whose response would exceed the
+     * maximum size is aborted instead.
+     */
+    private boolean fits(long length) {
+        long max = batchedRequest.getMaxResponseBodySize();
+        if (responseBody.length() + length <= max) {
+            return true;
+        }
+        batchedRequest.abort(502, "The response body is larger than the maximum of " + max + " bytes of a batched request");
+        return false;
+    }
+
+    private void commit() {
+        if (!committed) {
+            committed = true;
+            if (preCommitTask != null) {
+                preCommitTask.accept(this);
+            }
+        }
+    }
+
+    private static boolean isStream(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.valueOf(contentType);
+            return mediaType.isCompatible(MediaType.SERVER_SENT_EVENTS_TYPE)
+                    || mediaType.isCompatible(RestMediaType.APPLICATION_NDJSON_TYPE)
+                    || mediaType.isCompatible(RestMediaType.APPLICATION_STREAM_JSON_TYPE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static byte[] bytes(ByteBuffer data) {
+        byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        return bytes;
+    }
+}
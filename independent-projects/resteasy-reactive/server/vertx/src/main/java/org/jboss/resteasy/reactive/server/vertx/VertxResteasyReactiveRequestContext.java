@@ -52,6 +52,7 @@
 import io.vertx.core.buffer.impl.VertxByteBufAllocator;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.http.impl.Http1xServerResponse;
 import io.vertx.core.net.impl.ConnectionBase;
 import io.vertx.ext.web.RoutingContext;
@@ -401,6 +402,19 @@ public boolean headWritten() {
         return response.headWritten();
     }
 
+    @Override
+    public CompletionStage<Void> writeEarlyHints(Map<String, List<String>> headers) {
+        // HTTP/1.0 clients cannot tell an informational response from the final one
+        if (response.headWritten() || request.version() == HttpVersion.HTTP_1_0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        MultiMap hints = MultiMap.caseInsensitiveMultiMap();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            hints.add(header.getKey(), header.getValue());
+        }
+        return response.writeEarlyHints(hints).toCompletionStage();
+    }
+
     @Override
     public ServerHttpResponse end(byte[] data) {
         var buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(data.length);
@@ -409,6 +423,21 @@ public ServerHttpResponse end(byte[] data) {
         return this;
     }
 
+    @Override
+    public ServerHttpResponse end(ByteBuffer data) {
+        // wrapping only keeps a reference to the buffer, direct buffers are then written to the socket as is
+        response.end(new NoBoundChecksBuffer(Unpooled.wrappedBuffer(data)), null);
+        return this;
+    }
+
+    /**
+     * Ends the response with the given Vert.x buffer, which is written as is without copying its bytes.
+     */
+    public ServerHttpResponse end(Buffer data) {
+        response.end(data, null);
+        return this;
+    }
+
     @Override
     public ServerHttpResponse end(String data) {
         var buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(ByteBufUtil.utf8MaxBytes(data.length()));
@@ -492,6 +521,22 @@ public void handle(AsyncResult<Void> event) {
         return ret;
     }
 
+    @Override
+    public CompletionStage<Void> write(ByteBuffer data) {
+        CompletableFuture<Void> ret = new CompletableFuture<>();
+        response.write(new NoBoundChecksBuffer(Unpooled.wrappedBuffer(data)), new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> event) {
+                if (event.failed()) {
+                    ret.completeExceptionally(event.cause());
+                } else {
+                    ret.complete(null);
+                }
+            }
+        });
+        return ret;
+    }
+
     @Override
     public ServerHttpResponse sendFile(String path, long offset, long length) {
         response.sendFile(path, offset, length);
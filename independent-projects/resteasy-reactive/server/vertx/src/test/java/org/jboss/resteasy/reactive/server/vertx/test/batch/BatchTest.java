@@ -0,0 +1,257 @@
+package org.jboss.resteasy.reactive.server.vertx.test.batch;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+public class BatchTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setBatchPath("/batch")
+            .setBatchTimeoutMillis(1000)
+            .setBatchMaxResponseBodySize(1000)
+            .setMaxBodySize(4096)
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(BatchedResource.class);
+                }
+            });
+
+    @Test
+    public void testBatch() {
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("""
+                        [
+                          { "path": "/batched/hello?name=world", "headers": { "X-Greeting": "hi" } },
+                          { "method": "GET", "path": "/batched/json" },
+                          { "path": "/batched/async" },
+                          { "path": "/batched/blocking" },
+                          { "path": "/batched/bytes" },
+                          { "path": "/unknown" },
+                          { "method": "POST", "path": "/batched/echo", "body": { "value": 1 } }
+                        ]
+                        """)
+                .post("/batch")
+                .then()
+                .statusCode(200)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("status", contains(200, 200, 200, 200, 200, 404, 200))
+                .body("[0].headers.'Content-Type'", startsWith(MediaType.TEXT_PLAIN))
+                .body("[0].body", equalTo("hi world"))
+                .body("[1].body.value", equalTo(42))
+                .body("[2].body", equalTo("async"))
+                .body("[3].body", equalTo("blocking"))
+                .body("[4].body", equalTo("AQID"))
+                .body("[4].bodyEncoding", equalTo("base64"))
+                .body("[6].body.value", equalTo(1));
+    }
+
+    @Test
+    public void testUnsafeRequestsInOrder() {
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("""
+                        [
+                          { "method": "POST", "path": "/batched/items/ordered", "body": "a" },
+                          { "method": "POST", "path": "/batched/items/ordered", "body": "b" },
+                          { "method": "POST", "path": "/batched/items/ordered", "body": "c" }
+                        ]
+                        """)
+                .post("/batch")
+                .then()
+                .statusCode(200)
+                .body("body", contains("a", "a,b", "a,b,c"));
+    }
+
+    @Test
+    public void testInvalidJsonBody() {
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("""
+                        [
+                          { "path": "/batched/broken" },
+                          { "path": "/batched/json" }
+                        ]
+                        """)
+                .post("/batch")
+                .then()
+                .statusCode(200)
+                .body("size()", equalTo(2))
+                .body("[0].body", equalTo("{\"value\":1}]"))
+                .body("[1].body.value", equalTo(42));
+    }
+
+    @Test
+    public void testSlowAndStreamedRequests() {
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("""
+                        [
+                          { "path": "/batched/slow" },
+                          { "path": "/batched/events" },
+                          { "path": "/batched/json" }
+                        ]
+                        """)
+                .post("/batch")
+                .then()
+                .statusCode(200)
+                .body("status", contains(504, 406, 200));
+    }
+
+    @Test
+    public void testInvalidBatch() {
+        RestAssured.given().body("{}").post("/batch").then().statusCode(400);
+        RestAssured.given().body("[{ \"method\": \"GET\" }]").post("/batch").then().statusCode(400);
+        RestAssured.get("/batch").then().statusCode(405);
+
+        StringBuilder tooMany = new StringBuilder("[");
+        for (int i = 0; i < 21; i++) {
+            tooMany.append(i == 0 ? "" : ",").append("{ \"path\": \"/batched/json\" }");
+        }
+        RestAssured.given().body(tooMany.append("]").toString()).post("/batch").then().statusCode(413);
+    }
+
+    @Test
+    public void testLimits() {
+        // rejected before it is read
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("[{ \"method\": \"POST\", \"path\": \"/batched/items/large\", \"body\": \"" + "a".repeat(5000)
+                        + "\" }]")
+                .post("/batch")
+                .then()
+                .statusCode(413);
+
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("""
+                        [
+                          { "path": "/batched/large" },
+                          { "path": "/batched/json" }
+                        ]
+                        """)
+                .post("/batch")
+                .then()
+                .statusCode(200)
+                .body("status", contains(502, 200))
+                .body("[1].body.value", equalTo(42));
+    }
+
+    @Path("/batched")
+    public static class BatchedResource {
+
+        static final Map<String, List<String>> ITEMS = new ConcurrentHashMap<>();
+
+        @GET
+        @Path("hello")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String hello(@QueryParam("name") String name, @HeaderParam("X-Greeting") String greeting) {
+            return greeting + " " + name;
+        }
+
+        @GET
+        @Path("json")
+        @Produces(MediaType.APPLICATION_JSON)
+        public String json() {
+            return "{\"value\":42}";
+        }
+
+        @GET
+        @Path("large")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String large() {
+            return "a".repeat(2000);
+        }
+
+        @GET
+        @Path("broken")
+        @Produces(MediaType.APPLICATION_JSON)
+        public String broken() {
+            return "{\"value\":1}]";
+        }
+
+        @GET
+        @Path("async")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<String> async() {
+            return Uni.createFrom().item("async").onItem().delayIt().by(Duration.ofMillis(50));
+        }
+
+        @GET
+        @Path("slow")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<String> slow() {
+            return Uni.createFrom().item("slow").onItem().delayIt().by(Duration.ofSeconds(30));
+        }
+
+        @GET
+        @Path("events")
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        public Multi<String> events() {
+            return Multi.createFrom().ticks().every(Duration.ofMillis(100)).map(String::valueOf);
+        }
+
+        @Blocking
+        @GET
+        @Path("blocking")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String blocking() {
+            return "blocking";
+        }
+
+        @GET
+        @Path("bytes")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public byte[] bytes() {
+            return new byte[] { 1, 2, 3 };
+        }
+
+        @POST
+        @Path("echo")
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.APPLICATION_JSON)
+        public String echo(String body) {
+            return body;
+        }
+
+        @POST
+        @Path("items/{list}")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String add(@PathParam("list") String list, String item) {
+            List<String> items = ITEMS.computeIfAbsent(list, k -> new CopyOnWriteArrayList<>());
+            items.add(item);
+            return String.join(",", items);
+        }
+    }
+}
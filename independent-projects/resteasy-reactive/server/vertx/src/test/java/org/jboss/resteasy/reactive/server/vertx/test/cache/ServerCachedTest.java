@@ -0,0 +1,146 @@
+package org.jboss.resteasy.reactive.server.vertx.test.cache;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.ServerCached;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.scanning.ServerCachedScanner;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+
+public class ServerCachedTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.addMethodScanner(new ServerCachedScanner());
+                }
+            })
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(CachedResource.class);
+                }
+            });
+
+    @Test
+    public void testCached() {
+        String first = RestAssured.get("/cached/item/1")
+                .then()
+                .statusCode(200)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("ETag", not(emptyString()))
+                .extract().asString();
+        String etag = RestAssured.get("/cached/item/1")
+                .then()
+                .statusCode(200)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(equalTo(first))
+                .extract().header("ETag");
+
+        RestAssured.given().header("If-None-Match", etag)
+                .get("/cached/item/1")
+                .then()
+                .statusCode(304)
+                .header("ETag", etag)
+                .body(emptyString());
+        RestAssured.given().header("If-None-Match", "\"other\"")
+                .get("/cached/item/1")
+                .then()
+                .statusCode(200)
+                .body(equalTo(first));
+
+        RestAssured.get("/cached/item/2").then().statusCode(200).body(not(equalTo(first)));
+        RestAssured.get("/cached/item/1?q=1").then().statusCode(200).body(not(equalTo(first)));
+    }
+
+    @Test
+    public void testVaryByHeaders() {
+        String english = RestAssured.given().header("Accept-Language", "en")
+                .get("/cached/language")
+                .then().statusCode(200).header("Vary", "Accept-Language").extract().asString();
+        RestAssured.given().header("Accept-Language", "en")
+                .get("/cached/language")
+                .then().statusCode(200).header("Vary", "Accept-Language").body(equalTo(english));
+        RestAssured.given().header("Accept-Language", "it")
+                .get("/cached/language")
+                .then().statusCode(200).body(not(equalTo(english)));
+    }
+
+    @Test
+    public void testNotCached() {
+        RestAssured.get("/cached/missing?found=false").then().statusCode(404).header("ETag", nullValue());
+        RestAssured.get("/cached/missing?found=false").then().statusCode(404);
+        RestAssured.get("/cached/missing?found=true").then().statusCode(200).body(equalTo("3"));
+        RestAssured.get("/cached/missing?found=true").then().statusCode(200).body(equalTo("3"));
+    }
+
+    @Test
+    public void testExpired() throws InterruptedException {
+        RestAssured.get("/cached/expiring").then().statusCode(200).body(equalTo("1"));
+        RestAssured.get("/cached/expiring").then().statusCode(200).body(equalTo("1"));
+        Thread.sleep(1100);
+        RestAssured.get("/cached/expiring").then().statusCode(200).body(equalTo("2"));
+    }
+
+    @Path("cached")
+    public static class CachedResource {
+
+        static final AtomicInteger ITEM = new AtomicInteger();
+        static final AtomicInteger LANGUAGE = new AtomicInteger();
+        static final AtomicInteger MISSING = new AtomicInteger();
+        static final AtomicInteger EXPIRING = new AtomicInteger();
+
+        @ServerCached
+        @GET
+        @Path("item/{id}")
+        @Produces(MediaType.APPLICATION_JSON)
+        public String item(@PathParam("id") String id) {
+            return "{\"id\":\"" + id + "\",\"invocation\":" + ITEM.incrementAndGet() + "}";
+        }
+
+        @ServerCached(varyByHeaders = "Accept-Language")
+        @GET
+        @Path("language")
+        public String language() {
+            return String.valueOf(LANGUAGE.incrementAndGet());
+        }
+
+        @ServerCached
+        @GET
+        @Path("missing")
+        public Response missing(@QueryParam("found") boolean found) {
+            int invocation = MISSING.incrementAndGet();
+            return found ? Response.ok(String.valueOf(invocation)).build() : Response.status(404).build();
+        }
+
+        @ServerCached(ttl = 1)
+        @GET
+        @Path("expiring")
+        public String expiring() {
+            return String.valueOf(EXPIRING.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.jboss.resteasy.reactive.server.vertx.test.earlyhints;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Link;
+
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+
+public class EarlyHintsTest {
+
+    @RegisterExtension
+    static final ResteasyReactiveUnitTest config = new ResteasyReactiveUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(PageResource.class));
+
+    @Test
+    public void testEarlyHints() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            HttpClient client = vertx.createHttpClient();
+            CompletableFuture<MultiMap> hints = new CompletableFuture<>();
+            CompletableFuture<Integer> status = new CompletableFuture<>();
+            String body = client
+                    .request(HttpMethod.GET, ResteasyReactiveUnitTest.SERVER_PORT, "localhost", "/page")
+                    .compose(request -> request.earlyHintsHandler(hints::complete).send())
+                    .compose(response -> {
+                        status.complete(response.statusCode());
+                        return response.body();
+                    })
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS).toString();
+
+            Assertions.assertEquals(200, status.get());
+            Assertions.assertEquals("<html></html>", body);
+            Assertions.assertEquals(List.of("</app.css>; rel=\"preload\"; as=\"style\"",
+                    "</app.js>; rel=\"preload\"; as=\"script\""),
+                    hints.get(10, TimeUnit.SECONDS).getAll(HttpHeaders.LINK));
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @Path("/page")
+    public static class PageResource {
+
+        @GET
+        public CompletionStage<String> page(ServerRequestContext context) {
+            return context.sendEarlyHints(
+                    Link.fromUri("/app.css").rel("preload").param("as", "style").build(),
+                    Link.fromUri("/app.js").rel("preload").param("as", "script").build())
+                    .thenApply(ignored -> "<html></html>");
+        }
+    }
+}
@@ -56,6 +56,7 @@
 import org.jboss.resteasy.reactive.server.processor.scanning.ResponseHeaderMethodScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResponseStatusMethodScanner;
 import org.jboss.resteasy.reactive.server.spi.DefaultRuntimeConfiguration;
+import org.jboss.resteasy.reactive.server.vertx.ResteasyReactiveVertxBatchHandler;
 import org.jboss.resteasy.reactive.server.vertx.ResteasyReactiveVertxHandler;
 import org.jboss.resteasy.reactive.server.vertx.VertxRequestContextFactory;
 import org.jboss.resteasy.reactive.server.vertx.serializers.ServerMutinyAsyncFileMessageBodyWriter;
@@ -140,6 +141,14 @@ public boolean isBlockingAllowed() {
 
     private int maxParameters = 1000;
 
+    private String batchPath;
+
+    private long batchTimeoutMillis = ResteasyReactiveVertxBatchHandler.DEFAULT_TIMEOUT_MILLIS;
+
+    private long batchMaxResponseBodySize = ResteasyReactiveVertxBatchHandler.DEFAULT_MAX_RESPONSE_BODY_SIZE;
+
+    private OptionalLong maxBodySize = OptionalLong.empty();
+
     public static Vertx getVertx() {
         return vertx;
     }
@@ -179,6 +188,26 @@ public ResteasyReactiveUnitTest setMaxFormAttributeSize(int maxFormAttributeSize
         return this;
     }
 
+    public ResteasyReactiveUnitTest setBatchPath(String batchPath) {
+        this.batchPath = batchPath;
+        return this;
+    }
+
+    public ResteasyReactiveUnitTest setBatchTimeoutMillis(long batchTimeoutMillis) {
+        this.batchTimeoutMillis = batchTimeoutMillis;
+        return this;
+    }
+
+    public ResteasyReactiveUnitTest setBatchMaxResponseBodySize(long batchMaxResponseBodySize) {
+        this.batchMaxResponseBodySize = batchMaxResponseBodySize;
+        return this;
+    }
+
+    public ResteasyReactiveUnitTest setMaxBodySize(long maxBodySize) {
+        this.maxBodySize = OptionalLong.of(maxBodySize);
+        return this;
+    }
+
     private static Executor setVirtualThreadExecutor() {
         Executor exec = Executors.newSingleThreadExecutor();
         try {
@@ -406,7 +435,7 @@ public Thread newThread(Runnable r) {
         DefaultRuntimeConfiguration runtimeConfiguration = new DefaultRuntimeConfiguration(Duration.ofMinutes(1),
                 deleteUploadedFilesOnEnd,
                 uploadPath != null ? uploadPath.toAbsolutePath().toString() : System.getProperty("java.io.tmpdir"),
-                fileContentTypes, defaultCharset, OptionalLong.empty(), maxFormAttributeSize, maxParameters);
+                fileContentTypes, defaultCharset, maxBodySize, maxFormAttributeSize, maxParameters);
         ResteasyReactiveDeploymentManager.RunnableApplication application = prepared.createApplication(runtimeConfiguration,
                 new VertxRequestContextFactory(), executor);
         fieldInjectionSupport.runtimeInit(testClassLoader, application.getDeployment());
@@ -414,6 +443,11 @@ public Thread newThread(Runnable r) {
         ResteasyReactiveVertxHandler handler = new ResteasyReactiveVertxHandler(ev -> {
         }, application.getInitialHandler());
         String path = application.getPath();
+        if (batchPath != null) {
+            router.route(batchPath).handler(new ResteasyReactiveVertxBatchHandler(application.getInitialHandler(),
+                    ResteasyReactiveVertxBatchHandler.DEFAULT_REQUEST_CONTEXT_FACTORY,
+                    ResteasyReactiveVertxBatchHandler.DEFAULT_MAX_REQUESTS, batchTimeoutMillis, batchMaxResponseBodySize));
+        }
         Route route = router.route(path);
         for (Consumer<Route> customizer : routeCustomisers) {
             customizer.accept(route);
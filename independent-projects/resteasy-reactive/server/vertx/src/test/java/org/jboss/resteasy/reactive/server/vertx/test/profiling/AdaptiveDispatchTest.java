@@ -0,0 +1,82 @@
+package org.jboss.resteasy.reactive.server.vertx.test.profiling;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.server.AdaptiveDispatch;
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.core.profiling.EndpointProfile;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class AdaptiveDispatchTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(AdaptiveResource.class);
+                }
+            });
+
+    @Test
+    public void testAdaptiveDispatch() {
+        // one in 32 requests of adaptive methods goes to the thread kind that is not preferred
+        for (int i = 0; i < 32; i++) {
+            RestAssured.get("/adaptive").then().statusCode(200);
+        }
+
+        // profiles are recorded once the response has been written, which may be after the client got it
+        await().atMost(10, TimeUnit.SECONDS)
+                .pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> RestAssured.get("/adaptive/stats").then()
+                        .statusCode(200)
+                        .body(containsString("GET /adaptive count=32 virtual-thread=31 worker=1 adaptive=true")));
+    }
+
+    @Path("/adaptive")
+    public static class AdaptiveResource {
+
+        @RunOnVirtualThread
+        @AdaptiveDispatch
+        @GET
+        public String adaptive() {
+            return "adaptive";
+        }
+
+        @GET
+        @Path("stats")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String stats() {
+            StringBuilder result = new StringBuilder();
+            for (EndpointProfile profile : CurrentRequestManager.get().getDeployment().getEndpointProfiles()) {
+                result.append(profile.getHttpMethod()).append(' ').append(profile.getPath())
+                        .append(" count=").append(profile.getServiceTime().getCount())
+                        .append(" virtual-thread=").append(profile.getDispatches(EndpointProfile.Dispatch.VIRTUAL_THREAD))
+                        .append(" worker=").append(profile.getDispatches(EndpointProfile.Dispatch.WORKER))
+                        .append(" adaptive=").append(profile.isAdaptive())
+                        .append('\n');
+            }
+            return result.toString();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.jboss.resteasy.reactive.server.vertx.test.profiling;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.jboss.resteasy.reactive.server.AdaptiveDispatch;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.smallrye.common.annotation.Blocking;
+
+public class AdaptiveDispatchWithoutVirtualThreadTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(Resource.class);
+                }
+            }).setExpectedException(IllegalStateException.class);
+
+    @Test
+    public void test() {
+        fail("Should never have been called");
+    }
+
+    @Path("/adaptive")
+    public static class Resource {
+
+        @Blocking
+        @AdaptiveDispatch
+        @GET
+        public String adaptive() {
+            return "adaptive";
+        }
+    }
+}
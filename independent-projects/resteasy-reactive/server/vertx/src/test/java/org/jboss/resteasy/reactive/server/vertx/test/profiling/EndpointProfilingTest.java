@@ -0,0 +1,90 @@
+package org.jboss.resteasy.reactive.server.vertx.test.profiling;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.core.profiling.EndpointProfile;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class EndpointProfilingTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(scanStep -> scanStep.setEndpointProfiling(true))
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(ProfiledResource.class);
+                }
+            });
+
+    @Test
+    public void testProfiles() {
+        for (int i = 0; i < 3; i++) {
+            RestAssured.get("/profiled/blocking").then().statusCode(200);
+        }
+        for (int i = 0; i < 2; i++) {
+            RestAssured.get("/profiled/non-blocking").then().statusCode(200);
+        }
+
+        // profiles are recorded once the response has been written, which may be after the client got it
+        await().atMost(10, TimeUnit.SECONDS)
+                .pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> RestAssured.get("/profiled/stats").then()
+                        .statusCode(200)
+                        .body(containsString("GET /profiled/blocking count=3 event-loop=0 worker=3 adaptive=false"))
+                        .body(containsString("GET /profiled/non-blocking count=2 event-loop=2 worker=0 adaptive=false")));
+    }
+
+    @Path("/profiled")
+    public static class ProfiledResource {
+
+        @Blocking
+        @GET
+        @Path("blocking")
+        public String blocking() {
+            return "blocking";
+        }
+
+        @NonBlocking
+        @GET
+        @Path("non-blocking")
+        public String nonBlocking() {
+            return "non-blocking";
+        }
+
+        @GET
+        @Path("stats")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String stats() {
+            StringBuilder result = new StringBuilder();
+            for (EndpointProfile profile : CurrentRequestManager.get().getDeployment().getEndpointProfiles()) {
+                result.append(profile.getHttpMethod()).append(' ').append(profile.getPath())
+                        .append(" count=").append(profile.getServiceTime().getCount())
+                        .append(" event-loop=").append(profile.getDispatches(EndpointProfile.Dispatch.EVENT_LOOP))
+                        .append(" worker=").append(profile.getDispatches(EndpointProfile.Dispatch.WORKER))
+                        .append(" adaptive=").append(profile.isAdaptive())
+                        .append('\n');
+            }
+            return result.toString();
+        }
+    }
+}
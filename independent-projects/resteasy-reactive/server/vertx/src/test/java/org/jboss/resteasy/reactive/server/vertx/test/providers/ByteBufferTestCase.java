@@ -0,0 +1,157 @@
+package org.jboss.resteasy.reactive.server.vertx.test.providers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.HttpHeaders;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RoutingContext;
+
+public class ByteBufferTestCase {
+
+    @RegisterExtension
+    static final ResteasyReactiveUnitTest config = new ResteasyReactiveUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(ByteBufferResource.class, WithWriterInterceptor.class, WriterInterceptor.class));
+
+    @Test
+    public void testByteBuffers() {
+        // the direct buffer is shared, so requesting it twice makes sure its position is left untouched
+        for (int i = 0; i < 2; ++i) {
+            RestAssured.get("/providers/byte-buffer/direct")
+                    .then()
+                    .statusCode(200)
+                    .header(HttpHeaders.CONTENT_LENGTH, "5")
+                    .body(Matchers.equalTo("hello"));
+        }
+        RestAssured.get("/providers/byte-buffer/heap")
+                .then()
+                .statusCode(200)
+                .header(HttpHeaders.CONTENT_LENGTH, "5")
+                .body(Matchers.equalTo("world"));
+        RestAssured.get("/providers/byte-buffer/read-only")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("read-only"));
+        RestAssured.get("/providers/byte-buffer/empty")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo(""));
+    }
+
+    @Test
+    public void testNoCopy() {
+        // the resources modify the returned buffer once the response is ended, before it's written to the connection,
+        // which is only visible in the response if the buffer was not copied
+        RestAssured.get("/providers/byte-buffer/direct-modified")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("Jello"));
+        RestAssured.get("/providers/byte-buffer/heap-modified")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("Jello"));
+        RestAssured.get("/providers/byte-buffer/vertx-buffer-modified")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("Jello"));
+    }
+
+    @Test
+    public void testWithWriterInterceptor() {
+        RestAssured.get("/providers/byte-buffer/heap-intercepted")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("world"));
+        RestAssured.get("/providers/byte-buffer/direct-intercepted")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("hello"));
+    }
+
+    @Path("providers/byte-buffer")
+    public static class ByteBufferResource {
+
+        private static final ByteBuffer DIRECT;
+
+        static {
+            byte[] bytes = "hello".getBytes(StandardCharsets.UTF_8);
+            DIRECT = ByteBuffer.allocateDirect(bytes.length);
+            DIRECT.put(bytes).flip();
+        }
+
+        @Path("direct")
+        @GET
+        public ByteBuffer direct() {
+            return DIRECT;
+        }
+
+        @Path("heap")
+        @GET
+        public ByteBuffer heap() {
+            // only the remaining bytes are written
+            return ByteBuffer.wrap("hello world!".getBytes(StandardCharsets.UTF_8), 6, 5);
+        }
+
+        @Path("read-only")
+        @GET
+        public ByteBuffer readOnly() {
+            return ByteBuffer.wrap("read-only".getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+        }
+
+        @Path("empty")
+        @GET
+        public ByteBuffer empty() {
+            return ByteBuffer.allocate(0);
+        }
+
+        @Path("direct-modified")
+        @GET
+        public ByteBuffer directModified(RoutingContext context) {
+            byte[] bytes = "hello".getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            context.addHeadersEndHandler(v -> buffer.put(0, (byte) 'J'));
+            return buffer;
+        }
+
+        @Path("heap-modified")
+        @GET
+        public ByteBuffer heapModified(RoutingContext context) {
+            ByteBuffer buffer = ByteBuffer.wrap("hello".getBytes(StandardCharsets.UTF_8));
+            context.addHeadersEndHandler(v -> buffer.put(0, (byte) 'J'));
+            return buffer;
+        }
+
+        @Path("vertx-buffer-modified")
+        @GET
+        public Buffer vertxBufferModified(RoutingContext context) {
+            Buffer buffer = Buffer.buffer("hello");
+            context.addHeadersEndHandler(v -> buffer.setByte(0, (byte) 'J'));
+            return buffer;
+        }
+
+        @Path("heap-intercepted")
+        @GET
+        @WithWriterInterceptor
+        public ByteBuffer heapIntercepted() {
+            return heap();
+        }
+
+        @Path("direct-intercepted")
+        @GET
+        @WithWriterInterceptor
+        public ByteBuffer directIntercepted() {
+            return DIRECT;
+        }
+    }
+}
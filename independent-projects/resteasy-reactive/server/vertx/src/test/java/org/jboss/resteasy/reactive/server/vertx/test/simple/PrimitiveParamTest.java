@@ -0,0 +1,74 @@
+package org.jboss.resteasy.reactive.server.vertx.test.simple;
+
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.RestHeader;
+import org.jboss.resteasy.reactive.RestPath;
+import org.jboss.resteasy.reactive.RestQuery;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+
+public class PrimitiveParamTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(PrimitiveResource.class));
+
+    @Test
+    public void allTypes() {
+        RestAssured.with().header("h", "7")
+                .get("/primitive/42?l=9000000000&d=1.5&b=true&s=hello&w=3")
+                .then().statusCode(200).body(Matchers.equalTo("42/9000000000/1.5/true/hello/3/7"));
+    }
+
+    @Test
+    public void defaults() {
+        RestAssured.get("/primitive/1")
+                .then().statusCode(200).body(Matchers.equalTo("1/0/2.5/false/def/null/0"));
+    }
+
+    @Test
+    public void invalidPathOrQueryParam() {
+        RestAssured.get("/primitive/nope").then().statusCode(404);
+        RestAssured.get("/primitive/1?l=nope").then().statusCode(404);
+    }
+
+    @Test
+    public void invalidHeaderParam() {
+        RestAssured.with().header("h", "nope").get("/primitive/1").then().statusCode(400);
+    }
+
+    @Test
+    public void mixedWithOtherParams() {
+        RestAssured.get("/primitive/mixed/5?names=a&names=b&count=2")
+                .then().statusCode(200).body(Matchers.equalTo("5/[a, b]/2"));
+    }
+
+    @Path("primitive")
+    public static class PrimitiveResource {
+
+        @GET
+        @Path("{id}")
+        public String all(@RestPath int id, @RestQuery long l, @RestQuery @DefaultValue("2.5") double d,
+                @RestQuery boolean b, @RestQuery @DefaultValue("def") String s, @RestQuery Integer w,
+                @RestHeader short h) {
+            return id + "/" + l + "/" + d + "/" + b + "/" + s + "/" + w + "/" + h;
+        }
+
+        @GET
+        @Path("mixed/{id}")
+        public String mixed(@RestPath long id, @RestQuery java.util.List<String> names, @RestQuery int count) {
+            return id + "/" + names + "/" + count;
+        }
+    }
+
+}
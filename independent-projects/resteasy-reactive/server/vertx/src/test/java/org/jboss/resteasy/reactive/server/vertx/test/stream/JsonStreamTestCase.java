@@ -0,0 +1,68 @@
+package org.jboss.resteasy.reactive.server.vertx.test.stream;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Multi;
+
+public class JsonStreamTestCase {
+
+    @RegisterExtension
+    static final ResteasyReactiveUnitTest config = new ResteasyReactiveUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(JsonStreamResource.class));
+
+    @Test
+    public void testJsonArray() {
+        RestAssured.get("/json-stream/array")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("[1,2,3]"));
+        RestAssured.get("/json-stream/empty")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("[]"));
+    }
+
+    @Test
+    public void testNdjson() {
+        RestAssured.get("/json-stream/ndjson")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("1\n2\n3\n"));
+    }
+
+    @Path("json-stream")
+    public static class JsonStreamResource {
+
+        @Path("array")
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<Integer> array() {
+            return Multi.createFrom().items(1, 2, 3);
+        }
+
+        @Path("empty")
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<Integer> empty() {
+            return Multi.createFrom().empty();
+        }
+
+        @Path("ndjson")
+        @GET
+        @Produces(RestMediaType.APPLICATION_NDJSON)
+        public Multi<Integer> ndjson() {
+            return Multi.createFrom().items(1, 2, 3);
+        }
+    }
+}